@@ -0,0 +1,194 @@
+package com.mvp.vueseum.client;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.mvp.vueseum.exception.ApiClientException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpStatusCodeException;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Request rate limiter for a museum API that adapts to the server's feedback (AIMD).
+ * <p>
+ * While responses are healthy and fast the rate grows additively, by roughly
+ * {@link #ADDITIVE_INCREASE} requests per second for every second of traffic, up to the
+ * configured maximum ({@code rateLimitMax} in the museum's API properties). A 429 or 5xx
+ * response cuts the rate multiplicatively, at most once per cooldown so a burst of
+ * rejected in-flight requests counts as one signal, and a {@code Retry-After} header
+ * pauses all requests until it has passed. Throttled requests are retried here after
+ * the pause instead of failing into the generic retry.
+ */
+@SuppressWarnings("UnstableApiUsage")
+@Slf4j
+public class AdaptiveRateLimiter {
+
+    private static final double ADDITIVE_INCREASE = 1.0;
+    private static final double DECREASE_FACTOR = 0.5;
+    private static final Duration DECREASE_COOLDOWN = Duration.ofSeconds(1);
+    private static final Duration SLOW_RESPONSE = Duration.ofSeconds(2);
+    private static final int MAX_THROTTLED_ATTEMPTS = 4;
+
+    private final String name;
+    private final RateLimiter limiter;
+    private final double minRate;
+    private final double maxRate;
+
+    private volatile double rate;
+    private volatile long pausedUntilNanos;
+    private long lastDecreaseNanos;
+
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder throttledResponses = new LongAdder();
+
+    public AdaptiveRateLimiter(String name, double initialRate, double minRate, double maxRate) {
+        if (minRate <= 0 || minRate > maxRate) {
+            throw new IllegalArgumentException("Invalid rate bounds for " + name + ": " + minRate + ".." + maxRate);
+        }
+        this.name = name;
+        this.minRate = minRate;
+        this.maxRate = maxRate;
+        this.rate = Math.clamp(initialRate, minRate, maxRate);
+        this.limiter = RateLimiter.create(rate);
+        this.lastDecreaseNanos = System.nanoTime() - DECREASE_COOLDOWN.toNanos();
+    }
+
+    /**
+     * Performs a request under the limiter, feeding its outcome back into the rate.
+     * Throttled requests are retried after backing off; other errors are rethrown.
+     */
+    public <T> T execute(Supplier<T> request) {
+        for (int attempt = 1; ; attempt++) {
+            acquire();
+            long start = System.nanoTime();
+            try {
+                T result = request.get();
+                onSuccess(Duration.ofNanos(System.nanoTime() - start));
+                return result;
+            } catch (HttpStatusCodeException e) {
+                if (e.getStatusCode().isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS)) {
+                    onThrottled(parseRetryAfter(e.getResponseHeaders() != null
+                            ? e.getResponseHeaders().getFirst(HttpHeaders.RETRY_AFTER)
+                            : null));
+                    if (attempt < MAX_THROTTLED_ATTEMPTS) {
+                        continue;
+                    }
+                } else if (e.getStatusCode().is5xxServerError()) {
+                    onServerError();
+                } else {
+                    // A client error such as 404 still means the server kept up
+                    onSuccess(Duration.ofNanos(System.nanoTime() - start));
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Blocks until a request may be sent.
+     *
+     * @throws ApiClientException if interrupted during a pause, so no request is sent without a permit
+     */
+    public void acquire() {
+        long start = System.nanoTime();
+        long pauseNanos = pausedUntilNanos - start;
+        if (pauseNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(pauseNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ApiClientException("Interrupted while waiting to send a " + name + " API request", e);
+            }
+        }
+        limiter.acquire();
+        waitNanos.add(System.nanoTime() - start);
+    }
+
+    public void onSuccess(Duration latency) {
+        if (latency.compareTo(SLOW_RESPONSE) > 0 || rate >= maxRate) {
+            // Slow responses are an early sign of overload: hold the current rate
+            return;
+        }
+        synchronized (this) {
+            setRate(Math.min(maxRate, rate + ADDITIVE_INCREASE / rate));
+        }
+    }
+
+    /**
+     * @param retryAfter how long the server asked us to wait, or null if it did not say
+     */
+    public void onThrottled(Duration retryAfter) {
+        throttledResponses.increment();
+        if (retryAfter != null && !retryAfter.isNegative()) {
+            long resumeAt = System.nanoTime() + retryAfter.toNanos();
+            synchronized (this) {
+                pausedUntilNanos = Math.max(pausedUntilNanos, resumeAt);
+            }
+        }
+        decrease("throttled");
+    }
+
+    public void onServerError() {
+        decrease("server error");
+    }
+
+    private synchronized void decrease(String reason) {
+        long now = System.nanoTime();
+        if (now - lastDecreaseNanos < DECREASE_COOLDOWN.toNanos()) {
+            return;
+        }
+        lastDecreaseNanos = now;
+        double previous = rate;
+        setRate(Math.max(minRate, rate * DECREASE_FACTOR));
+        log.info("{} API {}: request rate reduced from {} to {} per second",
+                name, reason, String.format("%.1f", previous), String.format("%.1f", rate));
+    }
+
+    private void setRate(double newRate) {
+        rate = newRate;
+        limiter.setRate(newRate);
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    /** Total time callers spent waiting for permits or pauses */
+    public double getTotalWaitSeconds() {
+        return waitNanos.sum() / 1e9;
+    }
+
+    public long getThrottledCount() {
+        return throttledResponses.sum();
+    }
+
+    /**
+     * Parses a {@code Retry-After} value given either in seconds or as an HTTP date.
+     *
+     * @return the delay, or null if the value is absent or unreadable
+     */
+    public static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException _) {
+            // Not delta-seconds; try the HTTP-date form
+        }
+        try {
+            ZonedDateTime retryAt = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+            Duration delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+            return delay.isNegative() ? Duration.ZERO : delay;
+        } catch (DateTimeParseException _) {
+            return null;
+        }
+    }
+}
@@ -4,12 +4,20 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.collect.Lists;
-import com.google.common.util.concurrent.RateLimiter;
 import com.mvp.vueseum.domain.ArtworkDetails;
+import com.mvp.vueseum.entity.SyncRun;
+import com.mvp.vueseum.entity.SyncRunChunk;
 import com.mvp.vueseum.event.SyncOperation;
 import com.mvp.vueseum.exception.ApiClientException;
 import com.mvp.vueseum.exception.RetryException;
+import com.mvp.vueseum.repository.FetchValidatorRepository.FetchValidators;
+import com.mvp.vueseum.service.SyncRunService;
+import com.mvp.vueseum.service.artwork.ArtworkBatchService;
 import com.mvp.vueseum.service.artwork.ArtworkService;
+import com.mvp.vueseum.service.artwork.OnViewSetService;
+import com.mvp.vueseum.service.artwork.SyncEntityResolver;
+import com.mvp.vueseum.service.artwork.SyncWriteLimiter;
+import com.mvp.vueseum.service.cultural.TermStandardizationStage;
 import com.mvp.vueseum.util.RetryUtil;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -17,13 +25,16 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.env.Environment;
 import org.springframework.web.client.RestClient;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -38,161 +49,471 @@ import java.util.function.Supplier;
 @Getter
 public abstract class BaseMuseumApiClient implements MuseumApiClient {
 
+    /** Ids re-ingested between cancellation checks */
+    private static final int REINGEST_CHUNK_SIZE = 1000;
+
     @Getter(AccessLevel.NONE)
     protected final AtomicInteger processedCount = new AtomicInteger(0);
     @Getter(AccessLevel.NONE)
     protected final AtomicInteger errorCount = new AtomicInteger(0);
     @Getter(AccessLevel.NONE)
     protected LocalDateTime syncStartTime;
+    @Getter(AccessLevel.NONE)
+    protected volatile SyncFetchContext fetchContext = SyncFetchContext.inactive();
+    @Getter(AccessLevel.NONE)
+    private volatile boolean cancellationRequested;
+    @Getter(AccessLevel.NONE)
+    private volatile int totalCount;
+    @Getter(AccessLevel.NONE)
+    private volatile int processedAtStart;
+    @Getter(AccessLevel.NONE)
+    private volatile long startedNanos;
 
     protected final RetryUtil retryUtil;
     protected final RestClient restClient;
     protected final Environment environment;
     protected final String baseUrl;
     protected final ArtworkService artworkService;
+    protected final ArtworkBatchService artworkBatchService;
+    protected final SyncMetrics syncMetrics;
+    protected final SyncRunService syncRunService;
+    protected final OnViewSetService onViewSetService;
+    protected final SyncWriteLimiter syncWriteLimiter;
+    protected final ResponseArchive responseArchive;
+    protected final TermStandardizationStage termStandardizationStage;
 
     public BaseMuseumApiClient(
             RetryUtil retryUtil,
             Environment environment,
             String baseUrl,
-            ArtworkService artworkService) {
+            ArtworkService artworkService,
+            ArtworkBatchService artworkBatchService,
+            SyncMetrics syncMetrics,
+            SyncRunService syncRunService,
+            OnViewSetService onViewSetService,
+            SyncWriteLimiter syncWriteLimiter,
+            ResponseArchive responseArchive,
+            TermStandardizationStage termStandardizationStage) {
         this.retryUtil = retryUtil;
         this.environment = environment;
         this.baseUrl = baseUrl;
         this.artworkService = artworkService;
+        this.artworkBatchService = artworkBatchService;
+        this.syncMetrics = syncMetrics;
+        this.syncRunService = syncRunService;
+        this.onViewSetService = onViewSetService;
+        this.syncWriteLimiter = syncWriteLimiter;
+        this.responseArchive = responseArchive;
+        this.termStandardizationStage = termStandardizationStage;
         this.restClient = RestClient.builder()
                 .baseUrl(baseUrl)
                 .build();
     }
 
     public void performSync(SyncOperation operation) {
+        SyncRun run;
         try {
             syncStartTime = operation.getStartTime();
             log.info("Starting {} sync at {}",
                     operation.isFullSync() ? "full" : "incremental",
                     syncStartTime);
 
+            // Held before planning, which rewrites the on-view set and removes artworks
+            run = syncRunService.startRun(getMuseumId(), operation);
+        } catch (Exception e) {
+            log.error("Failed to complete sync", e);
+            throw new ApiClientException("Sync failed", e);
+        }
+
+        try {
+            openFetchContext();
+
             List<String> artworkIds;
             if (operation.isFullSync()) {
-                artworkIds = getCurrentlyDisplayedArtworkIds();
-                artworkService.removeNonDisplayedArtworks(
-                        new HashSet<>(artworkIds),
-                        getMuseumId()
-                );
+                artworkIds = planFullSync();
             } else {
                 artworkIds = getUpdatedArtworkIds(operation.getIncrementalSince());
             }
 
-            processDisplayedBatch(artworkIds);
+            run = syncRunService.planRun(run.getId(), artworkIds);
         } catch (Exception e) {
-            log.error("Failed to complete sync", e);
+            fetchContext = SyncFetchContext.inactive();
+            syncRunService.failRun(run.getId(), e.getMessage());
+            syncRunService.release(run.getId());
+            log.error("Failed to plan sync run {}", run.getId(), e);
             throw new ApiClientException("Sync failed", e);
         }
+
+        executeRun(run);
     }
 
     /**
-     * Processes a batch of artwork IDs, extracting details and saving to the database.
-     * Continues processing even if individual artworks fail.
+     * Diffs the museum's on-view list against the previous full sync, removes artworks
+     * that left display and returns only the objects that need fetching.
      */
-    protected void processDisplayedBatch(List<String> objectIds) {
-        List<List<String>> batches = Lists.partition(objectIds, getBatchSize());
-        List<String> failedIds = new ArrayList<>();
-        int batchCount = 0;
-        int totalBatches = batches.size();
+    private List<String> planFullSync() {
+        List<String> displayedIds = getCurrentlyDisplayedArtworkIds();
+        OnViewSetService.FullSyncPlan plan = onViewSetService.planFullSync(getMuseumId(), displayedIds);
+
+        onViewSetService.recordOnViewIds(getMuseumId(), plan);
+        if (plan.initial()) {
+            // No previous set to diff against: reconcile every stored artwork with the new set
+            artworkService.removeNonDisplayedArtworks(getMuseumId());
+        } else if (!plan.removedIds().isEmpty()) {
+            artworkService.softDeleteArtworks(plan.removedIds(), getMuseumId());
+        }
 
-        logMemoryUsage("Starting batch processing for " + objectIds.size() + " artworks");
+        return plan.idsToFetch();
+    }
 
-        for (List<String> batch : batches) {
-            batchCount++;
-            int batchSuccessCount = 0;
-            List<String> batchFailedIds = new ArrayList<>();
+    @Override
+    public void resumeSync(Long syncRunId) {
+        SyncRun run = syncRunService.claimForResume(syncRunId);
+        try {
+            openFetchContext();
+        } catch (Exception e) {
+            syncRunService.failRun(run.getId(), e.getMessage());
+            syncRunService.release(run.getId());
+            throw new ApiClientException("Failed to resume sync run " + syncRunId, e);
+        }
+        executeRun(run);
+    }
 
-            try {
-                for (String id : batch) {
-                    try {
-                        ArtworkDetails details = fetchArtworkById(id);
-                        if (details == null) {
-                            log.debug("No valid details found for artwork {}, skipping", id);
-                            errorCount.incrementAndGet();
-                            processedCount.incrementAndGet();
-                            batchFailedIds.add(id);
-                            continue;
-                        }
+    @Override
+    public void assistSync(Long syncRunId) {
+        SyncRun run = syncRunService.findRun(syncRunId);
+        try {
+            startProgress(run);
+            openFetchContext();
 
-                        if (details.getMedium() != null && details.getMedium().length() > 1000) {
-                            details.setMedium(details.getMedium().substring(0, 997) + "...");
-                            log.warn("Truncated medium field for artwork {}", details.getExternalId());
-                        }
+            SyncEntityResolver resolver = artworkBatchService.openSyncResolver(run.getMuseumId());
+            try (SyncMetrics.Run metricsRun = syncMetrics.startRun("Assist of sync run " + syncRunId)) {
+                processClaimableChunks(run, resolver, metricsRun);
+            }
+        } catch (Exception e) {
+            log.error("Failed to assist sync run {}", syncRunId, e);
+            throw new ApiClientException("Sync assist failed", e);
+        } finally {
+            fetchContext = SyncFetchContext.inactive();
+        }
+    }
+
+    /**
+     * Continues the counters from the run's last checkpoint.
+     */
+    private void startProgress(SyncRun run) {
+        syncStartTime = run.getStartedAt();
+        totalCount = run.getTotalIds();
+        processedCount.set(run.getProcessedCount());
+        errorCount.set(run.getErrorCount());
+        processedAtStart = run.getProcessedCount();
+        startedNanos = System.nanoTime();
+    }
 
-                        artworkService.saveFromDetails(details);
-                        processedCount.incrementAndGet();
-                        batchSuccessCount++;
+    private void openFetchContext() {
+        Map<String, FetchValidators> storedValidators = artworkBatchService.loadFetchValidators(getMuseumId());
+        log.info("Loaded {} stored response validators for conditional requests", storedValidators.size());
+        fetchContext = new SyncFetchContext(storedValidators, getResponseCacheChars());
+    }
 
-                    } catch (Exception e) {
-                        log.warn("Failed to process artwork ID: {}", id, e);
-                        artworkService.recordProcessingError(id, getMuseumId(), e);
-                        errorCount.incrementAndGet();
-                        processedCount.incrementAndGet();
-                        batchFailedIds.add(id);
+    /**
+     * Executes the pending chunks of a claimed run, then records its outcome and releases it.
+     * Counters continue from the run's last checkpoint.
+     */
+    private void executeRun(SyncRun run) {
+        try {
+            startProgress(run);
+            processRun(run);
+        } catch (Exception e) {
+            syncRunService.failRun(run.getId(), e.getMessage());
+            log.error("Failed to complete sync run {}", run.getId(), e);
+            throw new ApiClientException("Sync failed", e);
+        } finally {
+            fetchContext = SyncFetchContext.inactive();
+            syncRunService.release(run.getId());
+        }
+    }
+
+    /**
+     * Processes a run chunk by chunk through the fetch/parse/persist pipeline, extracting
+     * details and saving to the database. Continues processing even if individual artworks
+     * fail. Each chunk is checkpointed once processed, and an abort takes effect between chunks.
+     * <p>
+     * Other nodes may claim chunks of the run too. Once no chunk is left to claim, the
+     * owner waits for the chunks they hold, taking over any whose lease expires, and
+     * then retries the failures and completes the run.
+     * <p>
+     * Memory stays bounded without manual housekeeping: the pipeline pulls ids lazily,
+     * buffers at most {@link #getResponseBufferChars()} of raw responses and a few
+     * batches of parsed details, and the batch write path uses plain JDBC, so no
+     * persistence context grows over the run.
+     */
+    protected void processRun(SyncRun run) {
+        int totalIds = run.getTotalIds();
+        SyncEntityResolver resolver = artworkBatchService.openSyncResolver(run.getMuseumId());
+
+        try (SyncMetrics.Run metricsRun = syncMetrics.startRun("Sync run " + run.getId())) {
+            metricsRun.checkpoint("start of " + (totalIds - run.getProcessedCount()) + " remaining artworks");
+
+            do {
+                if (!processClaimableChunks(run, resolver, metricsRun)) {
+                    if (cancellationRequested && !syncRunService.isAborted(run.getId())) {
+                        // Aborted rather than released, so no node resumes a cancelled run
+                        syncRunService.abortRun(run.getId());
                     }
+                    return;
+                }
+            } while (awaitChunksHeldElsewhere(run.getId()));
+
+            List<String> failedIds = syncRunService.findFailedIds(run.getId());
+
+            log.info("Completed processing. Processed: {}, Errors: {}, Total time: {} minutes",
+                    processedCount.get(),
+                    errorCount.get(),
+                    ChronoUnit.MINUTES.between(syncStartTime, LocalDateTime.now()));
+            log.info("Artist resolution: {} cache hits, {} new artists, {} artists cached",
+                    resolver.getHitCount(), resolver.getMissCount(), resolver.getCachedArtistCount());
+
+            int retriedSuccessfully = 0;
+            if (!failedIds.isEmpty() && failedIds.size() < Math.max(100, totalIds * 0.05)) {
+                // Only retry if failures are < 5% of total or < 100 artworks (whichever is larger)
+                log.info("Attempting to retry {} failed artworks", failedIds.size());
+                retriedSuccessfully = retryFailedArtworks(failedIds);
+                if (retriedSuccessfully > 0) {
+                    log.info("Successfully retried {} out of {} failed artworks",
+                            retriedSuccessfully, failedIds.size());
                 }
+            }
 
-                logProgress(processedCount.get(), objectIds.size());
-                log.info("Batch {}/{} completed: {} succeeded, {} failed",
-                        batchCount, totalBatches, batchSuccessCount, batchFailedIds.size());
+            syncRunService.completeRun(run.getId(), retriedSuccessfully);
+        }
+    }
 
-            } catch (Exception e) {
-                errorCount.incrementAndGet();
-                log.error("Failed to process batch {}/{}", batchCount, totalBatches, e);
-                batchFailedIds.addAll(batch.stream()
-                        .filter(id -> !batchFailedIds.contains(id))
-                        .toList());
+    /**
+     * Claims and processes chunks of the run until none is left to claim.
+     *
+     * @return false if the run was aborted or this sync cancelled
+     */
+    private boolean processClaimableChunks(SyncRun run, SyncEntityResolver resolver, SyncMetrics.Run metricsRun) {
+        while (true) {
+            if (cancellationRequested) {
+                log.info("Sync of run {} was cancelled, stopping at {}/{} artworks",
+                        run.getId(), processedCount.get(), run.getTotalIds());
+                return false;
+            }
+            if (syncRunService.isAborted(run.getId())) {
+                log.info("Sync run {} was aborted, stopping at {}/{} artworks",
+                        run.getId(), processedCount.get(), run.getTotalIds());
+                return false;
             }
 
-            if (!batchFailedIds.isEmpty()) {
-                failedIds.addAll(batchFailedIds);
+            Optional<SyncRunChunk> claimed = syncRunService.claimNextChunk(run.getId());
+            if (claimed.isEmpty()) {
+                return true;
             }
 
-            artworkService.clearSession();
+            SyncRunChunk chunk = claimed.get();
+            SyncPipeline.Result result;
+            try {
+                result = buildPipeline(run.getTotalIds(), resolver, metricsRun, this::fetchAndArchive)
+                        .run(chunk.getExternalIds());
+            } catch (RuntimeException e) {
+                syncRunService.releaseChunk(chunk.getId());
+                throw e;
+            }
+            recordNotModified(run.getMuseumId(), result.unchangedIds());
+            syncRunService.completeChunk(chunk.getId(), chunk.getExternalIds().size(), result.failedIds());
+        }
+    }
 
-            logMemoryUsage("After batch " + batchCount + "/" + totalBatches +
-                    " (" + batch.size() + " items processed)");
+    /**
+     * Waits one poll interval if other nodes still hold pending chunks of the run.
+     *
+     * @return false once every chunk is complete
+     */
+    private boolean awaitChunksHeldElsewhere(Long runId) {
+        if (!syncRunService.hasPendingChunks(runId)) {
+            return false;
+        }
+        log.info("Waiting for other nodes to finish their chunks of sync run {}", runId);
+        try {
+            Thread.sleep(syncRunService.getChunkPollInterval());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiClientException("Interrupted while waiting for sync run " + runId, e);
+        }
+        return true;
+    }
 
-            System.gc();
+    /**
+     * Fetches an object from the museum API, archiving the response when it has a body.
+     */
+    private ObjectResponse fetchAndArchive(String id) {
+        ObjectResponse response = fetchArtworkResponse(id);
+        if (response != null && !response.notModified()) {
+            responseArchive.record(getMuseumId(), id, response.body());
+        }
+        return response;
+    }
 
-            getRateLimiter().acquire(batch.size());
+    /**
+     * Rebuilds the museum's artworks from the latest archived response of every archived
+     * object, with the current mapping logic and without calling the museum API.
+     * Objects the mapping now rejects are counted as errors and left as stored.
+     * <p>
+     * The re-ingest is recorded as a sync run without chunks, so no other node syncs
+     * the museum while it is rewritten.
+     */
+    @Override
+    public void reingestFromArchive() {
+        Long museumId = getMuseumId();
+        List<String> archivedIds = responseArchive.archivedIds(museumId);
+        if (archivedIds.isEmpty()) {
+            throw new ApiClientException("No archived responses to re-ingest for museum " + museumId);
         }
 
-        log.info("Completed processing. Processed: {}, Errors: {}, Total time: {} minutes",
-                processedCount.get(),
-                errorCount.get(),
-                ChronoUnit.MINUTES.between(syncStartTime, LocalDateTime.now()));
-
-        if (!failedIds.isEmpty() && failedIds.size() < Math.max(100, objectIds.size() * 0.05)) {
-            // Only retry if failures are < 5% of total or < 100 artworks (whichever is larger)
-            log.info("Attempting to retry {} failed artworks", failedIds.size());
-            int retriedSuccessfully = retryFailedArtworks(failedIds);
-            if (retriedSuccessfully > 0) {
-                log.info("Successfully retried {} out of {} failed artworks",
-                        retriedSuccessfully, failedIds.size());
+        SyncRun run;
+        try {
+            // Recorded as a full run: every archived artwork is rewritten
+            run = syncRunService.startRun(museumId, SyncOperation.monthly());
+        } catch (Exception e) {
+            throw new ApiClientException("Re-ingest of museum " + museumId + " failed", e);
+        }
+        try {
+            reingest(museumId, archivedIds, run);
+        } catch (Exception e) {
+            syncRunService.failRun(run.getId(), e.getMessage());
+            log.error("Failed to re-ingest museum {}", museumId, e);
+            throw new ApiClientException("Re-ingest of museum " + museumId + " failed", e);
+        } finally {
+            syncRunService.release(run.getId());
+        }
+    }
+
+    private void reingest(Long museumId, List<String> archivedIds, SyncRun run) {
+        syncStartTime = LocalDateTime.now();
+        totalCount = archivedIds.size();
+        processedCount.set(0);
+        errorCount.set(0);
+        processedAtStart = 0;
+        startedNanos = System.nanoTime();
+        log.info("Re-ingesting {} archived artworks of museum {}", archivedIds.size(), museumId);
+
+        SyncEntityResolver resolver = artworkBatchService.openSyncResolver(museumId);
+        Function<String, ObjectResponse> archiveFetcher = id -> responseArchive.readLatest(museumId, id)
+                .map(ObjectResponse::of)
+                .orElse(null);
+        try (SyncMetrics.Run metricsRun = syncMetrics.startRun("Re-ingest of museum " + museumId)) {
+            for (List<String> chunk : Lists.partition(archivedIds, REINGEST_CHUNK_SIZE)) {
+                if (cancellationRequested) {
+                    log.info("Re-ingest of museum {} was cancelled at {}/{} artworks",
+                            museumId, processedCount.get(), archivedIds.size());
+                    syncRunService.abortRun(run.getId());
+                    return;
+                }
+                buildPipeline(archivedIds.size(), resolver, metricsRun, archiveFetcher).run(chunk);
             }
         }
+        syncRunService.completeRun(run.getId(), 0);
+        log.info("Re-ingest of museum {} complete. Processed: {}, Errors: {}, Total time: {} seconds",
+                museumId, processedCount.get(), errorCount.get(),
+                ChronoUnit.SECONDS.between(syncStartTime, LocalDateTime.now()));
+    }
 
-        logMemoryUsage("Completed all batches");
+    private SyncPipeline buildPipeline(int totalIds, SyncEntityResolver resolver, SyncMetrics.Run metricsRun,
+                                       Function<String, ObjectResponse> fetcher) {
+        Long museumId = resolver.getMuseumId();
+
+        return SyncPipeline.builder()
+                .fetcher(fetcher)
+                .parser(this::convertToArtworkDetails)
+                .persister(batch -> {
+                    ArtworkBatchService.SaveResult saved = syncWriteLimiter.withPermit(() -> {
+                        ArtworkBatchService.SaveResult result = artworkBatchService.saveBatchFromDetails(
+                                batch.stream().map(this::truncateOversizedFields).toList(),
+                                resolver);
+                        saveFetchValidators(museumId, batch);
+                        return result;
+                    });
+                    metricsRun.recordBatch(saved.written(), saved.unchanged());
+                    termStandardizationStage.submit(batch);
+                })
+                .listener(new SyncPipeline.Listener() {
+                    @Override
+                    public void onPersisted(String id) {
+                        onProgress(processedCount.incrementAndGet(), totalIds, metricsRun);
+                    }
+
+                    @Override
+                    public void onUnchanged(String id) {
+                        metricsRun.recordNotModified();
+                        onProgress(processedCount.incrementAndGet(), totalIds, metricsRun);
+                    }
+
+                    @Override
+                    public void onFailed(String id, Exception error) {
+                        // Also reached when the response parses to null, e.g. objects not on display
+                        fetchContext.discardValidators(id);
+                        if (error != null) {
+                            artworkService.recordProcessingError(id, museumId, error);
+                        }
+                        errorCount.incrementAndGet();
+                        onProgress(processedCount.incrementAndGet(), totalIds, metricsRun);
+                    }
+                })
+                .maxInFlight(getMaxInFlightRequests())
+                .queueCapacity(getBatchSize() * 2)
+                .persistBatchSize(getBatchSize())
+                .maxBufferedChars(getResponseBufferChars())
+                .build();
     }
 
     /**
-     * Logs current memory usage for monitoring
+     * Stores the validators of the persisted responses; losing them only costs an
+     * unconditional request next time, so failures do not fail the batch.
      */
-    protected void logMemoryUsage(String checkpoint) {
-        Runtime runtime = Runtime.getRuntime();
-        long totalMemory = runtime.totalMemory() / (1024 * 1024);
-        long freeMemory = runtime.freeMemory() / (1024 * 1024);
-        long usedMemory = totalMemory - freeMemory;
-        long maxMemory = runtime.maxMemory() / (1024 * 1024);
-
-        log.info("Memory usage at {}: Used={}MB, Free={}MB, Total={}MB, Max={}MB",
-                checkpoint, usedMemory, freeMemory, totalMemory, maxMemory);
+    private void saveFetchValidators(Long museumId, List<ArtworkDetails> persisted) {
+        Map<String, FetchValidators> validators = fetchContext.drainValidators(
+                persisted.stream().map(ArtworkDetails::getExternalId).toList());
+        try {
+            artworkBatchService.saveFetchValidators(museumId, validators);
+        } catch (Exception e) {
+            log.warn("Failed to store response validators for {} artworks", validators.size(), e);
+        }
+    }
+
+    /**
+     * Marks objects the API reported not modified as synced, so the full sync refresh
+     * moves on to other artworks. A failure only means they may be refreshed again
+     * sooner, so it does not fail the chunk.
+     */
+    private void recordNotModified(Long museumId, List<String> notModifiedIds) {
+        if (notModifiedIds.isEmpty()) {
+            return;
+        }
+        try {
+            syncWriteLimiter.withPermit(() -> {
+                artworkBatchService.recordSyncAttempts(museumId, notModifiedIds);
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("Failed to record sync attempts of {} not modified artworks", notModifiedIds.size(), e);
+        }
+    }
+
+    private void onProgress(int currentProcessed, int totalIds, SyncMetrics.Run metricsRun) {
+        logProgress(currentProcessed, totalIds);
+        if (currentProcessed % 1000 == 0) {
+            metricsRun.checkpoint(currentProcessed + " artworks");
+        }
+    }
+
+    private ArtworkDetails truncateOversizedFields(ArtworkDetails details) {
+        if (details.getMedium() != null && details.getMedium().length() > 1000) {
+            details.setMedium(details.getMedium().substring(0, 997) + "...");
+            log.warn("Truncated medium field for artwork {}", details.getExternalId());
+        }
+        return details;
     }
 
     private int retryFailedArtworks(List<String> failedIds) {
@@ -211,11 +532,7 @@ public abstract class BaseMuseumApiClient implements MuseumApiClient {
                     continue;
                 }
 
-                if (details.getMedium() != null && details.getMedium().length() > 1000) {
-                    details.setMedium(details.getMedium().substring(0, 997) + "...");
-                }
-
-                artworkService.saveFromDetails(details);
+                artworkService.saveFromDetails(truncateOversizedFields(details));
                 log.info("Successfully retried artwork ID: {}", id);
                 errorCount.decrementAndGet();
                 retrySuccess++;
@@ -276,6 +593,26 @@ public abstract class BaseMuseumApiClient implements MuseumApiClient {
         }
     }
 
+    @Override
+    public SyncProgress getSyncProgress() {
+        if (startedNanos == 0) {
+            return SyncProgress.NONE;
+        }
+        int processed = processedCount.get();
+        return new SyncProgress(totalCount, processed, errorCount.get(),
+                processed - processedAtStart, Duration.ofNanos(System.nanoTime() - startedNanos));
+    }
+
+    @Override
+    public void requestCancellation() {
+        cancellationRequested = true;
+    }
+
+    @Override
+    public void clearCancellation() {
+        cancellationRequested = false;
+    }
+
     @Override
     public int getErrorCount() {
         return errorCount.get();
@@ -295,7 +632,31 @@ public abstract class BaseMuseumApiClient implements MuseumApiClient {
     protected abstract List<String> getUpdatedArtworkIds(LocalDateTime since);
     protected abstract ArtworkDetails convertToArtworkDetails(String apiResponse);
     protected abstract int getBatchSize();
-    protected abstract RateLimiter getRateLimiter();
+
+    /**
+     * Maximum number of concurrent object requests during sync.
+     * The rate limiter still bounds the request rate; this only bounds concurrency.
+     */
+    protected abstract int getMaxInFlightRequests();
+
+    /**
+     * Memory budget, in characters, for raw responses fetched but not yet parsed.
+     */
+    protected abstract int getResponseBufferChars();
+
+    /**
+     * Memory budget, in characters, for responses cached within a sync run.
+     */
+    protected abstract long getResponseCacheChars();
+
+    /**
+     * Fetches the raw API response for a single object during a sync run, using the
+     * run's cached response or a conditional request where possible.
+     *
+     * @return the response, {@link ObjectResponse#NOT_MODIFIED}, or null if the object no longer exists
+     */
+    protected abstract ObjectResponse fetchArtworkResponse(String id);
+    protected abstract AdaptiveRateLimiter getRateLimiter();
     public abstract List<String> getCurrentlyDisplayedArtworkIds();
     public abstract Long getMuseumId();
 }
@@ -16,4 +16,31 @@ public interface MuseumApiClient {
     Long getMuseumId();
 
     void performSync(SyncOperation operation);
+
+    /**
+     * Continues an interrupted or failed sync run from its last checkpoint.
+     */
+    void resumeSync(Long syncRunId);
+
+    /**
+     * Processes chunks of a run owned by another node until none are left to claim.
+     */
+    void assistSync(Long syncRunId);
+
+    /**
+     * Rebuilds the museum's artworks from archived API responses instead of fetching them.
+     */
+    void reingestFromArchive();
+
+    SyncProgress getSyncProgress();
+
+    /**
+     * Asks the sync in progress to stop at the next chunk boundary. An owned run is aborted.
+     */
+    void requestCancellation();
+
+    /**
+     * Clears an earlier cancellation request before a new sync starts.
+     */
+    void clearCancellation();
 }
@@ -0,0 +1,16 @@
+package com.mvp.vueseum.client;
+
+/**
+ * Raw response for a single museum object.
+ *
+ * @param body        the response body, or null when the object is unchanged
+ * @param notModified true when a conditional request found the object unchanged since the last sync
+ */
+public record ObjectResponse(String body, boolean notModified) {
+
+    public static final ObjectResponse NOT_MODIFIED = new ObjectResponse(null, true);
+
+    public static ObjectResponse of(String body) {
+        return new ObjectResponse(body, false);
+    }
+}
@@ -0,0 +1,118 @@
+package com.mvp.vueseum.client;
+
+import com.mvp.vueseum.exception.ApiClientException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps the raw object responses fetched by syncs on local disk, one
+ * {@link ResponseArchiveStore} per museum, so artworks can be rebuilt with new
+ * mapping logic without fetching the collection again.
+ * <p>
+ * Recording is off unless {@code sync.archive.enabled} is set. Archiving is best
+ * effort: a failed write is logged and never fails the sync.
+ */
+@Component
+@Slf4j
+public class ResponseArchive {
+
+    private final boolean enabled;
+    private final Path directory;
+    private final long segmentBytes;
+    private final Clock clock;
+    private final Map<Long, ResponseArchiveStore> stores = new ConcurrentHashMap<>();
+
+    public ResponseArchive(
+            @Value("${sync.archive.enabled:false}") boolean enabled,
+            @Value("${sync.archive.directory:data/response-archive}") Path directory,
+            @Value("${sync.archive.segmentMb:256}") int segmentMb,
+            Clock clock) {
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentBytes = segmentMb * 1024L * 1024L;
+        this.clock = clock;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Archives a fetched response if recording is enabled.
+     */
+    public void record(Long museumId, String externalId, String body) {
+        if (!enabled || body == null) {
+            return;
+        }
+        try {
+            storeFor(museumId).append(externalId, clock.instant(), body);
+        } catch (IOException | ApiClientException e) {
+            log.warn("Failed to archive response for artwork {} of museum {}: {}", externalId, museumId, e.getMessage());
+        }
+    }
+
+    /**
+     * @return the latest archived response body for an object, or empty if it was never archived
+     */
+    public Optional<String> readLatest(Long museumId, String externalId) {
+        return openedStore(museumId)
+                .flatMap(store -> store.readLatest(externalId))
+                .map(ResponseArchiveStore.ArchivedResponse::body);
+    }
+
+    /**
+     * @return the external ids of all objects archived for a museum
+     */
+    public List<String> archivedIds(Long museumId) {
+        return openedStore(museumId)
+                .map(ResponseArchiveStore::externalIds)
+                .orElse(List.of());
+    }
+
+    /**
+     * Opens the museum's store only if it exists on disk, so reads never create one.
+     */
+    private Optional<ResponseArchiveStore> openedStore(Long museumId) {
+        if (!stores.containsKey(museumId) && !Files.isDirectory(museumDirectory(museumId))) {
+            return Optional.empty();
+        }
+        return Optional.of(storeFor(museumId));
+    }
+
+    private ResponseArchiveStore storeFor(Long museumId) {
+        return stores.computeIfAbsent(museumId, id -> {
+            try {
+                return new ResponseArchiveStore(museumDirectory(id), segmentBytes);
+            } catch (IOException e) {
+                throw new ApiClientException("Could not open the response archive of museum " + id, e);
+            }
+        });
+    }
+
+    private Path museumDirectory(Long museumId) {
+        return directory.resolve("museum-" + museumId);
+    }
+
+    @PreDestroy
+    public void close() {
+        stores.values().forEach(store -> {
+            try {
+                store.close();
+            } catch (IOException e) {
+                log.warn("Failed to close response archive", e);
+            }
+        });
+        stores.clear();
+    }
+}
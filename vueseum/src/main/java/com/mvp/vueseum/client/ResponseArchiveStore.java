@@ -0,0 +1,283 @@
+package com.mvp.vueseum.client;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Append-only archive of raw object responses for one museum, stored as compressed
+ * records in numbered segment files.
+ * <p>
+ * Each record is {@code [payload length][CRC32][payload]}, with the payload holding
+ * the external id, the fetch time, the uncompressed length and the deflated body.
+ * Segments roll over at {@code segmentBytes}. Reads go through read-only memory
+ * mappings of the segments, so re-reading the archive costs page cache hits rather
+ * than system calls.
+ * <p>
+ * An in-memory index points each external id at its latest record; it is rebuilt by
+ * scanning the segments when the store opens. A record cut short by a crash fails
+ * its checksum and is truncated away, so the archive stays readable up to the last
+ * complete record.
+ */
+@Slf4j
+public class ResponseArchiveStore implements Closeable {
+
+    /**
+     * An archived response.
+     *
+     * @param fetchedAt when the response was fetched from the museum API
+     */
+    public record ArchivedResponse(String externalId, Instant fetchedAt, String body) {}
+
+    private record Location(int segment, int offset, int length) {}
+
+    private static final int HEADER_BYTES = Integer.BYTES * 2;
+    private static final String SEGMENT_SUFFIX = ".seg";
+
+    private final Path directory;
+    private final long segmentBytes;
+    private final Map<String, Location> index = new ConcurrentHashMap<>();
+    private final Map<Integer, MappedByteBuffer> mappings = new ConcurrentHashMap<>();
+
+    private int activeSegment;
+    private FileChannel activeChannel;
+    private long activeSize;
+
+    public ResponseArchiveStore(Path directory, long segmentBytes) throws IOException {
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+        Files.createDirectories(directory);
+
+        List<Integer> segments = listSegments();
+        for (int segment : segments) {
+            scanSegment(segment, segment == segments.getLast());
+        }
+        activeSegment = segments.isEmpty() ? 1 : segments.getLast();
+        openActiveSegment();
+        log.info("Opened response archive {} with {} objects in {} segments",
+                directory, index.size(), Math.max(1, segments.size()));
+    }
+
+    /**
+     * Appends a response; it becomes the latest version of the object.
+     */
+    public void append(String externalId, Instant fetchedAt, String body) throws IOException {
+        ByteBuffer record = encode(externalId, fetchedAt, body);
+        synchronized (this) {
+            if (activeSize > 0 && activeSize + record.remaining() > segmentBytes) {
+                activeChannel.close();
+                activeSegment++;
+                openActiveSegment();
+            }
+            int offset = (int) activeSize;
+            int length = record.remaining();
+            while (record.hasRemaining()) {
+                activeChannel.write(record);
+            }
+            activeSize += length;
+            index.put(externalId, new Location(activeSegment, offset, length));
+        }
+    }
+
+    /**
+     * @return the latest archived response for an object, or empty if it was never archived
+     */
+    public Optional<ArchivedResponse> readLatest(String externalId) {
+        Location location = index.get(externalId);
+        if (location == null) {
+            return Optional.empty();
+        }
+        ByteBuffer record = mapping(location).slice(location.offset(), location.length());
+        return Optional.of(decode(record.position(HEADER_BYTES).slice()));
+    }
+
+    /**
+     * @return the external ids of all archived objects
+     */
+    public List<String> externalIds() {
+        return new ArrayList<>(index.keySet());
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        activeChannel.close();
+        mappings.clear();
+    }
+
+    private void openActiveSegment() throws IOException {
+        activeChannel = FileChannel.open(segmentPath(activeSegment),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        activeSize = activeChannel.size();
+    }
+
+    /**
+     * Maps the segment holding a record, remapping the active segment once it has grown
+     * past the current mapping.
+     */
+    private MappedByteBuffer mapping(Location location) {
+        int end = location.offset() + location.length();
+        return mappings.compute(location.segment(), (segment, mapped) -> {
+            if (mapped != null && mapped.capacity() >= end) {
+                return mapped;
+            }
+            try (FileChannel channel = FileChannel.open(segmentPath(segment), StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not map archive segment " + segmentPath(segment), e);
+            }
+        });
+    }
+
+    private void scanSegment(int segment, boolean last) throws IOException {
+        Path path = segmentPath(segment);
+        long validSize = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int position = 0;
+            while (buffer.limit() - position >= HEADER_BYTES) {
+                int payloadLength = buffer.getInt(position);
+                int checksum = buffer.getInt(position + Integer.BYTES);
+                if (payloadLength <= 0 || payloadLength > buffer.limit() - position - HEADER_BYTES) {
+                    break;
+                }
+                ByteBuffer payload = buffer.slice(position + HEADER_BYTES, payloadLength);
+                if (checksum(payload) != checksum) {
+                    break;
+                }
+                String externalId = decodeExternalId(payload);
+                index.put(externalId, new Location(segment, position, HEADER_BYTES + payloadLength));
+                position += HEADER_BYTES + payloadLength;
+            }
+            validSize = position;
+            mappings.put(segment, buffer);
+        }
+
+        long fileSize = Files.size(path);
+        if (validSize < fileSize) {
+            if (last) {
+                log.warn("Truncating {} bytes of incomplete records from archive segment {}", fileSize - validSize, path);
+                try (FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+                    channel.truncate(validSize);
+                }
+                mappings.remove(segment);
+            } else {
+                log.warn("Archive segment {} is corrupt after byte {}; later records in it are ignored", path, validSize);
+            }
+        }
+    }
+
+    private List<Integer> listSegments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                    .filter(name -> name.endsWith(SEGMENT_SUFFIX))
+                    .map(name -> Integer.parseInt(name.substring(0, name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(int segment) {
+        return directory.resolve(String.format("%08d%s", segment, SEGMENT_SUFFIX));
+    }
+
+    private static ByteBuffer encode(String externalId, Instant fetchedAt, String body) {
+        byte[] id = externalId.getBytes(StandardCharsets.UTF_8);
+        byte[] raw = body.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = deflate(raw);
+
+        int payloadLength = Short.BYTES + id.length + Long.BYTES + Integer.BYTES + compressed.length;
+        ByteBuffer record = ByteBuffer.allocate(HEADER_BYTES + payloadLength);
+        record.position(HEADER_BYTES);
+        record.putShort((short) id.length)
+                .put(id)
+                .putLong(fetchedAt.toEpochMilli())
+                .putInt(raw.length)
+                .put(compressed);
+        int checksum = checksum(record.slice(HEADER_BYTES, payloadLength));
+        record.putInt(0, payloadLength).putInt(Integer.BYTES, checksum);
+        return record.rewind();
+    }
+
+    private static ArchivedResponse decode(ByteBuffer payload) {
+        String externalId = decodeExternalId(payload);
+        int position = Short.BYTES + payload.getShort(0);
+        Instant fetchedAt = Instant.ofEpochMilli(payload.getLong(position));
+        int rawLength = payload.getInt(position + Long.BYTES);
+        ByteBuffer compressed = payload.slice(position + Long.BYTES + Integer.BYTES,
+                payload.limit() - position - Long.BYTES - Integer.BYTES);
+        return new ArchivedResponse(externalId, fetchedAt, new String(inflate(compressed, rawLength), StandardCharsets.UTF_8));
+    }
+
+    private static String decodeExternalId(ByteBuffer payload) {
+        byte[] id = new byte[payload.getShort(0)];
+        payload.get(Short.BYTES, id);
+        return new String(id, StandardCharsets.UTF_8);
+    }
+
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteBuffer out = ByteBuffer.allocate(raw.length + 64);
+            while (!deflater.finished()) {
+                if (!out.hasRemaining()) {
+                    out = ByteBuffer.allocate(out.capacity() * 2).put(out.flip());
+                }
+                deflater.deflate(out);
+            }
+            byte[] compressed = new byte[out.position()];
+            out.flip().get(compressed);
+            return compressed;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(ByteBuffer compressed, int rawLength) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            int read = inflater.inflate(raw);
+            if (read != rawLength || !inflater.finished()) {
+                throw new IllegalStateException("Archived response is shorter than recorded: " + read + " of " + rawLength + " bytes");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Archived response is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static int checksum(ByteBuffer payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        return (int) crc.getValue();
+    }
+}
@@ -0,0 +1,114 @@
+package com.mvp.vueseum.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.mvp.vueseum.exception.ApiClientException;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Streaming decoder for museum search and listing responses of the form
+ * {@code {"total": n, "objectIDs": [1, 2, ...]}}.
+ * <p>
+ * Ids are read token by token into a primitive {@code int[]}, without building a JSON
+ * tree or boxing each id. The shared {@link JsonFactory} is thread-safe.
+ */
+public final class SearchResponseDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int DEFAULT_CAPACITY = 1024;
+    // The reported total only presizes the array; larger responses grow it as ids are read
+    private static final int MAX_INITIAL_CAPACITY = 1 << 20;
+
+    private SearchResponseDecoder() {
+    }
+
+    /**
+     * Numeric object ids of a search response.
+     *
+     * @param total the {@code total} reported by the API, or the number of ids if absent
+     */
+    public record ObjectIds(int total, int[] ids) {
+
+        public int size() {
+            return ids.length;
+        }
+
+        /**
+         * @return the ids as external id strings; each string is created on access
+         */
+        public List<String> asExternalIds() {
+            return new ExternalIdList(ids);
+        }
+    }
+
+    /**
+     * @throws ApiClientException if the response is not valid JSON or contains a non-numeric id
+     */
+    public static ObjectIds decode(String response, String idFieldName) {
+        try (JsonParser parser = JSON_FACTORY.createParser(response)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new ApiClientException("Search response is not a JSON object");
+            }
+
+            int total = -1;
+            int[] ids = new int[0];
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("total".equals(fieldName) && value == JsonToken.VALUE_NUMBER_INT) {
+                    total = parser.getIntValue();
+                } else if (idFieldName.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                    ids = readIds(parser, total > 0 ? Math.min(total, MAX_INITIAL_CAPACITY) : DEFAULT_CAPACITY);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new ObjectIds(total >= 0 ? total : ids.length, ids);
+        } catch (IOException e) {
+            throw new ApiClientException("Failed to parse search response", e);
+        }
+    }
+
+    private static int[] readIds(JsonParser parser, int expectedSize) throws IOException {
+        int[] ids = new int[expectedSize];
+        int count = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.VALUE_NUMBER_INT) {
+                throw new ApiClientException("Unexpected non-numeric object id: " + parser.getText());
+            }
+            if (count == ids.length) {
+                ids = Arrays.copyOf(ids, Math.max(DEFAULT_CAPACITY, ids.length * 2));
+            }
+            ids[count++] = parser.getIntValue();
+        }
+        return count == ids.length ? ids : Arrays.copyOf(ids, count);
+    }
+
+    /**
+     * Read-only string view over primitive ids.
+     */
+    private static final class ExternalIdList extends AbstractList<String> implements RandomAccess {
+        private final int[] ids;
+
+        private ExternalIdList(int[] ids) {
+            this.ids = ids;
+        }
+
+        @Override
+        public String get(int index) {
+            return Integer.toString(ids[index]);
+        }
+
+        @Override
+        public int size() {
+            return ids.length;
+        }
+    }
+}
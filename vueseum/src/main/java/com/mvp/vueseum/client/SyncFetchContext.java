@@ -0,0 +1,97 @@
+package com.mvp.vueseum.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mvp.vueseum.repository.FetchValidatorRepository.FetchValidators;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fetch state scoped to one sync run.
+ * <p>
+ * Responses fetched early in a run (for example to check whether an updated object is
+ * on display) are kept so the pipeline does not request the same object again; each
+ * entry is handed out once and then dropped. The cache is bounded by total response
+ * size, so an evicted entry simply costs one extra request.
+ * <p>
+ * The context also carries the validators stored by earlier runs, used for conditional
+ * requests, and collects the validators of fresh responses until their artworks have
+ * been persisted.
+ */
+public class SyncFetchContext {
+
+    private static final SyncFetchContext INACTIVE = new SyncFetchContext(Map.of(), 0);
+
+    private final Cache<String, String> responses;
+    private final Map<String, FetchValidators> storedValidators;
+    private final Map<String, FetchValidators> capturedValidators = new ConcurrentHashMap<>();
+
+    public SyncFetchContext(Map<String, FetchValidators> storedValidators, long maxCachedChars) {
+        this.storedValidators = storedValidators;
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maxCachedChars)
+                .weigher((String _, String body) -> body.length())
+                .build();
+    }
+
+    /**
+     * Context used outside of a sync run: nothing is cached and requests are unconditional.
+     */
+    public static SyncFetchContext inactive() {
+        return INACTIVE;
+    }
+
+    public boolean isActive() {
+        return this != INACTIVE;
+    }
+
+    public void cacheResponse(String id, String body) {
+        if (isActive() && body != null) {
+            responses.put(id, body);
+        }
+    }
+
+    /**
+     * @return the cached response for the object, or null; a returned response is removed from the cache
+     */
+    public String takeResponse(String id) {
+        return responses.asMap().remove(id);
+    }
+
+    /**
+     * @return validators from the last successful sync of the object, or null if there are none
+     */
+    public FetchValidators storedValidatorsFor(String id) {
+        return storedValidators.get(id);
+    }
+
+    public void captureValidators(String id, FetchValidators validators) {
+        if (isActive() && !validators.isEmpty()) {
+            capturedValidators.put(id, validators);
+        }
+    }
+
+    /**
+     * Drops the captured validators of an object that will not be persisted this run.
+     */
+    public void discardValidators(String id) {
+        capturedValidators.remove(id);
+    }
+
+    /**
+     * Removes and returns the captured validators for objects that have now been persisted.
+     */
+    public Map<String, FetchValidators> drainValidators(Collection<String> ids) {
+        Map<String, FetchValidators> drained = new HashMap<>();
+        for (String id : ids) {
+            FetchValidators validators = capturedValidators.remove(id);
+            if (validators != null) {
+                drained.put(id, validators);
+            }
+        }
+        return drained;
+    }
+}
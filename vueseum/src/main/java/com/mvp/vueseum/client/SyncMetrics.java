@@ -0,0 +1,174 @@
+package com.mvp.vueseum.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Heap, allocation and write-path metrics for museum syncs.
+ * <p>
+ * Replaces explicit {@code System.gc()} calls and ad-hoc memory logging: the sync
+ * relies on bounded buffers and lets the collector work normally, while these
+ * meters make its memory behaviour visible through the metrics endpoint.
+ */
+@Slf4j
+@Component
+public class SyncMetrics {
+
+    private static final long MB = 1024 * 1024;
+
+    private final MemoryMXBean memoryBean = ManagementFactory.getMemoryMXBean();
+    private final ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+
+    private final MeterRegistry meterRegistry;
+    private final AtomicInteger activeSyncs = new AtomicInteger();
+    private final Counter allocatedBytes;
+    private final Counter writtenArtworks;
+    private final Counter unchangedArtworks;
+    private final Counter notModifiedArtworks;
+
+    public SyncMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("sync.heap.used", memoryBean, bean -> bean.getHeapMemoryUsage().getUsed())
+                .description("Heap in use, sampled alongside sync progress")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("sync.active", activeSyncs, AtomicInteger::get)
+                .description("Museum syncs currently running")
+                .register(meterRegistry);
+        this.allocatedBytes = Counter.builder("sync.allocated")
+                .description("Bytes allocated by the JVM while a sync was running")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.writtenArtworks = Counter.builder("sync.artworks")
+                .description("Artworks handled by the sync write path")
+                .tag("result", "written")
+                .register(meterRegistry);
+        this.unchangedArtworks = Counter.builder("sync.artworks")
+                .description("Artworks handled by the sync write path")
+                .tag("result", "unchanged")
+                .register(meterRegistry);
+        this.notModifiedArtworks = Counter.builder("sync.artworks")
+                .description("Artworks handled by the sync write path")
+                .tag("result", "not_modified")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Exposes a museum API's adaptive request rate, time spent waiting for permits and
+     * throttled responses.
+     */
+    public void registerRateLimiter(String museum, AdaptiveRateLimiter rateLimiter) {
+        Gauge.builder("museum.api.rate", rateLimiter, AdaptiveRateLimiter::getRate)
+                .description("Current allowed request rate")
+                .baseUnit("requests/s")
+                .tag("museum", museum)
+                .register(meterRegistry);
+        FunctionCounter.builder("museum.api.rate.wait", rateLimiter, AdaptiveRateLimiter::getTotalWaitSeconds)
+                .description("Time spent waiting for the rate limiter")
+                .baseUnit("seconds")
+                .tag("museum", museum)
+                .register(meterRegistry);
+        FunctionCounter.builder("museum.api.throttled", rateLimiter, AdaptiveRateLimiter::getThrottledCount)
+                .description("Responses rejected by the museum API with 429")
+                .tag("museum", museum)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Marks the start of a sync run. Close the returned run when the sync finishes.
+     */
+    public Run startRun(String name) {
+        activeSyncs.incrementAndGet();
+        return new Run(name, totalAllocatedBytes());
+    }
+
+    private long totalAllocatedBytes() {
+        if (threadBean instanceof com.sun.management.ThreadMXBean sunThreadBean
+                && sunThreadBean.isThreadAllocatedMemorySupported()
+                && sunThreadBean.isThreadAllocatedMemoryEnabled()) {
+            return sunThreadBean.getTotalThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    public class Run implements AutoCloseable {
+        private final String name;
+        private final long allocatedAtStart;
+        private long allocatedAtLastCheckpoint;
+        private boolean closed;
+        private final LongAdder written = new LongAdder();
+        private final LongAdder unchanged = new LongAdder();
+        private final LongAdder notModified = new LongAdder();
+
+        private Run(String name, long allocatedAtStart) {
+            this.name = name;
+            this.allocatedAtStart = allocatedAtStart;
+            this.allocatedAtLastCheckpoint = allocatedAtStart;
+        }
+
+        /**
+         * Records allocation since the previous checkpoint and logs current heap usage.
+         */
+        public synchronized void checkpoint(String label) {
+            long allocated = totalAllocatedBytes();
+            if (allocated >= 0 && allocatedAtLastCheckpoint >= 0) {
+                allocatedBytes.increment(allocated - allocatedAtLastCheckpoint);
+            }
+            allocatedAtLastCheckpoint = allocated;
+
+            log.info("{} memory at {}: heap used={}MB, committed={}MB, allocated since start={}MB",
+                    name,
+                    label,
+                    memoryBean.getHeapMemoryUsage().getUsed() / MB,
+                    memoryBean.getHeapMemoryUsage().getCommitted() / MB,
+                    allocated >= 0 && allocatedAtStart >= 0 ? (allocated - allocatedAtStart) / MB : "n/a");
+        }
+
+        /**
+         * Records the outcome of one persisted batch.
+         */
+        public void recordBatch(int writtenCount, int unchangedCount) {
+            written.add(writtenCount);
+            unchanged.add(unchangedCount);
+            writtenArtworks.increment(writtenCount);
+            unchangedArtworks.increment(unchangedCount);
+        }
+
+        /**
+         * Records an artwork skipped because a conditional request returned not modified.
+         */
+        public void recordNotModified() {
+            notModified.increment();
+            notModifiedArtworks.increment();
+        }
+
+        @Override
+        public synchronized void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            checkpoint("completion");
+
+            long skipped = unchanged.sum() + notModified.sum();
+            long total = written.sum() + skipped;
+            log.info("{} write path: {} written, {} unchanged, {} not modified ({}% skip ratio)",
+                    name,
+                    written.sum(),
+                    unchanged.sum(),
+                    notModified.sum(),
+                    String.format("%.1f", total > 0 ? skipped * 100.0 / total : 0.0));
+            activeSyncs.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,257 @@
+package com.mvp.vueseum.client;
+
+import com.mvp.vueseum.domain.ArtworkDetails;
+import com.mvp.vueseum.exception.ApiClientException;
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Three-stage sync pipeline: fetch -> parse -> persist.
+ * Objects the fetcher reports as not modified skip the parse and persist stages.
+ * <p>
+ * The fetch stage runs each request on its own virtual thread, bounded by
+ * {@code maxInFlight} permits; the client's rate limiter still paces the
+ * actual calls, so throughput is limited by the permitted request rate
+ * rather than by per-request latency. Stages are connected by bounded
+ * queues, so a slow database applies backpressure to fetching instead of
+ * buffering responses in memory. Raw responses waiting to be parsed are also
+ * bounded by {@code maxBufferedChars}, so the memory held by the pipeline stays
+ * within a fixed budget regardless of response size. The persist stage drains
+ * whatever has been parsed, up to {@code persistBatchSize}, and writes it in one call.
+ * <p>
+ * A pipeline instance is single use: {@link #run} may be called once. Clients build
+ * one per chunk of ids, sharing the sync's entity resolver and metrics between them.
+ */
+@Slf4j
+@Builder
+public class SyncPipeline {
+
+    /**
+     * Callbacks for per-id accounting. Failures may be reported from any stage,
+     * successes only from the persist stage.
+     */
+    public interface Listener {
+        void onPersisted(String id);
+
+        /** Called when the fetcher reports the object unchanged since the last sync */
+        void onUnchanged(String id);
+
+        /**
+         * @param error the failure cause, or null when the object produced no usable details
+         */
+        void onFailed(String id, Exception error);
+    }
+
+    private record Fetched(String id, ObjectResponse response) {}
+    private record Parsed(String id, ArtworkDetails details) {}
+
+    private static final Fetched FETCH_DONE = new Fetched(null, null);
+    private static final Parsed PARSE_DONE = new Parsed(null, null);
+
+    /** Returns the raw API response for an id, or null if the object no longer exists */
+    private final Function<String, ObjectResponse> fetcher;
+    /** Converts a raw response into details, or null if the object should be skipped */
+    private final Function<String, ArtworkDetails> parser;
+    /** Persists a batch of up to {@code persistBatchSize} artworks; a failure fails the whole batch */
+    private final Consumer<List<ArtworkDetails>> persister;
+    private final Listener listener;
+
+    @Builder.Default
+    private final int maxInFlight = 16;
+    @Builder.Default
+    private final int queueCapacity = 100;
+    @Builder.Default
+    private final int parseWorkers = 2;
+    @Builder.Default
+    private final int persistBatchSize = 1;
+    /** Upper bound on the characters of raw responses held between fetch and parse */
+    @Builder.Default
+    private final int maxBufferedChars = Integer.MAX_VALUE;
+
+    /**
+     * @param succeeded    ids persisted
+     * @param unchangedIds ids skipped because the fetcher reported them not modified
+     */
+    public record Result(int succeeded, List<String> unchangedIds, List<String> failedIds) {
+
+        public int unchanged() {
+            return unchangedIds.size();
+        }
+    }
+
+    /**
+     * Runs all ids through the pipeline and blocks until every id has either
+     * been persisted or reported as failed.
+     */
+    public Result run(Iterable<String> ids) {
+        BlockingQueue<Fetched> fetchedQueue = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Parsed> parsedQueue = new ArrayBlockingQueue<>(queueCapacity);
+        ConcurrentLinkedQueue<String> failedIds = new ConcurrentLinkedQueue<>();
+        AtomicInteger succeeded = new AtomicInteger();
+        ConcurrentLinkedQueue<String> unchangedIds = new ConcurrentLinkedQueue<>();
+
+        Semaphore bufferBudget = new Semaphore(maxBufferedChars);
+
+        Consumer<String> failWithoutCause = id -> fail(id, null, failedIds);
+
+        List<Thread> parseThreads = new ArrayList<>();
+        for (int i = 0; i < parseWorkers; i++) {
+            parseThreads.add(Thread.ofVirtual()
+                    .name("sync-parse-" + i)
+                    .start(() -> parseLoop(fetchedQueue, parsedQueue, bufferBudget, failWithoutCause, failedIds)));
+        }
+        Thread persistThread = Thread.ofVirtual()
+                .name("sync-persist")
+                .start(() -> persistLoop(parsedQueue, succeeded, failedIds));
+
+        try {
+            dispatchFetches(ids, fetchedQueue, bufferBudget, unchangedIds, failWithoutCause, failedIds);
+
+            for (int i = 0; i < parseWorkers; i++) {
+                fetchedQueue.put(FETCH_DONE);
+            }
+            for (Thread parseThread : parseThreads) {
+                parseThread.join();
+            }
+            parsedQueue.put(PARSE_DONE);
+            persistThread.join();
+        } catch (InterruptedException e) {
+            parseThreads.forEach(Thread::interrupt);
+            persistThread.interrupt();
+            Thread.currentThread().interrupt();
+            throw new ApiClientException("Sync pipeline interrupted", e);
+        }
+
+        return new Result(succeeded.get(), new ArrayList<>(unchangedIds), new ArrayList<>(failedIds));
+    }
+
+    private void dispatchFetches(Iterable<String> ids,
+                                 BlockingQueue<Fetched> fetchedQueue,
+                                 Semaphore bufferBudget,
+                                 ConcurrentLinkedQueue<String> unchangedIds,
+                                 Consumer<String> failWithoutCause,
+                                 ConcurrentLinkedQueue<String> failedIds) throws InterruptedException {
+        Semaphore inFlight = new Semaphore(maxInFlight);
+
+        try (ExecutorService fetchExecutor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String id : ids) {
+                inFlight.acquire();
+                fetchExecutor.submit(() -> {
+                    try {
+                        ObjectResponse response = fetcher.apply(id);
+                        if (response == null) {
+                            log.debug("No response for artwork {}, skipping", id);
+                            failWithoutCause.accept(id);
+                        } else if (response.notModified()) {
+                            unchangedIds.add(id);
+                            listener.onUnchanged(id);
+                        } else {
+                            bufferBudget.acquire(bufferedSize(response));
+                            fetchedQueue.put(new Fetched(id, response));
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        fail(id, e, failedIds);
+                    } catch (Exception e) {
+                        log.warn("Failed to fetch artwork ID: {}", id, e);
+                        fail(id, e, failedIds);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+    }
+
+    private void parseLoop(BlockingQueue<Fetched> fetchedQueue,
+                           BlockingQueue<Parsed> parsedQueue,
+                           Semaphore bufferBudget,
+                           Consumer<String> failWithoutCause,
+                           ConcurrentLinkedQueue<String> failedIds) {
+        try {
+            while (true) {
+                Fetched fetched = fetchedQueue.take();
+                if (fetched == FETCH_DONE) {
+                    return;
+                }
+                try {
+                    ArtworkDetails details;
+                    try {
+                        details = parser.apply(fetched.response().body());
+                    } finally {
+                        bufferBudget.release(bufferedSize(fetched.response()));
+                    }
+                    if (details == null) {
+                        log.debug("No valid details found for artwork {}, skipping", fetched.id());
+                        failWithoutCause.accept(fetched.id());
+                    } else {
+                        parsedQueue.put(new Parsed(fetched.id(), details));
+                    }
+                } catch (InterruptedException e) {
+                    throw e;
+                } catch (Exception e) {
+                    log.warn("Failed to parse artwork ID: {}", fetched.id(), e);
+                    fail(fetched.id(), e, failedIds);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** A single response larger than the whole budget is admitted on its own */
+    private int bufferedSize(ObjectResponse response) {
+        return Math.min(response.body().length(), maxBufferedChars);
+    }
+
+    private void persistLoop(BlockingQueue<Parsed> parsedQueue,
+                             AtomicInteger succeeded,
+                             ConcurrentLinkedQueue<String> failedIds) {
+        List<Parsed> batch = new ArrayList<>(persistBatchSize);
+        boolean done = false;
+        try {
+            while (!done) {
+                batch.clear();
+                batch.add(parsedQueue.take());
+                parsedQueue.drainTo(batch, persistBatchSize - 1);
+
+                done = batch.remove(PARSE_DONE);
+                if (batch.isEmpty()) {
+                    continue;
+                }
+
+                try {
+                    persister.accept(batch.stream().map(Parsed::details).toList());
+                    succeeded.addAndGet(batch.size());
+                    batch.forEach(parsed -> listener.onPersisted(parsed.id()));
+                } catch (Exception e) {
+                    log.warn("Failed to persist batch of {} artworks", batch.size(), e);
+                    batch.forEach(parsed -> fail(parsed.id(), e, failedIds));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void fail(String id, Exception error, ConcurrentLinkedQueue<String> failedIds) {
+        failedIds.add(id);
+        try {
+            listener.onFailed(id, error);
+        } catch (Exception e) {
+            log.warn("Failed to record processing error for artwork ID: {}", id, e);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.mvp.vueseum.client;
+
+import java.time.Duration;
+
+/**
+ * Snapshot of a client's progress through its current sync run.
+ *
+ * @param totalCount          ids in the run
+ * @param processedCount      ids processed so far, including earlier attempts of a resumed run
+ * @param errorCount          ids that failed so far
+ * @param processedSinceStart ids processed since this execution started
+ * @param elapsed             time since this execution started
+ */
+public record SyncProgress(
+        int totalCount,
+        int processedCount,
+        int errorCount,
+        int processedSinceStart,
+        Duration elapsed
+) {
+    public static final SyncProgress NONE = new SyncProgress(0, 0, 0, 0, Duration.ZERO);
+
+    public double artworksPerSecond() {
+        double seconds = elapsed.toMillis() / 1000.0;
+        return seconds > 0 ? processedSinceStart / seconds : 0;
+    }
+
+    /**
+     * @return the estimated time to finish at the current rate, or null before any progress
+     */
+    public Duration estimatedRemaining() {
+        double rate = artworksPerSecond();
+        if (rate <= 0) {
+            return null;
+        }
+        return Duration.ofSeconds((long) Math.ceil(Math.max(0, totalCount - processedCount) / rate));
+    }
+}
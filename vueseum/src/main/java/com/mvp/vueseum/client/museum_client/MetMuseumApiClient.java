@@ -1,14 +1,24 @@
 package com.mvp.vueseum.client.museum_client;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.util.concurrent.RateLimiter;
+import com.mvp.vueseum.client.AdaptiveRateLimiter;
 import com.mvp.vueseum.client.BaseMuseumApiClient;
+import com.mvp.vueseum.client.ObjectResponse;
+import com.mvp.vueseum.client.ResponseArchive;
+import com.mvp.vueseum.client.SearchResponseDecoder;
+import com.mvp.vueseum.client.SyncMetrics;
+import com.mvp.vueseum.client.museum_client.MetObjectDecoder.Field;
+import com.mvp.vueseum.client.museum_client.MetObjectDecoder.MetObject;
 import com.mvp.vueseum.domain.ArtworkDetails;
 import com.mvp.vueseum.entity.Museum;
 import com.mvp.vueseum.exception.ApiClientException;
+import com.mvp.vueseum.repository.FetchValidatorRepository.FetchValidators;
+import com.mvp.vueseum.service.ImageValidationService;
+import com.mvp.vueseum.service.SyncRunService;
+import com.mvp.vueseum.service.artwork.ArtworkBatchService;
 import com.mvp.vueseum.service.artwork.ArtworkService;
+import com.mvp.vueseum.service.artwork.OnViewSetService;
+import com.mvp.vueseum.service.artwork.SyncWriteLimiter;
+import com.mvp.vueseum.service.cultural.TermStandardizationStage;
 import com.mvp.vueseum.service.museum.MuseumService;
 import com.mvp.vueseum.util.RetryUtil;
 import lombok.AccessLevel;
@@ -17,16 +27,17 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.RestClient;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 @SuppressWarnings("UnstableApiUsage")
@@ -36,10 +47,11 @@ import java.util.stream.Collectors;
 @PropertySource("classpath:museum.properties")
 public class MetMuseumApiClient extends BaseMuseumApiClient {
     private final MuseumService museumService;
+    private final ImageValidationService imageValidationService;
     private Museum metMuseum;
 
     @Getter(AccessLevel.NONE)
-    private final RateLimiter rateLimiter;
+    private final AdaptiveRateLimiter rateLimiter;
 
     //private static int page = 1;
 
@@ -48,15 +60,27 @@ public class MetMuseumApiClient extends BaseMuseumApiClient {
             Environment environment,
             MuseumService museumService,
             @Value("${museum.metropolitan.api.baseUrl}") String baseUrl,
-            ArtworkService artworkService
+            ArtworkService artworkService,
+            ArtworkBatchService artworkBatchService,
+            SyncMetrics syncMetrics,
+            SyncRunService syncRunService,
+            OnViewSetService onViewSetService,
+            SyncWriteLimiter syncWriteLimiter,
+            ImageValidationService imageValidationService,
+            ResponseArchive responseArchive,
+            TermStandardizationStage termStandardizationStage
     ) {
-        super(retryUtil, environment, baseUrl, artworkService);
+        super(retryUtil, environment, baseUrl, artworkService, artworkBatchService, syncMetrics,
+                syncRunService, onViewSetService, syncWriteLimiter, responseArchive, termStandardizationStage);
         this.museumService = museumService;
-        this.rateLimiter = RateLimiter.create(
-                Integer.parseInt(
-                        environment.getProperty("museum.metropolitan.api.rateLimit", "80")
-                )
+        this.imageValidationService = imageValidationService;
+        this.rateLimiter = new AdaptiveRateLimiter(
+                "Met Museum",
+                Double.parseDouble(environment.getProperty("museum.metropolitan.api.rateLimit", "40")),
+                Double.parseDouble(environment.getProperty("museum.metropolitan.api.rateLimitMin", "5")),
+                Double.parseDouble(environment.getProperty("museum.metropolitan.api.rateLimitMax", "80"))
         );
+        syncMetrics.registerRateLimiter("metropolitan", rateLimiter);
     }
 
     @Override
@@ -73,23 +97,31 @@ public class MetMuseumApiClient extends BaseMuseumApiClient {
     }
 
     @Override
-    public RateLimiter getRateLimiter() {
+    protected int getMaxInFlightRequests() {
+        return Integer.parseInt(environment.getProperty("museum.metropolitan.api.maxInFlight", "32"));
+    }
+
+    @Override
+    protected int getResponseBufferChars() {
+        int megabytes = Integer.parseInt(environment.getProperty("museum.metropolitan.api.responseBufferMb", "16"));
+        return megabytes * 1024 * 1024;
+    }
+
+    @Override
+    protected long getResponseCacheChars() {
+        long megabytes = Long.parseLong(environment.getProperty("museum.metropolitan.api.responseCacheMb", "64"));
+        return megabytes * 1024 * 1024;
+    }
+
+    @Override
+    public AdaptiveRateLimiter getRateLimiter() {
         return rateLimiter;
     }
 
     public boolean isArtworkDisplayed(String response) {
         try {
-            ObjectMapper objectMapper = new ObjectMapper();
-            JsonNode rootNode = objectMapper.readTree(response);
-
-            // Skip Cloisters
-            if (rootNode.path("department").asInt() == 7) {
-                return false;
-            }
-
-            // Check if artwork has a gallery number
-            return !rootNode.path("GalleryNumber").asText().isBlank();
-        } catch (JsonProcessingException e) {
+            return MetObjectDecoder.isDisplayed(response);
+        } catch (IOException e) {
             log.warn("Failed to parse artwork response", e);
             return false;
         }
@@ -102,145 +134,150 @@ public class MetMuseumApiClient extends BaseMuseumApiClient {
             String initialUrl = baseUrl + "/search?isOnView=true&q=*";
             log.info("Requesting Met API URL: {}", initialUrl);
 
-            rateLimiter.acquire();
-            String initialResponse = restClient.get()
+            String initialResponse = rateLimiter.execute(() -> restClient.get()
                     .uri(initialUrl)
                     .retrieve()
-                    .body(String.class);
-
-            ObjectMapper mapper = new ObjectMapper();
-            JsonNode rootNode;
-            try {
-                rootNode = mapper.readTree(initialResponse);
-            } catch (JsonProcessingException e) {
-                throw new RuntimeException(e);
-            }
+                    .body(String.class));
 
-            int totalArtworks = rootNode.path("total").asInt();
-            log.info("Met API reports {} total artworks on display", totalArtworks);
+            SearchResponseDecoder.ObjectIds objectIds = SearchResponseDecoder.decode(initialResponse, "objectIDs");
+            log.info("Met API reports {} total artworks on display", objectIds.total());
+            log.info("Retrieved {} artwork IDs", objectIds.size());
 
-            List<String> allIds = parseSearchResponse(initialResponse, "objectIDs");
-            log.info("Retrieved {} artwork IDs", allIds.size());
-
-            return allIds;
+            return objectIds.asExternalIds();
         }, "fetch displayed artwork IDs");
     }
 
     @Override
     protected List<String> getUpdatedArtworkIds(LocalDateTime since) {
         return withRetry(() -> {
-            rateLimiter.acquire();
-
             String formattedDate = since.format(DateTimeFormatter.ISO_DATE);
 
-            String response = restClient.get()
+            String response = rateLimiter.execute(() -> restClient.get()
                     .uri(uriBuilder -> uriBuilder
                             .path("/objects")
                             .queryParam("metadataDate", formattedDate)
                             .build())
                     .retrieve()
-                    .body(String.class);
+                    .body(String.class));
 
-            List<String> updatedIds = parseSearchResponse(response, "objectIDs");
+            List<String> updatedIds = SearchResponseDecoder.decode(response, "objectIDs").asExternalIds();
 
-            // Filter for displayed artworks
+            // Filter for displayed artworks, keeping their responses for the processing stage
             return updatedIds.stream()
-                    .filter(id -> isArtworkDisplayed(fetchObjectResponse(id)))
+                    .filter(this::fetchAndCacheIfDisplayed)
                     .collect(Collectors.toList());
         }, "fetch updated artwork IDs");
     }
 
-    @Override
-    public ArtworkDetails fetchArtworkById(String id) {
-        try {
-            String response = fetchObjectResponse(id);
-            return convertToArtworkDetails(response);
-        }
-        catch (HttpClientErrorException.NotFound e) {
-            log.warn("Artwork with id {} not found", id, e);
-            return null;
+    private boolean fetchAndCacheIfDisplayed(String id) {
+        ObjectResponse response = fetchObject(id, null);
+        if (response == null || !isArtworkDisplayed(response.body())) {
+            return false;
         }
+        fetchContext.cacheResponse(id, response.body());
+        return true;
     }
 
-    private String fetchObjectResponse(String id) {
-        rateLimiter.acquire();
-        return restClient.get()
-                .uri("/objects/{id}", id)
-                .retrieve()
-                .body(String.class);
+    @Override
+    public ArtworkDetails fetchArtworkById(String id) {
+        ObjectResponse response = fetchObject(id, null);
+        return response != null ? convertToArtworkDetails(response.body()) : null;
     }
 
-    private boolean validateImageUrl(String url) {
-        if (url == null || url.isEmpty()) {
-            return false;
+    @Override
+    protected ObjectResponse fetchArtworkResponse(String id) {
+        String cached = fetchContext.takeResponse(id);
+        if (cached != null) {
+            return ObjectResponse.of(cached);
         }
+        return fetchObject(id, fetchContext.storedValidatorsFor(id));
+    }
 
+    /**
+     * Fetches an object, conditionally when validators from an earlier sync are given,
+     * and captures the validators of a fresh response for the current run.
+     *
+     * @return the response, {@link ObjectResponse#NOT_MODIFIED}, or null if the object does not exist
+     */
+    private ObjectResponse fetchObject(String id, FetchValidators validators) {
+        ResponseEntity<String> response;
         try {
-            RestClient restClient = RestClient.create();
-            ResponseEntity<Void> response = restClient.get()
-                    .uri(url)
-                    .header("Accept", "image/*")
+            response = rateLimiter.execute(() -> restClient.get()
+                    .uri("/objects/{id}", id)
+                    .headers(headers -> {
+                        if (validators != null && validators.etag() != null) {
+                            headers.setIfNoneMatch(validators.etag());
+                        }
+                        if (validators != null && validators.lastModified() != null) {
+                            headers.set(HttpHeaders.IF_MODIFIED_SINCE, validators.lastModified());
+                        }
+                    })
                     .retrieve()
-                    .toBodilessEntity();
+                    .toEntity(String.class));
+        }
+        catch (HttpClientErrorException.NotFound e) {
+            log.warn("Artwork with id {} not found", id, e);
+            return null;
+        }
 
-            // Check both status and content type
-            return response.getStatusCode().is2xxSuccessful() &&
-                    response.getHeaders().getContentType() != null &&
-                    !response.getHeaders().getContentType().includes(MediaType.TEXT_HTML);
-        } catch (Exception e) {
-            log.warn("Image URL validation failed for {}: {}", url, e.getMessage());
-            return false;
+        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+            return ObjectResponse.NOT_MODIFIED;
+        }
+        if (response.getBody() == null) {
+            return null;
         }
+
+        fetchContext.captureValidators(id, new FetchValidators(
+                response.getHeaders().getETag(),
+                response.getHeaders().getFirst(HttpHeaders.LAST_MODIFIED)));
+        return ObjectResponse.of(response.getBody());
     }
 
     @Override
     public ArtworkDetails convertToArtworkDetails(String response) {
-        ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode rootNode;
+        MetObject object;
         try {
-            rootNode = objectMapper.readTree(response);
-            if (rootNode.path("department").asInt() == 7 ||
-                "The Cloisters".equals(rootNode.path("department").asText()) ||
-                    (rootNode.has("location") &&
-                            rootNode.path("location").asText().contains("Cloisters"))) {
-                log.debug("Skipping Cloisters artwork: {}",
-                        rootNode.path("objectID").asText());
-                return null;
-            }
+            object = MetObjectDecoder.decode(response);
         } catch (IOException e) {
             throw new ApiClientException("Invalid JSON response from Met Museum API", e);
         }
 
+        if (object.isCloisters()) {
+            log.debug("Skipping Cloisters artwork: {}", object.get(Field.OBJECT_ID));
+            return null;
+        }
+
         // Validate required fields
-        if (rootNode.path("objectID").isMissingNode() ||
-                !rootNode.has("objectID") ||
-                rootNode.path("objectID").asText().isEmpty()) {
+        if (object.get(Field.OBJECT_ID).isEmpty()) {
             throw new ApiClientException("Missing required field: objectID");
         }
 
         // Check if artwork is displayed (early return)
-        if (!isArtworkDisplayed(response)) {
+        if (!object.isDisplayed()) {
             return null;
         }
 
         try {
             // Extract image URLs with detailed logging
-            String primaryImageUrl = rootNode.path("primaryImage").asText("");
-            String thumbnailImageUrl = rootNode.path("primaryImageSmall").asText("");
+            String primaryImageUrl = object.get(Field.PRIMARY_IMAGE);
+            String thumbnailImageUrl = object.get(Field.PRIMARY_IMAGE_SMALL);
 
+            // Validate both URLs concurrently
+            CompletableFuture<Boolean> primaryValid = imageValidationService.validateAsync(primaryImageUrl);
+            CompletableFuture<Boolean> thumbnailValid = imageValidationService.validateAsync(thumbnailImageUrl);
 
-            if (!primaryImageUrl.isEmpty() && !validateImageUrl(primaryImageUrl)) {
+            if (!primaryImageUrl.isEmpty() && !primaryValid.join()) {
                 log.info("Primary image URL invalid, falling back to thumbnail: {}", primaryImageUrl);
                 primaryImageUrl = thumbnailImageUrl;
             }
 
-            if (!thumbnailImageUrl.isEmpty() && !validateImageUrl(thumbnailImageUrl)) {
+            if (!thumbnailImageUrl.isEmpty() && !thumbnailValid.join()) {
                 thumbnailImageUrl = "";
             }
 
             // Process artist dates
-            String birthYear = rootNode.path("artistBeginDate").asText("");
-            String deathYear = rootNode.path("artistEndDate").asText("");
+            String birthYear = object.get(Field.ARTIST_BEGIN_DATE);
+            String deathYear = object.get(Field.ARTIST_END_DATE);
 
             // Only use years that are exactly 4 digits
             birthYear = birthYear.matches("^[0-9]{4}$") ? birthYear : "";
@@ -248,26 +285,26 @@ public class MetMuseumApiClient extends BaseMuseumApiClient {
 
             return ArtworkDetails.builder()
                     .apiSource("Metropolitan Museum of Art")
-                    .externalId(rootNode.path("objectID").asText())
-                    .title(rootNode.path("title").asText())
-                    .artistName(rootNode.path("artistDisplayName").asText())
-                    .artistNationality(rootNode.path("artistNationality").asText())
+                    .externalId(object.get(Field.OBJECT_ID))
+                    .title(object.get(Field.TITLE))
+                    .artistName(object.get(Field.ARTIST_DISPLAY_NAME))
+                    .artistNationality(object.get(Field.ARTIST_NATIONALITY))
                     .artistBirthYear(birthYear)
                     .artistDeathYear(deathYear)
-                    .artistPrefix(rootNode.path("artistPrefix").asText())
-                    .artistRole(rootNode.path("artistRole").asText())
-                    .medium(rootNode.path("medium").asText())
-                    .artworkType(rootNode.path("objectName").asText())
-                    .creationYear(rootNode.path("objectDate").asText())
-                    .dimensions(rootNode.path("dimensions").asText())
-                    .department(rootNode.path("department").asText())
-                    .galleryNumber(rootNode.path("GalleryNumber").asText())
-                    .country(rootNode.path("country").asText())
-                    .region(rootNode.path("region").asText())
-                    .subRegion(rootNode.path("subRegion").asText())
-                    .geographyType(rootNode.path("geographyType").asText())
-                    .culture(rootNode.path("culture").asText())
-                    .period(rootNode.path("period").asText())
+                    .artistPrefix(object.get(Field.ARTIST_PREFIX))
+                    .artistRole(object.get(Field.ARTIST_ROLE))
+                    .medium(object.get(Field.MEDIUM))
+                    .artworkType(object.get(Field.OBJECT_NAME))
+                    .creationYear(object.get(Field.OBJECT_DATE))
+                    .dimensions(object.get(Field.DIMENSIONS))
+                    .department(object.get(Field.DEPARTMENT))
+                    .galleryNumber(object.get(Field.GALLERY_NUMBER))
+                    .country(object.get(Field.COUNTRY))
+                    .region(object.get(Field.REGION))
+                    .subRegion(object.get(Field.SUB_REGION))
+                    .geographyType(object.get(Field.GEOGRAPHY_TYPE))
+                    .culture(object.get(Field.CULTURE))
+                    .period(object.get(Field.PERIOD))
                     .primaryImageUrl(primaryImageUrl)
                     .thumbnailImageUrl(thumbnailImageUrl)
                     .build();
@@ -0,0 +1,158 @@
+package com.mvp.vueseum.client.museum_client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Streaming decoder for Met Museum object responses.
+ * <p>
+ * An object response is read once, token by token, keeping only the scalar fields the
+ * sync maps into {@code ArtworkDetails}; nested structures such as constituents,
+ * measurements and tags are skipped without being materialized. The display check
+ * used while listing updated objects reads just the two fields it needs and stops as
+ * soon as the answer is known. The shared {@link JsonFactory} is thread-safe.
+ */
+public final class MetObjectDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String CLOISTERS_DEPARTMENT_ID = "7";
+
+    public enum Field {
+        OBJECT_ID("objectID"),
+        TITLE("title"),
+        ARTIST_DISPLAY_NAME("artistDisplayName"),
+        ARTIST_NATIONALITY("artistNationality"),
+        ARTIST_BEGIN_DATE("artistBeginDate"),
+        ARTIST_END_DATE("artistEndDate"),
+        ARTIST_PREFIX("artistPrefix"),
+        ARTIST_ROLE("artistRole"),
+        MEDIUM("medium"),
+        OBJECT_NAME("objectName"),
+        OBJECT_DATE("objectDate"),
+        DIMENSIONS("dimensions"),
+        DEPARTMENT("department"),
+        GALLERY_NUMBER("GalleryNumber"),
+        COUNTRY("country"),
+        REGION("region"),
+        SUB_REGION("subRegion"),
+        GEOGRAPHY_TYPE("geographyType"),
+        CULTURE("culture"),
+        PERIOD("period"),
+        PRIMARY_IMAGE("primaryImage"),
+        PRIMARY_IMAGE_SMALL("primaryImageSmall"),
+        LOCATION("location");
+
+        private final String jsonName;
+
+        Field(String jsonName) {
+            this.jsonName = jsonName;
+        }
+    }
+
+    private static final Field[] FIELDS = Field.values();
+    private static final Map<String, Field> FIELDS_BY_JSON_NAME = new HashMap<>();
+
+    static {
+        for (Field field : FIELDS) {
+            FIELDS_BY_JSON_NAME.put(field.jsonName, field);
+        }
+    }
+
+    private MetObjectDecoder() {
+    }
+
+    /**
+     * The decoded scalar fields of an object; absent and null fields read as empty strings.
+     */
+    public static final class MetObject {
+        private final String[] values = new String[FIELDS.length];
+
+        private MetObject() {
+            Arrays.fill(values, "");
+        }
+
+        public String get(Field field) {
+            return values[field.ordinal()];
+        }
+
+        public boolean isCloisters() {
+            String department = get(Field.DEPARTMENT);
+            return CLOISTERS_DEPARTMENT_ID.equals(department)
+                    || "The Cloisters".equals(department)
+                    || get(Field.LOCATION).contains("Cloisters");
+        }
+
+        public boolean isDisplayed() {
+            return displayed(get(Field.DEPARTMENT), get(Field.GALLERY_NUMBER));
+        }
+    }
+
+    public static MetObject decode(String response) throws IOException {
+        MetObject object = new MetObject();
+        try (JsonParser parser = openObject(response)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                Field field = FIELDS_BY_JSON_NAME.get(parser.currentName());
+                JsonToken value = parser.nextToken();
+                if (field != null && value.isScalarValue()) {
+                    object.values[field.ordinal()] = scalarText(parser, value);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return object;
+    }
+
+    /**
+     * Checks whether an object is on display (outside the Cloisters, with a gallery number)
+     * without decoding the rest of the response.
+     */
+    public static boolean isDisplayed(String response) throws IOException {
+        String department = null;
+        String galleryNumber = null;
+        try (JsonParser parser = openObject(response)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (Field.DEPARTMENT.jsonName.equals(fieldName) && value.isScalarValue()) {
+                    department = scalarText(parser, value);
+                } else if (Field.GALLERY_NUMBER.jsonName.equals(fieldName) && value.isScalarValue()) {
+                    galleryNumber = scalarText(parser, value);
+                } else {
+                    parser.skipChildren();
+                }
+                if (department != null && galleryNumber != null) {
+                    break;
+                }
+            }
+        }
+        return displayed(department, galleryNumber);
+    }
+
+    private static boolean displayed(String department, String galleryNumber) {
+        return !CLOISTERS_DEPARTMENT_ID.equals(department)
+                && galleryNumber != null
+                && !galleryNumber.isBlank();
+    }
+
+    private static JsonParser openObject(String response) throws IOException {
+        JsonParser parser = JSON_FACTORY.createParser(response);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            JsonParseException error = new JsonParseException(parser, "Expected a JSON object");
+            parser.close();
+            throw error;
+        }
+        return parser;
+    }
+
+    private static String scalarText(JsonParser parser, JsonToken value) throws IOException {
+        return value == JsonToken.VALUE_NULL ? "" : parser.getText();
+    }
+}
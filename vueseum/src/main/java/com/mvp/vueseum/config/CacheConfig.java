@@ -3,13 +3,16 @@ package com.mvp.vueseum.config;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.mvp.vueseum.entity.Artwork;
+import com.mvp.vueseum.service.catalog.CatalogVersionedCache;
 import com.mvp.vueseum.service.tour.FilterOptionsService;
 import com.mvp.vueseum.service.tour.SuggestionService;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.time.Duration;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
@@ -21,13 +24,20 @@ public class CacheConfig {
     }
 
     @Bean
-    public Cache<String, FilterOptionsService.FilterOptions> filterOptionsCache() {
-        return createCache(Duration.ofHours(1), 1000);
+    public CatalogVersionedCache<FilterOptionsService.FilterOptions> filterOptionsCache(
+            @Value("${catalog.cacheRebuildLimit:200}") int rebuildLimit) {
+        return new CatalogVersionedCache<>("filterOptions", Duration.ofHours(1), 1000, rebuildLimit);
     }
 
     @Bean
-    public Cache<String, List<SuggestionService.Suggestion>> suggestionCache() {
-        return createCache(Duration.ofMinutes(30), 1000);
+    public CatalogVersionedCache<List<SuggestionService.Suggestion>> suggestionCache(
+            @Value("${catalog.cacheRebuildLimit:200}") int rebuildLimit) {
+        return new CatalogVersionedCache<>("suggestions", Duration.ofMinutes(30), 1000, rebuildLimit);
+    }
+
+    @Bean
+    public CatalogVersionedCache<Map<String, List<String>>> searchFilterOptionsCache() {
+        return new CatalogVersionedCache<>("searchFilterOptions", Duration.ofHours(1), 1, 1);
     }
 
     @Bean
@@ -57,14 +67,6 @@ public class CacheConfig {
                 .build();
     }
 
-    @Bean
-    public Cache<String, String> standardizedTermCache() {
-        return Caffeine.newBuilder()
-                .expireAfterWrite(Duration.ofHours(12))
-                .maximumSize(2000)
-                .build();
-    }
-
     private <K, V> Cache<K, V> createCache(Duration expiration, int maxSize) {
         return Caffeine.newBuilder()
                 .expireAfterWrite(expiration)
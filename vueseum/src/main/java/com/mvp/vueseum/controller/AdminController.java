@@ -1,11 +1,18 @@
 package com.mvp.vueseum.controller;
 
+import com.mvp.vueseum.dto.ReprocessJobDTO;
+import com.mvp.vueseum.dto.SyncJobDTO;
+import com.mvp.vueseum.dto.SyncRunDTO;
 import com.mvp.vueseum.event.SyncOperation;
 import com.mvp.vueseum.service.SyncManagementService;
+import com.mvp.vueseum.service.artwork.ArtworkReprocessingService;
+import com.mvp.vueseum.service.catalog.CatalogSnapshotService;
+import com.mvp.vueseum.service.cultural.VocabularyImportService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -13,17 +20,41 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AdminController {
     private final SyncManagementService syncService;
+    private final ArtworkReprocessingService reprocessingService;
+    private final CatalogSnapshotService snapshotService;
+    private final VocabularyImportService vocabularyImportService;
 
     @PostMapping("/sync/start")
     @ResponseStatus(HttpStatus.ACCEPTED)
-    public void startSync(
+    public List<SyncJobDTO> startSync(
             @RequestParam(required = false) Long museumId,
             @RequestParam(defaultValue = "false") boolean fullSync) {
         SyncOperation operation = fullSync
                 ? SyncOperation.monthly()  // Full sync
                 : SyncOperation.daily();   // Incremental sync
 
-        syncService.executeSync(museumId, operation);
+        return syncService.startSync(museumId, operation);
+    }
+
+    @PostMapping("/sync/reingest")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SyncJobDTO startReingest(@RequestParam Long museumId) {
+        return syncService.startReingest(museumId);
+    }
+
+    @GetMapping("/sync/jobs")
+    public List<SyncJobDTO> getSyncJobs() {
+        return syncService.getJobs();
+    }
+
+    @GetMapping("/sync/jobs/{jobId}")
+    public SyncJobDTO getSyncJob(@PathVariable String jobId) {
+        return syncService.getJob(jobId);
+    }
+
+    @PostMapping("/sync/jobs/{jobId}/cancel")
+    public SyncJobDTO cancelSyncJob(@PathVariable String jobId) {
+        return syncService.cancelJob(jobId);
     }
 
     @GetMapping("/sync/status")
@@ -32,4 +63,51 @@ public class AdminController {
                 syncService.getSingleMuseumStatus(museumId) :
                 syncService.getAggregatedStatus();
     }
+
+    @GetMapping("/sync/runs")
+    public List<SyncRunDTO> getSyncRuns() {
+        return syncService.getRecentRuns();
+    }
+
+    @PostMapping("/sync/runs/{runId}/resume")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public SyncJobDTO resumeSyncRun(@PathVariable Long runId) {
+        return syncService.resumeRun(runId);
+    }
+
+    @PostMapping("/sync/runs/{runId}/abort")
+    public SyncRunDTO abortSyncRun(@PathVariable Long runId) {
+        return syncService.abortRun(runId);
+    }
+
+    @PostMapping("/artworks/reprocess")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public ReprocessJobDTO startReprocessing() {
+        return ReprocessJobDTO.fromJob(reprocessingService.start());
+    }
+
+    @GetMapping("/artworks/reprocess")
+    public ReprocessJobDTO getReprocessingJob() {
+        return ReprocessJobDTO.fromJob(reprocessingService.getCurrentJob());
+    }
+
+    @PostMapping("/artworks/reprocess/cancel")
+    public ReprocessJobDTO cancelReprocessing() {
+        return ReprocessJobDTO.fromJob(reprocessingService.cancel());
+    }
+
+    @PostMapping("/catalog/snapshot/export")
+    public CatalogSnapshotService.SnapshotSummary exportCatalogSnapshot() {
+        return snapshotService.export();
+    }
+
+    @PostMapping("/catalog/snapshot/import")
+    public CatalogSnapshotService.SnapshotSummary importCatalogSnapshot(@RequestParam String file) {
+        return snapshotService.importSnapshot(file);
+    }
+
+    @PostMapping("/vocabulary/import")
+    public VocabularyImportService.ImportSummary importVocabulary(@RequestParam String file) {
+        return vocabularyImportService.importExtract(file);
+    }
 }
@@ -0,0 +1,71 @@
+package com.mvp.vueseum.domain;
+
+import com.mvp.vueseum.service.cultural.CulturalMapping;
+import com.mvp.vueseum.service.cultural.CulturalMapping.CultureContext;
+import com.mvp.vueseum.util.DateParsingUtil;
+import com.mvp.vueseum.util.DateParsingUtil.YearRange;
+import org.springframework.util.StringUtils;
+
+/**
+ * Query columns computed from an artwork's source fields when it is written, so
+ * searches filter on indexed values instead of parsing dates, mapping cultures and
+ * matching media on every read.
+ *
+ * @param yearStart         first year of the creation date, negative for BCE, null if unparseable
+ * @param yearEnd           last year of the creation date
+ * @param periodBucket      one of {@link DateParsingUtil#PERIOD_BUCKETS}
+ * @param culturalRegion    region from {@link CulturalMapping}, e.g. "Asia"
+ * @param culturalSubRegion sub-region from {@link CulturalMapping}, e.g. "East Asia"
+ * @param mediumFamily      family of the classification and medium
+ * @param hasImage          true if a primary or thumbnail image is available
+ */
+public record DerivedArtworkFields(
+        Integer yearStart,
+        Integer yearEnd,
+        String periodBucket,
+        String culturalRegion,
+        String culturalSubRegion,
+        MediumFamily mediumFamily,
+        boolean hasImage
+) {
+    /**
+     * Stored with the columns; raise it when the derivation changes so the backfill
+     * and the next sync recompute existing rows.
+     */
+    public static final int VERSION = 2;
+
+    public static DerivedArtworkFields derive(String creationDate, String culture, String country,
+                                              String classification, String medium,
+                                              String imageUrl, String thumbnailImageUrl) {
+        Integer yearStart = null;
+        Integer yearEnd = null;
+        String periodBucket = null;
+        if (StringUtils.hasText(creationDate)) {
+            try {
+                YearRange years = DateParsingUtil.extractYearRange(creationDate);
+                yearStart = years.start();
+                yearEnd = years.end();
+                periodBucket = DateParsingUtil.mapYearToPeriod(years.start());
+            } catch (NumberFormatException _) {
+                // Left null; the artwork matches no period filter
+            }
+        }
+
+        CultureContext context = CulturalMapping.resolveContext(culture, country).orElse(null);
+
+        return new DerivedArtworkFields(
+                yearStart,
+                yearEnd,
+                periodBucket,
+                context != null ? context.region() : null,
+                context != null ? context.subRegion() : null,
+                MediumFamily.classify(classification, medium),
+                StringUtils.hasText(imageUrl) || StringUtils.hasText(thumbnailImageUrl));
+    }
+
+    public static DerivedArtworkFields from(ArtworkDetails details) {
+        return derive(details.getCreationYear(), details.getCulture(), details.getCountry(),
+                details.getArtworkType(), details.getMedium(),
+                details.getPrimaryImageUrl(), details.getThumbnailImageUrl());
+    }
+}
@@ -0,0 +1,83 @@
+package com.mvp.vueseum.domain;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Coarse grouping of the free-text medium and classification of an artwork, so
+ * filters can match "painting" without pattern matching every medium string.
+ * Families are checked in declaration order and the first keyword found as a whole
+ * word, optionally plural, wins, so the more specific families come first. Whole words
+ * keep "Textiles-Printed" out of PRINT and "cloak" out of FURNITURE.
+ */
+public enum MediumFamily {
+    PHOTOGRAPH(List.of("photograph", "gelatin silver", "albumen", "daguerreotype", "salted paper", "platinum print", "chromogenic")),
+    PRINT(List.of("print", "etching", "engraving", "lithograph", "woodcut", "woodblock", "aquatint", "mezzotint", "drypoint", "screenprint")),
+    DRAWING(List.of("drawing", "graphite", "charcoal", "chalk", "pastel", "pen and", "pencil", "crayon")),
+    PAINTING(List.of("painting", "oil on", "tempera", "acrylic", "watercolor", "gouache", "fresco", "ink and color")),
+    SCULPTURE(List.of("sculpture", "marble", "bronze", "limestone", "sandstone", "alabaster", "granite")),
+    CERAMICS(List.of("ceramic", "porcelain", "earthenware", "stoneware", "terracotta", "faience", "pottery")),
+    GLASS(List.of("glass")),
+    TEXTILE(List.of("textile", "silk", "cotton", "wool", "linen", "tapestry", "tapestries", "embroidery", "embroidered", "velvet")),
+    METALWORK(List.of("metalwork", "gold", "silver", "copper", "iron", "steel", "brass", "pewter")),
+    FURNITURE(List.of("furniture", "mahogany", "walnut", "oak")),
+    OTHER(List.of());
+
+    private final Pattern keywords;
+
+    MediumFamily(List<String> keywords) {
+        this.keywords = keywords.isEmpty() ? null : Pattern.compile(keywords.stream()
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|", "\\b(?:", ")(?:s|es)?\\b")));
+    }
+
+    /**
+     * Classifies an artwork by its classification, then by its medium.
+     *
+     * @return the family, or null if neither field is known
+     */
+    public static MediumFamily classify(String classification, String medium) {
+        if (isBlank(classification) && isBlank(medium)) {
+            return null;
+        }
+        return match(classification)
+                .or(() -> match(medium))
+                .orElse(OTHER);
+    }
+
+    /**
+     * Matches a category search term such as "paintings" or "Ceramics" to a family.
+     */
+    public static Optional<MediumFamily> fromCategory(String category) {
+        if (isBlank(category)) {
+            return Optional.empty();
+        }
+        String term = category.trim().toUpperCase(Locale.ROOT);
+        for (MediumFamily family : values()) {
+            if (family != OTHER && (term.equals(family.name()) || term.equals(family.name() + "S"))) {
+                return Optional.of(family);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<MediumFamily> match(String text) {
+        if (isBlank(text)) {
+            return Optional.empty();
+        }
+        String normalized = text.toLowerCase(Locale.ROOT);
+        for (MediumFamily family : values()) {
+            if (family.keywords != null && family.keywords.matcher(normalized).find()) {
+                return Optional.of(family);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean isBlank(String text) {
+        return text == null || text.isBlank();
+    }
+}
@@ -0,0 +1,12 @@
+package com.mvp.vueseum.dto;
+
+/**
+ * Lightweight projection used for artist autocomplete.
+ * The work count only includes displayed artworks with an image in the requested museum.
+ */
+public record ArtistSuggestionDTO(
+        String artistName,
+        String birthDate,
+        String deathDate,
+        long workCount
+) {}
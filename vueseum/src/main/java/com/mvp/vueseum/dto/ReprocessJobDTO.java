@@ -0,0 +1,46 @@
+package com.mvp.vueseum.dto;
+
+import com.mvp.vueseum.service.artwork.ReprocessJob;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class ReprocessJobDTO {
+    private String id;
+    private String state;
+    private boolean cancellationRequested;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+    private int totalRanges;
+    private int completedRanges;
+    private int failedRanges;
+    private long scannedCount;
+    private long updatedCount;
+    private double artworksPerSecond;
+    private Long estimatedRemainingSeconds;
+
+    public static ReprocessJobDTO fromJob(ReprocessJob job) {
+        Duration remaining = job.estimatedRemaining();
+
+        ReprocessJobDTO dto = new ReprocessJobDTO();
+        dto.id = job.getId();
+        dto.state = job.getState().name();
+        dto.cancellationRequested = job.isCancellationRequested();
+        dto.startedAt = job.getStartedAt();
+        dto.finishedAt = job.getFinishedAt();
+        dto.lastError = job.getLastError();
+        dto.totalRanges = job.getTotalRanges();
+        dto.completedRanges = job.getCompletedRanges().get();
+        dto.failedRanges = job.getFailedRanges().get();
+        dto.scannedCount = job.getScannedCount().get();
+        dto.updatedCount = job.getUpdatedCount().get();
+        dto.artworksPerSecond = job.artworksPerSecond();
+        dto.estimatedRemainingSeconds = remaining != null ? remaining.toSeconds() : null;
+        return dto;
+    }
+}
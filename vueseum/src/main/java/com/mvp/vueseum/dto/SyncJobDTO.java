@@ -0,0 +1,50 @@
+package com.mvp.vueseum.dto;
+
+import com.mvp.vueseum.client.SyncProgress;
+import com.mvp.vueseum.service.SyncJob;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class SyncJobDTO {
+    private String id;
+    private Long museumId;
+    private String task;
+    private String state;
+    private boolean cancellationRequested;
+    private LocalDateTime queuedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String lastError;
+    private int totalCount;
+    private int processedCount;
+    private int errorCount;
+    private double artworksPerSecond;
+    private Long estimatedRemainingSeconds;
+
+    public static SyncJobDTO fromJob(SyncJob job) {
+        SyncProgress progress = job.getProgress();
+        Duration remaining = job.getState() == SyncJob.State.RUNNING ? progress.estimatedRemaining() : null;
+
+        SyncJobDTO dto = new SyncJobDTO();
+        dto.id = job.getId();
+        dto.museumId = job.getMuseumId();
+        dto.task = job.getTask();
+        dto.state = job.getState().name();
+        dto.cancellationRequested = job.isCancellationRequested();
+        dto.queuedAt = job.getQueuedAt();
+        dto.startedAt = job.getStartedAt();
+        dto.finishedAt = job.getFinishedAt();
+        dto.lastError = job.getLastError();
+        dto.totalCount = progress.totalCount();
+        dto.processedCount = progress.processedCount();
+        dto.errorCount = progress.errorCount();
+        dto.artworksPerSecond = progress.artworksPerSecond();
+        dto.estimatedRemainingSeconds = remaining != null ? remaining.toSeconds() : null;
+        return dto;
+    }
+}
@@ -0,0 +1,41 @@
+package com.mvp.vueseum.dto;
+
+import com.mvp.vueseum.entity.SyncRun;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+public class SyncRunDTO {
+    private Long id;
+    private Long museumId;
+    private boolean fullSync;
+    private String status;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private LocalDateTime lastCheckpointAt;
+    private int totalIds;
+    private int chunkCount;
+    private int processedCount;
+    private int errorCount;
+    private String failureReason;
+
+    public static SyncRunDTO fromEntity(SyncRun run) {
+        SyncRunDTO dto = new SyncRunDTO();
+        dto.id = run.getId();
+        dto.museumId = run.getMuseumId();
+        dto.fullSync = run.isFullSync();
+        dto.status = run.getStatus().name();
+        dto.startedAt = run.getStartedAt();
+        dto.finishedAt = run.getFinishedAt();
+        dto.lastCheckpointAt = run.getLastCheckpointAt();
+        dto.totalIds = run.getTotalIds();
+        dto.chunkCount = run.getChunkCount();
+        dto.processedCount = run.getProcessedCount();
+        dto.errorCount = run.getErrorCount();
+        dto.failureReason = run.getFailureReason();
+        return dto;
+    }
+}
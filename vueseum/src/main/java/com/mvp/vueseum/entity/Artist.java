@@ -93,6 +93,14 @@ public class Artist extends BaseEntity {
 
     // For scoring and suggestions - stricter business logic
     public boolean hasReasonableLifespan() {
+        return isReasonableLifespan(birthDate, deathDate);
+    }
+
+    /**
+     * Lifespan rule shared with projections that carry artist dates
+     * without loading the entity (e.g. artist suggestions).
+     */
+    public static boolean isReasonableLifespan(String birthDate, String deathDate) {
         if (birthDate == null || birthDate.isEmpty() ||
                 deathDate == null || deathDate.isEmpty()) {
             return true;
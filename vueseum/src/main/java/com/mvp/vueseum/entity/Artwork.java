@@ -1,5 +1,7 @@
 package com.mvp.vueseum.entity;
 
+import com.mvp.vueseum.domain.DerivedArtworkFields;
+import com.mvp.vueseum.domain.MediumFamily;
 import com.mvp.vueseum.entity.base.BaseEntity;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -109,6 +111,36 @@ public class Artwork extends BaseEntity {
     @Column(name = "chronological_sort_value")
     private Integer chronologicalSortValue;
 
+    // Fingerprint of the source data last synced, see ContentHashUtil
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Query columns derived from the fields above, see DerivedArtworkFields
+    @Column(name = "year_start")
+    private Integer yearStart;
+
+    @Column(name = "year_end")
+    private Integer yearEnd;
+
+    @Column(name = "period_bucket", length = 30)
+    private String periodBucket;
+
+    @Column(name = "cultural_region", length = 50)
+    private String culturalRegion;
+
+    @Column(name = "cultural_sub_region", length = 50)
+    private String culturalSubRegion;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "medium_family", length = 20)
+    private MediumFamily mediumFamily;
+
+    @Column(name = "has_image", nullable = false)
+    private boolean hasImage;
+
+    @Column(name = "derived_version")
+    private Integer derivedVersion;
+
     public enum ProcessingStatus {
         PENDING,
         COMPLETED,
@@ -131,6 +163,17 @@ public class Artwork extends BaseEntity {
         this.imageUrl = imageUrl;
     }
 
+    public void applyDerivedFields(DerivedArtworkFields derived) {
+        this.yearStart = derived.yearStart();
+        this.yearEnd = derived.yearEnd();
+        this.periodBucket = derived.periodBucket();
+        this.culturalRegion = derived.culturalRegion();
+        this.culturalSubRegion = derived.culturalSubRegion();
+        this.mediumFamily = derived.mediumFamily();
+        this.hasImage = derived.hasImage();
+        this.derivedVersion = DerivedArtworkFields.VERSION;
+    }
+
     public String getArtistName() {
         return hasKnownArtist() ? artist.getArtistName() : "Unknown Artist";
     }
@@ -0,0 +1,72 @@
+package com.mvp.vueseum.entity;
+
+import com.mvp.vueseum.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * A persisted sync run. The ids to process are stored in {@link SyncRunChunk}s, and
+ * progress is checkpointed per chunk so an interrupted run can be resumed.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "sync_runs")
+public class SyncRun extends BaseEntity {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        ABORTED;
+
+        private static final Set<Status> RESUMABLE = Set.of(RUNNING, FAILED);
+
+        public boolean isResumable() {
+            return RESUMABLE.contains(this);
+        }
+    }
+
+    @Column(name = "museum_id", nullable = false)
+    private Long museumId;
+
+    @Column(name = "full_sync", nullable = false)
+    private boolean fullSync;
+
+    @Column(name = "incremental_since")
+    private LocalDateTime incrementalSince;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.RUNNING;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "last_checkpoint_at")
+    private LocalDateTime lastCheckpointAt;
+
+    @Column(name = "total_ids", nullable = false)
+    private int totalIds;
+
+    @Column(name = "chunk_count", nullable = false)
+    private int chunkCount;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "error_count", nullable = false)
+    private int errorCount;
+
+    @Column(name = "failure_reason", columnDefinition = "TEXT")
+    private String failureReason;
+}
@@ -0,0 +1,67 @@
+package com.mvp.vueseum.entity;
+
+import com.mvp.vueseum.entity.base.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A slice of a sync run's id list; the unit of checkpointing.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@Entity
+@Table(name = "sync_run_chunks",
+        uniqueConstraints = {@UniqueConstraint(name = "unique_sync_run_chunk", columnNames = {"sync_run_id", "chunk_index"})
+    })
+public class SyncRunChunk extends BaseEntity {
+
+    public enum Status {
+        PENDING,
+        COMPLETED
+    }
+
+    @Setter(AccessLevel.NONE)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "sync_run_id", nullable = false)
+    private SyncRun syncRun;
+
+    @Column(name = "chunk_index", nullable = false)
+    private int chunkIndex;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "external_ids", columnDefinition = "jsonb", nullable = false)
+    private List<String> externalIds = new ArrayList<>();
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.PENDING;
+
+    @Column(name = "processed_count", nullable = false)
+    private int processedCount;
+
+    @Column(name = "error_count", nullable = false)
+    private int errorCount;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "failed_ids", columnDefinition = "jsonb")
+    private List<String> failedIds = new ArrayList<>();
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public SyncRunChunk(SyncRun syncRun, int chunkIndex, List<String> externalIds) {
+        this.syncRun = syncRun;
+        this.chunkIndex = chunkIndex;
+        this.externalIds = new ArrayList<>(externalIds);
+    }
+}
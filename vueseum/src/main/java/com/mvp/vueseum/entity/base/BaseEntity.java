@@ -18,7 +18,7 @@ import java.time.LocalDateTime;
 @Setter
 public abstract class BaseEntity {
     @Id
-    @SequenceGenerator(name = "id_sequence", sequenceName = "id_sequence", allocationSize = 1)
+    @SequenceGenerator(name = "id_sequence", sequenceName = "id_sequence", allocationSize = 50)
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "id_sequence")
     @Column(updatable = false, nullable = false)
     private Long id;
@@ -0,0 +1,12 @@
+package com.mvp.vueseum.event;
+
+/**
+ * Published when this node first sees a new catalog version, after the sync that
+ * produced it has committed. Listeners run on a dedicated background thread, one
+ * event at a time in version order, so they can rebuild caches and indexes without
+ * holding up requests or syncs.
+ *
+ * @param previousVersion the version seen before, 0 on startup
+ * @param version         the new version
+ */
+public record CatalogVersionChangedEvent(long previousVersion, long version) {}
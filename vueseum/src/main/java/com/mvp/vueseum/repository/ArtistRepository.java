@@ -1,11 +1,13 @@
 package com.mvp.vueseum.repository;
 
+import com.mvp.vueseum.dto.ArtistSuggestionDTO;
 import com.mvp.vueseum.entity.Artist;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,22 +16,37 @@ public interface ArtistRepository extends JpaRepository<Artist, Long> {
 
     Optional<Artist> findByArtistName(String artistName);
 
+    List<Artist> findByArtistNameIn(Collection<String> artistNames);
+
+    /**
+     * Returns (artistName, id) pairs for every artist with at least one artwork in the museum.
+     * Used to warm the sync-run artist cache with a single query.
+     */
+    @Query("SELECT DISTINCT a.artistName, a.id FROM Artwork w JOIN w.artist a WHERE w.museum.id = :museumId")
+    List<Object[]> findArtistNamesAndIdsByMuseum(@Param("museumId") Long museumId);
+
     /**
      * Finds artists whose names start with the given prefix,
      * but only if they have artworks with images currently on display.
+     * Returns name, lifespan and the matching work count in a single
+     * aggregate query so the artists' work collections are never loaded.
      * We limit results to avoid overwhelming the user.
      */
     @Query("""
-    SELECT DISTINCT a FROM Artist a
-    JOIN a.works w
+    SELECT new com.mvp.vueseum.dto.ArtistSuggestionDTO(
+        a.artistName, a.birthDate, a.deathDate, COUNT(w))
+    FROM Artwork w
+    JOIN w.artist a
     WHERE LOWER(a.artistName) LIKE LOWER(CONCAT(:prefix, '%'))
     AND w.museum.id = :museumId
+    AND w.deleted = false
     AND (w.imageUrl IS NOT NULL AND w.imageUrl != '' OR
          w.thumbnailImageUrl IS NOT NULL AND w.thumbnailImageUrl != '')
+    GROUP BY a.id, a.artistName, a.birthDate, a.deathDate
     ORDER BY a.artistName
     LIMIT 10
     """)
-    List<Artist> findSuggestedArtists(
+    List<ArtistSuggestionDTO> findSuggestedArtists(
             @Param("prefix") String prefix,
             @Param("museumId") Long museumId
     );
@@ -0,0 +1,466 @@
+package com.mvp.vueseum.repository;
+
+import com.mvp.vueseum.domain.DerivedArtworkFields;
+import com.mvp.vueseum.domain.MediumFamily;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * JDBC-level bulk operations for the sync write path.
+ * Complements {@link ArtworkRepository}, which stays the entry point for reads and single-entity writes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ArtworkBatchRepository {
+
+    /** Must match the increment of id_sequence and the allocationSize in BaseEntity */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * A fully mapped artwork row ready to be upserted.
+     */
+    public record ArtworkRow(
+            Long id,
+            String externalId,
+            Long museumId,
+            Long artistId,
+            String title,
+            String classification,
+            String medium,
+            String artistPrefix,
+            String artistRole,
+            String culture,
+            String country,
+            String galleryNumber,
+            String department,
+            String description,
+            String imageUrl,
+            String thumbnailImageUrl,
+            String creationDate,
+            String additionalMetadataJson,
+            int chronologicalSortValue,
+            String contentHash,
+            DerivedArtworkFields derived,
+            LocalDateTime lastSyncAttempt
+    ) {}
+
+    /**
+     * The sync-relevant state of an already stored artwork.
+     * {@code completed} is only true for rows that synced successfully, are not soft-deleted
+     * and have their derived columns computed with the current {@link DerivedArtworkFields#VERSION}.
+     */
+    public record StoredArtwork(Long id, String contentHash, boolean completed) {
+
+        /** True when the stored row already reflects source data with this hash */
+        public boolean isUnchanged(String incomingHash) {
+            return completed && incomingHash.equals(contentHash);
+        }
+    }
+
+    /**
+     * The source fields of a stored artwork that its derived columns are computed from.
+     */
+    public record DerivedFieldsSource(
+            Long id,
+            String creationDate,
+            String culture,
+            String country,
+            String classification,
+            String medium,
+            String imageUrl,
+            String thumbnailImageUrl
+    ) {
+        public DerivedArtworkFields derive() {
+            return DerivedArtworkFields.derive(creationDate, culture, country, classification, medium,
+                    imageUrl, thumbnailImageUrl);
+        }
+    }
+
+    /**
+     * A stored artwork's source fields with the columns currently computed from them.
+     */
+    public record ComputedFieldsRow(
+            DerivedFieldsSource source,
+            Integer chronologicalSortValue,
+            DerivedArtworkFields derived,
+            Integer derivedVersion
+    ) {}
+
+    /**
+     * Computed columns of a stored artwork to write back.
+     */
+    public record RecomputedFields(long id, int chronologicalSortValue, DerivedArtworkFields derived) {}
+
+    public record IdRange(long minId, long maxId) {}
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO artworks (
+                id, version, external_id, museum_id, artist_id, title, classification, medium,
+                artist_prefix, artist_role, culture, country, gallery_number, department,
+                description, image_url, thumbnail_image_url, creation_date, additional_metadata,
+                chronological_sort_value, content_hash, year_start, year_end, period_bucket,
+                cultural_region, cultural_sub_region, medium_family, has_image, derived_version,
+                processing_status, last_sync_attempt, created_by, last_modified_by)
+            VALUES (?, 0, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, CAST(? AS jsonb), ?, ?,
+                    ?, ?, ?, ?, ?, ?, ?, ?, 'COMPLETED', ?, 'system', 'system')
+            ON CONFLICT (external_id, museum_id) DO UPDATE SET
+                artist_id = EXCLUDED.artist_id,
+                title = EXCLUDED.title,
+                classification = EXCLUDED.classification,
+                medium = EXCLUDED.medium,
+                artist_prefix = EXCLUDED.artist_prefix,
+                artist_role = EXCLUDED.artist_role,
+                culture = EXCLUDED.culture,
+                country = EXCLUDED.country,
+                gallery_number = EXCLUDED.gallery_number,
+                department = EXCLUDED.department,
+                description = EXCLUDED.description,
+                image_url = EXCLUDED.image_url,
+                thumbnail_image_url = EXCLUDED.thumbnail_image_url,
+                creation_date = EXCLUDED.creation_date,
+                additional_metadata = EXCLUDED.additional_metadata,
+                chronological_sort_value = EXCLUDED.chronological_sort_value,
+                content_hash = EXCLUDED.content_hash,
+                year_start = EXCLUDED.year_start,
+                year_end = EXCLUDED.year_end,
+                period_bucket = EXCLUDED.period_bucket,
+                cultural_region = EXCLUDED.cultural_region,
+                cultural_sub_region = EXCLUDED.cultural_sub_region,
+                medium_family = EXCLUDED.medium_family,
+                has_image = EXCLUDED.has_image,
+                derived_version = EXCLUDED.derived_version,
+                processing_status = EXCLUDED.processing_status,
+                last_sync_attempt = EXCLUDED.last_sync_attempt,
+                last_modified_by = EXCLUDED.last_modified_by,
+                is_deleted = false,
+                deleted_at = NULL,
+                version = artworks.version + 1
+            """;
+
+    /**
+     * Looks up the already stored artworks for a batch of external ids in one query.
+     */
+    public Map<String, StoredArtwork> findStoredByExternalIds(Long museumId, Collection<String> externalIds) {
+        Map<String, StoredArtwork> stored = new HashMap<>();
+        if (externalIds.isEmpty()) {
+            return stored;
+        }
+
+        jdbcTemplate.query(
+                """
+                SELECT external_id, id, content_hash,
+                       processing_status = 'COMPLETED' AND is_deleted = false
+                           AND derived_version IS NOT DISTINCT FROM ? AS completed
+                FROM artworks
+                WHERE museum_id = ? AND external_id = ANY (?)
+                """,
+                ps -> {
+                    ps.setInt(1, DerivedArtworkFields.VERSION);
+                    ps.setLong(2, museumId);
+                    ps.setArray(3, ps.getConnection().createArrayOf("varchar", externalIds.toArray()));
+                },
+                rs -> {
+                    stored.put(rs.getString("external_id"), new StoredArtwork(
+                            rs.getLong("id"),
+                            rs.getString("content_hash"),
+                            rs.getBoolean("completed")));
+                });
+        return stored;
+    }
+
+    /**
+     * @return external ids of the museum's artworks that synced successfully and are not soft-deleted
+     */
+    public Set<String> findSyncedExternalIds(Long museumId) {
+        Set<String> externalIds = new HashSet<>();
+        jdbcTemplate.query("""
+                SELECT external_id
+                FROM artworks
+                WHERE museum_id = ? AND processing_status = 'COMPLETED' AND is_deleted = false
+                """,
+                rs -> {
+                    externalIds.add(rs.getString("external_id"));
+                },
+                museumId);
+        return externalIds;
+    }
+
+    /**
+     * Soft-deletes up to {@code limit} of the museum's artworks whose external id is not in
+     * its stored on-view set ({@code museum_on_view_ids}).
+     *
+     * @return external ids of the artworks soft-deleted
+     */
+    public List<String> softDeleteNotOnView(Long museumId, int limit) {
+        return jdbcTemplate.queryForList("""
+                UPDATE artworks SET is_deleted = true, deleted_at = CURRENT_TIMESTAMP
+                WHERE id IN (
+                    SELECT a.id
+                    FROM artworks a
+                    WHERE a.museum_id = ? AND a.is_deleted = false
+                      AND NOT EXISTS (
+                          SELECT 1 FROM museum_on_view_ids v
+                          WHERE v.museum_id = a.museum_id AND v.external_id = a.external_id)
+                    LIMIT ?)
+                RETURNING external_id
+                """,
+                String.class,
+                museumId, limit);
+    }
+
+    /**
+     * @return external ids of synced artworks, least recently synced first
+     */
+    public List<String> findLeastRecentlySyncedExternalIds(Long museumId, int limit) {
+        return jdbcTemplate.queryForList("""
+                SELECT external_id
+                FROM artworks
+                WHERE museum_id = ? AND processing_status = 'COMPLETED' AND is_deleted = false
+                ORDER BY last_sync_attempt NULLS FIRST
+                LIMIT ?
+                """,
+                String.class,
+                museumId, limit);
+    }
+
+    /**
+     * Marks artworks as synced now without rewriting them, for objects a sync fetched
+     * but found unchanged, so the full sync refresh moves on to other artworks.
+     */
+    public void touchLastSyncAttempt(Long museumId, Collection<String> externalIds, LocalDateTime syncedAt) {
+        if (externalIds.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(
+                """
+                UPDATE artworks SET last_sync_attempt = ?
+                WHERE museum_id = ? AND external_id = ANY (?)
+                """,
+                ps -> {
+                    ps.setTimestamp(1, Timestamp.valueOf(syncedAt));
+                    ps.setLong(2, museumId);
+                    ps.setArray(3, ps.getConnection().createArrayOf("varchar", externalIds.toArray()));
+                });
+    }
+
+    /**
+     * Allocates ids from id_sequence using the same pooled scheme as Hibernate:
+     * each sequence value v reserves the block (v - ID_ALLOCATION_SIZE, v].
+     * One query is issued regardless of how many ids are requested.
+     */
+    public List<Long> allocateIds(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        if (count == 0) {
+            return ids;
+        }
+
+        int blocks = (count + ID_ALLOCATION_SIZE - 1) / ID_ALLOCATION_SIZE;
+        List<Long> blockEnds = jdbcTemplate.queryForList(
+                "SELECT nextval('id_sequence') FROM generate_series(1, ?)",
+                Long.class,
+                blocks);
+
+        for (Long blockEnd : blockEnds) {
+            for (long id = blockEnd - ID_ALLOCATION_SIZE + 1; id <= blockEnd && ids.size() < count; id++) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Inserts or updates all rows using a single JDBC batch.
+     * Rows for existing artworks keep their id; the id on those rows is ignored by the conflict path.
+     *
+     * @return the number of rows sent to the database
+     */
+    public int upsertArtworks(List<ArtworkRow> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, row) -> {
+            int i = 1;
+            ps.setLong(i++, row.id());
+            ps.setString(i++, row.externalId());
+            ps.setLong(i++, row.museumId());
+            if (row.artistId() != null) {
+                ps.setLong(i++, row.artistId());
+            } else {
+                ps.setNull(i++, Types.BIGINT);
+            }
+            ps.setString(i++, row.title());
+            ps.setString(i++, row.classification());
+            ps.setString(i++, row.medium());
+            ps.setString(i++, row.artistPrefix());
+            ps.setString(i++, row.artistRole());
+            ps.setString(i++, row.culture());
+            ps.setString(i++, row.country());
+            ps.setString(i++, row.galleryNumber());
+            ps.setString(i++, row.department());
+            ps.setString(i++, row.description());
+            ps.setString(i++, row.imageUrl());
+            ps.setString(i++, row.thumbnailImageUrl());
+            ps.setString(i++, row.creationDate());
+            ps.setString(i++, row.additionalMetadataJson());
+            ps.setInt(i++, row.chronologicalSortValue());
+            ps.setString(i++, row.contentHash());
+            i = setDerivedFields(ps, i, row.derived());
+            ps.setInt(i++, DerivedArtworkFields.VERSION);
+            ps.setTimestamp(i, Timestamp.valueOf(row.lastSyncAttempt()));
+        });
+        return rows.size();
+    }
+
+    /**
+     * Locks up to {@code limit} artworks after {@code afterId} whose derived columns are
+     * missing or stale, skipping rows another transaction holds. Must run in a transaction.
+     */
+    public List<DerivedFieldsSource> lockStaleDerivedFields(long afterId, int limit) {
+        return jdbcTemplate.query("""
+                SELECT id, creation_date, culture, country, classification, medium,
+                       image_url, thumbnail_image_url
+                FROM artworks
+                WHERE id > ? AND derived_version IS DISTINCT FROM ?
+                ORDER BY id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED
+                """,
+                (rs, _) -> mapDerivedFieldsSource(rs),
+                afterId, DerivedArtworkFields.VERSION, limit);
+    }
+
+    /**
+     * @return the lowest and highest artwork ids, or empty if there are no artworks
+     */
+    public Optional<IdRange> findIdRange() {
+        return Optional.ofNullable(jdbcTemplate.queryForObject(
+                "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM artworks",
+                (rs, _) -> rs.getObject("min_id") == null
+                        ? null
+                        : new IdRange(rs.getLong("min_id"), rs.getLong("max_id"))));
+    }
+
+    /**
+     * Locks the artworks with {@code fromId <= id < toId} and reads their source fields
+     * with the columns currently computed from them. Waits for rows held by a sync, so
+     * the values recomputed from them cannot be overwritten by older ones. Must run in
+     * a transaction.
+     */
+    public List<ComputedFieldsRow> lockComputedFieldsInRange(long fromId, long toId) {
+        return jdbcTemplate.query("""
+                SELECT id, creation_date, culture, country, classification, medium,
+                       image_url, thumbnail_image_url, chronological_sort_value, year_start,
+                       year_end, period_bucket, cultural_region, cultural_sub_region,
+                       medium_family, has_image, derived_version
+                FROM artworks
+                WHERE id >= ? AND id < ?
+                ORDER BY id
+                FOR UPDATE
+                """,
+                (rs, _) -> {
+                    String mediumFamily = rs.getString("medium_family");
+                    return new ComputedFieldsRow(
+                            mapDerivedFieldsSource(rs),
+                            rs.getObject("chronological_sort_value", Integer.class),
+                            new DerivedArtworkFields(
+                                    rs.getObject("year_start", Integer.class),
+                                    rs.getObject("year_end", Integer.class),
+                                    rs.getString("period_bucket"),
+                                    rs.getString("cultural_region"),
+                                    rs.getString("cultural_sub_region"),
+                                    mediumFamily != null ? MediumFamily.valueOf(mediumFamily) : null,
+                                    rs.getBoolean("has_image")),
+                            rs.getObject("derived_version", Integer.class));
+                },
+                fromId, toId);
+    }
+
+    /**
+     * Writes recomputed columns of stored artworks using a single JDBC batch.
+     */
+    public void updateRecomputedFields(List<RecomputedFields> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                UPDATE artworks
+                SET chronological_sort_value = ?, year_start = ?, year_end = ?, period_bucket = ?,
+                    cultural_region = ?, cultural_sub_region = ?, medium_family = ?, has_image = ?,
+                    derived_version = ?, version = version + 1
+                WHERE id = ?
+                """,
+                rows, rows.size(), (ps, row) -> {
+                    ps.setInt(1, row.chronologicalSortValue());
+                    int i = setDerivedFields(ps, 2, row.derived());
+                    ps.setInt(i++, DerivedArtworkFields.VERSION);
+                    ps.setLong(i, row.id());
+                });
+    }
+
+    private static DerivedFieldsSource mapDerivedFieldsSource(ResultSet rs) throws SQLException {
+        return new DerivedFieldsSource(
+                rs.getLong("id"),
+                rs.getString("creation_date"),
+                rs.getString("culture"),
+                rs.getString("country"),
+                rs.getString("classification"),
+                rs.getString("medium"),
+                rs.getString("image_url"),
+                rs.getString("thumbnail_image_url"));
+    }
+
+    /**
+     * Writes the derived columns of stored artworks using a single JDBC batch.
+     */
+    public void updateDerivedFields(Map<Long, DerivedArtworkFields> derivedById) {
+        if (derivedById.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, DerivedArtworkFields>> entries = new ArrayList<>(derivedById.entrySet());
+        jdbcTemplate.batchUpdate("""
+                UPDATE artworks
+                SET year_start = ?, year_end = ?, period_bucket = ?, cultural_region = ?,
+                    cultural_sub_region = ?, medium_family = ?, has_image = ?, derived_version = ?,
+                    version = version + 1
+                WHERE id = ?
+                """,
+                entries, entries.size(), (ps, entry) -> {
+                    int i = setDerivedFields(ps, 1, entry.getValue());
+                    ps.setInt(i++, DerivedArtworkFields.VERSION);
+                    ps.setLong(i, entry.getKey());
+                });
+    }
+
+    /**
+     * @return the index of the next parameter
+     */
+    private static int setDerivedFields(PreparedStatement ps, int i, DerivedArtworkFields derived) throws SQLException {
+        ps.setObject(i++, derived.yearStart(), Types.INTEGER);
+        ps.setObject(i++, derived.yearEnd(), Types.INTEGER);
+        ps.setString(i++, derived.periodBucket());
+        ps.setString(i++, derived.culturalRegion());
+        ps.setString(i++, derived.culturalSubRegion());
+        ps.setString(i++, derived.mediumFamily() != null ? derived.mediumFamily().name() : null);
+        ps.setBoolean(i++, derived.hasImage());
+        return i;
+    }
+}
@@ -14,9 +14,9 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Repository
 public interface ArtworkRepository extends JpaRepository<Artwork, Long>, JpaSpecificationExecutor<Artwork> {
@@ -74,7 +74,7 @@ public interface ArtworkRepository extends JpaRepository<Artwork, Long>, JpaSpec
     @Query(nativeQuery = true, value =
             "SELECT a.* FROM artworks a " +
                     "WHERE a.is_deleted = false " +
-                    "AND (:hasImage = false OR (a.image_url IS NOT NULL AND LENGTH(a.image_url) > 0)) " +
+                    "AND (:hasImage = false OR a.has_image) " +
                     "AND (:title IS NULL OR a.title ILIKE CONCAT('%', :title, '%')) " +
                     "AND (:origin IS NULL OR " +
                     "     (a.culture IS NOT NULL AND a.culture ILIKE CONCAT('%', :origin, '%')) OR " +
@@ -99,8 +99,8 @@ public interface ArtworkRepository extends JpaRepository<Artwork, Long>, JpaSpec
 
     @Modifying
     @Query("UPDATE Artwork a SET a.deleted = true, a.deletedAt = CURRENT_TIMESTAMP " +
-            "WHERE a.externalId NOT IN :displayedIds AND a.museum.id = :museumId AND a.deleted = false")
-    int softDeleteNonDisplayedArtworks(@Param("displayedIds") Set<String> displayedIds, @Param("museumId") Long museumId);
+            "WHERE a.externalId IN :externalIds AND a.museum.id = :museumId AND a.deleted = false")
+    int softDeleteByExternalIds(@Param("externalIds") Collection<String> externalIds, @Param("museumId") Long museumId);
 
     @Query("SELECT a.id FROM Artwork a WHERE a.deleted = true AND a.deletedAt < :olderThan " +
             "AND NOT EXISTS (SELECT 1 FROM TourStop ts WHERE ts.artwork.id = a.id)")
@@ -0,0 +1,172 @@
+package com.mvp.vueseum.repository;
+
+import com.mvp.vueseum.exception.PersistenceException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Table-level reads and writes of the catalog tables for snapshot export and import.
+ * Columns are discovered from the live schema, so snapshots follow migrations without
+ * a hand-maintained column list.
+ * <p>
+ * Runs on Postgres and on the H2 database of the dev profile, whose catalog tables come
+ * from {@code db/dev/catalog-schema-h2.sql}; the JSON parameter syntax and the sequence
+ * advance are the only statements that differ.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogSnapshotRepository {
+
+    /** Catalog tables in foreign key order */
+    public static final List<String> CATALOG_TABLES = List.of("museums", "artists", "artworks");
+
+    private static final int FETCH_SIZE = 2000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    public enum ColumnKind {
+        LONG,
+        INT,
+        BOOL,
+        TEXT,
+        JSON,
+        TIMESTAMP
+    }
+
+    public record Column(String name, ColumnKind kind) {}
+
+    public List<Column> findColumns(String table) {
+        return jdbcTemplate.query("SELECT * FROM " + catalogTable(table) + " WHERE 1 = 0", rs -> {
+            ResultSetMetaData metadata = rs.getMetaData();
+            List<Column> columns = new ArrayList<>();
+            for (int i = 1; i <= metadata.getColumnCount(); i++) {
+                columns.add(new Column(metadata.getColumnName(i).toLowerCase(Locale.ROOT),
+                        kindOf(table, metadata, i)));
+            }
+            return columns;
+        });
+    }
+
+    /**
+     * Streams every row of a table in id order, with values in {@code columns} order.
+     * Must run in a transaction for the driver to fetch in pages rather than all at once.
+     */
+    public void streamRows(String table, List<Column> columns, Consumer<Object[]> consumer) {
+        String sql = "SELECT " + columns.stream().map(Column::name).collect(Collectors.joining(", "))
+                + " FROM " + catalogTable(table) + " ORDER BY id";
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            Object[] row = new Object[columns.size()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = readValue(rs, i + 1, columns.get(i).kind());
+            }
+            consumer.accept(row);
+        });
+    }
+
+    /**
+     * Inserts rows with a single JDBC batch.
+     */
+    public void insertRows(String table, List<Column> columns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        // Both parse the parameter as JSON text rather than storing it as a JSON string
+        String jsonParameter = databasePlatform.isH2() ? "? FORMAT JSON" : "CAST(? AS jsonb)";
+        String sql = "INSERT INTO " + catalogTable(table)
+                + " (" + columns.stream().map(Column::name).collect(Collectors.joining(", ")) + ")"
+                + " VALUES (" + columns.stream()
+                        .map(column -> column.kind() == ColumnKind.JSON ? jsonParameter : "?")
+                        .collect(Collectors.joining(", ")) + ")";
+        jdbcTemplate.batchUpdate(sql, rows, rows.size(), (ps, row) -> {
+            for (int i = 0; i < row.length; i++) {
+                Object value = row[i];
+                int parameter = i + 1;
+                switch (columns.get(i).kind()) {
+                    case LONG -> ps.setObject(parameter, value, Types.BIGINT);
+                    case INT -> ps.setObject(parameter, value, Types.INTEGER);
+                    case BOOL -> ps.setObject(parameter, value, Types.BOOLEAN);
+                    case TEXT, JSON -> ps.setString(parameter, (String) value);
+                    case TIMESTAMP -> ps.setTimestamp(parameter, value != null ? Timestamp.valueOf((LocalDateTime) value) : null);
+                }
+            }
+        });
+    }
+
+    public boolean hasCatalogRows() {
+        return CATALOG_TABLES.stream().anyMatch(table -> Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM " + catalogTable(table) + ")", Boolean.class)));
+    }
+
+    /**
+     * Moves the shared id sequence past imported ids, never backwards. With pooled
+     * allocation the next block then starts right after {@code maxId}.
+     */
+    public void advanceIdSequencePast(long maxId) {
+        if (databasePlatform.isH2()) {
+            // H2 has no setval; restart at the value Postgres would hand out next
+            Long next = jdbcTemplate.queryForObject("""
+                    SELECT GREATEST(? + INCREMENT, BASE_VALUE)
+                    FROM INFORMATION_SCHEMA.SEQUENCES
+                    WHERE SEQUENCE_NAME = 'ID_SEQUENCE'
+                    """, Long.class, maxId);
+            jdbcTemplate.execute("ALTER SEQUENCE id_sequence RESTART WITH " + next);
+            return;
+        }
+        jdbcTemplate.queryForObject("SELECT setval('id_sequence', GREATEST(?, (SELECT last_value FROM id_sequence)))",
+                Long.class, maxId);
+    }
+
+    private static Object readValue(ResultSet rs, int index, ColumnKind kind) throws SQLException {
+        return switch (kind) {
+            case LONG -> rs.getObject(index, Long.class);
+            case INT -> rs.getObject(index, Integer.class);
+            case BOOL -> rs.getObject(index, Boolean.class);
+            case TEXT, JSON -> rs.getString(index);
+            case TIMESTAMP -> rs.getObject(index, LocalDateTime.class);
+        };
+    }
+
+    private static ColumnKind kindOf(String table, ResultSetMetaData metadata, int index) throws SQLException {
+        return switch (metadata.getColumnType(index)) {
+            case Types.BIGINT -> ColumnKind.LONG;
+            case Types.INTEGER, Types.SMALLINT -> ColumnKind.INT;
+            case Types.BOOLEAN, Types.BIT -> ColumnKind.BOOL;
+            case Types.VARCHAR, Types.CHAR, Types.LONGVARCHAR, Types.CLOB -> ColumnKind.TEXT;
+            case Types.TIMESTAMP -> ColumnKind.TIMESTAMP;
+            default -> {
+                String typeName = metadata.getColumnTypeName(index).toLowerCase(Locale.ROOT);
+                if (typeName.startsWith("json")) {
+                    yield ColumnKind.JSON;
+                }
+                throw new PersistenceException("Unsupported column type " + typeName + " for "
+                        + table + "." + metadata.getColumnName(index) + " in catalog snapshot");
+            }
+        };
+    }
+
+    /** Table names are concatenated into SQL, so only the catalog tables are accepted */
+    private static String catalogTable(String table) {
+        if (!CATALOG_TABLES.contains(table)) {
+            throw new IllegalArgumentException("Not a catalog table: " + table);
+        }
+        return table;
+    }
+}
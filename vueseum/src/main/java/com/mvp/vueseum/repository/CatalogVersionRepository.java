@@ -0,0 +1,45 @@
+package com.mvp.vueseum.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * The single-row catalog version shared by all nodes.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CatalogVersionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DatabasePlatform databasePlatform;
+
+    public long findCurrentVersion() {
+        return jdbcTemplate.queryForObject("SELECT version FROM catalog_version WHERE id = 1", Long.class);
+    }
+
+    /**
+     * Increments the version. The row stays locked until the caller's transaction ends,
+     * so concurrent increments are serialized and versions never repeat.
+     *
+     * @return the new version
+     */
+    public long increment() {
+        if (databasePlatform.isH2()) {
+            // H2 has no UPDATE ... RETURNING
+            return jdbcTemplate.queryForObject("""
+                    SELECT version FROM FINAL TABLE (
+                        UPDATE catalog_version SET version = version + 1, updated_at = CURRENT_TIMESTAMP
+                        WHERE id = 1
+                    )
+                    """,
+                    Long.class);
+        }
+        return jdbcTemplate.queryForObject("""
+                UPDATE catalog_version SET version = version + 1, updated_at = CURRENT_TIMESTAMP
+                WHERE id = 1
+                RETURNING version
+                """,
+                Long.class);
+    }
+}
@@ -0,0 +1,28 @@
+package com.mvp.vueseum.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * The database the application runs on, for the few JDBC statements whose syntax
+ * differs between Postgres and the H2 database of the dev profile.
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabasePlatform {
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile Boolean h2;
+
+    public boolean isH2() {
+        Boolean cached = h2;
+        if (cached == null) {
+            cached = "H2".equals(jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName()));
+            h2 = cached;
+        }
+        return cached;
+    }
+}
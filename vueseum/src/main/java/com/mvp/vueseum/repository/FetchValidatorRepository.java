@@ -0,0 +1,71 @@
+package com.mvp.vueseum.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * HTTP cache validators (ETag / Last-Modified) of the last successfully synced
+ * response for each museum object, used to send conditional requests.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FetchValidatorRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record FetchValidators(String etag, String lastModified) {
+
+        public boolean isEmpty() {
+            return etag == null && lastModified == null;
+        }
+    }
+
+    /**
+     * Loads validators only for objects whose artwork is currently stored and synced
+     * successfully, so a not-modified response can never leave a missing or failed row behind.
+     */
+    public Map<String, FetchValidators> findForSyncedArtworks(Long museumId) {
+        Map<String, FetchValidators> validators = new HashMap<>();
+        jdbcTemplate.query("""
+                SELECT v.external_id, v.etag, v.last_modified
+                FROM artwork_fetch_validators v
+                JOIN artworks a ON a.external_id = v.external_id AND a.museum_id = v.museum_id
+                WHERE v.museum_id = ?
+                  AND a.processing_status = 'COMPLETED'
+                  AND a.is_deleted = false
+                """,
+                rs -> {
+                    validators.put(rs.getString("external_id"),
+                            new FetchValidators(rs.getString("etag"), rs.getString("last_modified")));
+                },
+                museumId);
+        return validators;
+    }
+
+    public void saveAll(Long museumId, Map<String, FetchValidators> validators) {
+        if (validators.isEmpty()) {
+            return;
+        }
+
+        List<Map.Entry<String, FetchValidators>> entries = new ArrayList<>(validators.entrySet());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO artwork_fetch_validators (museum_id, external_id, etag, last_modified)
+                VALUES (?, ?, ?, ?)
+                ON CONFLICT (museum_id, external_id) DO UPDATE SET
+                    etag = EXCLUDED.etag,
+                    last_modified = EXCLUDED.last_modified
+                """,
+                entries, entries.size(), (ps, entry) -> {
+                    ps.setLong(1, museumId);
+                    ps.setString(2, entry.getKey());
+                    ps.setString(3, entry.getValue().etag());
+                    ps.setString(4, entry.getValue().lastModified());
+                });
+    }
+}
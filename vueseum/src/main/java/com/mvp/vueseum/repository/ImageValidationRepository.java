@@ -0,0 +1,52 @@
+package com.mvp.vueseum.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persistent cache of image URL validation results.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ImageValidationRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ImageValidation(boolean valid, LocalDateTime checkedAt) {}
+
+    public Optional<ImageValidation> findByUrl(String url) {
+        List<ImageValidation> results = jdbcTemplate.query(
+                "SELECT is_valid, checked_at FROM image_url_validations WHERE url = ?",
+                (rs, _) -> new ImageValidation(
+                        rs.getBoolean("is_valid"),
+                        rs.getTimestamp("checked_at").toLocalDateTime()),
+                url);
+        return results.stream().findFirst();
+    }
+
+    public void save(String url, boolean valid, LocalDateTime checkedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO image_url_validations (url, is_valid, checked_at)
+                VALUES (?, ?, ?)
+                ON CONFLICT (url) DO UPDATE SET
+                    is_valid = EXCLUDED.is_valid,
+                    checked_at = EXCLUDED.checked_at
+                """,
+                url, valid, Timestamp.valueOf(checkedAt));
+    }
+
+    /**
+     * @return the number of expired results removed
+     */
+    public int deleteCheckedBefore(LocalDateTime threshold) {
+        return jdbcTemplate.update(
+                "DELETE FROM image_url_validations WHERE checked_at < ?",
+                Timestamp.valueOf(threshold));
+    }
+}
@@ -0,0 +1,53 @@
+package com.mvp.vueseum.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The set of external ids each museum reported as on view at its last full sync.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OnViewIdRepository {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Set<String> findByMuseum(Long museumId) {
+        Set<String> externalIds = new HashSet<>();
+        jdbcTemplate.query(
+                "SELECT external_id FROM museum_on_view_ids WHERE museum_id = ?",
+                rs -> {
+                    externalIds.add(rs.getString("external_id"));
+                },
+                museumId);
+        return externalIds;
+    }
+
+    public void addAll(Long museumId, Collection<String> externalIds) {
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO museum_on_view_ids (museum_id, external_id)
+                VALUES (?, ?)
+                ON CONFLICT (museum_id, external_id) DO NOTHING
+                """,
+                externalIds, BATCH_SIZE, (ps, externalId) -> {
+                    ps.setLong(1, museumId);
+                    ps.setString(2, externalId);
+                });
+    }
+
+    public void removeAll(Long museumId, Collection<String> externalIds) {
+        jdbcTemplate.batchUpdate(
+                "DELETE FROM museum_on_view_ids WHERE museum_id = ? AND external_id = ?",
+                externalIds, BATCH_SIZE, (ps, externalId) -> {
+                    ps.setLong(1, museumId);
+                    ps.setString(2, externalId);
+                });
+    }
+}
@@ -0,0 +1,88 @@
+package com.mvp.vueseum.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Bulk reads and writes of standardized terms that bypass the entity layer: loading
+ * the whole table into memory, applying aggregated access statistics and finding the
+ * catalog terms that still lack a standardized form.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StandardizedTermBatchRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record TermRow(String category, String rawTerm, String standardizedTerm) {}
+
+    /**
+     * @param accessCount accesses since the last flush, added to the stored count
+     */
+    public record AccessStats(String category, String rawTerm, long accessCount, LocalDateTime lastAccessed) {}
+
+    public void streamAll(Consumer<TermRow> consumer) {
+        jdbcTemplate.query("""
+                SELECT category, raw_term, standardized_term
+                FROM standardized_terms
+                WHERE is_deleted = false
+                """,
+                rs -> {
+                    consumer.accept(new TermRow(rs.getString("category"), rs.getString("raw_term"),
+                            rs.getString("standardized_term")));
+                });
+    }
+
+    private static final Map<String, String> CATALOG_TERM_COLUMNS = Map.of(
+            "CULTURE", "culture",
+            "MEDIUM", "medium");
+
+    /**
+     * @param category CULTURE or MEDIUM
+     * @return the distinct values of the matching artwork column that have no standardized term
+     */
+    public List<String> findUnstandardizedCatalogTerms(String category) {
+        String column = CATALOG_TERM_COLUMNS.get(category);
+        if (column == null) {
+            throw new IllegalArgumentException("Unsupported category: " + category);
+        }
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT a.%1$s
+                FROM artworks a
+                WHERE a.is_deleted = false
+                  AND a.%1$s IS NOT NULL
+                  AND a.%1$s <> ''
+                  AND NOT EXISTS (
+                      SELECT 1 FROM standardized_terms t
+                      WHERE t.category = ? AND t.raw_term = a.%1$s
+                  )
+                """.formatted(column), String.class, category);
+    }
+
+    public void addAccessStats(List<AccessStats> stats) {
+        if (stats.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate("""
+                UPDATE standardized_terms
+                SET access_count = COALESCE(access_count, 0) + ?,
+                    last_accessed = GREATEST(COALESCE(last_accessed, ?), ?)
+                WHERE category = ? AND raw_term = ?
+                """,
+                stats, stats.size(), (ps, stat) -> {
+                    Timestamp lastAccessed = Timestamp.valueOf(stat.lastAccessed());
+                    ps.setLong(1, stat.accessCount());
+                    ps.setTimestamp(2, lastAccessed);
+                    ps.setTimestamp(3, lastAccessed);
+                    ps.setString(4, stat.category());
+                    ps.setString(5, stat.rawTerm());
+                });
+    }
+}
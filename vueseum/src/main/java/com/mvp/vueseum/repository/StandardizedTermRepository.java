@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,4 +23,8 @@ public interface StandardizedTermRepository extends JpaRepository<StandardizedTe
             "AND LOWER(st.rawTerm) LIKE LOWER(CONCAT(:prefix, '%'))")
     List<StandardizedTerm> findByRawTermStartingWithAndCategory(
             String prefix, String category);
+
+    @Query("SELECT st.rawTerm FROM StandardizedTerm st WHERE st.category = :category " +
+            "AND st.rawTerm IN :rawTerms")
+    List<String> findRawTermsByCategoryAndRawTermIn(String category, Collection<String> rawTerms);
 }
\ No newline at end of file
@@ -0,0 +1,160 @@
+package com.mvp.vueseum.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Run ownership and chunk leases shared by all nodes through the database.
+ * <p>
+ * Lease times are taken from the database clock, so nodes whose clocks drift still
+ * agree on when a lease has expired. Chunks are claimed with
+ * {@code FOR UPDATE SKIP LOCKED}, so concurrent claimers never wait on each other
+ * and never receive the same chunk.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SyncLeaseRepository {
+
+    /**
+     * A running run whose owner is alive.
+     */
+    public record LiveRun(Long runId, String ownerNode) {}
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Takes ownership of a run that has no live owner, or renews this node's ownership.
+     */
+    public boolean acquireRun(Long runId, String nodeId, Duration lease) {
+        return jdbcTemplate.update("""
+                UPDATE sync_runs
+                SET owner_node = ?, owner_lease_expires_at = LOCALTIMESTAMP + ? * INTERVAL '1 second'
+                WHERE id = ?
+                  AND (owner_node IS NULL OR owner_node = ? OR owner_lease_expires_at < LOCALTIMESTAMP)
+                """,
+                nodeId, lease.toSeconds(), runId, nodeId) > 0;
+    }
+
+    public void releaseRun(Long runId, String nodeId) {
+        jdbcTemplate.update(
+                "UPDATE sync_runs SET owner_node = NULL, owner_lease_expires_at = NULL WHERE id = ? AND owner_node = ?",
+                runId, nodeId);
+    }
+
+    /**
+     * Leases the first pending chunk of a run that no other node holds.
+     *
+     * @return the chunk id, or empty if every pending chunk is leased
+     */
+    public Optional<Long> claimChunk(Long runId, String nodeId, Duration lease) {
+        List<Long> claimed = jdbcTemplate.queryForList("""
+                UPDATE sync_run_chunks
+                SET leased_by = ?, lease_expires_at = LOCALTIMESTAMP + ? * INTERVAL '1 second'
+                WHERE id = (
+                    SELECT id FROM sync_run_chunks
+                    WHERE sync_run_id = ?
+                      AND status = 'PENDING'
+                      AND (lease_expires_at IS NULL OR lease_expires_at < LOCALTIMESTAMP)
+                    ORDER BY chunk_index
+                    LIMIT 1
+                    FOR UPDATE SKIP LOCKED
+                )
+                RETURNING id
+                """,
+                Long.class, nodeId, lease.toSeconds(), runId);
+        return claimed.stream().findFirst();
+    }
+
+    public void releaseChunk(Long chunkId, String nodeId) {
+        jdbcTemplate.update(
+                "UPDATE sync_run_chunks SET leased_by = NULL, lease_expires_at = NULL WHERE id = ? AND leased_by = ?",
+                chunkId, nodeId);
+    }
+
+    /**
+     * Extends the leases this node still holds on the given runs and chunks.
+     */
+    public void renew(Collection<Long> runIds, Collection<Long> chunkIds, String nodeId, Duration lease) {
+        if (!runIds.isEmpty()) {
+            jdbcTemplate.update("""
+                    UPDATE sync_runs SET owner_lease_expires_at = LOCALTIMESTAMP + ? * INTERVAL '1 second'
+                    WHERE id = ANY (?) AND owner_node = ?
+                    """,
+                    ps -> {
+                        ps.setLong(1, lease.toSeconds());
+                        ps.setArray(2, ps.getConnection().createArrayOf("bigint", runIds.toArray()));
+                        ps.setString(3, nodeId);
+                    });
+        }
+        if (!chunkIds.isEmpty()) {
+            jdbcTemplate.update("""
+                    UPDATE sync_run_chunks SET lease_expires_at = LOCALTIMESTAMP + ? * INTERVAL '1 second'
+                    WHERE id = ANY (?) AND leased_by = ? AND status = 'PENDING'
+                    """,
+                    ps -> {
+                        ps.setLong(1, lease.toSeconds());
+                        ps.setArray(2, ps.getConnection().createArrayOf("bigint", chunkIds.toArray()));
+                        ps.setString(3, nodeId);
+                    });
+        }
+    }
+
+    /**
+     * @return running runs whose owner lease is missing or expired, or owned by this node id
+     */
+    public List<Long> findRunsWithoutLiveOwner(String nodeId) {
+        return jdbcTemplate.queryForList("""
+                SELECT id FROM sync_runs
+                WHERE status = 'RUNNING'
+                  AND (owner_node IS NULL OR owner_node = ? OR owner_lease_expires_at < LOCALTIMESTAMP)
+                ORDER BY id
+                """,
+                Long.class, nodeId);
+    }
+
+    public List<LiveRun> findLiveRuns(Long museumId) {
+        return jdbcTemplate.query("""
+                SELECT id, owner_node FROM sync_runs
+                WHERE museum_id = ? AND status = 'RUNNING' AND owner_lease_expires_at >= LOCALTIMESTAMP
+                """,
+                (rs, _) -> new LiveRun(rs.getLong("id"), rs.getString("owner_node")),
+                museumId);
+    }
+
+    /**
+     * @return running runs with pending chunks that no node currently holds
+     */
+    public List<Long> findRunsWithClaimableChunks() {
+        return jdbcTemplate.queryForList("""
+                SELECT DISTINCT r.id FROM sync_runs r
+                JOIN sync_run_chunks c ON c.sync_run_id = r.id
+                WHERE r.status = 'RUNNING'
+                  AND c.status = 'PENDING'
+                  AND (c.lease_expires_at IS NULL OR c.lease_expires_at < LOCALTIMESTAMP)
+                ORDER BY r.id
+                """,
+                Long.class);
+    }
+
+    /**
+     * Records that a node runs one firing of a schedule.
+     *
+     * @return true if this node is the first to claim the firing
+     */
+    public boolean claimSchedule(String scheduleName, LocalDateTime fireTime, String nodeId) {
+        return jdbcTemplate.update("""
+                INSERT INTO sync_schedule_claims (schedule_name, fire_time, node_id)
+                VALUES (?, ?, ?)
+                ON CONFLICT (schedule_name, fire_time) DO NOTHING
+                """,
+                scheduleName, Timestamp.valueOf(fireTime), nodeId) > 0;
+    }
+}
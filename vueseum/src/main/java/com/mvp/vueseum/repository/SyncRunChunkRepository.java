@@ -0,0 +1,28 @@
+package com.mvp.vueseum.repository;
+
+import com.mvp.vueseum.entity.SyncRunChunk;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface SyncRunChunkRepository extends JpaRepository<SyncRunChunk, Long> {
+
+    List<SyncRunChunk> findBySyncRunIdAndErrorCountGreaterThan(Long syncRunId, int errorCount);
+
+    long countBySyncRunIdAndStatus(Long syncRunId, SyncRunChunk.Status status);
+
+    /**
+     * Loads a chunk and locks its row, so a chunk whose lease expired mid-processing
+     * is completed by only one of the nodes that processed it.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM SyncRunChunk c WHERE c.id = :id")
+    Optional<SyncRunChunk> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,38 @@
+package com.mvp.vueseum.repository;
+
+import com.mvp.vueseum.entity.SyncRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface SyncRunRepository extends JpaRepository<SyncRun, Long> {
+
+    List<SyncRun> findByStatus(SyncRun.Status status);
+
+    List<SyncRun> findByMuseumIdAndStatusIn(Long museumId, Collection<SyncRun.Status> statuses);
+
+    List<SyncRun> findTop20ByOrderByStartedAtDesc();
+
+    @Query("SELECT r.status FROM SyncRun r WHERE r.id = :id")
+    SyncRun.Status findStatusById(@Param("id") Long id);
+
+    /**
+     * Adds a completed chunk's counts without touching the status, so a concurrent
+     * abort is never overwritten.
+     */
+    @Modifying
+    @Query("UPDATE SyncRun r SET r.processedCount = r.processedCount + :processed, " +
+            "r.errorCount = r.errorCount + :errors, r.lastCheckpointAt = :checkpointAt " +
+            "WHERE r.id = :id")
+    void addChunkProgress(@Param("id") Long id,
+                          @Param("processed") int processed,
+                          @Param("errors") int errors,
+                          @Param("checkpointAt") LocalDateTime checkpointAt);
+}
@@ -0,0 +1,216 @@
+package com.mvp.vueseum.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mvp.vueseum.repository.ImageValidationRepository;
+import com.mvp.vueseum.repository.ImageValidationRepository.ImageValidation;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Checks that image URLs from museum APIs point at a reachable image.
+ * <p>
+ * Checks use a HEAD request on a shared HTTP client, falling back to a one-byte ranged
+ * GET for servers that reject HEAD, so image bodies are never downloaded. Checks run
+ * asynchronously with their own concurrency limit. Results are kept in
+ * {@code image_url_validations} with a TTL, so a URL is only re-checked once its
+ * result expires; transient failures are not persisted.
+ */
+@Service
+@Slf4j
+@PropertySource("classpath:museum.properties")
+public class ImageValidationService {
+
+    private final ImageValidationRepository imageValidationRepository;
+    private final Clock clock;
+    private final HttpClient httpClient;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Semaphore permits;
+    private final Duration requestTimeout;
+    private final Duration validTtl;
+    private final Duration invalidTtl;
+
+    private final Cache<String, Boolean> recentResults = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofHours(1))
+            .maximumSize(50_000)
+            .build();
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+
+    public ImageValidationService(
+            ImageValidationRepository imageValidationRepository,
+            Clock clock,
+            @Value("${museum.images.validation.maxConcurrent:16}") int maxConcurrent,
+            @Value("${museum.images.validation.timeoutSeconds:5}") int timeoutSeconds,
+            @Value("${museum.images.validation.validTtlDays:30}") int validTtlDays,
+            @Value("${museum.images.validation.invalidTtlHours:24}") int invalidTtlHours) {
+        this.imageValidationRepository = imageValidationRepository;
+        this.clock = clock;
+        this.permits = new Semaphore(maxConcurrent);
+        this.requestTimeout = Duration.ofSeconds(timeoutSeconds);
+        this.validTtl = Duration.ofDays(validTtlDays);
+        this.invalidTtl = Duration.ofHours(invalidTtlHours);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(requestTimeout)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+    }
+
+    /**
+     * Validates a URL without blocking the caller. Concurrent requests for the same
+     * URL share a single check.
+     */
+    public CompletableFuture<Boolean> validateAsync(String url) {
+        if (url == null || url.isEmpty()) {
+            return CompletableFuture.completedFuture(false);
+        }
+        Boolean recent = recentResults.getIfPresent(url);
+        if (recent != null) {
+            return CompletableFuture.completedFuture(recent);
+        }
+
+        CompletableFuture<Boolean> pending = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(url, pending);
+        if (existing != null) {
+            return existing;
+        }
+
+        executor.execute(() -> {
+            try {
+                pending.complete(validate(url));
+            } catch (Exception e) {
+                pending.completeExceptionally(e);
+            } finally {
+                inFlight.remove(url, pending);
+            }
+        });
+        return pending;
+    }
+
+    public boolean isValid(String url) {
+        return validateAsync(url).join();
+    }
+
+    private boolean validate(String url) {
+        Optional<ImageValidation> stored = findStored(url);
+        if (stored.isPresent() && !isExpired(stored.get())) {
+            recentResults.put(url, stored.get().valid());
+            return stored.get().valid();
+        }
+
+        Optional<Boolean> result = check(url);
+        if (result.isEmpty()) {
+            return false;
+        }
+
+        recentResults.put(url, result.get());
+        try {
+            imageValidationRepository.save(url, result.get(), LocalDateTime.now(clock));
+        } catch (Exception e) {
+            log.warn("Could not store image validation result for {}: {}", url, e.getMessage());
+        }
+        return result.get();
+    }
+
+    private Optional<ImageValidation> findStored(String url) {
+        try {
+            return imageValidationRepository.findByUrl(url);
+        } catch (Exception e) {
+            log.warn("Could not read image validation result for {}: {}", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private boolean isExpired(ImageValidation validation) {
+        Duration ttl = validation.valid() ? validTtl : invalidTtl;
+        return validation.checkedAt().plus(ttl).isBefore(LocalDateTime.now(clock));
+    }
+
+    /**
+     * @return whether the URL serves an image, or empty if the check itself failed
+     */
+    private Optional<Boolean> check(String url) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+
+        try {
+            HttpResponse<Void> head = httpClient.send(
+                    request(url).method("HEAD", HttpRequest.BodyPublishers.noBody()).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            if (head.statusCode() != 405 && head.statusCode() != 501) {
+                return Optional.of(isImageResponse(head));
+            }
+
+            // Server does not support HEAD; ask for a single byte and drop the connection
+            HttpResponse<InputStream> ranged = httpClient.send(
+                    request(url).GET().header("Range", "bytes=0-0").build(),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            ranged.body().close();
+            return Optional.of(isImageResponse(ranged));
+        } catch (IllegalArgumentException e) {
+            log.warn("Invalid image URL {}: {}", url, e.getMessage());
+            return Optional.of(false);
+        } catch (IOException e) {
+            log.warn("Image URL validation failed for {}: {}", url, e.getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } finally {
+            permits.release();
+        }
+    }
+
+    private HttpRequest.Builder request(String url) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .timeout(requestTimeout)
+                .header("Accept", "image/*");
+    }
+
+    private boolean isImageResponse(HttpResponse<?> response) {
+        if (response.statusCode() < 200 || response.statusCode() >= 300) {
+            return false;
+        }
+        return response.headers().firstValue("Content-Type")
+                .map(MediaType::parseMediaType)
+                .map(contentType -> !contentType.includes(MediaType.TEXT_HTML))
+                .orElse(false);
+    }
+
+    @Scheduled(cron = "0 30 1 * * ?")
+    public void purgeExpiredResults() {
+        int deleted = imageValidationRepository.deleteCheckedBefore(LocalDateTime.now(clock).minus(validTtl));
+        log.info("Purged {} expired image validation results", deleted);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
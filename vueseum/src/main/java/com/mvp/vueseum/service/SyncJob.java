@@ -0,0 +1,120 @@
+package com.mvp.vueseum.service;
+
+import com.mvp.vueseum.client.MuseumApiClient;
+import com.mvp.vueseum.client.SyncProgress;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * A sync task queued on a museum's executor, from submission until it finishes.
+ * <p>
+ * State changes happen on the museum's executor thread, except that a queued job
+ * can be cancelled before it starts; readers on other threads see them through the
+ * volatile fields.
+ */
+@Getter
+public class SyncJob {
+
+    public enum State {
+        IDLE,
+        QUEUED,
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isActive() {
+            return this == QUEUED || this == RUNNING;
+        }
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Long museumId;
+    private final String task;
+    private final LocalDateTime queuedAt;
+    @Getter(AccessLevel.NONE)
+    private final MuseumApiClient client;
+    /**
+     * Completes when the job finishes, exceptionally if it failed.
+     */
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+    private volatile State state = State.QUEUED;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+    private volatile boolean cancellationRequested;
+    @Getter(AccessLevel.NONE)
+    private volatile SyncProgress finalProgress = SyncProgress.NONE;
+
+    SyncJob(MuseumApiClient client, String task, LocalDateTime queuedAt) {
+        this.museumId = client.getMuseumId();
+        this.task = task;
+        this.queuedAt = queuedAt;
+        this.client = client;
+    }
+
+    /**
+     * @return live counters while running, the final counters once finished
+     */
+    public SyncProgress getProgress() {
+        return state == State.RUNNING ? client.getSyncProgress() : finalProgress;
+    }
+
+    /**
+     * @return false if the job was cancelled while queued
+     */
+    synchronized boolean start(LocalDateTime now) {
+        if (state != State.QUEUED) {
+            return false;
+        }
+        // Cleared before the job counts as running, so a cancel arriving from here on is kept
+        client.clearCancellation();
+        startedAt = now;
+        state = State.RUNNING;
+        if (cancellationRequested) {
+            client.requestCancellation();
+        }
+        return true;
+    }
+
+    /**
+     * @return true if the job has not finished, in which case it stops at its next checkpoint
+     */
+    synchronized boolean cancel(LocalDateTime now) {
+        if (!state.isActive()) {
+            return false;
+        }
+        cancellationRequested = true;
+        if (state == State.QUEUED) {
+            state = State.CANCELLED;
+            finishedAt = now;
+            completion.complete(null);
+        } else {
+            client.requestCancellation();
+        }
+        return true;
+    }
+
+    synchronized void finish(LocalDateTime now, RuntimeException failure) {
+        finalProgress = client.getSyncProgress();
+        finishedAt = now;
+        if (cancellationRequested) {
+            state = State.CANCELLED;
+        } else if (failure != null) {
+            state = State.FAILED;
+            lastError = failure.getMessage();
+        } else {
+            state = State.SUCCEEDED;
+        }
+        if (failure != null && !cancellationRequested) {
+            completion.completeExceptionally(failure);
+        } else {
+            completion.complete(null);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.mvp.vueseum.service;
+
+import com.mvp.vueseum.repository.SyncLeaseRepository;
+import com.mvp.vueseum.repository.SyncLeaseRepository.LiveRun;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This node's view of the sync leases shared by all nodes.
+ * <p>
+ * Runs and chunks leased by this node are tracked in memory and their leases renewed
+ * in the background while they are held. A node that stops renewing, because it
+ * crashed or was shut down, loses its leases once they expire and the other nodes
+ * take its work over.
+ */
+@Service
+@Slf4j
+public class SyncLeaseService {
+
+    private final SyncLeaseRepository leaseRepository;
+    @Getter
+    private final String nodeId;
+    private final Duration leaseDuration;
+    @Getter
+    private final Duration pollInterval;
+
+    private final Set<Long> heldRunIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> heldChunkIds = ConcurrentHashMap.newKeySet();
+
+    public SyncLeaseService(
+            SyncLeaseRepository leaseRepository,
+            @Value("${sync.nodeId:}") String nodeId,
+            @Value("${sync.leases.duration:PT10M}") Duration leaseDuration,
+            @Value("${sync.leases.pollInterval:PT30S}") Duration pollInterval) {
+        this.leaseRepository = leaseRepository;
+        this.nodeId = StringUtils.hasText(nodeId) ? nodeId : defaultNodeId();
+        this.leaseDuration = leaseDuration;
+        this.pollInterval = pollInterval;
+        log.info("Sync node id is {}", this.nodeId);
+    }
+
+    /**
+     * Host name and process id: stable across restarts of a container, distinct for
+     * processes sharing a host.
+     */
+    private static String defaultNodeId() {
+        try {
+            return InetAddress.getLocalHost().getHostName() + ":" + ProcessHandle.current().pid();
+        } catch (UnknownHostException _) {
+            return UUID.randomUUID().toString();
+        }
+    }
+
+    /**
+     * Takes ownership of a run for this node.
+     *
+     * @return false if this node already executes the run or another live node owns it
+     */
+    public boolean acquireRun(Long runId) {
+        if (!heldRunIds.add(runId)) {
+            return false;
+        }
+        if (!leaseRepository.acquireRun(runId, nodeId, leaseDuration)) {
+            heldRunIds.remove(runId);
+            return false;
+        }
+        return true;
+    }
+
+    public void releaseRun(Long runId) {
+        if (heldRunIds.remove(runId)) {
+            leaseRepository.releaseRun(runId, nodeId);
+        }
+    }
+
+    public Optional<Long> claimChunk(Long runId) {
+        Optional<Long> chunkId = leaseRepository.claimChunk(runId, nodeId, leaseDuration);
+        chunkId.ifPresent(heldChunkIds::add);
+        return chunkId;
+    }
+
+    /**
+     * Gives a chunk back so any node can claim it right away.
+     */
+    public void releaseChunk(Long chunkId) {
+        if (heldChunkIds.remove(chunkId)) {
+            leaseRepository.releaseChunk(chunkId, nodeId);
+        }
+    }
+
+    /**
+     * Stops renewing a chunk's lease once the chunk is complete.
+     */
+    public void chunkCompleted(Long chunkId) {
+        heldChunkIds.remove(chunkId);
+    }
+
+    /**
+     * @return running runs of a museum owned by a live node, excluding stale ownership
+     *         by an earlier process with this node's id
+     */
+    public List<Long> findLiveRunIds(Long museumId) {
+        return leaseRepository.findLiveRuns(museumId).stream()
+                .filter(run -> !run.ownerNode().equals(nodeId) || heldRunIds.contains(run.runId()))
+                .map(LiveRun::runId)
+                .toList();
+    }
+
+    /**
+     * @return running runs no live node owns, including runs this node id owned before a restart
+     */
+    public List<Long> findOrphanedRunIds() {
+        return leaseRepository.findRunsWithoutLiveOwner(nodeId).stream()
+                .filter(runId -> !heldRunIds.contains(runId))
+                .toList();
+    }
+
+    /**
+     * @return running runs, other than those this node executes, with chunks waiting to be claimed
+     */
+    public List<Long> findRunsWithClaimableChunks() {
+        return leaseRepository.findRunsWithClaimableChunks().stream()
+                .filter(runId -> !heldRunIds.contains(runId))
+                .toList();
+    }
+
+    /**
+     * Claims one firing of a schedule for this node, so a schedule running on every
+     * node executes once.
+     */
+    public boolean claimSchedule(String scheduleName, LocalDateTime fireTime) {
+        return leaseRepository.claimSchedule(scheduleName, fireTime, nodeId);
+    }
+
+    @Scheduled(fixedDelayString = "${sync.leases.renewInterval:PT1M}")
+    public void renewLeases() {
+        if (heldRunIds.isEmpty() && heldChunkIds.isEmpty()) {
+            return;
+        }
+        try {
+            leaseRepository.renew(Set.copyOf(heldRunIds), Set.copyOf(heldChunkIds), nodeId, leaseDuration);
+        } catch (Exception e) {
+            log.warn("Failed to renew sync leases; they expire after {}", leaseDuration, e);
+        }
+    }
+}
@@ -1,17 +1,25 @@
 package com.mvp.vueseum.service;
 
 import com.mvp.vueseum.client.MuseumApiClient;
+import com.mvp.vueseum.dto.SyncJobDTO;
+import com.mvp.vueseum.dto.SyncRunDTO;
+import com.mvp.vueseum.entity.SyncRun;
 import com.mvp.vueseum.event.SyncOperation;
+import com.mvp.vueseum.exception.InvalidRequestException;
 import com.mvp.vueseum.exception.ResourceNotFoundException;
 import com.mvp.vueseum.repository.ArtworkRepository;
+import com.mvp.vueseum.service.catalog.CatalogVersionService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -22,11 +30,22 @@ import java.util.stream.Collectors;
 public class SyncManagementService {
     private final List<MuseumApiClient> museumApiClients;
     private final ArtworkRepository artworkRepository;
+    private final SyncRunService syncRunService;
+    private final SyncOrchestrator orchestrator;
+    private final CatalogVersionService catalogVersionService;
+
+    private static final String SCHEDULED_SYNC = "scheduled-sync";
 
     @Scheduled(cron = "0 0 1 * * *")  // Run at 1 AM daily
     public void scheduledSync() {
-        // Determine sync type based on day of month
+        // Every node fires the schedule; only the node that claims today's firing starts the syncs
         LocalDateTime now = LocalDateTime.now();
+        if (!syncRunService.claimScheduledSync(SCHEDULED_SYNC, now.toLocalDate().atStartOfDay())) {
+            log.info("Scheduled sync for {} is already handled by another node", now.toLocalDate());
+            return;
+        }
+
+        // Determine sync type based on day of month
         SyncOperation operation = now.getDayOfMonth() == 1
                 ? SyncOperation.monthly()
                 : SyncOperation.daily();
@@ -35,39 +54,137 @@ public class SyncManagementService {
                 operation.isFullSync() ? "full" : "incremental",
                 now);
 
+        // Runs in the background so a long sync never holds up other scheduled tasks
+        SyncOrchestrator.allFinished(
+                        orchestrator.submitAll(museumApiClients, describe(operation), client -> client.performSync(operation)))
+                .thenRun(() -> log.info("Completed scheduled sync for all museums"));
+    }
+
+    /**
+     * Starts a sync in the background and returns at once.
+     *
+     * @param museumId the museum to sync, or null for every museum not already syncing
+     * @throws InvalidRequestException if the single museum requested is already syncing
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<SyncJobDTO> startSync(Long museumId, SyncOperation operation) {
+        List<SyncJob> jobs = museumId != null
+                ? List.of(orchestrator.submit(findClientForMuseum(museumId), describe(operation), c -> c.performSync(operation)))
+                // All museums sync concurrently; a failing museum does not affect the others
+                : orchestrator.submitAll(museumApiClients, describe(operation), client -> client.performSync(operation));
+        return jobs.stream().map(SyncJobDTO::fromJob).toList();
+    }
+
+    /**
+     * Rebuilds a museum's artworks from its archived API responses in the background.
+     *
+     * @throws InvalidRequestException if the museum is already syncing
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public SyncJobDTO startReingest(Long museumId) {
+        SyncJob job = orchestrator.submit(findClientForMuseum(museumId), "re-ingest from archive", client -> {
+            client.reingestFromArchive();
+            catalogVersionService.bump();
+        });
+        return SyncJobDTO.fromJob(job);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<SyncJobDTO> getJobs() {
+        return orchestrator.getRecentJobs().stream()
+                .map(SyncJobDTO::fromJob)
+                .toList();
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public SyncJobDTO getJob(String jobId) {
+        return SyncJobDTO.fromJob(orchestrator.findJob(jobId).orElseThrow(() -> jobNotFound(jobId)));
+    }
+
+    /**
+     * Cancels a sync job. A running sync stops after its current chunk and its run is aborted.
+     */
+    @PreAuthorize("hasRole('ADMIN')")
+    public SyncJobDTO cancelJob(String jobId) {
+        return SyncJobDTO.fromJob(orchestrator.cancel(jobId).orElseThrow(() -> jobNotFound(jobId)));
+    }
+
+    private static ResourceNotFoundException jobNotFound(String jobId) {
+        return new ResourceNotFoundException("No sync job found with ID: " + jobId);
+    }
+
+    /**
+     * Continues runs left unfinished when the previous process stopped. Runs at startup,
+     * so a failure to read them is logged rather than stopping the application.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedRuns() {
+        List<SyncRun> interruptedRuns;
         try {
-            // Execute sync for all museums
-            executeSync(null, operation);
-            log.info("Completed scheduled sync successfully");
+            interruptedRuns = syncRunService.findInterruptedRuns();
         } catch (Exception e) {
-            log.error("Scheduled sync failed", e);
+            log.warn("Could not read interrupted sync runs", e);
+            return;
+        }
+        for (SyncRun run : interruptedRuns) {
+            if (orchestrator.isBusy(run.getMuseumId())) {
+                continue;
+            }
+            try {
+                resume(run);
+            } catch (Exception e) {
+                log.error("Could not resume interrupted sync run {}", run.getId(), e);
+            }
         }
     }
 
-    @PreAuthorize("hasRole('ADMIN')")
-    public void executeSync(Long museumId, SyncOperation operation) {
-        if (museumId != null) {
-            // Single museum sync
-            MuseumApiClient client = findClientForMuseum(museumId);
+    /**
+     * Picks up sync work shared by the other nodes: runs whose owner died are resumed,
+     * and pending chunks of runs owned elsewhere are processed here as well.
+     * Museums already busy on this node are skipped until the next poll.
+     */
+    @Scheduled(fixedDelayString = "${sync.leases.pollInterval:PT30S}", initialDelayString = "${sync.leases.pollInterval:PT30S}")
+    public void pollSharedSyncWork() {
+        resumeInterruptedRuns();
+
+        for (SyncRun run : syncRunService.findRunsAcceptingHelp()) {
+            if (orchestrator.isBusy(run.getMuseumId())) {
+                continue;
+            }
             try {
-                client.performSync(operation);
+                orchestrator.submit(findClientForMuseum(run.getMuseumId()),
+                        "assist of sync run " + run.getId(),
+                        client -> client.assistSync(run.getId()));
             } catch (Exception e) {
-                log.error("Sync failed for museum {}", client.getMuseumId(), e);
-                throw e;
-            }
-        } else {
-            // All museums sync
-            for (MuseumApiClient client : museumApiClients) {
-                try {
-                    client.performSync(operation);
-                } catch (Exception e) {
-                    log.error("Sync failed for museum {}", client.getMuseumId(), e);
-                    // Continue with next museum
-                }
+                log.error("Could not assist sync run {}", run.getId(), e);
             }
         }
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    public SyncJobDTO resumeRun(Long runId) {
+        return SyncJobDTO.fromJob(resume(syncRunService.findRun(runId)));
+    }
+
+    private SyncJob resume(SyncRun run) {
+        log.info("Resuming sync run {} for museum {}", run.getId(), run.getMuseumId());
+        return orchestrator.submit(findClientForMuseum(run.getMuseumId()),
+                "resume of sync run " + run.getId(),
+                client -> client.resumeSync(run.getId()));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public SyncRunDTO abortRun(Long runId) {
+        return SyncRunDTO.fromEntity(syncRunService.abortRun(runId));
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    public List<SyncRunDTO> getRecentRuns() {
+        return syncRunService.findRecentRuns().stream()
+                .map(SyncRunDTO::fromEntity)
+                .toList();
+    }
+
     @PreAuthorize("hasRole('ADMIN')")
     public Map<String, Object> getAggregatedStatus() {
         Map<String, Object> status = new HashMap<>();
@@ -87,13 +204,25 @@ public class SyncManagementService {
     }
 
     private Map<String, Object> getClientStatus(MuseumApiClient client) {
-        return Map.of(
-                "museumId", client.getMuseumId(),
-                "artworkCount", artworkRepository.countByMuseum(client.getMuseumId()),
-                "processingErrors", client.getErrorCount(),
-                "syncStartTime", client.getSyncStartTime(),
-                "processedCount", client.getProcessedCount()
-        );
+        SyncJob job = orchestrator.latestJob(client.getMuseumId());
+
+        // Not Map.of: times and errors are null until a museum has synced
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("museumId", client.getMuseumId());
+        status.put("artworkCount", artworkRepository.countByMuseum(client.getMuseumId()));
+        status.put("processingErrors", client.getErrorCount());
+        status.put("syncStartTime", client.getSyncStartTime());
+        status.put("processedCount", client.getProcessedCount());
+        status.put("syncState", job != null ? job.getState() : SyncJob.State.IDLE);
+        status.put("syncJobId", job != null ? job.getId() : null);
+        status.put("syncTask", job != null ? job.getTask() : null);
+        status.put("syncFinishedTime", job != null ? job.getFinishedAt() : null);
+        status.put("lastSyncError", job != null ? job.getLastError() : null);
+        return status;
+    }
+
+    private static String describe(SyncOperation operation) {
+        return (operation.isFullSync() ? "full" : "incremental") + " sync";
     }
 
     private MuseumApiClient findClientForMuseum(Long museumId) {
@@ -0,0 +1,184 @@
+package com.mvp.vueseum.service;
+
+import com.mvp.vueseum.client.MuseumApiClient;
+import com.mvp.vueseum.exception.InvalidRequestException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Runs museum syncs concurrently, one executor per museum.
+ * <p>
+ * Each museum has its own single-threaded executor, so its syncs run one at a time
+ * while different museums proceed independently under their own rate limits; a slow
+ * or failing museum never delays the others. Database writes from all museums share
+ * the global cap in {@link com.mvp.vueseum.service.artwork.SyncWriteLimiter}.
+ * <p>
+ * Every submission becomes a {@link SyncJob} that callers can look up, follow and
+ * cancel. A museum accepts one job at a time; the most recent jobs are kept for
+ * status queries after they finish.
+ */
+@Component
+@Slf4j
+public class SyncOrchestrator {
+
+    private static final int RETAINED_JOBS = 100;
+
+    private final Clock clock;
+    private final Map<Long, ExecutorService> executors = new ConcurrentHashMap<>();
+    private final Map<Long, SyncJob> latestJobs = new ConcurrentHashMap<>();
+    // Insertion ordered, oldest evicted first; guarded by itself
+    private final Map<String, SyncJob> jobs = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, SyncJob> eldest) {
+            return size() > RETAINED_JOBS;
+        }
+    };
+
+    public SyncOrchestrator(Clock clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Queues a task on the museum's executor.
+     *
+     * @return the queued job, whose completion fails if the task failed
+     * @throws InvalidRequestException if a job of the museum is already queued or running
+     */
+    public SyncJob submit(MuseumApiClient client, String task, Consumer<MuseumApiClient> action) {
+        Long museumId = client.getMuseumId();
+        SyncJob job = new SyncJob(client, task, now());
+        SyncJob previous = latestJobs.compute(museumId,
+                (_, latest) -> latest != null && latest.getState().isActive() ? latest : job);
+        if (previous != job) {
+            throw new InvalidRequestException("Museum " + museumId + " is already running "
+                    + previous.getTask() + " (job " + previous.getId() + ")");
+        }
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+        }
+
+        executorFor(museumId).execute(() -> run(job, client, action));
+        return job;
+    }
+
+    private void run(SyncJob job, MuseumApiClient client, Consumer<MuseumApiClient> action) {
+        if (!job.start(now())) {
+            log.info("Skipping {} for museum {}, cancelled while queued", job.getTask(), job.getMuseumId());
+            return;
+        }
+        log.info("Starting {} for museum {} as job {}", job.getTask(), job.getMuseumId(), job.getId());
+        try {
+            action.accept(client);
+            job.finish(now(), null);
+            log.info("{} {} for museum {}", job.isCancellationRequested() ? "Cancelled" : "Completed",
+                    job.getTask(), job.getMuseumId());
+        } catch (RuntimeException e) {
+            job.finish(now(), e);
+            log.error("{} failed for museum {}", job.getTask(), job.getMuseumId(), e);
+        }
+    }
+
+    /**
+     * Queues the task for every museum not already busy. A failing museum does not
+     * affect the others.
+     *
+     * @return the queued jobs
+     */
+    public List<SyncJob> submitAll(List<MuseumApiClient> clients, String task, Consumer<MuseumApiClient> action) {
+        List<SyncJob> submitted = new ArrayList<>();
+        for (MuseumApiClient client : clients) {
+            try {
+                submitted.add(submit(client, task, action));
+            } catch (InvalidRequestException e) {
+                log.info("Skipping {}: {}", task, e.getMessage());
+            }
+        }
+        return submitted;
+    }
+
+    /**
+     * @return a future completing once every job has finished, whatever the outcome
+     */
+    public static CompletableFuture<Void> allFinished(List<SyncJob> jobs) {
+        return CompletableFuture.allOf(jobs.stream()
+                .map(job -> job.getCompletion().exceptionally(_ -> null))
+                .toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Cancels a job. A queued job never starts; a running one stops after its current chunk.
+     *
+     * @return the job, or empty if no such job is retained
+     */
+    public Optional<SyncJob> cancel(String jobId) {
+        Optional<SyncJob> job = findJob(jobId);
+        job.ifPresent(j -> {
+            if (j.cancel(now())) {
+                log.info("Cancellation of job {} ({} for museum {}) requested", j.getId(), j.getTask(), j.getMuseumId());
+            }
+        });
+        return job;
+    }
+
+    public Optional<SyncJob> findJob(String jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId));
+        }
+    }
+
+    /**
+     * @return retained jobs, most recently queued first
+     */
+    public List<SyncJob> getRecentJobs() {
+        List<SyncJob> recent;
+        synchronized (jobs) {
+            recent = new ArrayList<>(jobs.values());
+        }
+        recent.sort(Comparator.comparing(SyncJob::getQueuedAt).reversed());
+        return recent;
+    }
+
+    /**
+     * @return the museum's most recent job, or null if it has none
+     */
+    public SyncJob latestJob(Long museumId) {
+        return latestJobs.get(museumId);
+    }
+
+    /**
+     * @return true while a job of the museum is queued or running
+     */
+    public boolean isBusy(Long museumId) {
+        SyncJob job = latestJobs.get(museumId);
+        return job != null && job.getState().isActive();
+    }
+
+    private ExecutorService executorFor(Long museumId) {
+        return executors.computeIfAbsent(museumId, id -> Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("museum-sync-" + id).daemon(true).factory()));
+    }
+
+    private LocalDateTime now() {
+        return LocalDateTime.now(clock);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executors.values().forEach(ExecutorService::shutdownNow);
+    }
+}
@@ -0,0 +1,317 @@
+package com.mvp.vueseum.service;
+
+import com.google.common.collect.Lists;
+import com.mvp.vueseum.entity.SyncRun;
+import com.mvp.vueseum.entity.SyncRunChunk;
+import com.mvp.vueseum.event.SyncOperation;
+import com.mvp.vueseum.exception.InvalidRequestException;
+import com.mvp.vueseum.exception.ResourceNotFoundException;
+import com.mvp.vueseum.repository.SyncRunChunkRepository;
+import com.mvp.vueseum.repository.SyncRunRepository;
+import com.mvp.vueseum.service.catalog.CatalogVersionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Persists sync runs and their chunk checkpoints.
+ * <p>
+ * A run's id list is split into chunks when the run starts. Each chunk is marked
+ * complete, with its failures, as soon as it has been processed, so an interrupted
+ * run resumes from the first pending chunk.
+ * <p>
+ * Several nodes can work on one run. The node that starts or resumes a run owns it,
+ * and every node claims chunks under a lease through {@link SyncLeaseService}; a run
+ * left {@code RUNNING} without a live owner is considered interrupted.
+ */
+@Service
+@Slf4j
+public class SyncRunService {
+
+    private final SyncRunRepository syncRunRepository;
+    private final SyncRunChunkRepository syncRunChunkRepository;
+    private final SyncLeaseService leaseService;
+    private final CatalogVersionService catalogVersionService;
+    private final Clock clock;
+    private final int chunkSize;
+
+    public SyncRunService(
+            SyncRunRepository syncRunRepository,
+            SyncRunChunkRepository syncRunChunkRepository,
+            SyncLeaseService leaseService,
+            CatalogVersionService catalogVersionService,
+            Clock clock,
+            @Value("${sync.runs.chunkSize:1000}") int chunkSize) {
+        this.syncRunRepository = syncRunRepository;
+        this.syncRunChunkRepository = syncRunChunkRepository;
+        this.leaseService = leaseService;
+        this.catalogVersionService = catalogVersionService;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Persists a new run of the museum and takes ownership of it for this node, before
+     * its ids are known: planning a run changes the catalog, so it only starts once this
+     * node holds the museum. The ids are added with {@link #planRun}. Unfinished runs of
+     * the same museum without a live owner are superseded.
+     * <p>
+     * A unique index allows one {@code RUNNING} run per museum, so of two nodes starting
+     * a run at the same time only one succeeds.
+     *
+     * @throws InvalidRequestException if a live node is already running a sync of the museum
+     */
+    @Transactional
+    public SyncRun startRun(Long museumId, SyncOperation operation) {
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        List<Long> liveRunIds = leaseService.findLiveRunIds(museumId);
+        if (!liveRunIds.isEmpty()) {
+            throw new InvalidRequestException(
+                    "Museum " + museumId + " is already being synced by run " + liveRunIds.getFirst());
+        }
+
+        syncRunRepository.findByMuseumIdAndStatusIn(museumId, List.of(SyncRun.Status.RUNNING, SyncRun.Status.FAILED))
+                .stream()
+                .forEach(previous -> {
+                    log.info("Superseding unfinished sync run {} for museum {}", previous.getId(), museumId);
+                    finish(previous, SyncRun.Status.ABORTED, "Superseded by a new sync run", now);
+                });
+        // Hibernate runs inserts before updates, so write the superseded runs first
+        syncRunRepository.flush();
+
+        SyncRun run = new SyncRun();
+        run.setMuseumId(museumId);
+        run.setFullSync(operation.isFullSync());
+        run.setIncrementalSince(operation.getIncrementalSince());
+        run.setStartedAt(operation.getStartTime());
+        run.setLastCheckpointAt(now);
+        try {
+            syncRunRepository.saveAndFlush(run);
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException("Museum " + museumId + " is already being synced by another node");
+        }
+
+        leaseService.acquireRun(run.getId());
+        log.info("Started sync run {} for museum {}", run.getId(), museumId);
+        return run;
+    }
+
+    /**
+     * Splits the ids planned for a started run into ordered chunks.
+     */
+    @Transactional
+    public SyncRun planRun(Long runId, List<String> externalIds) {
+        SyncRun run = findRun(runId);
+        List<List<String>> partitions = Lists.partition(externalIds, chunkSize);
+        run.setTotalIds(externalIds.size());
+        run.setChunkCount(partitions.size());
+
+        List<SyncRunChunk> chunks = new ArrayList<>(partitions.size());
+        for (int i = 0; i < partitions.size(); i++) {
+            chunks.add(new SyncRunChunk(run, i, partitions.get(i)));
+        }
+        syncRunChunkRepository.saveAll(chunks);
+
+        log.info("Planned sync run {} for museum {}: {} ids in {} chunks",
+                runId, run.getMuseumId(), externalIds.size(), partitions.size());
+        return run;
+    }
+
+    /**
+     * Claims an interrupted or failed run so this node can continue it.
+     *
+     * @throws InvalidRequestException if the run has finished or a live node is executing it
+     */
+    @Transactional
+    public SyncRun claimForResume(Long runId) {
+        SyncRun run = findRun(runId);
+        if (!run.getStatus().isResumable()) {
+            throw new InvalidRequestException(
+                    "Sync run " + runId + " is " + run.getStatus() + " and cannot be resumed");
+        }
+        if (!leaseService.acquireRun(runId)) {
+            throw new InvalidRequestException("Sync run " + runId + " is already running");
+        }
+
+        run.setStatus(SyncRun.Status.RUNNING);
+        run.setFailureReason(null);
+        try {
+            syncRunRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidRequestException(
+                    "Museum " + run.getMuseumId() + " is already being synced by another run");
+        }
+        log.info("Resuming sync run {} for museum {} at {}/{} ids",
+                runId, run.getMuseumId(), run.getProcessedCount(), run.getTotalIds());
+        return run;
+    }
+
+    /**
+     * Releases a run claimed by this node once it stops executing, whatever the outcome.
+     */
+    public void release(Long runId) {
+        leaseService.releaseRun(runId);
+    }
+
+    /**
+     * Leases the next pending chunk of a run that no node holds.
+     *
+     * @return the chunk, or empty if every pending chunk is leased or the run is done
+     */
+    @Transactional
+    public Optional<SyncRunChunk> claimNextChunk(Long runId) {
+        return leaseService.claimChunk(runId)
+                .map(chunkId -> syncRunChunkRepository.findById(chunkId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Sync run chunk not found: " + chunkId)));
+    }
+
+    /**
+     * Hands a claimed chunk back unprocessed, so another node can take it.
+     */
+    public void releaseChunk(Long chunkId) {
+        leaseService.releaseChunk(chunkId);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean hasPendingChunks(Long runId) {
+        return syncRunChunkRepository.countBySyncRunIdAndStatus(runId, SyncRunChunk.Status.PENDING) > 0;
+    }
+
+    /**
+     * How long to wait before looking again for chunks held by other nodes.
+     */
+    public Duration getChunkPollInterval() {
+        return leaseService.getPollInterval();
+    }
+
+    /**
+     * Checkpoints a processed chunk and adds its counts to the run. A chunk completed
+     * meanwhile by another node, after this node's lease expired, is left as it is.
+     */
+    @Transactional
+    public void completeChunk(Long chunkId, int processed, List<String> failedIds) {
+        SyncRunChunk chunk = syncRunChunkRepository.findByIdForUpdate(chunkId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sync run chunk not found: " + chunkId));
+        leaseService.chunkCompleted(chunkId);
+        if (chunk.getStatus() == SyncRunChunk.Status.COMPLETED) {
+            log.info("Sync run chunk {} was already completed by another node", chunkId);
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        chunk.setStatus(SyncRunChunk.Status.COMPLETED);
+        chunk.setProcessedCount(processed);
+        chunk.setErrorCount(failedIds.size());
+        chunk.setFailedIds(new ArrayList<>(failedIds));
+        chunk.setCompletedAt(now);
+
+        syncRunRepository.addChunkProgress(chunk.getSyncRun().getId(), processed, failedIds.size(), now);
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isAborted(Long runId) {
+        return syncRunRepository.findStatusById(runId) == SyncRun.Status.ABORTED;
+    }
+
+    @Transactional(readOnly = true)
+    public List<String> findFailedIds(Long runId) {
+        return syncRunChunkRepository.findBySyncRunIdAndErrorCountGreaterThan(runId, 0).stream()
+                .flatMap(chunk -> chunk.getFailedIds().stream())
+                .toList();
+    }
+
+    /**
+     * Marks a run completed, crediting artworks recovered by the final retry pass.
+     * A run aborted while its last chunk was processed stays aborted.
+     */
+    @Transactional
+    public void completeRun(Long runId, int recoveredByRetry) {
+        SyncRun run = findRun(runId);
+        run.setErrorCount(Math.max(0, run.getErrorCount() - recoveredByRetry));
+        if (run.getStatus() == SyncRun.Status.RUNNING) {
+            finish(run, SyncRun.Status.COMPLETED, null, LocalDateTime.now(clock));
+        }
+    }
+
+    @Transactional
+    public void failRun(Long runId, String reason) {
+        SyncRun run = findRun(runId);
+        if (run.getStatus() == SyncRun.Status.RUNNING) {
+            finish(run, SyncRun.Status.FAILED, reason, LocalDateTime.now(clock));
+        }
+    }
+
+    /**
+     * Aborts a run. An executing run stops after its current chunk.
+     *
+     * @throws InvalidRequestException if the run has already finished
+     */
+    @Transactional
+    public SyncRun abortRun(Long runId) {
+        SyncRun run = findRun(runId);
+        if (!run.getStatus().isResumable()) {
+            throw new InvalidRequestException(
+                    "Sync run " + runId + " is " + run.getStatus() + " and cannot be aborted");
+        }
+        finish(run, SyncRun.Status.ABORTED, "Aborted by admin", LocalDateTime.now(clock));
+        log.info("Sync run {} aborted", runId);
+        return run;
+    }
+
+    /**
+     * @return runs left {@code RUNNING} that no live node owns
+     */
+    @Transactional(readOnly = true)
+    public List<SyncRun> findInterruptedRuns() {
+        return syncRunRepository.findAllById(leaseService.findOrphanedRunIds());
+    }
+
+    /**
+     * @return runs owned by other nodes that have chunks this node could process
+     */
+    @Transactional(readOnly = true)
+    public List<SyncRun> findRunsAcceptingHelp() {
+        return syncRunRepository.findAllById(leaseService.findRunsWithClaimableChunks());
+    }
+
+    /**
+     * Claims one firing of a sync schedule for this node.
+     *
+     * @return false if another node already runs this firing
+     */
+    public boolean claimScheduledSync(String scheduleName, LocalDateTime fireTime) {
+        return leaseService.claimSchedule(scheduleName, fireTime);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SyncRun> findRecentRuns() {
+        return syncRunRepository.findTop20ByOrderByStartedAtDesc();
+    }
+
+    @Transactional(readOnly = true)
+    public SyncRun findRun(Long runId) {
+        return syncRunRepository.findById(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Sync run not found: " + runId));
+    }
+
+    /**
+     * Any finished run, even a failed or aborted one, may have changed artworks, so the
+     * catalog version is bumped with it.
+     */
+    private void finish(SyncRun run, SyncRun.Status status, String reason, LocalDateTime now) {
+        run.setStatus(status);
+        run.setFailureReason(reason);
+        run.setFinishedAt(now);
+        catalogVersionService.bump();
+    }
+}
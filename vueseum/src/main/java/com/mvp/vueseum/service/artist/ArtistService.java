@@ -6,8 +6,15 @@ import com.mvp.vueseum.exception.PersistenceException;
 import com.mvp.vueseum.repository.ArtistRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 @Service
@@ -22,34 +29,85 @@ public class ArtistService {
     public Artist findOrCreateArtist(ArtworkDetails details) {
         try {
             return artistRepository.findByArtistName(details.getArtistName())
-                    .orElseGet(() -> {
-                        Artist newArtist = new Artist();
-                        newArtist.setArtistName(details.getArtistName());
-                        System.out.println("newArtist: " + newArtist.getArtistName());
-
-                        // Process dates - must be empty if not valid
-                        String birthYear = details.getArtistBirthYear();
-                        newArtist.setBirthDate(
-                                birthYear != null && VALID_YEAR.matcher(birthYear).matches()
-                                        ? birthYear : ""
-                        );
-                        System.out.println("birthDate: " + newArtist.getBirthDate());
-
-
-                        String deathYear = details.getArtistDeathYear();
-                        newArtist.setDeathDate(
-                                deathYear != null && VALID_YEAR.matcher(deathYear).matches()
-                                        ? deathYear : ""
-                        );
-                        System.out.println("deathDate: " + newArtist.getDeathDate());
-
-                        return artistRepository.save(newArtist);
-                    });
+                    .orElseGet(() -> artistRepository.save(newArtistFromDetails(details)));
         } catch (Exception e) {
             throw new PersistenceException("Could not save artist: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * Resolves the artists for a whole batch of artworks at once:
+     * one query for the existing artists, one batched insert for the new ones.
+     *
+     * Runs in its own transaction so the returned ids stay valid for run-scoped
+     * caches even if the caller's transaction rolls back.
+     *
+     * @return artist name to artist id for every artist referenced by the batch
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<String, Long> resolveArtistIds(Collection<ArtworkDetails> batch) {
+        Map<String, ArtworkDetails> detailsByName = new LinkedHashMap<>();
+        for (ArtworkDetails details : batch) {
+            if (StringUtils.hasText(details.getArtistName())) {
+                detailsByName.putIfAbsent(details.getArtistName(), details);
+            }
+        }
+
+        Map<String, Long> artistIds = new HashMap<>();
+        if (detailsByName.isEmpty()) {
+            return artistIds;
+        }
+
+        try {
+            artistRepository.findByArtistNameIn(detailsByName.keySet())
+                    .forEach(artist -> artistIds.put(artist.getArtistName(), artist.getId()));
+
+            List<Artist> newArtists = detailsByName.values().stream()
+                    .filter(details -> !artistIds.containsKey(details.getArtistName()))
+                    .map(this::newArtistFromDetails)
+                    .toList();
+
+            if (!newArtists.isEmpty()) {
+                artistRepository.saveAllAndFlush(newArtists)
+                        .forEach(artist -> artistIds.put(artist.getArtistName(), artist.getId()));
+            }
+            return artistIds;
+        } catch (Exception e) {
+            throw new PersistenceException("Could not resolve artists: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads the artist name to id map for all artists already represented in a museum.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> findArtistIdsForMuseum(Long museumId) {
+        Map<String, Long> artistIds = new HashMap<>();
+        artistRepository.findArtistNamesAndIdsByMuseum(museumId)
+                .forEach(row -> artistIds.put((String) row[0], (Long) row[1]));
+        return artistIds;
+    }
+
+    private Artist newArtistFromDetails(ArtworkDetails details) {
+        Artist newArtist = new Artist();
+        newArtist.setArtistName(details.getArtistName());
+
+        // Process dates - must be empty if not valid
+        String birthYear = details.getArtistBirthYear();
+        newArtist.setBirthDate(
+                birthYear != null && VALID_YEAR.matcher(birthYear).matches()
+                        ? birthYear : ""
+        );
+
+        String deathYear = details.getArtistDeathYear();
+        newArtist.setDeathDate(
+                deathYear != null && VALID_YEAR.matcher(deathYear).matches()
+                        ? deathYear : ""
+        );
+
+        return newArtist;
+    }
+
     /*private String trimOrNull(String value) {
         return value != null ? value.trim() : null;
     }*/
@@ -0,0 +1,304 @@
+package com.mvp.vueseum.service.artwork;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.mvp.vueseum.domain.ArtworkDetails;
+import com.mvp.vueseum.domain.DerivedArtworkFields;
+import com.mvp.vueseum.entity.Artwork;
+import com.mvp.vueseum.exception.PersistenceException;
+import com.mvp.vueseum.repository.ArtworkBatchRepository;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.ArtworkRow;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.ComputedFieldsRow;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.DerivedFieldsSource;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.RecomputedFields;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.StoredArtwork;
+import com.mvp.vueseum.repository.FetchValidatorRepository;
+import com.mvp.vueseum.repository.FetchValidatorRepository.FetchValidators;
+import com.mvp.vueseum.service.artist.ArtistService;
+import com.mvp.vueseum.util.ContentHashUtil;
+import com.mvp.vueseum.util.DateParsingUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Bulk write path for synced artworks.
+ * <p>
+ * A whole fetched batch is persisted in a handful of statements: existing artworks
+ * are looked up with one query, artworks whose content hash is unchanged are
+ * only marked as synced, artists are resolved through the run's {@link SyncEntityResolver}, ids
+ * for new rows are allocated in pooled blocks, and the remaining rows are written
+ * with a single batched {@code INSERT ... ON CONFLICT (external_id, museum_id) DO UPDATE}.
+ * Field mapping mirrors {@link ArtworkService#saveFromDetails(ArtworkDetails)}, which
+ * remains the single-artwork path used for retries.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ArtworkBatchService {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final ArtworkBatchRepository artworkBatchRepository;
+    private final FetchValidatorRepository fetchValidatorRepository;
+    private final ArtistService artistService;
+    private final Cache<String, Artwork> artworkCache;
+
+    /**
+     * Outcome of saving one batch.
+     *
+     * @param written   artworks inserted or updated
+     * @param unchanged artworks skipped because their stored content hash matched
+     */
+    public record SaveResult(int written, int unchanged) {
+        static final SaveResult EMPTY = new SaveResult(0, 0);
+    }
+
+    /**
+     * One page of a derived fields backfill.
+     *
+     * @param lastId  the highest artwork id in the page
+     * @param updated artworks updated
+     */
+    public record BackfillPage(long lastId, int updated) {}
+
+    /**
+     * One id range of a reprocessing run.
+     *
+     * @param scanned artworks read
+     * @param updated artworks whose computed columns changed and were rewritten
+     */
+    public record ReprocessedRange(int scanned, int updated) {}
+
+    /**
+     * Opens the entity resolver for one sync run of a museum, preloading the
+     * artist ids already known for that museum.
+     */
+    public SyncEntityResolver openSyncResolver(Long museumId) {
+        Map<String, Long> preloaded = artistService.findArtistIdsForMuseum(museumId);
+        log.info("Preloaded {} artists for sync of museum {}", preloaded.size(), museumId);
+        return new SyncEntityResolver(museumId, artistService, preloaded);
+    }
+
+    /**
+     * Upserts the changed artworks of a batch for the resolver's museum in a single transaction.
+     */
+    @Transactional
+    public SaveResult saveBatchFromDetails(List<ArtworkDetails> batch, SyncEntityResolver resolver) {
+        if (batch.isEmpty()) {
+            return SaveResult.EMPTY;
+        }
+
+        // Later duplicates win, matching the sequential per-artwork behavior
+        Map<String, ArtworkDetails> byExternalId = new LinkedHashMap<>();
+        batch.forEach(details -> byExternalId.put(details.getExternalId(), details));
+
+        try {
+            Long museumId = resolver.getMuseumId();
+            Map<String, StoredArtwork> stored = artworkBatchRepository
+                    .findStoredByExternalIds(museumId, byExternalId.keySet());
+
+            Map<String, String> changedHashes = new LinkedHashMap<>();
+            byExternalId.forEach((externalId, details) -> {
+                String hash = ContentHashUtil.hashArtworkContent(details);
+                StoredArtwork existing = stored.get(externalId);
+                if (existing == null || !existing.isUnchanged(hash)) {
+                    changedHashes.put(externalId, hash);
+                }
+            });
+            int unchanged = byExternalId.size() - changedHashes.size();
+            LocalDateTime now = LocalDateTime.now();
+            if (unchanged > 0) {
+                artworkBatchRepository.touchLastSyncAttempt(museumId, byExternalId.keySet().stream()
+                        .filter(externalId -> !changedHashes.containsKey(externalId))
+                        .toList(), now);
+            }
+            if (changedHashes.isEmpty()) {
+                log.debug("All {} artworks unchanged for museum {}", unchanged, museumId);
+                return new SaveResult(0, unchanged);
+            }
+
+            List<ArtworkDetails> changed = changedHashes.keySet().stream().map(byExternalId::get).toList();
+            Map<String, Long> artistIds = resolver.resolveArtistIds(changed);
+
+            int newCount = (int) changedHashes.keySet().stream()
+                    .filter(externalId -> !stored.containsKey(externalId))
+                    .count();
+            Iterator<Long> newIds = artworkBatchRepository.allocateIds(newCount).iterator();
+
+            List<ArtworkRow> rows = new ArrayList<>(changed.size());
+            for (ArtworkDetails details : changed) {
+                StoredArtwork existing = stored.get(details.getExternalId());
+                Long id = existing != null ? existing.id() : newIds.next();
+                rows.add(toRow(id, museumId, artistIds.get(details.getArtistName()), details,
+                        changedHashes.get(details.getExternalId()), now));
+            }
+
+            int written = artworkBatchRepository.upsertArtworks(rows);
+            invalidateCacheAfterCommit(changedHashes.keySet());
+
+            log.debug("Upserted {} artworks ({} new, {} unchanged skipped) for museum {}",
+                    written, newCount, unchanged, museumId);
+            return new SaveResult(written, unchanged);
+        } catch (DataAccessException e) {
+            artworkCache.invalidateAll(byExternalId.keySet());
+            throw new PersistenceException("Database error while saving artwork batch: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Marks artworks as synced now, for objects the museum API reported not modified,
+     * so the next full sync refreshes other artworks first.
+     */
+    @Transactional
+    public void recordSyncAttempts(Long museumId, Collection<String> externalIds) {
+        try {
+            artworkBatchRepository.touchLastSyncAttempt(museumId, externalIds, LocalDateTime.now());
+        } catch (DataAccessException e) {
+            throw new PersistenceException("Database error while recording sync attempts: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Recomputes the derived columns of one page of artworks whose columns are missing or
+     * were computed by an older {@link DerivedArtworkFields#VERSION}. Rows locked by another
+     * node's backfill are skipped, so nodes running the backfill at once split the work.
+     *
+     * @return the page written, or empty once no stale artwork is left after {@code afterId}
+     */
+    @Transactional
+    public Optional<BackfillPage> backfillDerivedFields(long afterId, int limit) {
+        try {
+            List<DerivedFieldsSource> page = artworkBatchRepository.lockStaleDerivedFields(afterId, limit);
+            if (page.isEmpty()) {
+                return Optional.empty();
+            }
+            Map<Long, DerivedArtworkFields> derived = new LinkedHashMap<>();
+            page.forEach(source -> derived.put(source.id(), source.derive()));
+            artworkBatchRepository.updateDerivedFields(derived);
+            return Optional.of(new BackfillPage(page.getLast().id(), page.size()));
+        } catch (DataAccessException e) {
+            throw new PersistenceException("Database error while backfilling derived artwork fields: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Recomputes the chronological sort value and derived columns of the artworks with
+     * {@code fromId <= id < toId} using the current parsers, rewriting only the rows
+     * whose values changed.
+     */
+    @Transactional
+    public ReprocessedRange reprocessRange(long fromId, long toId) {
+        try {
+            List<ComputedFieldsRow> rows = artworkBatchRepository.lockComputedFieldsInRange(fromId, toId);
+            List<RecomputedFields> changed = new ArrayList<>();
+            for (ComputedFieldsRow row : rows) {
+                DerivedFieldsSource source = row.source();
+                RecomputedFields recomputed = new RecomputedFields(source.id(),
+                        DateParsingUtil.calculateChronologicalSortValue(source.creationDate()),
+                        source.derive());
+                boolean unchanged = Objects.equals(row.chronologicalSortValue(), recomputed.chronologicalSortValue())
+                        && recomputed.derived().equals(row.derived())
+                        && Objects.equals(row.derivedVersion(), DerivedArtworkFields.VERSION);
+                if (!unchanged) {
+                    changed.add(recomputed);
+                }
+            }
+            artworkBatchRepository.updateRecomputedFields(changed);
+            return new ReprocessedRange(rows.size(), changed.size());
+        } catch (DataAccessException e) {
+            throw new PersistenceException("Database error while reprocessing artworks: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Loads the HTTP validators of the last successful sync for a museum's artworks.
+     */
+    @Transactional(readOnly = true)
+    public Map<String, FetchValidators> loadFetchValidators(Long museumId) {
+        try {
+            return fetchValidatorRepository.findForSyncedArtworks(museumId);
+        } catch (DataAccessException e) {
+            throw new PersistenceException("Database error while loading fetch validators: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stores the HTTP validators of responses whose artworks have been persisted.
+     */
+    @Transactional
+    public void saveFetchValidators(Long museumId, Map<String, FetchValidators> validators) {
+        try {
+            fetchValidatorRepository.saveAll(museumId, validators);
+        } catch (DataAccessException e) {
+            throw new PersistenceException("Database error while saving fetch validators: " + e.getMessage(), e);
+        }
+    }
+
+    private ArtworkRow toRow(Long id, Long museumId, Long artistId, ArtworkDetails details,
+                             String contentHash, LocalDateTime now) {
+        return new ArtworkRow(
+                id,
+                details.getExternalId(),
+                museumId,
+                artistId,
+                details.getTitle() != null ? details.getTitle() : "",
+                details.getArtworkType(),
+                details.getMedium(),
+                details.getArtistPrefix(),
+                details.getArtistRole(),
+                details.getCulture(),
+                details.getCountry(),
+                details.getGalleryNumber(),
+                details.getDepartment(),
+                details.getDescription(),
+                details.getPrimaryImageUrl(),
+                details.getThumbnailImageUrl(),
+                details.getCreationYear(),
+                toMetadataJson(details),
+                DateParsingUtil.calculateChronologicalSortValue(details.getCreationYear()),
+                contentHash,
+                DerivedArtworkFields.from(details),
+                now
+        );
+    }
+
+    private String toMetadataJson(ArtworkDetails details) {
+        try {
+            return OBJECT_MAPPER.writeValueAsString(Map.of("tags", details.getTags()));
+        } catch (JsonProcessingException e) {
+            throw new PersistenceException("Could not serialize metadata for artwork " + details.getExternalId(), e);
+        }
+    }
+
+    private void invalidateCacheAfterCommit(Iterable<String> externalIds) {
+        List<String> keys = new ArrayList<>();
+        externalIds.forEach(keys::add);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            artworkCache.invalidateAll(keys);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                artworkCache.invalidateAll(keys);
+            }
+        });
+    }
+}
@@ -0,0 +1,147 @@
+package com.mvp.vueseum.service.artwork;
+
+import com.mvp.vueseum.exception.InvalidRequestException;
+import com.mvp.vueseum.exception.ResourceNotFoundException;
+import com.mvp.vueseum.repository.ArtworkBatchRepository;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.IdRange;
+import com.mvp.vueseum.service.catalog.CatalogVersionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Recomputes the columns derived from artwork source fields after the parsing rules
+ * change, without a migration or a re-sync.
+ * <p>
+ * The id space is split into fixed-width ranges that are processed in parallel, each
+ * in its own transaction. Only rows whose values changed are written, with one batched
+ * update per range. When anything changed, the catalog version is bumped so caches
+ * built from the old values are rebuilt.
+ */
+@Service
+@Slf4j
+public class ArtworkReprocessingService {
+
+    private final ArtworkBatchRepository artworkBatchRepository;
+    private final ArtworkBatchService artworkBatchService;
+    private final CatalogVersionService catalogVersionService;
+    private final Clock clock;
+    private final int rangeSize;
+    private final int parallelism;
+    private final AtomicReference<ReprocessJob> currentJob = new AtomicReference<>();
+
+    public ArtworkReprocessingService(
+            ArtworkBatchRepository artworkBatchRepository,
+            ArtworkBatchService artworkBatchService,
+            CatalogVersionService catalogVersionService,
+            Clock clock,
+            @Value("${artworks.reprocess.rangeSize:2000}") int rangeSize,
+            @Value("${artworks.reprocess.parallelism:4}") int parallelism) {
+        this.artworkBatchRepository = artworkBatchRepository;
+        this.artworkBatchService = artworkBatchService;
+        this.catalogVersionService = catalogVersionService;
+        this.clock = clock;
+        this.rangeSize = rangeSize;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Starts reprocessing every artwork in the background.
+     *
+     * @throws InvalidRequestException if a reprocessing job is already running
+     */
+    public synchronized ReprocessJob start() {
+        ReprocessJob previous = currentJob.get();
+        if (previous != null && previous.getState() == ReprocessJob.State.RUNNING) {
+            throw new InvalidRequestException("Artwork reprocessing is already running");
+        }
+
+        List<long[]> ranges = splitIdRange(artworkBatchRepository.findIdRange().orElse(null));
+        ReprocessJob job = new ReprocessJob(ranges.size(), LocalDateTime.now(clock));
+        currentJob.set(job);
+        log.info("Reprocessing artworks in {} id ranges with {} threads", ranges.size(), parallelism);
+        Thread.ofPlatform().name("artwork-reprocess").daemon(true).start(() -> run(job, ranges));
+        return job;
+    }
+
+    /**
+     * @throws ResourceNotFoundException if no job has run since startup
+     */
+    public ReprocessJob getCurrentJob() {
+        ReprocessJob job = currentJob.get();
+        if (job == null) {
+            throw new ResourceNotFoundException("No artwork reprocessing job has been started");
+        }
+        return job;
+    }
+
+    /**
+     * Stops the running job once its in-flight ranges finish; ranges already written stay written.
+     *
+     * @throws InvalidRequestException if the job is not running
+     */
+    public ReprocessJob cancel() {
+        ReprocessJob job = getCurrentJob();
+        if (!job.cancel()) {
+            throw new InvalidRequestException("Artwork reprocessing job " + job.getId() + " is not running");
+        }
+        log.info("Cancellation requested for artwork reprocessing job {}", job.getId());
+        return job;
+    }
+
+    private List<long[]> splitIdRange(IdRange idRange) {
+        List<long[]> ranges = new ArrayList<>();
+        if (idRange == null) {
+            return ranges;
+        }
+        for (long from = idRange.minId(); from <= idRange.maxId(); from += rangeSize) {
+            ranges.add(new long[]{from, Math.min(from + rangeSize, idRange.maxId() + 1)});
+        }
+        return ranges;
+    }
+
+    private void run(ReprocessJob job, List<long[]> ranges) {
+        try (ExecutorService workers = Executors.newFixedThreadPool(parallelism,
+                Thread.ofPlatform().name("artwork-reprocess-", 0).daemon(true).factory())) {
+            CompletableFuture<?>[] tasks = ranges.stream()
+                    .map(range -> CompletableFuture.runAsync(() -> processRange(job, range[0], range[1]), workers))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(tasks).join();
+        } catch (RuntimeException e) {
+            log.error("Artwork reprocessing job {} stopped", job.getId(), e);
+        }
+
+        try {
+            if (job.getUpdatedCount().get() > 0) {
+                catalogVersionService.bump();
+            }
+        } catch (RuntimeException e) {
+            log.error("Could not bump the catalog version after reprocessing artworks", e);
+        }
+        job.finish(LocalDateTime.now(clock));
+        log.info("Artwork reprocessing job {} {}: {} artworks scanned, {} updated, {} ranges failed, {} artworks/s",
+                job.getId(), job.getState(), job.getScannedCount().get(), job.getUpdatedCount().get(),
+                job.getFailedRanges().get(), String.format("%.1f", job.artworksPerSecond()));
+    }
+
+    private void processRange(ReprocessJob job, long fromId, long toId) {
+        if (job.isCancellationRequested()) {
+            return;
+        }
+        try {
+            job.rangeCompleted(artworkBatchService.reprocessRange(fromId, toId));
+        } catch (RuntimeException e) {
+            log.warn("Reprocessing artworks {} to {} failed: {}", fromId, toId - 1, e.getMessage());
+            job.rangeFailed(e);
+        }
+    }
+}
@@ -2,27 +2,32 @@ package com.mvp.vueseum.service.artwork;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import com.mvp.vueseum.domain.ArtworkDetails;
+import com.mvp.vueseum.domain.DerivedArtworkFields;
 import com.mvp.vueseum.dto.ArtworkSearchCriteria;
 import com.mvp.vueseum.domain.TourPreferences;
 import com.mvp.vueseum.entity.Artist;
 import com.mvp.vueseum.entity.Artwork;
 import com.mvp.vueseum.entity.Museum;
+import com.mvp.vueseum.event.CatalogVersionChangedEvent;
 import com.mvp.vueseum.exception.InvalidRequestException;
 import com.mvp.vueseum.exception.PersistenceException;
 import com.mvp.vueseum.exception.ResourceNotFoundException;
+import com.mvp.vueseum.repository.ArtworkBatchRepository;
 import com.mvp.vueseum.repository.ArtworkRepository;
 import com.mvp.vueseum.service.artist.ArtistService;
+import com.mvp.vueseum.service.catalog.CatalogVersionedCache;
 import com.mvp.vueseum.service.museum.MuseumService;
 import com.mvp.vueseum.specification.ArtworkSpecifications;
+import com.mvp.vueseum.util.ContentHashUtil;
 import com.mvp.vueseum.util.DateParsingUtil;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.criteria.Join;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
@@ -45,10 +50,14 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ArtworkService {
 
+    private static final int SOFT_DELETE_CHUNK_SIZE = 1000;
+
     private final ArtworkRepository artworkRepository;
+    private final ArtworkBatchRepository artworkBatchRepository;
     private final ArtistService artistService;
     private final MuseumService museumService;
     private final Cache<String, Artwork> artworkCache;
+    private final CatalogVersionedCache<Map<String, List<String>>> searchFilterOptionsCache;
 
     @PersistenceContext
     private EntityManager entityManager;
@@ -61,10 +70,10 @@ public class ArtworkService {
     }
 
     /**
-     * Clears the Hibernate session to free memory.
-     * This is crucial for long-running processes to prevent memory accumulation.
+     * Flushes and clears the current persistence context to free memory during
+     * long-running bulk operations. Runs in the caller's transaction; a new
+     * transaction would get its own, empty persistence context.
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void clearSession() {
         if (entityManager == null) {
             log.warn("EntityManager is null - unable to clear session");
@@ -85,7 +94,6 @@ public class ArtworkService {
     }
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    @CacheEvict(value = "artworks", key = "#details.externalId")
     public void saveFromDetails(ArtworkDetails details) {
         try {
             Artist artist = null;
@@ -127,44 +135,9 @@ public class ArtworkService {
         }
     }
 
-    @Cacheable(value = "filterOptions", key = "'all'")
     public Map<String, List<String>> getFilterOptions(ArtworkSearchCriteria criteria) {
-        Map<String, List<String>> options = new HashMap<>();
-        final int CATEGORY_LIMIT = 200; // Higher limit for categories
-        final int ORIGIN_LIMIT = 100;   // Standard limit for origins
-
         try {
-            // Get classification options with counts
-            List<String> objectTypeOptions = convertToFormattedOptions(
-                    artworkRepository.findClassificationsWithCountsLimited(CATEGORY_LIMIT)
-            );
-            options.put("objectType", objectTypeOptions);
-
-            // Get medium options with counts
-            List<String> materialsOptions = convertToFormattedOptions(
-                    artworkRepository.findMediumsWithCountsLimited(CATEGORY_LIMIT)
-            );
-            options.put("materials", materialsOptions);
-
-            // Get geographic location options with counts
-            List<String> geographicOptions = convertToFormattedOptions(
-                    artworkRepository.findGeographicLocationsWithCountsLimited(ORIGIN_LIMIT)
-            );
-            options.put("geographicLocations", geographicOptions);
-
-            // Get region options with counts
-            List<String> regionOptions = convertToFormattedOptions(
-                    artworkRepository.findRegionsWithCountsLimited(ORIGIN_LIMIT)
-            );
-            options.put("regions", regionOptions);
-
-            // Get culture options with counts
-            List<String> cultureOptions = convertToFormattedOptions(
-                    artworkRepository.findCulturesWithCountsLimited(ORIGIN_LIMIT)
-            );
-            options.put("cultures", cultureOptions);
-
-            return options;
+            return searchFilterOptionsCache.get("all", this::loadFilterOptions);
         } catch (Exception e) {
             log.error("Error fetching filter options: {}", e.getMessage(), e);
             return Map.of(
@@ -177,6 +150,54 @@ public class ArtworkService {
         }
     }
 
+    /**
+     * Rebuilds the filter options for the new catalog and drops cached artworks,
+     * which may have been changed or removed by the sync.
+     */
+    @EventListener
+    public void onCatalogVersionChanged(CatalogVersionChangedEvent event) {
+        searchFilterOptionsCache.advanceTo(event.version());
+        artworkCache.invalidateAll();
+    }
+
+    private Map<String, List<String>> loadFilterOptions() {
+        Map<String, List<String>> options = new HashMap<>();
+        final int CATEGORY_LIMIT = 200; // Higher limit for categories
+        final int ORIGIN_LIMIT = 100;   // Standard limit for origins
+
+        // Get classification options with counts
+        List<String> objectTypeOptions = convertToFormattedOptions(
+                artworkRepository.findClassificationsWithCountsLimited(CATEGORY_LIMIT)
+        );
+        options.put("objectType", objectTypeOptions);
+
+        // Get medium options with counts
+        List<String> materialsOptions = convertToFormattedOptions(
+                artworkRepository.findMediumsWithCountsLimited(CATEGORY_LIMIT)
+        );
+        options.put("materials", materialsOptions);
+
+        // Get geographic location options with counts
+        List<String> geographicOptions = convertToFormattedOptions(
+                artworkRepository.findGeographicLocationsWithCountsLimited(ORIGIN_LIMIT)
+        );
+        options.put("geographicLocations", geographicOptions);
+
+        // Get region options with counts
+        List<String> regionOptions = convertToFormattedOptions(
+                artworkRepository.findRegionsWithCountsLimited(ORIGIN_LIMIT)
+        );
+        options.put("regions", regionOptions);
+
+        // Get culture options with counts
+        List<String> cultureOptions = convertToFormattedOptions(
+                artworkRepository.findCulturesWithCountsLimited(ORIGIN_LIMIT)
+        );
+        options.put("cultures", cultureOptions);
+
+        return options;
+    }
+
     /**
      * Converts query results (name, count) into formatted strings: "Name (count)"
      */
@@ -378,38 +399,10 @@ public class ArtworkService {
         additionalMetadata.put("tags", new ArrayList<>(details.getTags()));
         artwork.setAdditionalMetadata(additionalMetadata);
 
-        String creationDate = details.getCreationYear();
-        int sortValue = calculateChronologicalSortValue(creationDate);
-        artwork.setChronologicalSortValue(sortValue);
-    }
-
-    private int calculateChronologicalSortValue(String creationDate) {
-        if (creationDate == null) return 0;
-
-        boolean isBC = creationDate.contains("B.C.") ||
-                creationDate.contains("BC") ||
-                creationDate.contains("BCE") ||
-                creationDate.contains("century BCE") ||
-                creationDate.contains("millennium BCE");
-
-        // Use the existing extract_year_from_date function
-        Integer extractedYear = extractYearFromDate(creationDate);
-        if (extractedYear == null) extractedYear = 0;
-
-        return isBC ? -10000 + extractedYear : extractedYear;
-    }
-
-    private Integer extractYearFromDate(String dateStr) {
-        if (dateStr == null || dateStr.trim().isEmpty()) {
-            return null;
-        }
-
-        try {
-            return DateParsingUtil.extractYear(dateStr);
-        } catch (NumberFormatException e) {
-            log.warn("Could not extract year from date string: {}", dateStr);
-            return null;
-        }
+        artwork.setChronologicalSortValue(
+                DateParsingUtil.calculateChronologicalSortValue(details.getCreationYear()));
+        artwork.setContentHash(ContentHashUtil.hashArtworkContent(details));
+        artwork.applyDerivedFields(DerivedArtworkFields.from(details));
     }
 
     @Transactional
@@ -452,19 +445,48 @@ public class ArtworkService {
 
     /**
      * Bulk removal operation for artworks that are no longer on display.
-     * Used during full sync operations to remove artworks that are no longer in the museum's display list.
+     * Used during full sync operations once the museum's current on-view id set has been
+     * stored: artworks missing from that set are soft-deleted through an anti-join, in
+     * chunks that each commit on their own, so no id list is bound as a parameter and
+     * no lock is held for the whole reconciliation.
      *
-     * @param displayedIds Set of external IDs that are currently displayed
      * @param museumId ID of the museum to process
+     * @return the number of artworks soft-deleted
      * @throws ResourceNotFoundException if museum is not found
      */
-    @Transactional
-    public void removeNonDisplayedArtworks(Set<String> displayedIds, Long museumId) {
-        museumService.findMuseumByIdForSync(museumId)
-                .orElseThrow(() -> new ResourceNotFoundException("Museum not found"));
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int removeNonDisplayedArtworks(Long museumId) {
+        if (!museumService.isValidMuseum(museumId)) {
+            throw new ResourceNotFoundException("Museum not found");
+        }
+
+        int deletedCount = 0;
+        List<String> deleted;
+        do {
+            deleted = artworkBatchRepository.softDeleteNotOnView(museumId, SOFT_DELETE_CHUNK_SIZE);
+            artworkCache.invalidateAll(deleted);
+            deletedCount += deleted.size();
+        } while (deleted.size() == SOFT_DELETE_CHUNK_SIZE);
+
+        log.info("Soft-deleted {} artworks no longer on display for museum {}", deletedCount, museumId);
+        return deletedCount;
+    }
 
-        int deletedCount = artworkRepository.softDeleteNonDisplayedArtworks(displayedIds, museumId);
+    /**
+     * Soft-deletes the given artworks of a museum in chunks.
+     * Used by full syncs that know exactly which objects have left display.
+     *
+     * @return the number of artworks soft-deleted
+     */
+    @Transactional
+    public int softDeleteArtworks(Collection<String> externalIds, Long museumId) {
+        int deletedCount = 0;
+        for (List<String> chunk : Lists.partition(new ArrayList<>(externalIds), SOFT_DELETE_CHUNK_SIZE)) {
+            deletedCount += artworkRepository.softDeleteByExternalIds(chunk, museumId);
+            artworkCache.invalidateAll(chunk);
+        }
         log.info("Soft-deleted {} artworks no longer on display for museum {}", deletedCount, museumId);
+        return deletedCount;
     }
 
     @Transactional
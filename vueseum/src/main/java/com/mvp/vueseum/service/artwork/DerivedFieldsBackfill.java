@@ -0,0 +1,72 @@
+package com.mvp.vueseum.service.artwork;
+
+import com.mvp.vueseum.domain.DerivedArtworkFields;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Fills the derived query columns of artworks stored before the columns existed, or
+ * computed by an older {@link DerivedArtworkFields#VERSION}.
+ * <p>
+ * Runs once in the background after startup, walking the table in id order one page
+ * per transaction. Sync keeps the columns current from then on: it writes them with
+ * every artwork and rewrites stale rows even when their content is unchanged.
+ */
+@Component
+@Slf4j
+public class DerivedFieldsBackfill {
+
+    private final ArtworkBatchService artworkBatchService;
+    private final int batchSize;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public DerivedFieldsBackfill(
+            ArtworkBatchService artworkBatchService,
+            @Value("${artworks.derivedFields.backfillBatchSize:1000}") int batchSize) {
+        this.artworkBatchService = artworkBatchService;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startBackfill() {
+        Thread.ofVirtual().name("derived-fields-backfill").start(this::backfill);
+    }
+
+    /**
+     * Backfills every stale artwork, unless a backfill is already running in this process.
+     *
+     * @return the number of artworks updated
+     */
+    public long backfill() {
+        if (!running.compareAndSet(false, true)) {
+            return 0;
+        }
+        long updated = 0;
+        try {
+            long lastId = 0;
+            int pages = 0;
+            Optional<ArtworkBatchService.BackfillPage> page;
+            while ((page = artworkBatchService.backfillDerivedFields(lastId, batchSize)).isPresent()) {
+                lastId = page.get().lastId();
+                updated += page.get().updated();
+                if (++pages % 50 == 0) {
+                    log.info("Derived fields backfill updated {} artworks, up to id {}", updated, lastId);
+                }
+            }
+            if (updated > 0) {
+                log.info("Derived fields backfill complete: {} artworks updated", updated);
+            }
+        } catch (Exception e) {
+            log.error("Derived fields backfill stopped; rows left stale are refreshed by the next sync", e);
+        } finally {
+            running.set(false);
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,100 @@
+package com.mvp.vueseum.service.artwork;
+
+import com.mvp.vueseum.repository.ArtworkBatchRepository;
+import com.mvp.vueseum.repository.OnViewIdRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Plans full syncs by diffing a museum's on-view id list against the set stored at
+ * its previous full sync.
+ * <p>
+ * Only objects without a successfully synced artwork are fetched: newly displayed
+ * objects, plus any left over from earlier failed or interrupted runs. Objects that
+ * stayed on view are kept current by the incremental {@code metadataDate} syncs; on
+ * top of that, each full sync refreshes a bounded number of the least recently synced
+ * ones, so every artwork is eventually re-fetched. Objects that left display are
+ * soft-deleted by id.
+ */
+@Service
+@Slf4j
+public class OnViewSetService {
+
+    private final OnViewIdRepository onViewIdRepository;
+    private final ArtworkBatchRepository artworkBatchRepository;
+    private final int refreshLimit;
+
+    public OnViewSetService(
+            OnViewIdRepository onViewIdRepository,
+            ArtworkBatchRepository artworkBatchRepository,
+            @Value("${sync.fullSync.refreshLimit:2000}") int refreshLimit) {
+        this.onViewIdRepository = onViewIdRepository;
+        this.artworkBatchRepository = artworkBatchRepository;
+        this.refreshLimit = refreshLimit;
+    }
+
+    /**
+     * @param addedIds    on view now but not at the previous full sync
+     * @param removedIds  on view at the previous full sync but not now
+     * @param idsToFetch  objects to fetch in this run, missing artworks first
+     * @param initial     true when no on-view set was stored yet, so removals are unknown
+     */
+    public record FullSyncPlan(
+            List<String> addedIds,
+            List<String> removedIds,
+            List<String> idsToFetch,
+            boolean initial
+    ) {}
+
+    @Transactional(readOnly = true)
+    public FullSyncPlan planFullSync(Long museumId, List<String> displayedIds) {
+        Set<String> previous = onViewIdRepository.findByMuseum(museumId);
+        Set<String> displayed = new LinkedHashSet<>(displayedIds);
+        Set<String> synced = artworkBatchRepository.findSyncedExternalIds(museumId);
+
+        List<String> added = displayed.stream()
+                .filter(id -> !previous.contains(id))
+                .toList();
+        List<String> removed = previous.stream()
+                .filter(id -> !displayed.contains(id))
+                .toList();
+
+        Set<String> idsToFetch = new LinkedHashSet<>();
+        for (String id : displayed) {
+            if (!synced.contains(id)) {
+                idsToFetch.add(id);
+            }
+        }
+        int missing = idsToFetch.size();
+
+        if (refreshLimit > 0) {
+            for (String id : artworkBatchRepository.findLeastRecentlySyncedExternalIds(museumId, refreshLimit)) {
+                if (displayed.contains(id)) {
+                    idsToFetch.add(id);
+                }
+            }
+        }
+
+        log.info("Full sync plan for museum {}: {} on view, {} added, {} removed, {} to fetch ({} missing, {} refreshed)",
+                museumId, displayed.size(), added.size(), removed.size(),
+                idsToFetch.size(), missing, idsToFetch.size() - missing);
+
+        return new FullSyncPlan(added, removed, new ArrayList<>(idsToFetch), previous.isEmpty());
+    }
+
+    /**
+     * Stores the on-view set described by the plan for the next full sync to diff against.
+     */
+    @Transactional
+    public void recordOnViewIds(Long museumId, FullSyncPlan plan) {
+        onViewIdRepository.removeAll(museumId, plan.removedIds());
+        onViewIdRepository.addAll(museumId, plan.addedIds());
+    }
+}
@@ -0,0 +1,107 @@
+package com.mvp.vueseum.service.artwork;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A run of {@link ArtworkReprocessingService}, from start until every id range is done.
+ * <p>
+ * Counters are updated by the worker threads as ranges finish and can be read from
+ * any thread while the job runs.
+ */
+@Getter
+public class ReprocessJob {
+
+    public enum State {
+        RUNNING,
+        SUCCEEDED,
+        FAILED,
+        CANCELLED
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final int totalRanges;
+    private final LocalDateTime startedAt;
+    private final long startedNanos = System.nanoTime();
+    /**
+     * Completes when the job finishes, whatever its outcome.
+     */
+    private final CompletableFuture<Void> completion = new CompletableFuture<>();
+    private final AtomicInteger completedRanges = new AtomicInteger();
+    private final AtomicInteger failedRanges = new AtomicInteger();
+    private final AtomicLong scannedCount = new AtomicLong();
+    private final AtomicLong updatedCount = new AtomicLong();
+
+    private volatile State state = State.RUNNING;
+    private volatile LocalDateTime finishedAt;
+    private volatile String lastError;
+    private volatile boolean cancellationRequested;
+    private volatile long elapsedNanos = -1;
+
+    ReprocessJob(int totalRanges, LocalDateTime startedAt) {
+        this.totalRanges = totalRanges;
+        this.startedAt = startedAt;
+    }
+
+    public double artworksPerSecond() {
+        double seconds = elapsed().toNanos() / 1_000_000_000.0;
+        return seconds > 0 ? scannedCount.get() / seconds : 0;
+    }
+
+    /**
+     * @return the time left at the rate ranges have completed so far, or null before the first one
+     */
+    public Duration estimatedRemaining() {
+        int done = completedRanges.get() + failedRanges.get();
+        if (state != State.RUNNING || done == 0) {
+            return null;
+        }
+        return elapsed().multipliedBy(totalRanges - done).dividedBy(done);
+    }
+
+    private Duration elapsed() {
+        long nanos = elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startedNanos;
+        return Duration.ofNanos(nanos);
+    }
+
+    void rangeCompleted(ArtworkBatchService.ReprocessedRange range) {
+        scannedCount.addAndGet(range.scanned());
+        updatedCount.addAndGet(range.updated());
+        completedRanges.incrementAndGet();
+    }
+
+    void rangeFailed(RuntimeException failure) {
+        failedRanges.incrementAndGet();
+        lastError = failure.getMessage();
+    }
+
+    /**
+     * @return true if the job was still running, in which case it stops before its next range
+     */
+    boolean cancel() {
+        if (state != State.RUNNING) {
+            return false;
+        }
+        cancellationRequested = true;
+        return true;
+    }
+
+    void finish(LocalDateTime now) {
+        elapsedNanos = System.nanoTime() - startedNanos;
+        finishedAt = now;
+        if (cancellationRequested) {
+            state = State.CANCELLED;
+        } else if (failedRanges.get() > 0) {
+            state = State.FAILED;
+        } else {
+            state = State.SUCCEEDED;
+        }
+        completion.complete(null);
+    }
+}
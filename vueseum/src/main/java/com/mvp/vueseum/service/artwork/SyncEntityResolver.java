@@ -0,0 +1,104 @@
+package com.mvp.vueseum.service.artwork;
+
+import com.mvp.vueseum.domain.ArtworkDetails;
+import com.mvp.vueseum.service.artist.ArtistService;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves the museum and artist references for one sync run.
+ * <p>
+ * The museum is resolved once when the run starts, and the artist name to id map
+ * for that museum is preloaded with a single query. Only names not seen before in
+ * the run reach the database, and they are resolved a batch at a time.
+ * <p>
+ * Cache hits are lock-free, so the resolver can be shared between concurrent
+ * pipeline stages; resolving unseen names is serialized so two stages never try
+ * to insert the same artist.
+ * Create one per run with {@link ArtworkBatchService#openSyncResolver(Long)}.
+ */
+@Slf4j
+public class SyncEntityResolver {
+
+    @Getter
+    private final Long museumId;
+    private final ArtistService artistService;
+    private final Map<String, Long> artistIds;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    SyncEntityResolver(Long museumId, ArtistService artistService, Map<String, Long> preloadedArtistIds) {
+        this.museumId = museumId;
+        this.artistService = artistService;
+        this.artistIds = new ConcurrentHashMap<>(preloadedArtistIds);
+    }
+
+    /**
+     * @return artist name to id for every artist referenced by the batch
+     */
+    public Map<String, Long> resolveArtistIds(Collection<ArtworkDetails> batch) {
+        Map<String, Long> resolved = new HashMap<>();
+        Map<String, ArtworkDetails> unseen = new LinkedHashMap<>();
+
+        for (ArtworkDetails details : batch) {
+            String name = details.getArtistName();
+            if (!StringUtils.hasText(name) || resolved.containsKey(name)) {
+                continue;
+            }
+            Long id = artistIds.get(name);
+            if (id != null) {
+                resolved.put(name, id);
+                hits.incrementAndGet();
+            } else {
+                unseen.putIfAbsent(name, details);
+            }
+        }
+
+        if (!unseen.isEmpty()) {
+            resolved.putAll(resolveUnseen(unseen));
+        }
+        return resolved;
+    }
+
+    private synchronized Map<String, Long> resolveUnseen(Map<String, ArtworkDetails> unseen) {
+        // Another stage may have resolved some of these while we waited for the lock
+        Map<String, Long> resolved = new HashMap<>();
+        unseen.keySet().removeIf(name -> {
+            Long id = artistIds.get(name);
+            if (id != null) {
+                resolved.put(name, id);
+                return true;
+            }
+            return false;
+        });
+
+        if (!unseen.isEmpty()) {
+            misses.addAndGet(unseen.size());
+            Map<String, Long> created = artistService.resolveArtistIds(unseen.values());
+            artistIds.putAll(created);
+            resolved.putAll(created);
+        }
+        return resolved;
+    }
+
+    public int getCachedArtistCount() {
+        return artistIds.size();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+}
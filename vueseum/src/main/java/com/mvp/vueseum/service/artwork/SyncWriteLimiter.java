@@ -0,0 +1,45 @@
+package com.mvp.vueseum.service.artwork;
+
+import com.mvp.vueseum.exception.PersistenceException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Caps how many sync batch writes run against the database at once, across all
+ * museums syncing in parallel. Permits are taken before a write transaction opens,
+ * so waiting writers never hold a pooled connection.
+ */
+@Component
+public class SyncWriteLimiter {
+
+    private final Semaphore permits;
+
+    public SyncWriteLimiter(
+            @Value("${sync.maxConcurrentWrites:4}") int maxConcurrentWrites,
+            MeterRegistry meterRegistry) {
+        this.permits = new Semaphore(maxConcurrentWrites, true);
+        Gauge.builder("sync.writes.waiting", permits, Semaphore::getQueueLength)
+                .description("Sync batch writes waiting for a database write permit")
+                .register(meterRegistry);
+    }
+
+    public <T> T withPermit(Supplier<T> write) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PersistenceException("Interrupted while waiting to write sync batch", e);
+        }
+
+        try {
+            return write.get();
+        } finally {
+            permits.release();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.mvp.vueseum.service.catalog;
+
+import com.mvp.vueseum.repository.CatalogSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Seeds an empty catalog from the snapshot named by {@code catalog.snapshot.bootstrapFile}
+ * at startup, before the other startup listeners resume syncs or backfill derived columns.
+ * A node whose catalog already has rows starts as usual.
+ */
+@Component
+@Slf4j
+public class CatalogSnapshotBootstrap {
+
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final CatalogSnapshotRepository catalogSnapshotRepository;
+    private final String bootstrapFile;
+
+    public CatalogSnapshotBootstrap(
+            CatalogSnapshotService catalogSnapshotService,
+            CatalogSnapshotRepository catalogSnapshotRepository,
+            @Value("${catalog.snapshot.bootstrapFile:}") String bootstrapFile) {
+        this.catalogSnapshotService = catalogSnapshotService;
+        this.catalogSnapshotRepository = catalogSnapshotRepository;
+        this.bootstrapFile = bootstrapFile;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void bootstrap() {
+        if (bootstrapFile.isBlank()) {
+            return;
+        }
+        if (catalogSnapshotRepository.hasCatalogRows()) {
+            log.info("Catalog already has data, not loading bootstrap snapshot {}", bootstrapFile);
+            return;
+        }
+        try {
+            catalogSnapshotService.importSnapshot(bootstrapFile);
+        } catch (Exception e) {
+            log.error("Could not load bootstrap snapshot {}; the catalog will be filled by sync", bootstrapFile, e);
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package com.mvp.vueseum.service.catalog;
+
+import com.mvp.vueseum.repository.CatalogSnapshotRepository.Column;
+import com.mvp.vueseum.repository.CatalogSnapshotRepository.ColumnKind;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Layout of a catalog snapshot file.
+ * <p>
+ * A snapshot starts with a header, followed by each table: its name, its columns and
+ * then its rows in blocks of up to {@link #BLOCK_ROWS}, ending with an empty block.
+ * Within a block the values are stored column by column, each column as a null bitmap
+ * followed by its non-null values, and the block is deflate-compressed. Grouping a
+ * column's values lets the compressor exploit their repetition, and ids, timestamps
+ * and other numbers are stored as varint deltas, so a snapshot is a fraction of the
+ * size of the tables it holds.
+ */
+final class CatalogSnapshotFormat {
+
+    static final int MAGIC = 0x56534E50; // "VSNP"
+    static final int FORMAT_VERSION = 1;
+    static final int BLOCK_ROWS = 4096;
+
+    /**
+     * @param catalogVersion the catalog version when the snapshot was taken
+     * @param derivedVersion the derived column version of the exported artworks
+     */
+    record Header(int formatVersion, Instant createdAt, long catalogVersion, int derivedVersion) {}
+
+    record Table(String name, List<Column> columns) {}
+
+    private CatalogSnapshotFormat() {
+    }
+
+    static byte[] encodeBlock(List<Column> columns, List<Object[]> rows) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(rows.size() * columns.size() * 8);
+        for (int c = 0; c < columns.size(); c++) {
+            byte[] nulls = new byte[(rows.size() + 7) / 8];
+            for (int r = 0; r < rows.size(); r++) {
+                if (rows.get(r)[c] == null) {
+                    nulls[r / 8] |= (byte) (1 << (r % 8));
+                }
+            }
+            out.writeBytes(nulls);
+
+            long previous = 0;
+            for (Object[] row : rows) {
+                Object value = row[c];
+                if (value == null) {
+                    continue;
+                }
+                switch (columns.get(c).kind()) {
+                    case LONG -> {
+                        long current = (Long) value;
+                        writeVarLong(out, zigZag(current - previous));
+                        previous = current;
+                    }
+                    case INT -> writeVarLong(out, zigZag((Integer) value));
+                    case BOOL -> out.write((Boolean) value ? 1 : 0);
+                    case TEXT, JSON -> {
+                        byte[] bytes = ((String) value).getBytes(StandardCharsets.UTF_8);
+                        writeVarLong(out, bytes.length);
+                        out.writeBytes(bytes);
+                    }
+                    case TIMESTAMP -> {
+                        long current = toEpochMicros((LocalDateTime) value);
+                        writeVarLong(out, zigZag(current - previous));
+                        previous = current;
+                    }
+                }
+            }
+        }
+        return out.toByteArray();
+    }
+
+    static List<Object[]> decodeBlock(List<Column> columns, int rowCount, byte[] raw) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(raw);
+        List<Object[]> rows = new ArrayList<>(rowCount);
+        for (int r = 0; r < rowCount; r++) {
+            rows.add(new Object[columns.size()]);
+        }
+        for (int c = 0; c < columns.size(); c++) {
+            byte[] nulls = new byte[(rowCount + 7) / 8];
+            in.get(nulls);
+
+            ColumnKind kind = columns.get(c).kind();
+            long previous = 0;
+            for (int r = 0; r < rowCount; r++) {
+                if ((nulls[r / 8] & (1 << (r % 8))) != 0) {
+                    continue;
+                }
+                rows.get(r)[c] = switch (kind) {
+                    case LONG -> previous += unZigZag(readVarLong(in));
+                    case INT -> (int) unZigZag(readVarLong(in));
+                    case BOOL -> in.get() != 0;
+                    case TEXT, JSON -> {
+                        byte[] bytes = new byte[(int) readVarLong(in)];
+                        in.get(bytes);
+                        yield new String(bytes, StandardCharsets.UTF_8);
+                    }
+                    case TIMESTAMP -> fromEpochMicros(previous += unZigZag(readVarLong(in)));
+                };
+            }
+        }
+        if (in.hasRemaining()) {
+            throw new IOException("Catalog snapshot block has " + in.remaining() + " unread bytes");
+        }
+        return rows;
+    }
+
+    private static long toEpochMicros(LocalDateTime value) {
+        return value.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + value.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long micros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(micros, 1_000_000),
+                (int) Math.floorMod(micros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer in) {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte b = in.get();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater();
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(raw.length / 4 + 64);
+            byte[] buffer = new byte[64 * 1024];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    static byte[] inflate(byte[] compressed, int rawLength) throws IOException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            byte[] raw = new byte[rawLength];
+            if (inflater.inflate(raw) != rawLength || !inflater.finished()) {
+                throw new IOException("Catalog snapshot block is truncated");
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IOException("Catalog snapshot block is corrupt", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.mvp.vueseum.service.catalog;
+
+import com.mvp.vueseum.repository.CatalogSnapshotRepository.Column;
+import com.mvp.vueseum.repository.CatalogSnapshotRepository.ColumnKind;
+import lombok.Getter;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Reads a catalog snapshot written by {@link CatalogSnapshotWriter}, one block of rows at a time.
+ */
+class CatalogSnapshotReader implements Closeable {
+
+    private final DataInputStream in;
+    @Getter
+    private final CatalogSnapshotFormat.Header header;
+    private CatalogSnapshotFormat.Table table;
+
+    CatalogSnapshotReader(InputStream input) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(input, 256 * 1024));
+        if (in.readInt() != CatalogSnapshotFormat.MAGIC) {
+            throw new IOException("Not a catalog snapshot");
+        }
+        int formatVersion = in.readInt();
+        if (formatVersion != CatalogSnapshotFormat.FORMAT_VERSION) {
+            throw new IOException("Unsupported catalog snapshot format version " + formatVersion);
+        }
+        this.header = new CatalogSnapshotFormat.Header(formatVersion, Instant.ofEpochMilli(in.readLong()),
+                in.readLong(), in.readInt());
+    }
+
+    /**
+     * Moves to the next table; the rows of the current one must have been read.
+     *
+     * @return the next table, or empty at the end of the snapshot
+     */
+    Optional<CatalogSnapshotFormat.Table> nextTable() throws IOException {
+        if (!in.readBoolean()) {
+            return Optional.empty();
+        }
+        String name = in.readUTF();
+        int columnCount = in.readShort();
+        List<Column> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columns.add(new Column(in.readUTF(), ColumnKind.values()[in.readByte()]));
+        }
+        table = new CatalogSnapshotFormat.Table(name, columns);
+        return Optional.of(table);
+    }
+
+    /**
+     * @return the next block of rows of the current table, or an empty list at its end
+     */
+    List<Object[]> nextBlock() throws IOException {
+        int rowCount = in.readInt();
+        if (rowCount == 0) {
+            return List.of();
+        }
+        int rawLength = in.readInt();
+        byte[] compressed = new byte[in.readInt()];
+        in.readFully(compressed);
+        return CatalogSnapshotFormat.decodeBlock(table.columns(), rowCount,
+                CatalogSnapshotFormat.inflate(compressed, rawLength));
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
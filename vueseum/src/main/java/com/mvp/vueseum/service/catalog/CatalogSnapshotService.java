@@ -0,0 +1,234 @@
+package com.mvp.vueseum.service.catalog;
+
+import com.mvp.vueseum.domain.DerivedArtworkFields;
+import com.mvp.vueseum.exception.InvalidRequestException;
+import com.mvp.vueseum.exception.PersistenceException;
+import com.mvp.vueseum.exception.ResourceNotFoundException;
+import com.mvp.vueseum.repository.CatalogSnapshotRepository;
+import com.mvp.vueseum.repository.CatalogSnapshotRepository.Column;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Exports the catalog tables to a compact snapshot file and loads one into an empty
+ * database, so a new node can start with the full catalog instead of syncing every
+ * museum from its API. See {@link CatalogSnapshotFormat} for the file layout.
+ */
+@Service
+@Slf4j
+public class CatalogSnapshotService {
+
+    private static final String FILE_EXTENSION = ".vsnap";
+    private static final DateTimeFormatter FILE_TIMESTAMP =
+            DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss").withZone(ZoneOffset.UTC);
+
+    private final CatalogSnapshotRepository catalogSnapshotRepository;
+    private final CatalogVersionService catalogVersionService;
+    private final Clock clock;
+    private final Path directory;
+
+    public CatalogSnapshotService(
+            CatalogSnapshotRepository catalogSnapshotRepository,
+            CatalogVersionService catalogVersionService,
+            Clock clock,
+            @Value("${catalog.snapshot.directory:data/snapshots}") Path directory) {
+        this.catalogSnapshotRepository = catalogSnapshotRepository;
+        this.catalogVersionService = catalogVersionService;
+        this.clock = clock;
+        this.directory = directory;
+    }
+
+    /**
+     * @param rows the number of rows per table
+     */
+    public record SnapshotSummary(String file, long bytes, Map<String, Long> rows, long elapsedMillis) {}
+
+    /**
+     * Writes every catalog table to a new snapshot file. The tables are read in a single
+     * repeatable-read transaction so the snapshot is consistent even while a sync runs.
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public SnapshotSummary export() {
+        long startNanos = System.nanoTime();
+        Instant createdAt = clock.instant();
+        Path target = directory.resolve("catalog-" + FILE_TIMESTAMP.format(createdAt) + FILE_EXTENSION);
+        Map<String, Long> rowCounts = new LinkedHashMap<>();
+
+        try {
+            Files.createDirectories(directory);
+            Path temp = Files.createTempFile(directory, "catalog-", FILE_EXTENSION + ".tmp");
+            try {
+                CatalogSnapshotFormat.Header header = new CatalogSnapshotFormat.Header(
+                        CatalogSnapshotFormat.FORMAT_VERSION, createdAt,
+                        catalogVersionService.getCurrentVersion(), DerivedArtworkFields.VERSION);
+                try (OutputStream output = Files.newOutputStream(temp);
+                     CatalogSnapshotWriter writer = new CatalogSnapshotWriter(output, header)) {
+                    for (String table : CatalogSnapshotRepository.CATALOG_TABLES) {
+                        rowCounts.put(table, exportTable(writer, table));
+                    }
+                }
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+
+            SnapshotSummary summary = new SnapshotSummary(target.getFileName().toString(), Files.size(target),
+                    rowCounts, (System.nanoTime() - startNanos) / 1_000_000);
+            log.info("Exported catalog snapshot {} ({} bytes, rows {}) in {} ms",
+                    summary.file(), summary.bytes(), summary.rows(), summary.elapsedMillis());
+            return summary;
+        } catch (IOException | UncheckedIOException e) {
+            throw new PersistenceException("Failed to export catalog snapshot to " + target, e);
+        }
+    }
+
+    private long exportTable(CatalogSnapshotWriter writer, String table) throws IOException {
+        List<Column> columns = catalogSnapshotRepository.findColumns(table);
+        writer.beginTable(table, columns);
+        long[] count = {0};
+        catalogSnapshotRepository.streamRows(table, columns, row -> {
+            try {
+                writer.writeRow(row);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            count[0]++;
+        });
+        writer.endTable();
+        return count[0];
+    }
+
+    /**
+     * Loads a snapshot from the snapshot directory into the catalog tables in one
+     * transaction. Only columns present in both the snapshot and the current schema are
+     * loaded, so a snapshot taken before a migration that adds columns still loads, with
+     * the new columns left at their defaults.
+     *
+     * @param fileName name of a snapshot file in the snapshot directory
+     * @throws InvalidRequestException if the name is not a plain file name or the catalog is not empty
+     * @throws ResourceNotFoundException if the file does not exist
+     */
+    @Transactional
+    public SnapshotSummary importSnapshot(String fileName) {
+        Path file = resolveSnapshot(fileName);
+        if (catalogSnapshotRepository.hasCatalogRows()) {
+            throw new InvalidRequestException("Catalog snapshots can only be imported into an empty catalog");
+        }
+
+        long startNanos = System.nanoTime();
+        Map<String, Long> rowCounts = new LinkedHashMap<>();
+        long maxId = 0;
+        try (InputStream input = Files.newInputStream(file);
+             CatalogSnapshotReader reader = new CatalogSnapshotReader(input)) {
+            CatalogSnapshotFormat.Header header = reader.getHeader();
+            log.info("Importing catalog snapshot {} taken at {} (catalog version {}, derived version {})",
+                    fileName, header.createdAt(), header.catalogVersion(), header.derivedVersion());
+
+            Optional<CatalogSnapshotFormat.Table> table;
+            while ((table = reader.nextTable()).isPresent()) {
+                String name = table.get().name();
+                List<Column> snapshotColumns = table.get().columns();
+                Set<String> existingColumns = catalogSnapshotRepository.findColumns(name).stream()
+                        .map(Column::name)
+                        .collect(Collectors.toSet());
+                int[] kept = keptColumnIndexes(snapshotColumns, existingColumns);
+                List<Column> insertColumns = new ArrayList<>(kept.length);
+                for (int index : kept) {
+                    insertColumns.add(snapshotColumns.get(index));
+                }
+                int idIndex = snapshotColumns.indexOf(new Column("id", CatalogSnapshotRepository.ColumnKind.LONG));
+
+                long count = 0;
+                List<Object[]> block;
+                while (!(block = reader.nextBlock()).isEmpty()) {
+                    List<Object[]> rows = new ArrayList<>(block.size());
+                    for (Object[] row : block) {
+                        rows.add(project(row, kept));
+                        if (idIndex >= 0) {
+                            maxId = Math.max(maxId, (Long) row[idIndex]);
+                        }
+                    }
+                    catalogSnapshotRepository.insertRows(name, insertColumns, rows);
+                    count += rows.size();
+                }
+                rowCounts.put(name, count);
+            }
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to import catalog snapshot " + fileName, e);
+        }
+
+        if (maxId > 0) {
+            catalogSnapshotRepository.advanceIdSequencePast(maxId);
+        }
+        catalogVersionService.bump();
+
+        SnapshotSummary summary = new SnapshotSummary(fileName, fileSize(file), rowCounts,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("Imported catalog snapshot {} (rows {}) in {} ms", fileName, rowCounts, summary.elapsedMillis());
+        return summary;
+    }
+
+    private static int[] keptColumnIndexes(List<Column> snapshotColumns, Set<String> existingColumns) {
+        List<Integer> kept = new ArrayList<>();
+        for (int i = 0; i < snapshotColumns.size(); i++) {
+            if (existingColumns.contains(snapshotColumns.get(i).name())) {
+                kept.add(i);
+            } else {
+                log.warn("Skipping snapshot column {} missing from the current schema", snapshotColumns.get(i).name());
+            }
+        }
+        return kept.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static Object[] project(Object[] row, int[] kept) {
+        if (kept.length == row.length) {
+            return row;
+        }
+        Object[] projected = new Object[kept.length];
+        for (int i = 0; i < kept.length; i++) {
+            projected[i] = row[kept[i]];
+        }
+        return projected;
+    }
+
+    private Path resolveSnapshot(String fileName) {
+        if (fileName == null || fileName.isBlank() || !fileName.equals(Path.of(fileName).getFileName().toString())) {
+            throw new InvalidRequestException("Snapshot must be a file name in the snapshot directory");
+        }
+        Path file = directory.resolve(fileName);
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Catalog snapshot not found: " + fileName);
+        }
+        return file;
+    }
+
+    private static long fileSize(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.mvp.vueseum.service.catalog;
+
+import com.mvp.vueseum.repository.CatalogSnapshotRepository.Column;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes a catalog snapshot in the {@link CatalogSnapshotFormat} layout, one table at a time.
+ */
+class CatalogSnapshotWriter implements Closeable {
+
+    private final DataOutputStream out;
+    private List<Column> columns;
+    private final List<Object[]> block = new ArrayList<>(CatalogSnapshotFormat.BLOCK_ROWS);
+
+    CatalogSnapshotWriter(OutputStream output, CatalogSnapshotFormat.Header header) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(output, 256 * 1024));
+        out.writeInt(CatalogSnapshotFormat.MAGIC);
+        out.writeInt(header.formatVersion());
+        out.writeLong(header.createdAt().toEpochMilli());
+        out.writeLong(header.catalogVersion());
+        out.writeInt(header.derivedVersion());
+    }
+
+    void beginTable(String name, List<Column> columns) throws IOException {
+        if (this.columns != null) {
+            throw new IllegalStateException("Table not ended before starting " + name);
+        }
+        this.columns = columns;
+        out.writeBoolean(true);
+        out.writeUTF(name);
+        out.writeShort(columns.size());
+        for (Column column : columns) {
+            out.writeUTF(column.name());
+            out.writeByte(column.kind().ordinal());
+        }
+    }
+
+    void writeRow(Object[] row) throws IOException {
+        block.add(row);
+        if (block.size() == CatalogSnapshotFormat.BLOCK_ROWS) {
+            flushBlock();
+        }
+    }
+
+    void endTable() throws IOException {
+        flushBlock();
+        out.writeInt(0);
+        columns = null;
+    }
+
+    private void flushBlock() throws IOException {
+        if (block.isEmpty()) {
+            return;
+        }
+        byte[] raw = CatalogSnapshotFormat.encodeBlock(columns, block);
+        byte[] compressed = CatalogSnapshotFormat.deflate(raw);
+        out.writeInt(block.size());
+        out.writeInt(raw.length);
+        out.writeInt(compressed.length);
+        out.write(compressed);
+        block.clear();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.writeBoolean(false);
+        out.close();
+    }
+}
@@ -0,0 +1,99 @@
+package com.mvp.vueseum.service.catalog;
+
+import com.mvp.vueseum.event.CatalogVersionChangedEvent;
+import com.mvp.vueseum.repository.CatalogVersionRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the catalog version and tells the read side when it changes.
+ * <p>
+ * Syncs bump the version in the database as they finish. The bumping node learns of
+ * the new version once its transaction commits, other nodes on their next poll.
+ * Either way a {@link CatalogVersionChangedEvent} is published once per new version.
+ */
+@Service
+@Slf4j
+public class CatalogVersionService {
+
+    private final CatalogVersionRepository catalogVersionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicLong currentVersion = new AtomicLong();
+    private final ExecutorService eventExecutor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("catalog-events").daemon(true).factory());
+
+    public CatalogVersionService(CatalogVersionRepository catalogVersionRepository,
+                                 ApplicationEventPublisher eventPublisher) {
+        this.catalogVersionRepository = catalogVersionRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * @return the latest version this node has seen, 0 before the first poll
+     */
+    public long getCurrentVersion() {
+        return currentVersion.get();
+    }
+
+    /**
+     * Bumps the catalog version in the caller's transaction. The change is announced
+     * after the transaction commits, so listeners read the catalog it produced.
+     */
+    public void bump() {
+        long version = catalogVersionRepository.increment();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            advance(version);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                advance(version);
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${catalog.versionPollInterval:PT30S}", initialDelayString = "${catalog.versionPollInterval:PT30S}")
+    public void poll() {
+        try {
+            advance(catalogVersionRepository.findCurrentVersion());
+        } catch (Exception e) {
+            log.warn("Could not read the catalog version", e);
+        }
+    }
+
+    /**
+     * Announces a version newer than any seen before; older or repeated versions are ignored.
+     */
+    void advance(long version) {
+        long previous = currentVersion.getAndAccumulate(version, Math::max);
+        if (version <= previous) {
+            return;
+        }
+        log.info("Catalog version changed from {} to {}", previous, version);
+        eventExecutor.execute(() -> {
+            try {
+                eventPublisher.publishEvent(new CatalogVersionChangedEvent(previous, version));
+            } catch (Exception e) {
+                log.error("Handling catalog version {} failed", version, e);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        eventExecutor.shutdownNow();
+    }
+}
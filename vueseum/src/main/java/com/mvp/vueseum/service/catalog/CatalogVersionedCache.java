@@ -0,0 +1,101 @@
+package com.mvp.vueseum.service.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * A cache of values computed from the catalog, keyed by catalog version.
+ * <p>
+ * Reads go to the version being served. When the catalog changes, {@link #advanceTo}
+ * recomputes the most used entries for the new version in the background and only
+ * then switches reads over, so requests keep hitting warm entries across syncs.
+ * Entries remember how they were computed, which is what makes the rebuild possible.
+ *
+ * @param <V> the cached value type
+ */
+@Slf4j
+public class CatalogVersionedCache<V> {
+
+    private record Entry<V>(V value, Supplier<V> loader) {}
+
+    private final String name;
+    private final int rebuildLimit;
+    private final Cache<String, Entry<V>> cache;
+    private volatile long servingVersion;
+
+    /**
+     * @param rebuildLimit how many of the most used entries are recomputed per version change
+     */
+    public CatalogVersionedCache(String name, Duration expiration, int maxSize, int rebuildLimit) {
+        this.name = name;
+        this.rebuildLimit = rebuildLimit;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(expiration)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    /**
+     * Returns the value for the served version, computing it with {@code loader} on a miss.
+     * The loader is kept with the value, so it must not depend on state that changes later.
+     */
+    public V get(String key, Supplier<V> loader) {
+        return cache.get(versionedKey(servingVersion, key), _ -> new Entry<>(loader.get(), loader)).value();
+    }
+
+    public long getServingVersion() {
+        return servingVersion;
+    }
+
+    /**
+     * Recomputes the hottest entries for {@code version}, then serves that version and
+     * drops the entries of the previous one. Entries whose recomputation fails are left
+     * to be computed on their next read. Does nothing for versions already served.
+     * <p>
+     * Callers must not advance the same cache from several threads at once.
+     */
+    public void advanceTo(long version) {
+        long previous = servingVersion;
+        if (version <= previous) {
+            return;
+        }
+
+        String previousPrefix = previous + ":";
+        Map<String, Entry<V>> hottest = cache.policy().eviction()
+                .map(eviction -> eviction.hottest(rebuildLimit))
+                .orElse(Map.of());
+
+        int rebuilt = 0;
+        for (Map.Entry<String, Entry<V>> entry : hottest.entrySet()) {
+            if (!entry.getKey().startsWith(previousPrefix)) {
+                continue;
+            }
+            String key = entry.getKey().substring(previousPrefix.length());
+            Supplier<V> loader = entry.getValue().loader();
+            try {
+                cache.put(versionedKey(version, key), new Entry<>(loader.get(), loader));
+                rebuilt++;
+            } catch (RuntimeException e) {
+                log.warn("Could not rebuild {} entry {} for catalog version {}: {}", name, key, version, e.getMessage());
+            }
+        }
+
+        servingVersion = version;
+
+        List<String> stale = cache.asMap().keySet().stream()
+                .filter(key -> !key.startsWith(version + ":"))
+                .toList();
+        cache.invalidateAll(stale);
+        log.info("Rebuilt {} {} entries for catalog version {}", rebuilt, name, version);
+    }
+
+    private static String versionedKey(long version, String key) {
+        return version + ":" + key;
+    }
+}
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 public class CulturalMapping {
     public static final Map<String, CulturalRegion> CULTURAL_REGIONS = initializeCulturalRegions();
     public static final Map<String, String> COUNTRY_TO_REGION = buildCountryToRegionMap();
+    private static final Map<String, CultureContext> COUNTRY_TO_CONTEXT = buildCountryToContextMap();
 
     private static Map<String, CulturalRegion> initializeCulturalRegions() {
         Map<String, CulturalRegion> regions = new HashMap<>();
@@ -102,6 +103,21 @@ public class CulturalMapping {
         return countryMap;
     }
 
+    /**
+     * A country listed under several sub-regions keeps the first one encountered.
+     */
+    private static Map<String, CultureContext> buildCountryToContextMap() {
+        Map<String, CultureContext> countryMap = new HashMap<>();
+        for (CulturalRegion region : CULTURAL_REGIONS.values()) {
+            for (CulturalRegion.SubRegion subRegion : region.getSubRegions()) {
+                CultureContext context = new CultureContext(region.getName(), subRegion.name());
+                subRegion.culturesAndCountries().values()
+                        .forEach(countries -> countries.forEach(country -> countryMap.putIfAbsent(country, context)));
+            }
+        }
+        return countryMap;
+    }
+
     /**
      * Determines how closely related two cultures are based on their regional proximity
      * and shared characteristics.
@@ -196,6 +212,35 @@ public class CulturalMapping {
         return allCountries;
     }
 
+    /**
+     * Resolves the region and sub-region of an artwork from its culture, falling back to
+     * its country. Either field may also hold a country name, as Met cultures often do.
+     */
+    public static Optional<CultureContext> resolveContext(String culture, String country) {
+        return Optional.ofNullable(culture).flatMap(CulturalMapping::getCultureContext)
+                .or(() -> Optional.ofNullable(country).map(COUNTRY_TO_CONTEXT::get))
+                .or(() -> Optional.ofNullable(culture).map(COUNTRY_TO_CONTEXT::get));
+    }
+
+    /**
+     * Matches a search term to a region or sub-region name, ignoring case.
+     *
+     * @return the context naming the region, with the sub-region set only if the term named one
+     */
+    public static Optional<CultureContext> findRegionByName(String term) {
+        for (CulturalRegion region : CULTURAL_REGIONS.values()) {
+            if (region.getName().equalsIgnoreCase(term)) {
+                return Optional.of(new CultureContext(region.getName(), null));
+            }
+            for (CulturalRegion.SubRegion subRegion : region.getSubRegions()) {
+                if (subRegion.name().equalsIgnoreCase(term)) {
+                    return Optional.of(new CultureContext(region.getName(), subRegion.name()));
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
     public static Optional<CultureContext> getCultureContext(String culture) {
         for (Map.Entry<String, CulturalRegion> entry : CULTURAL_REGIONS.entrySet()) {
             for (CulturalRegion.SubRegion subRegion : entry.getValue().getSubRegions()) {
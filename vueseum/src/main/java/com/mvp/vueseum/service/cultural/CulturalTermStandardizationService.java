@@ -1,24 +1,38 @@
 package com.mvp.vueseum.service.cultural;
 
-import com.github.benmanes.caffeine.cache.Cache;
 import com.mvp.vueseum.entity.StandardizedTerm;
+import com.mvp.vueseum.repository.StandardizedTermBatchRepository;
 import com.mvp.vueseum.repository.StandardizedTermRepository;
 import com.mvp.vueseum.service.tour.WikidataVocabularyClient;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Service for standardizing cultural and medium terms using Wikidata Vocabularies.
- * Implements a cache-first approach with database persistence.
+ * <p>
+ * Lookups are answered from the {@link StandardizedTermDictionary} preloaded from the
+ * database, so a known term costs no query; access statistics are aggregated by
+ * {@link TermAccessStats}. Terms that are neither known nor recently found unresolvable
+ * are resolved against the {@link LocalVocabulary} imported from a Wikidata extract,
+ * and only its misses go to the Wikidata SPARQL endpoint, unless
+ * {@code standardization.sparqlFallback} is off. Resolved terms are persisted.
  */
 @Service
 @Slf4j
@@ -36,16 +50,31 @@ public class CulturalTermStandardizationService {
     private final AtomicLong lastResetTime = new AtomicLong(System.currentTimeMillis());
     private static final int MAX_REQUESTS_PER_MINUTE = 60;
 
-    private final Cache<String, String> standardizedTermCache;
+    private final StandardizedTermDictionary dictionary;
+    private final TermAccessStats termAccessStats;
+    private final LocalVocabulary localVocabulary;
+    private final StandardizedTermBatchRepository standardizedTermBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean sparqlFallback;
 
     @Autowired
     public CulturalTermStandardizationService(
             StandardizedTermRepository standardizedTermRepository,
             WikidataVocabularyClient wikidataClient,
-            Cache<String, String> standardizedTermCache) {
+            StandardizedTermDictionary dictionary,
+            TermAccessStats termAccessStats,
+            LocalVocabulary localVocabulary,
+            StandardizedTermBatchRepository standardizedTermBatchRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${standardization.sparqlFallback:true}") boolean sparqlFallback) {
         this.standardizedTermRepository = standardizedTermRepository;
         this.wikidataClient = wikidataClient;
-        this.standardizedTermCache = standardizedTermCache;
+        this.dictionary = dictionary;
+        this.termAccessStats = termAccessStats;
+        this.localVocabulary = localVocabulary;
+        this.standardizedTermBatchRepository = standardizedTermBatchRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sparqlFallback = sparqlFallback;
     }
 
     /**
@@ -54,7 +83,6 @@ public class CulturalTermStandardizationService {
      * @param rawTerm The raw culture term to standardize
      * @return The standardized term, or the original if no standardization is found
      */
-    @Transactional
     public String getStandardizedCultureTerm(String rawTerm) {
         if (rawTerm == null || rawTerm.isBlank()) {
             return rawTerm;
@@ -69,7 +97,6 @@ public class CulturalTermStandardizationService {
      * @param rawTerm The raw medium term to standardize
      * @return The standardized term, or the original if no standardization is found
      */
-    @Transactional
     public String getStandardizedMediumTerm(String rawTerm) {
         if (rawTerm == null || rawTerm.isBlank()) {
             return rawTerm;
@@ -85,27 +112,31 @@ public class CulturalTermStandardizationService {
      * @param category The category (CULTURE or MEDIUM)
      * @return The standardized term, or the original if no standardization is found
      */
-    @Transactional
     public String getStandardizedTerm(String rawTerm, String category) {
-        // Create a cache key combining the raw term and category
-        String cacheKey = rawTerm + ":" + category;
+        Optional<String> knownTerm = dictionary.lookup(rawTerm, category);
+        if (knownTerm.isPresent()) {
+            termAccessStats.recordAccess(rawTerm, category);
+            return knownTerm.get();
+        }
 
-        // Check in-memory cache first (fastest)
-        String cachedTerm = standardizedTermCache.getIfPresent(cacheKey);
-        if (cachedTerm != null) {
-            log.debug("In-memory cache hit for '{}' ({})", rawTerm, category);
-            return cachedTerm;
+        // Until the dictionary is loaded a miss says nothing, so do not go to Wikidata
+        if (!dictionary.isLoaded()) {
+            return rawTerm;
         }
 
-        // Check database cache (slower but persistent)
-        Optional<StandardizedTerm> existingTerm = standardizedTermRepository
-                .findByRawTermAndCategory(rawTerm, category);
+        Optional<String> localTerm = localVocabulary.resolve(rawTerm, category);
+        if (localTerm.isPresent()) {
+            saveStandardizedTerm(rawTerm, localTerm.get(), category);
+            dictionary.addAll(Map.of(rawTerm, localTerm.get()), category);
+            return localTerm.get();
+        }
 
-        if (existingTerm.isPresent()) {
-            updateTermAccessStats(existingTerm.get());
-            String standardizedTerm = existingTerm.get().getStandardizedTerm();
-            standardizedTermCache.put(cacheKey, standardizedTerm);
-            return standardizedTerm;
+        if (dictionary.isUnresolvable(rawTerm, category)) {
+            return rawTerm;
+        }
+        if (!sparqlFallback) {
+            dictionary.markUnresolvable(rawTerm, category);
+            return rawTerm;
         }
 
         // If not in any cache and within rate limits, call Wikidata API
@@ -125,9 +156,10 @@ public class CulturalTermStandardizationService {
 
                 if (standardizedTerm.isPresent()) {
                     saveStandardizedTerm(rawTerm, standardizedTerm.get(), category);
-                    standardizedTermCache.put(cacheKey, standardizedTerm.get());
+                    dictionary.addAll(Map.of(rawTerm, standardizedTerm.get()), category);
                     return standardizedTerm.get();
                 }
+                dictionary.markUnresolvable(rawTerm, category);
             } catch (Exception e) {
                 log.error("Error standardizing term '{}': {}", rawTerm, e.getMessage());
             }
@@ -139,6 +171,121 @@ public class CulturalTermStandardizationService {
         return rawTerm;
     }
 
+    /**
+     * Result of standardizing a batch of terms.
+     *
+     * @param standardized standardized terms keyed by raw term, for the terms matched locally or by Wikidata
+     * @param deferred terms not looked up because the rate limit was reached or the query failed
+     */
+    public record BatchResult(Map<String, String> standardized, List<String> deferred) {}
+
+    /**
+     * Standardize many terms of one category, saving a {@link StandardizedTerm} for each
+     * match. Terms are resolved against the local vocabulary first and the rest with a
+     * single Wikidata query. Terms already in the dictionary or recently found
+     * unresolvable are skipped; terms without a match are marked unresolvable.
+     * Only the save runs in a transaction, so no connection is held during the query.
+     *
+     * @param rawTerms The raw terms to standardize
+     * @param category The category (CULTURE or MEDIUM)
+     * @return the terms matched and the terms to retry later
+     */
+    public BatchResult standardizeTerms(Collection<String> rawTerms, String category) {
+        List<String> unseen = rawTerms.stream().filter(term -> !dictionary.isKnown(term, category)).toList();
+        if (unseen.isEmpty()) {
+            return new BatchResult(Map.of(), List.of());
+        }
+        if (!dictionary.isLoaded()) {
+            return new BatchResult(Map.of(), unseen);
+        }
+
+        Map<String, String> standardized = new HashMap<>(localVocabulary.resolveAll(unseen, category));
+        int resolvedLocally = standardized.size();
+        List<String> remaining = unseen.stream().filter(term -> !standardized.containsKey(term)).toList();
+        List<String> deferred = List.of();
+        if (!remaining.isEmpty()) {
+            if (!sparqlFallback) {
+                remaining.forEach(term -> dictionary.markUnresolvable(term, category));
+            } else if (!checkRateLimit()) {
+                deferred = remaining;
+            } else {
+                Optional<Map<String, String>> result = switch (category) {
+                    case CATEGORY_CULTURE -> wikidataClient.standardizeCulturalTerms(remaining);
+                    case CATEGORY_MEDIUM -> wikidataClient.findExactArtMediumMatches(remaining);
+                    default -> throw new IllegalArgumentException("Unsupported category: " + category);
+                };
+                if (result.isEmpty()) {
+                    deferred = remaining;
+                } else {
+                    standardized.putAll(result.get());
+                    remaining.stream()
+                            .filter(term -> !standardized.containsKey(term))
+                            .forEach(term -> dictionary.markUnresolvable(term, category));
+                }
+            }
+        }
+
+        int saved = saveNewTerms(standardized, category);
+        dictionary.addAll(standardized, category);
+        log.info("Standardized {} of {} new {} terms ({} from the local vocabulary), saved {}",
+                standardized.size(), unseen.size(), category.toLowerCase(), resolvedLocally, saved);
+        return new BatchResult(standardized, deferred);
+    }
+
+    /**
+     * Standardize every distinct culture and medium of the catalog that has no
+     * standardized term yet, using only the local vocabulary. Run after a vocabulary
+     * import, so existing artworks benefit without any Wikidata query. Terms found
+     * unresolvable before are forgotten, since the new vocabulary may resolve them.
+     *
+     * @return the number of standardized terms saved
+     */
+    @Transactional
+    public int standardizeCatalogTerms() {
+        dictionary.clearUnresolvable();
+        int saved = 0;
+        for (String category : List.of(CATEGORY_CULTURE, CATEGORY_MEDIUM)) {
+            Map<String, String> standardized = localVocabulary.resolveAll(
+                    standardizedTermBatchRepository.findUnstandardizedCatalogTerms(category), category);
+            saved += saveNewTerms(standardized, category);
+            dictionary.addAll(standardized, category);
+        }
+        return saved;
+    }
+
+    /**
+     * Saves the terms not saved yet, which another node may have done since the dictionary
+     * was loaded, in a transaction of its own unless the caller already has one.
+     *
+     * @return the number of terms saved
+     */
+    private int saveNewTerms(Map<String, String> standardized, String category) {
+        if (standardized.isEmpty()) {
+            return 0;
+        }
+        return transactionTemplate.execute(_ -> insertNewTerms(standardized, category));
+    }
+
+    private int insertNewTerms(Map<String, String> standardized, String category) {
+        Set<String> saved = new HashSet<>(
+                standardizedTermRepository.findRawTermsByCategoryAndRawTermIn(category, standardized.keySet()));
+        List<StandardizedTerm> terms = new ArrayList<>(standardized.size());
+        standardized.forEach((rawTerm, standardizedTerm) -> {
+            if (saved.contains(rawTerm)) {
+                return;
+            }
+            StandardizedTerm term = new StandardizedTerm();
+            term.setRawTerm(rawTerm);
+            term.setStandardizedTerm(standardizedTerm);
+            term.setCategory(category);
+            terms.add(term);
+        });
+        if (!terms.isEmpty()) {
+            standardizedTermRepository.saveAll(terms);
+        }
+        return terms.size();
+    }
+
     /**
      * Find standardized culture terms that start with the given prefix.
      * <p>
@@ -196,15 +343,6 @@ public class CulturalTermStandardizationService {
                 .toList();
     }
 
-    /**
-     * Updates access statistics for tracking term usage.
-     */
-    private void updateTermAccessStats(StandardizedTerm term) {
-        term.setLastAccessed(LocalDateTime.now());
-        term.setAccessCount(term.getAccessCount() + 1);
-        standardizedTermRepository.save(term);
-    }
-
     /**
      * Saves a new standardized term to the database.
      */
@@ -213,8 +351,6 @@ public class CulturalTermStandardizationService {
         term.setRawTerm(rawTerm);
         term.setStandardizedTerm(standardizedTerm);
         term.setCategory(category);
-        term.setAccessCount(1);
-        term.setLastAccessed(LocalDateTime.now());
 
         standardizedTermRepository.save(term);
         log.info("Saved standardized term: '{}' → '{}' ({})",
@@ -0,0 +1,124 @@
+package com.mvp.vueseum.service.cultural;
+
+import com.mvp.vueseum.service.cultural.VocabularyIndex.Vocabulary;
+import com.mvp.vueseum.service.tour.WikidataVocabularyClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.mvp.vueseum.service.cultural.CulturalTermStandardizationService.CATEGORY_CULTURE;
+import static com.mvp.vueseum.service.cultural.CulturalTermStandardizationService.CATEGORY_MEDIUM;
+
+/**
+ * Resolves culture and medium terms against the {@link VocabularyIndex} imported from a
+ * local Wikidata extract, kept in {@code vocabulary.directory}. Terms are cleaned and
+ * matched exactly as the batched SPARQL queries of {@link WikidataVocabularyClient} do,
+ * so the answer does not depend on which path resolved a term. Until an index has been
+ * imported every term misses and resolution falls back to SPARQL.
+ */
+@Component
+@Slf4j
+public class LocalVocabulary {
+
+    static final String INDEX_FILE = "wikidata-vocabulary.idx";
+
+    private final Path directory;
+    private volatile VocabularyIndex index;
+
+    public LocalVocabulary(@Value("${vocabulary.directory:data/vocabulary}") Path directory) {
+        this.directory = directory;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        Path file = directory.resolve(INDEX_FILE);
+        if (!Files.isRegularFile(file)) {
+            log.info("No local vocabulary index at {}; terms are resolved through Wikidata SPARQL", file);
+            return;
+        }
+        try {
+            index = VocabularyIndex.read(file);
+            logSizes("Loaded", index);
+        } catch (IOException e) {
+            log.error("Could not read local vocabulary index {}; terms are resolved through Wikidata SPARQL", file, e);
+        }
+    }
+
+    public boolean isAvailable() {
+        return index != null;
+    }
+
+    /**
+     * Writes the index to the vocabulary directory, replacing the previous one atomically,
+     * and starts answering lookups from it.
+     *
+     * @return the size of the index file in bytes
+     */
+    public long install(VocabularyIndex newIndex) throws IOException {
+        Files.createDirectories(directory);
+        Path target = directory.resolve(INDEX_FILE);
+        Path temp = Files.createTempFile(directory, "wikidata-vocabulary-", ".tmp");
+        try {
+            newIndex.write(temp);
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        index = newIndex;
+        logSizes("Installed", newIndex);
+        return Files.size(target);
+    }
+
+    /**
+     * @param category CULTURE or MEDIUM
+     * @return the standardized term, or empty if the term is not in the index or no index is loaded
+     */
+    public Optional<String> resolve(String rawTerm, String category) {
+        VocabularyIndex current = index;
+        if (current == null || rawTerm == null || rawTerm.isBlank()) {
+            return Optional.empty();
+        }
+        return switch (category) {
+            case CATEGORY_CULTURE -> {
+                String cleanTerm = WikidataVocabularyClient.removeQualifiers(rawTerm);
+                if (cleanTerm.isEmpty()) {
+                    yield Optional.empty();
+                }
+                yield current.lookup(Vocabulary.DEMONYM, cleanTerm.split("\\s+")[0])
+                        .or(() -> current.lookup(Vocabulary.CULTURAL_GROUP, cleanTerm));
+            }
+            case CATEGORY_MEDIUM -> current.lookup(Vocabulary.MEDIUM, rawTerm.trim().toLowerCase());
+            default -> Optional.empty();
+        };
+    }
+
+    /**
+     * @return standardized terms keyed by raw term, for the terms found in the index
+     */
+    public Map<String, String> resolveAll(Collection<String> rawTerms, String category) {
+        Map<String, String> resolved = new HashMap<>();
+        if (index == null) {
+            return resolved;
+        }
+        for (String rawTerm : rawTerms) {
+            resolve(rawTerm, category).ifPresent(term -> resolved.put(rawTerm, term));
+        }
+        return resolved;
+    }
+
+    private static void logSizes(String action, VocabularyIndex index) {
+        log.info("{} local vocabulary index: {} demonyms, {} cultural groups, {} media", action,
+                index.size(Vocabulary.DEMONYM), index.size(Vocabulary.CULTURAL_GROUP), index.size(Vocabulary.MEDIUM));
+    }
+}
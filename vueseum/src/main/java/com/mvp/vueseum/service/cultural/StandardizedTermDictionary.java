@@ -0,0 +1,115 @@
+package com.mvp.vueseum.service.cultural;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mvp.vueseum.repository.StandardizedTermBatchRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * In-memory copy of the {@code standardized_terms} table, loaded once at startup.
+ * <p>
+ * Lookups read an immutable map without locking. Terms resolved later are added by
+ * replacing the map with a copy, which is cheap because new terms arrive rarely and in
+ * batches. Terms Wikidata could not resolve are remembered in a negative cache for
+ * {@code standardization.negativeCacheTtl}, so they are not looked up again on every use.
+ */
+@Component
+@Slf4j
+public class StandardizedTermDictionary {
+
+    private record TermKey(String category, String rawTerm) {}
+
+    private final StandardizedTermBatchRepository standardizedTermBatchRepository;
+    private final Cache<TermKey, Boolean> unresolvableTerms;
+    private volatile Map<TermKey, String> terms = Map.of();
+    private volatile boolean loaded;
+
+    public StandardizedTermDictionary(
+            StandardizedTermBatchRepository standardizedTermBatchRepository,
+            @Value("${standardization.negativeCacheTtl:PT24H}") Duration negativeCacheTtl,
+            @Value("${standardization.negativeCacheMaxSize:50000}") int negativeCacheMaxSize) {
+        this.standardizedTermBatchRepository = standardizedTermBatchRepository;
+        this.unresolvableTerms = Caffeine.newBuilder()
+                .expireAfterWrite(negativeCacheTtl)
+                .maximumSize(negativeCacheMaxSize)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            Map<TermKey, String> loadedTerms = new HashMap<>();
+            standardizedTermBatchRepository.streamAll(row ->
+                    loadedTerms.put(new TermKey(row.category(), row.rawTerm()), row.standardizedTerm()));
+            synchronized (this) {
+                // Keep terms added while the table was being read
+                loadedTerms.putAll(terms);
+                terms = Map.copyOf(loadedTerms);
+                loaded = true;
+            }
+            log.info("Loaded {} standardized terms", loadedTerms.size());
+        } catch (Exception e) {
+            log.error("Could not load standardized terms; terms are left unstandardized", e);
+        }
+    }
+
+    /**
+     * @return false until the table has been loaded; until then every lookup misses
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    public Optional<String> lookup(String rawTerm, String category) {
+        return Optional.ofNullable(terms.get(new TermKey(category, rawTerm)));
+    }
+
+    /**
+     * @return true if the term has a standardized form or is known to have none
+     */
+    public boolean isKnown(String rawTerm, String category) {
+        TermKey key = new TermKey(category, rawTerm);
+        return terms.containsKey(key) || unresolvableTerms.getIfPresent(key) != null;
+    }
+
+    public boolean isUnresolvable(String rawTerm, String category) {
+        return unresolvableTerms.getIfPresent(new TermKey(category, rawTerm)) != null;
+    }
+
+    public void markUnresolvable(String rawTerm, String category) {
+        unresolvableTerms.put(new TermKey(category, rawTerm), Boolean.TRUE);
+    }
+
+    /**
+     * Forget every term found unresolvable, so the next use looks it up again.
+     */
+    public void clearUnresolvable() {
+        unresolvableTerms.invalidateAll();
+    }
+
+    /**
+     * @param standardized standardized terms keyed by raw term
+     */
+    public synchronized void addAll(Map<String, String> standardized, String category) {
+        if (standardized.isEmpty()) {
+            return;
+        }
+        Map<TermKey, String> updated = new HashMap<>(terms);
+        standardized.forEach((rawTerm, standardizedTerm) ->
+                updated.put(new TermKey(category, rawTerm), standardizedTerm));
+        terms = Map.copyOf(updated);
+    }
+
+    public int size() {
+        return terms.size();
+    }
+}
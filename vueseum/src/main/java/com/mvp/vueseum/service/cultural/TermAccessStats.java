@@ -0,0 +1,82 @@
+package com.mvp.vueseum.service.cultural;
+
+import com.mvp.vueseum.repository.StandardizedTermBatchRepository;
+import com.mvp.vueseum.repository.StandardizedTermBatchRepository.AccessStats;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aggregates standardized term access counts in memory and writes them in one batch
+ * every {@code standardization.statsFlushInterval}, instead of an update per lookup.
+ * Counts not yet flushed are lost if the process dies, which only understates usage.
+ */
+@Component
+@Slf4j
+public class TermAccessStats {
+
+    private record TermKey(String category, String rawTerm) {}
+
+    private record Pending(long count, LocalDateTime lastAccessed) {
+
+        Pending plus(Pending other) {
+            return new Pending(count + other.count,
+                    lastAccessed.isAfter(other.lastAccessed) ? lastAccessed : other.lastAccessed);
+        }
+    }
+
+    private final StandardizedTermBatchRepository standardizedTermBatchRepository;
+    private final Clock clock;
+    private final ConcurrentHashMap<TermKey, Pending> pending = new ConcurrentHashMap<>();
+
+    public TermAccessStats(StandardizedTermBatchRepository standardizedTermBatchRepository, Clock clock) {
+        this.standardizedTermBatchRepository = standardizedTermBatchRepository;
+        this.clock = clock;
+    }
+
+    public void recordAccess(String rawTerm, String category) {
+        pending.merge(new TermKey(category, rawTerm), new Pending(1, LocalDateTime.now(clock)), Pending::plus);
+    }
+
+    /**
+     * Writes the aggregated statistics. Counts that fail to write are kept for the next flush.
+     *
+     * @return the number of terms whose statistics were written
+     */
+    @Scheduled(fixedDelayString = "${standardization.statsFlushInterval:PT1M}",
+            initialDelayString = "${standardization.statsFlushInterval:PT1M}")
+    public int flush() {
+        List<AccessStats> stats = new ArrayList<>();
+        for (TermKey key : pending.keySet()) {
+            Pending removed = pending.remove(key);
+            if (removed != null) {
+                stats.add(new AccessStats(key.category(), key.rawTerm(), removed.count(), removed.lastAccessed()));
+            }
+        }
+        if (stats.isEmpty()) {
+            return 0;
+        }
+        try {
+            standardizedTermBatchRepository.addAccessStats(stats);
+            log.debug("Flushed access statistics of {} standardized terms", stats.size());
+            return stats.size();
+        } catch (Exception e) {
+            log.warn("Failed to flush access statistics of {} standardized terms: {}", stats.size(), e.getMessage());
+            stats.forEach(stat -> pending.merge(new TermKey(stat.category(), stat.rawTerm()),
+                    new Pending(stat.accessCount(), stat.lastAccessed()), Pending::plus));
+            return 0;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,109 @@
+package com.mvp.vueseum.service.cultural;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.Lists;
+import com.mvp.vueseum.domain.ArtworkDetails;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Sync stage that feeds the standardized term table from the artworks being synced.
+ * <p>
+ * Each persisted batch hands over its distinct culture and medium terms. Terms this
+ * node has not looked up yet are resolved on a background thread with one batched
+ * Wikidata query per category and up to {@code standardization.batchSize} terms, so
+ * the sync never waits on Wikidata and a batch costs one request instead of up to
+ * two per term.
+ */
+@Component
+@Slf4j
+public class TermStandardizationStage {
+
+    private final CulturalTermStandardizationService standardizationService;
+    private final int batchSize;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("term-standardization").daemon(true).factory());
+    /** Terms queued or looked up by this node, keyed by category and raw term */
+    private final Cache<String, Boolean> seenTerms;
+
+    public TermStandardizationStage(
+            CulturalTermStandardizationService standardizationService,
+            @Value("${standardization.batchSize:50}") int batchSize,
+            @Value("${standardization.seenTermsMaxSize:100000}") int seenTermsMaxSize) {
+        this.standardizationService = standardizationService;
+        this.batchSize = batchSize;
+        this.seenTerms = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofDays(1))
+                .maximumSize(seenTermsMaxSize)
+                .build();
+    }
+
+    /**
+     * Queues the unseen terms of a persisted batch for standardization. Returns at once.
+     */
+    public void submit(List<ArtworkDetails> batch) {
+        List<String> cultures = unseenTerms(batch, ArtworkDetails::getCulture,
+                CulturalTermStandardizationService.CATEGORY_CULTURE);
+        List<String> mediums = unseenTerms(batch, ArtworkDetails::getMedium,
+                CulturalTermStandardizationService.CATEGORY_MEDIUM);
+        if (cultures.isEmpty() && mediums.isEmpty()) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                standardize(cultures, CulturalTermStandardizationService.CATEGORY_CULTURE);
+                standardize(mediums, CulturalTermStandardizationService.CATEGORY_MEDIUM);
+            });
+        } catch (RejectedExecutionException e) {
+            log.debug("Term standardization stopped, dropping {} terms", cultures.size() + mediums.size());
+        }
+    }
+
+    private List<String> unseenTerms(List<ArtworkDetails> batch, Function<ArtworkDetails, String> field,
+                                     String category) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (ArtworkDetails details : batch) {
+            String term = field.apply(details);
+            if (term != null && !term.isBlank()) {
+                terms.add(term);
+            }
+        }
+        terms.removeIf(term -> seenTerms.asMap().putIfAbsent(key(term, category), Boolean.TRUE) != null);
+        return List.copyOf(terms);
+    }
+
+    private void standardize(List<String> terms, String category) {
+        for (List<String> chunk : Lists.partition(terms, batchSize)) {
+            try {
+                CulturalTermStandardizationService.BatchResult result =
+                        standardizationService.standardizeTerms(chunk, category);
+                // Deferred terms are forgotten so a later batch queues them again
+                result.deferred().forEach(term -> seenTerms.invalidate(key(term, category)));
+            } catch (Exception e) {
+                log.warn("Failed to standardize {} {} terms: {}", chunk.size(), category.toLowerCase(), e.getMessage());
+                chunk.forEach(term -> seenTerms.invalidate(key(term, category)));
+            }
+        }
+    }
+
+    private static String key(String term, String category) {
+        return category + ":" + term;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
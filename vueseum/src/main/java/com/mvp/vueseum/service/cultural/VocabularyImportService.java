@@ -0,0 +1,178 @@
+package com.mvp.vueseum.service.cultural;
+
+import com.mvp.vueseum.exception.InvalidRequestException;
+import com.mvp.vueseum.exception.PersistenceException;
+import com.mvp.vueseum.exception.ResourceNotFoundException;
+import com.mvp.vueseum.service.cultural.VocabularyIndex.Vocabulary;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Builds the culture, demonym and art medium vocabularies from a Wikidata extract in
+ * {@code vocabulary.directory}, installs them as the {@link LocalVocabulary} index and
+ * standardizes the catalog's unstandardized terms against them.
+ * <p>
+ * The vocabularies mirror the SPARQL queries of the Wikidata client:
+ * <ul>
+ *   <li>demonyms: English demonyms of items that are directly an instance of country</li>
+ *   <li>cultural groups: labels and aliases of instances of nationality, ethnic group,
+ *       cultural group or their subclasses</li>
+ *   <li>media: labels of the classes listed in {@code vocabulary.import.mediumClasses},
+ *       their subclasses and instances, or of every labelled item when the list is empty,
+ *       as the SPARQL exact match does</li>
+ * </ul>
+ * When two items claim the same key the one with the lowest Q number wins, so importing
+ * the same extract always gives the same index.
+ */
+@Service
+@Slf4j
+public class VocabularyImportService {
+
+    private static final String COUNTRY = "Q6256";
+    private static final List<String> CULTURAL_GROUP_CLASSES = List.of(
+            "Q231002",  // Nationality
+            "Q41710",   // Ethnic group
+            "Q1541001"  // Cultural group
+    );
+
+    private final LocalVocabulary localVocabulary;
+    private final CulturalTermStandardizationService standardizationService;
+    private final Path directory;
+    private final Set<String> mediumClasses;
+
+    public VocabularyImportService(
+            LocalVocabulary localVocabulary,
+            CulturalTermStandardizationService standardizationService,
+            @Value("${vocabulary.directory:data/vocabulary}") Path directory,
+            @Value("${vocabulary.import.mediumClasses:}") Set<String> mediumClasses) {
+        this.localVocabulary = localVocabulary;
+        this.standardizationService = standardizationService;
+        this.directory = directory;
+        this.mediumClasses = mediumClasses;
+    }
+
+    /**
+     * @param entries the number of keys in each vocabulary
+     * @param catalogTermsStandardized catalog terms newly saved to {@code standardized_terms}
+     */
+    public record ImportSummary(String file, Map<Vocabulary, Integer> entries, long indexBytes,
+                                int catalogTermsStandardized, long elapsedMillis) {}
+
+    /**
+     * @param fileName name of a {@code .json} or {@code .nt} extract, optionally gzipped,
+     *                 in the vocabulary directory
+     * @throws InvalidRequestException if the name is not a plain file name or not an extract
+     * @throws ResourceNotFoundException if the file does not exist
+     */
+    public ImportSummary importExtract(String fileName) {
+        Path file = resolveExtract(fileName);
+        long startNanos = System.nanoTime();
+
+        VocabularyIndex index;
+        long indexBytes;
+        try {
+            index = buildIndex(WikidataExtract.read(file), mediumClasses);
+            indexBytes = localVocabulary.install(index);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException(e.getMessage());
+        } catch (IOException e) {
+            throw new PersistenceException("Failed to import Wikidata extract " + fileName, e);
+        }
+        int standardized = standardizationService.standardizeCatalogTerms();
+
+        Map<Vocabulary, Integer> entries = new LinkedHashMap<>();
+        for (Vocabulary vocabulary : Vocabulary.values()) {
+            entries.put(vocabulary, index.size(vocabulary));
+        }
+        ImportSummary summary = new ImportSummary(fileName, entries, indexBytes, standardized,
+                (System.nanoTime() - startNanos) / 1_000_000);
+        log.info("Imported Wikidata extract {} ({} entries, {} byte index), standardized {} catalog terms in {} ms",
+                fileName, entries, indexBytes, standardized, summary.elapsedMillis());
+        return summary;
+    }
+
+    static VocabularyIndex buildIndex(WikidataExtract extract, Collection<String> mediumClasses) {
+        Map<String, WikidataExtract.Item> items = extract.items();
+        Set<String> groupClasses = subclassClosure(items, CULTURAL_GROUP_CLASSES);
+        Set<String> mediumClassClosure = mediumClasses.isEmpty() ? null : subclassClosure(items, mediumClasses);
+
+        TreeMap<String, String> demonyms = new TreeMap<>();
+        TreeMap<String, String> groups = new TreeMap<>();
+        Map<String, String> groupAliases = new HashMap<>();
+        TreeMap<String, String> media = new TreeMap<>();
+        for (String id : extract.sortedIds()) {
+            WikidataExtract.Item item = items.get(id);
+            if (item.instanceOf.contains(COUNTRY)) {
+                item.demonyms.forEach(demonym -> demonyms.putIfAbsent(demonym.toLowerCase(), demonym));
+            }
+            if (item.label == null) {
+                continue;
+            }
+            if (!Collections.disjoint(item.instanceOf, groupClasses)) {
+                groups.putIfAbsent(item.label.toLowerCase(), item.label);
+                item.aliases.forEach(alias -> groupAliases.putIfAbsent(alias.toLowerCase(), item.label));
+            }
+            if (mediumClassClosure == null || mediumClassClosure.contains(id)
+                    || !Collections.disjoint(item.instanceOf, mediumClassClosure)) {
+                media.putIfAbsent(item.label.toLowerCase(), item.label);
+            }
+        }
+        // An alias never shadows another group's label
+        groupAliases.forEach(groups::putIfAbsent);
+
+        Map<Vocabulary, TreeMap<String, String>> entries = new EnumMap<>(Vocabulary.class);
+        entries.put(Vocabulary.DEMONYM, demonyms);
+        entries.put(Vocabulary.CULTURAL_GROUP, groups);
+        entries.put(Vocabulary.MEDIUM, media);
+        return VocabularyIndex.of(entries);
+    }
+
+    /**
+     * @return the given classes and every class of the extract that is transitively a subclass of one
+     */
+    private static Set<String> subclassClosure(Map<String, WikidataExtract.Item> items, Collection<String> roots) {
+        Map<String, List<String>> subclasses = new HashMap<>();
+        items.forEach((id, item) -> item.subclassOf.forEach(parent ->
+                subclasses.computeIfAbsent(parent, _ -> new ArrayList<>()).add(id)));
+
+        Set<String> closure = new HashSet<>(roots);
+        Deque<String> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            for (String subclass : subclasses.getOrDefault(pending.pop(), List.of())) {
+                if (closure.add(subclass)) {
+                    pending.push(subclass);
+                }
+            }
+        }
+        return closure;
+    }
+
+    private Path resolveExtract(String fileName) {
+        if (fileName == null || fileName.isBlank() || !fileName.equals(Path.of(fileName).getFileName().toString())) {
+            throw new InvalidRequestException("Extract must be a file name in the vocabulary directory");
+        }
+        Path file = directory.resolve(fileName);
+        if (!Files.isRegularFile(file)) {
+            throw new ResourceNotFoundException("Wikidata extract not found: " + fileName);
+        }
+        return file;
+    }
+}
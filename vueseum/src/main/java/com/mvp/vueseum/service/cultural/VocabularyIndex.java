@@ -0,0 +1,132 @@
+package com.mvp.vueseum.service.cultural;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Immutable lookup tables from normalized terms to standardized terms, built from a
+ * Wikidata extract by {@link VocabularyImportService}.
+ * <p>
+ * Each vocabulary is held as sorted key and value arrays and searched by bisection.
+ * On disk the keys are front-coded, storing only what differs from the previous key,
+ * and the file is gzip-compressed.
+ */
+public final class VocabularyIndex {
+
+    private static final int MAGIC = 0x56564F43; // "VVOC"
+    private static final int FORMAT_VERSION = 1;
+
+    public enum Vocabulary {
+        /** Lowercase country demonyms */
+        DEMONYM,
+        /** Lowercase labels and aliases of nationalities, ethnic and cultural groups */
+        CULTURAL_GROUP,
+        /** Lowercase labels of art media and materials */
+        MEDIUM
+    }
+
+    private record Table(String[] keys, String[] values) {}
+
+    private final Map<Vocabulary, Table> tables;
+
+    private VocabularyIndex(Map<Vocabulary, Table> tables) {
+        this.tables = tables;
+    }
+
+    /**
+     * @param entries entries of each vocabulary, sorted by key
+     */
+    public static VocabularyIndex of(Map<Vocabulary, ? extends SortedMap<String, String>> entries) {
+        Map<Vocabulary, Table> tables = new EnumMap<>(Vocabulary.class);
+        for (Vocabulary vocabulary : Vocabulary.values()) {
+            SortedMap<String, String> vocabularyEntries = entries.get(vocabulary);
+            if (vocabularyEntries == null) {
+                tables.put(vocabulary, new Table(new String[0], new String[0]));
+            } else {
+                tables.put(vocabulary, new Table(vocabularyEntries.keySet().toArray(String[]::new),
+                        vocabularyEntries.values().toArray(String[]::new)));
+            }
+        }
+        return new VocabularyIndex(tables);
+    }
+
+    public Optional<String> lookup(Vocabulary vocabulary, String key) {
+        Table table = tables.get(vocabulary);
+        int index = Arrays.binarySearch(table.keys(), key);
+        return index >= 0 ? Optional.of(table.values()[index]) : Optional.empty();
+    }
+
+    public int size(Vocabulary vocabulary) {
+        return tables.get(vocabulary).keys().length;
+    }
+
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            for (Vocabulary vocabulary : Vocabulary.values()) {
+                Table table = tables.get(vocabulary);
+                out.writeInt(table.keys().length);
+                String previous = "";
+                for (int i = 0; i < table.keys().length; i++) {
+                    String key = table.keys()[i];
+                    int shared = sharedPrefixLength(previous, key);
+                    out.writeShort(shared);
+                    out.writeUTF(key.substring(shared));
+                    out.writeUTF(table.values()[i]);
+                    previous = key;
+                }
+            }
+        }
+    }
+
+    public static VocabularyIndex read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(file), 64 * 1024)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a vocabulary index: " + file);
+            }
+            int formatVersion = in.readInt();
+            if (formatVersion != FORMAT_VERSION) {
+                throw new IOException("Unsupported vocabulary index format version " + formatVersion);
+            }
+            Map<Vocabulary, Table> tables = new EnumMap<>(Vocabulary.class);
+            for (Vocabulary vocabulary : Vocabulary.values()) {
+                int count = in.readInt();
+                String[] keys = new String[count];
+                String[] values = new String[count];
+                String previous = "";
+                for (int i = 0; i < count; i++) {
+                    int shared = in.readUnsignedShort();
+                    keys[i] = previous.substring(0, shared) + in.readUTF();
+                    values[i] = in.readUTF();
+                    previous = keys[i];
+                }
+                tables.put(vocabulary, new Table(keys, values));
+            }
+            return new VocabularyIndex(tables);
+        }
+    }
+
+    private static int sharedPrefixLength(String a, String b) {
+        int max = Math.min(Math.min(a.length(), b.length()), 0xFFFF);
+        int shared = 0;
+        while (shared < max && a.charAt(shared) == b.charAt(shared)) {
+            shared++;
+        }
+        return shared;
+    }
+}
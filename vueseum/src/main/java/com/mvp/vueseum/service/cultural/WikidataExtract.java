@@ -0,0 +1,263 @@
+package com.mvp.vueseum.service.cultural;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * The English labels, aliases, demonyms and class statements of the items in a local
+ * Wikidata extract, read from either format Wikidata publishes dumps in:
+ * <ul>
+ *   <li>JSON: one entity object per line, optionally inside a top-level array</li>
+ *   <li>N-Triples: truthy statements ({@code wdt:} properties) plus
+ *       {@code rdfs:label} and {@code skos:altLabel}</li>
+ * </ul>
+ * Files ending in {@code .gz} are decompressed on the fly. Everything else in the
+ * extract is ignored, so memory grows with the number of items, not the file size.
+ */
+final class WikidataExtract {
+
+    static final String INSTANCE_OF = "P31";
+    static final String SUBCLASS_OF = "P279";
+    static final String DEMONYM = "P1549";
+
+    private static final String ENTITY_PREFIX = "http://www.wikidata.org/entity/";
+    private static final String DIRECT_PROPERTY_PREFIX = "http://www.wikidata.org/prop/direct/";
+    private static final String LABEL = "http://www.w3.org/2000/01/rdf-schema#label";
+    private static final String ALT_LABEL = "http://www.w3.org/2004/02/skos/core#altLabel";
+    private static final Pattern TRIPLE = Pattern.compile("^<([^>]*)>\\s+<([^>]*)>\\s+(.+?)\\s*\\.\\s*$");
+
+    static final class Item {
+        String label;
+        final Set<String> aliases = new LinkedHashSet<>();
+        final Set<String> instanceOf = new LinkedHashSet<>();
+        final Set<String> subclassOf = new LinkedHashSet<>();
+        final Set<String> demonyms = new LinkedHashSet<>();
+    }
+
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, Item> items = new HashMap<>();
+
+    private WikidataExtract() {
+    }
+
+    /**
+     * @throws IllegalArgumentException if the file is neither a JSON nor an N-Triples extract
+     */
+    static WikidataExtract read(Path file) throws IOException {
+        String name = file.getFileName().toString().toLowerCase();
+        String baseName = name.endsWith(".gz") ? name.substring(0, name.length() - 3) : name;
+        boolean nTriples = baseName.endsWith(".nt");
+        if (!nTriples && !baseName.endsWith(".json")) {
+            throw new IllegalArgumentException("Expected a .json or .nt Wikidata extract, optionally gzipped: " + name);
+        }
+
+        WikidataExtract extract = new WikidataExtract();
+        try (InputStream input = name.endsWith(".gz")
+                ? new GZIPInputStream(Files.newInputStream(file), 64 * 1024)
+                : Files.newInputStream(file);
+             BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                try {
+                    if (nTriples) {
+                        extract.readTriple(line);
+                    } else {
+                        extract.readJsonEntity(line);
+                    }
+                } catch (IOException | RuntimeException e) {
+                    throw new IOException("Malformed line " + lineNumber + " in " + name + ": " + e.getMessage(), e);
+                }
+            }
+        }
+        return extract;
+    }
+
+    Map<String, Item> items() {
+        return items;
+    }
+
+    private void readJsonEntity(String line) throws IOException {
+        String json = line.strip();
+        if (json.endsWith(",")) {
+            json = json.substring(0, json.length() - 1);
+        }
+        if (json.isEmpty() || json.equals("[") || json.equals("]")) {
+            return;
+        }
+
+        JsonNode entity = mapper.readTree(json);
+        String id = entity.path("id").asText();
+        if (!isItemId(id)) {
+            return;
+        }
+
+        Item item = new Item();
+        JsonNode label = entity.path("labels").path("en").path("value");
+        item.label = label.isTextual() ? label.asText() : null;
+        entity.path("aliases").path("en").forEach(alias -> item.aliases.add(alias.path("value").asText()));
+        JsonNode claims = entity.path("claims");
+        claims.path(INSTANCE_OF).forEach(claim -> addItemValue(claim, item.instanceOf));
+        claims.path(SUBCLASS_OF).forEach(claim -> addItemValue(claim, item.subclassOf));
+        claims.path(DEMONYM).forEach(claim -> {
+            JsonNode value = claim.path("mainsnak").path("datavalue").path("value");
+            if ("en".equals(value.path("language").asText())) {
+                item.demonyms.add(value.path("text").asText());
+            }
+        });
+        if (item.label != null || !item.instanceOf.isEmpty() || !item.subclassOf.isEmpty()) {
+            items.put(id, item);
+        }
+    }
+
+    private static void addItemValue(JsonNode claim, Set<String> values) {
+        String id = claim.path("mainsnak").path("datavalue").path("value").path("id").asText();
+        if (isItemId(id)) {
+            values.add(id);
+        }
+    }
+
+    private void readTriple(String line) {
+        if (line.isBlank() || line.startsWith("#")) {
+            return;
+        }
+        Matcher matcher = TRIPLE.matcher(line);
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("not a triple");
+        }
+        String subject = entityId(matcher.group(1));
+        if (subject == null) {
+            return;
+        }
+        String predicate = matcher.group(2);
+        String object = matcher.group(3);
+
+        if (predicate.startsWith(DIRECT_PROPERTY_PREFIX)) {
+            String property = predicate.substring(DIRECT_PROPERTY_PREFIX.length());
+            switch (property) {
+                case INSTANCE_OF -> addObjectItem(subject, object, item -> item.instanceOf);
+                case SUBCLASS_OF -> addObjectItem(subject, object, item -> item.subclassOf);
+                case DEMONYM -> {
+                    String demonym = englishLiteral(object);
+                    if (demonym != null) {
+                        item(subject).demonyms.add(demonym);
+                    }
+                }
+                default -> { }
+            }
+        } else if (predicate.equals(LABEL)) {
+            String label = englishLiteral(object);
+            if (label != null) {
+                item(subject).label = label;
+            }
+        } else if (predicate.equals(ALT_LABEL)) {
+            String alias = englishLiteral(object);
+            if (alias != null) {
+                item(subject).aliases.add(alias);
+            }
+        }
+    }
+
+    private void addObjectItem(String subject, String object, Function<Item, Set<String>> values) {
+        if (object.startsWith("<") && object.endsWith(">")) {
+            String id = entityId(object.substring(1, object.length() - 1));
+            if (id != null) {
+                values.apply(item(subject)).add(id);
+            }
+        }
+    }
+
+    private Item item(String id) {
+        return items.computeIfAbsent(id, _ -> new Item());
+    }
+
+    private static String entityId(String iri) {
+        if (!iri.startsWith(ENTITY_PREFIX)) {
+            return null;
+        }
+        String id = iri.substring(ENTITY_PREFIX.length());
+        return isItemId(id) ? id : null;
+    }
+
+    private static boolean isItemId(String id) {
+        if (id.length() < 2 || id.charAt(0) != 'Q') {
+            return false;
+        }
+        for (int i = 1; i < id.length(); i++) {
+            if (!Character.isDigit(id.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the lexical form of an {@code @en} literal, or null for any other term
+     */
+    private static String englishLiteral(String term) {
+        if (!term.startsWith("\"") || !term.endsWith("\"@en")) {
+            return null;
+        }
+        return unescape(term.substring(1, term.length() - 4));
+    }
+
+    private static String unescape(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+        StringBuilder result = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\') {
+                result.append(c);
+                continue;
+            }
+            char escaped = value.charAt(++i);
+            switch (escaped) {
+                case 't' -> result.append('\t');
+                case 'b' -> result.append('\b');
+                case 'n' -> result.append('\n');
+                case 'r' -> result.append('\r');
+                case 'f' -> result.append('\f');
+                case 'u' -> {
+                    result.append((char) Integer.parseInt(value.substring(i + 1, i + 5), 16));
+                    i += 4;
+                }
+                case 'U' -> {
+                    result.appendCodePoint(Integer.parseInt(value.substring(i + 1, i + 9), 16));
+                    i += 8;
+                }
+                default -> result.append(escaped);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * @return the item ids sorted by their numeric part, so conflicts resolve the same way on every import
+     */
+    List<String> sortedIds() {
+        List<String> ids = new ArrayList<>(items.keySet());
+        ids.sort((a, b) -> Long.compare(Long.parseLong(a.substring(1)), Long.parseLong(b.substring(1))));
+        return ids;
+    }
+}
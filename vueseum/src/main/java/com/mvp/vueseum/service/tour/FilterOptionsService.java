@@ -1,12 +1,14 @@
 package com.mvp.vueseum.service.tour;
 
-import com.github.benmanes.caffeine.cache.Cache;
 import com.mvp.vueseum.domain.TourPreferences;
 import com.mvp.vueseum.entity.Artwork;
+import com.mvp.vueseum.event.CatalogVersionChangedEvent;
 import com.mvp.vueseum.repository.ArtworkRepository;
+import com.mvp.vueseum.service.catalog.CatalogVersionedCache;
 import com.mvp.vueseum.specification.ArtworkSpecifications;
-import com.mvp.vueseum.util.DateParsingUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
@@ -18,7 +20,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class FilterOptionsService {
     private final ArtworkRepository artworkRepository;
-    private final Cache<String, FilterOptions> filterOptionsCache;
+    private final CatalogVersionedCache<FilterOptions> filterOptionsCache;
 
     public record FilterOptions(
             Set<String> availableMediums,
@@ -32,32 +34,30 @@ public class FilterOptionsService {
         }
 
         String cacheKey = generateCacheKey(prefs, museumId);
-        return filterOptionsCache.get(cacheKey, _ -> computeFilterOptions(prefs, museumId));
+        return filterOptionsCache.get(cacheKey, () -> computeFilterOptions(prefs, museumId));
+    }
+
+    /**
+     * Runs before the suggestion rebuild, which reads filter options.
+     */
+    @EventListener
+    @Order(1)
+    public void onCatalogVersionChanged(CatalogVersionChangedEvent event) {
+        filterOptionsCache.advanceTo(event.version());
     }
 
     private FilterOptions computeFilterOptions(TourPreferences prefs, Long museumId) {
         Specification<Artwork> spec = ArtworkSpecifications.buildSpecificationFromPreferences(prefs)
                 .and((root, _, cb) -> cb.equal(root.get("museum").get("id"), museumId));
 
-        spec = spec.and((root, _, cb) ->
-                cb.or(
-                        cb.and(
-                                cb.isNotNull(root.get("imageUrl")),
-                                cb.notEqual(root.get("imageUrl"), "")
-                        ),
-                        cb.and(
-                                cb.isNotNull(root.get("thumbnailImageUrl")),
-                                cb.notEqual(root.get("thumbnailImageUrl"), "")
-                        )
-                )
-        );
+        spec = spec.and((root, _, cb) -> ArtworkSpecifications.createHasImagePredicate(root, cb));
 
         List<Artwork> matchingArtworks = artworkRepository.findAll(spec);
 
         return new FilterOptions(
                 extractUniqueValues(matchingArtworks, Artwork::getMedium),
                 extractUniqueValues(matchingArtworks, Artwork::getCulture),
-                extractPeriodValues(matchingArtworks)
+                extractUniqueValues(matchingArtworks, Artwork::getPeriodBucket)
         );
     }
 
@@ -77,20 +77,4 @@ public class FilterOptionsService {
                 prefs.getPreferredPeriods().hashCode()
         );
     }
-
-    private Set<String> extractPeriodValues(List<Artwork> artworks) {
-        return artworks.stream()
-                .map(Artwork::getCreationDate)
-                .filter(Objects::nonNull)
-                .map(date -> {
-                    try {
-                        int year = DateParsingUtil.extractYear(date);
-                        return DateParsingUtil.mapYearToPeriod(year);
-                    } catch (NumberFormatException e) {
-                        return null;
-                    }
-                })
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
-    }
 }
@@ -1,13 +1,17 @@
 package com.mvp.vueseum.service.tour;
 
-import com.github.benmanes.caffeine.cache.Cache;
 import com.mvp.vueseum.domain.TourPreferences;
+import com.mvp.vueseum.dto.ArtistSuggestionDTO;
 import com.mvp.vueseum.entity.Artist;
 import com.mvp.vueseum.entity.Artwork;
+import com.mvp.vueseum.event.CatalogVersionChangedEvent;
 import com.mvp.vueseum.repository.ArtistRepository;
 import com.mvp.vueseum.repository.ArtworkRepository;
+import com.mvp.vueseum.service.catalog.CatalogVersionedCache;
 import com.mvp.vueseum.service.cultural.CulturalMapping;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Service;
 
 import java.util.Collections;
@@ -24,7 +28,7 @@ public class SuggestionService {
     private final ArtworkRepository artworkRepository;
     private final ArtistRepository artistRepository;
     private final FilterOptionsService filterOptionsService;
-    private final Cache<String, List<Suggestion>> suggestionCache;
+    private final CatalogVersionedCache<List<Suggestion>> suggestionCache;
 
     /**
      * Represents different types of suggestions we can provide.
@@ -66,7 +70,13 @@ public class SuggestionService {
         TourPreferences prefs = currentPreferences != null ? currentPreferences : new TourPreferences();
 
         String cacheKey = generateCacheKey(prefix, type, museumId, prefs);
-        return suggestionCache.get(cacheKey, _ -> computeSuggestions(prefix, type, museumId, prefs));
+        return suggestionCache.get(cacheKey, () -> computeSuggestions(prefix, type, museumId, prefs));
+    }
+
+    @EventListener
+    @Order(2)
+    public void onCatalogVersionChanged(CatalogVersionChangedEvent event) {
+        suggestionCache.advanceTo(event.version());
     }
 
     private List<Suggestion> computeSuggestions(String prefix,
@@ -109,22 +119,23 @@ public class SuggestionService {
         return artistRepository.findSuggestedArtists(prefix, museumId)
                 .stream()
                 .map(artist -> new Suggestion(
-                        artist.getArtistName(),
+                        artist.artistName(),
                         formatArtistDisplay(artist),
-                        artist.getWorks().size(),
+                        artist.workCount(),
                         SuggestionType.ARTIST
                 ))
                 .toList();
     }
 
-    private String formatArtistDisplay(Artist artist) {
-        if (artist.getBirthDate() != null && artist.getDeathDate() != null) {
+    private String formatArtistDisplay(ArtistSuggestionDTO artist) {
+        if (artist.birthDate() != null && artist.deathDate() != null) {
             return String.format("%s (%s-%s)",
-                    artist.getArtistName(),
-                    artist.hasReasonableLifespan() ? artist.getBirthDate() : "",
-                    artist.getDeathDate());
+                    artist.artistName(),
+                    Artist.isReasonableLifespan(artist.birthDate(), artist.deathDate())
+                            ? artist.birthDate() : "",
+                    artist.deathDate());
         }
-        return artist.getArtistName();
+        return artist.artistName();
     }
 
     private List<Suggestion> getMediumSuggestions(String prefix,
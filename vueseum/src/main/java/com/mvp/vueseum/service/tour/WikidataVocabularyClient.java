@@ -13,7 +13,11 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -110,6 +114,72 @@ public class WikidataVocabularyClient {
         return result;
     }
 
+    /**
+     * Standardize many cultural terms with a single SPARQL query.
+     * Each term is matched exactly, first against country demonyms and then against
+     * the labels of nationalities, ethnic and cultural groups; a demonym match wins.
+     * Unlike {@link #standardizeCulturalTerm(String)} there is no fuzzy search, so
+     * the lookup cost stays one request regardless of how many terms are sent.
+     *
+     * @param terms raw cultural terms
+     * @return standardized terms keyed by the raw term, for the terms that matched,
+     * or empty if the query failed
+     */
+    public Optional<Map<String, String>> standardizeCulturalTerms(Collection<String> terms) {
+        if (terms.isEmpty()) {
+            return Optional.of(Map.of());
+        }
+
+        JsonNode results = executeWikidataQuery(buildBatchCulturalQuery(terms));
+        if (results == null) {
+            return Optional.empty();
+        }
+
+        Map<String, String> demonyms = new HashMap<>();
+        Map<String, String> groups = new HashMap<>();
+        for (JsonNode binding : results.path("results").path("bindings")) {
+            String term = binding.path("term").path("value").asText();
+            String demonym = binding.path("demonym").path("value").asText();
+            String groupLabel = binding.path("groupLabel").path("value").asText();
+            if (!demonym.isEmpty()) {
+                demonyms.putIfAbsent(term, capitalize(demonym.replaceAll("\\s+\\([^)]*\\)", "")));
+            } else if (!groupLabel.isEmpty()) {
+                groups.putIfAbsent(term, capitalize(groupLabel));
+            }
+        }
+        groups.putAll(demonyms);
+        log.debug("Batched cultural lookup matched {} of {} terms", groups.size(), terms.size());
+        return Optional.of(groups);
+    }
+
+    /**
+     * Find exact art medium matches for many terms with a single SPARQL query.
+     *
+     * @param terms raw medium terms
+     * @return standardized terms keyed by the raw term, for the terms that matched,
+     * or empty if the query failed
+     */
+    public Optional<Map<String, String>> findExactArtMediumMatches(Collection<String> terms) {
+        if (terms.isEmpty()) {
+            return Optional.of(Map.of());
+        }
+
+        JsonNode results = executeWikidataQuery(buildBatchExactMatchQuery(terms));
+        if (results == null) {
+            return Optional.empty();
+        }
+
+        Map<String, String> matches = new HashMap<>();
+        for (JsonNode binding : results.path("results").path("bindings")) {
+            String itemLabel = binding.path("itemLabel").path("value").asText();
+            if (!itemLabel.isEmpty()) {
+                matches.putIfAbsent(binding.path("term").path("value").asText(), capitalize(itemLabel));
+            }
+        }
+        log.debug("Batched medium lookup matched {} of {} terms", matches.size(), terms.size());
+        return Optional.of(matches);
+    }
+
     /**
      * Standardize a cultural term using the country-to-demonym approach.
      * Finds countries with matching demonyms or names and returns the standardized demonym.
@@ -226,17 +296,86 @@ public class WikidataVocabularyClient {
     }
 
     /**
-     * Remove qualifier phrases from a term.
+     * Remove qualifier phrases from a term, lowercasing it. Shared with the local
+     * vocabulary so both resolve a term from the same cleaned form.
      *
      * @param term The term to clean
      * @return The cleaned term without qualifiers
      */
-    private String removeQualifiers(String term) {
+    public static String removeQualifiers(String term) {
         return term.toLowerCase()
                 .replaceAll("(?i)probably |possibly |perhaps |attributed to ", "")
                 .trim();
     }
 
+    public static String capitalize(String value) {
+        return value.isEmpty() ? value : Character.toUpperCase(value.charAt(0)) + value.substring(1);
+    }
+
+    /**
+     * Quote a value as a SPARQL string literal.
+     */
+    private static String literal(String value) {
+        return "\"" + value.replace("\\", "\\\\")
+                .replace("\"", "\\\"")
+                .replace("\n", "\\n")
+                .replace("\r", "\\r") + "\"";
+    }
+
+    /**
+     * Build a SPARQL query matching many cultural terms at once. Each VALUES row carries
+     * the raw term, so results can be mapped back to it, along with the forms matched
+     * against demonyms and group labels.
+     *
+     * @param terms The raw terms to match
+     * @return SPARQL query string
+     */
+    private static String buildBatchCulturalQuery(Collection<String> terms) {
+        String values = "    VALUES (?term ?word ?label) {\n" + terms.stream()
+                .map(term -> {
+                    String cleanTerm = removeQualifiers(term);
+                    return "      (" + literal(term) + " " + literal(cleanTerm.split("\\s+")[0]) + " "
+                            + literal(capitalize(cleanTerm)) + "@en)";
+                })
+                .collect(Collectors.joining("\n")) + "\n    }\n";
+
+        return "SELECT ?term ?demonym ?groupLabel WHERE {\n" +
+                "  {\n" +
+                values +
+                "    ?country wdt:P31 wd:Q6256 ;\n" + // Instance of country
+                "             wdt:P1549 ?demonymValue .\n" + // Demonym property
+                "    FILTER(LANG(?demonymValue) = \"en\")\n" +
+                "    FILTER(LCASE(STR(?demonymValue)) = ?word)\n" +
+                "    BIND(STR(?demonymValue) AS ?demonym)\n" +
+                "  } UNION {\n" +
+                values +
+                "    ?group rdfs:label ?label ;\n" +
+                "           wdt:P31/wdt:P279* ?groupClass .\n" +
+                "    VALUES ?groupClass { wd:Q231002 wd:Q41710 wd:Q1541001 }\n" + // Nationality, ethnic group, cultural group
+                "    BIND(STR(?label) AS ?groupLabel)\n" +
+                "  }\n" +
+                "}";
+    }
+
+    /**
+     * Build a SPARQL query for exact matching of many terms at once.
+     *
+     * @param terms The raw terms to match
+     * @return SPARQL query string
+     */
+    private static String buildBatchExactMatchQuery(Collection<String> terms) {
+        return "SELECT ?term ?itemLabel WHERE {\n" +
+                "  VALUES (?term ?label) {\n" + terms.stream()
+                        .map(term -> "    (" + literal(term) + " " + literal(term.trim().toLowerCase()) + "@en)")
+                        .collect(Collectors.joining("\n")) + "\n  }\n" +
+                "  ?item rdfs:label ?label .\n" +
+                "  SERVICE wikibase:label {\n" +
+                "    bd:serviceParam wikibase:language \"en\".\n" +
+                "    ?item rdfs:label ?itemLabel.\n" +
+                "  }\n" +
+                "}";
+    }
+
     /**
      * Build a SPARQL query for exact term matching.
      *
@@ -1,6 +1,7 @@
 package com.mvp.vueseum.specification;
 
 import com.mvp.vueseum.dto.ArtworkSearchCriteria;
+import com.mvp.vueseum.domain.MediumFamily;
 import com.mvp.vueseum.domain.TourPreferences;
 import com.mvp.vueseum.entity.Artist;
 import com.mvp.vueseum.entity.Artwork;
@@ -16,6 +17,7 @@ import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 @Component
 @Slf4j
@@ -26,25 +28,16 @@ public class ArtworkSpecifications {
     }
 
     /**
-     * Creates a predicate requiring an artwork to have an image
+     * Creates a predicate requiring an artwork to have a primary or thumbnail image
      */
     public static Predicate createHasImagePredicate(Root<Artwork> root, CriteriaBuilder cb) {
-        return cb.or(
-                // Check primary image
-                cb.and(
-                        cb.isNotNull(root.get("imageUrl")),
-                        cb.notEqual(root.get("imageUrl"), "")
-                ),
-                // Also check thumbnail image
-                cb.and(
-                        cb.isNotNull(root.get("thumbnailImageUrl")),
-                        cb.notEqual(root.get("thumbnailImageUrl"), "")
-                )
-        );
+        return cb.isTrue(root.get("hasImage"));
     }
 
     /**
-     * Creates a predicate for matching artworks by category (classification or medium)
+     * Creates a predicate for matching artworks by category (classification or medium).
+     * Categories naming a medium family also match its derived column, so an artwork
+     * classified into another family still matches on its text.
      */
     private static Predicate createCategoryPredicate(String category, Root<Artwork> root, CriteriaBuilder cb) {
         if (!StringUtils.hasText(category)) {
@@ -52,14 +45,22 @@ public class ArtworkSpecifications {
         }
 
         String categoryTerm = category.toLowerCase();
-        return cb.or(
+        Predicate textMatch = cb.or(
                 cb.like(cb.lower(root.get("classification")), "%" + categoryTerm + "%"),
                 cb.like(cb.lower(root.get("medium")), "%" + categoryTerm + "%")
         );
+
+        Optional<MediumFamily> family = MediumFamily.fromCategory(category);
+        if (family.isPresent()) {
+            return cb.or(cb.equal(root.get("mediumFamily"), family.get()), textMatch);
+        }
+        return textMatch;
     }
 
     /**
-     * Creates a predicate for matching artworks by origin (culture, country, region)
+     * Creates a predicate for matching artworks by origin (culture, country, region).
+     * Terms naming a cultural region or sub-region also match its derived column, which
+     * covers cultures whose text does not name the region.
      */
     private static Predicate createOriginPredicate(String origin, Root<Artwork> root, CriteriaBuilder cb) {
         if (!StringUtils.hasText(origin)) {
@@ -71,25 +72,20 @@ public class ArtworkSpecifications {
 
         try {
             // Basic text matching across all fields
-            Predicate basicMatch = cb.or(
+            Predicate textMatch = cb.or(
                     cb.like(cb.lower(root.get("culture")), "%" + originTerm + "%"),
                     cb.like(cb.lower(root.get("country")), "%" + originTerm + "%"),
                     cb.like(cb.lower(root.get("region")), "%" + originTerm + "%")
             );
 
-            // Also try cultural mapping as an enhancement
-            try {
-                List<String> relatedCultures = CulturalMapping.getCulturesForRegion(originTerm);
-                if (!relatedCultures.isEmpty()) {
-                    Predicate culturalMatch = root.get("culture").in(relatedCultures);
-                    return cb.or(basicMatch, culturalMatch);
-                }
-            } catch (Exception e) {
-                // Log but don't fail if cultural mapping fails
-                log.warn("Cultural mapping failed for term: {}, error: {}", originTerm, e.getMessage());
+            Optional<CulturalMapping.CultureContext> region = CulturalMapping.findRegionByName(originTerm);
+            if (region.isPresent()) {
+                Predicate regionMatch = region.get().subRegion() != null
+                        ? cb.equal(root.get("culturalSubRegion"), region.get().subRegion())
+                        : cb.equal(root.get("culturalRegion"), region.get().region());
+                return cb.or(regionMatch, textMatch);
             }
-
-            return basicMatch;
+            return textMatch;
         } catch (Exception e) {
             // Log the specific error but return a non-restricting predicate
             log.error("Error creating origin filter predicate: {}", e.getMessage());
@@ -127,117 +123,31 @@ public class ArtworkSpecifications {
 
     /**
      * Creates a predicate for matching artwork creation dates to a period range.
+     * The standardized periods offered as filter options match the stored period bucket;
+     * other ranges match artworks whose year range overlaps them.
      * @param periodStr The period string (e.g., "A.D. 1400-1600", "1000 B.C.-A.D. 1")
-     * @param creationDateExpr The expression for the creation date field
+     * @param root The artwork root
      * @param cb The criteria builder
      * @return A predicate for matching artwork to the period
      */
     private static Predicate createDateRangePredicate(
             String periodStr,
-            Expression<String> creationDateExpr,
+            Root<Artwork> root,
             CriteriaBuilder cb) {
 
-        try {
-            // Special case handling for specific period formats
-            if (periodStr.equals("1000 B.C.-A.D. 1")) {
-                return cb.and(
-                        cb.isNotNull(creationDateExpr),
-                        cb.between(
-                                cb.function(
-                                        "extract_year_from_date",
-                                        Integer.class,
-                                        creationDateExpr
-                                ),
-                                -1000, // 1000 B.C.
-                                1      // A.D. 1
-                        )
-                );
-            }
-            else if (periodStr.equals("2000-1000 B.C.")) {
-                return cb.and(
-                        cb.isNotNull(creationDateExpr),
-                        cb.between(
-                                cb.function(
-                                        "extract_year_from_date",
-                                        Integer.class,
-                                        creationDateExpr
-                                ),
-                                -2000, // 2000 B.C.
-                                -1000  // 1000 B.C.
-                        )
-                );
-            }
-            else if (periodStr.startsWith("A.D.")) {
-                // Handle A.D. ranges
-                String yearPart = periodStr.substring(4).trim(); // Remove "A.D. "
-                String[] rangeParts = yearPart.split("-");
-
-                if (rangeParts.length == 2) {
-                    int startYear;
-                    int endYear;
-
-                    try {
-                        startYear = Integer.parseInt(rangeParts[0].trim());
-                    } catch (NumberFormatException e) {
-                        log.warn("Failed to parse start year: {}", rangeParts[0], e);
-                        return cb.conjunction();
-                    }
-
-                    if (rangeParts[1].trim().equals("present")) {
-                        endYear = java.time.Year.now().getValue();
-                    } else {
-                        try {
-                            endYear = Integer.parseInt(rangeParts[1].trim());
-                        } catch (NumberFormatException e) {
-                            log.warn("Failed to parse end year: {}", rangeParts[1], e);
-                            return cb.conjunction();
-                        }
-                    }
-
-                    log.debug("Parsed A.D. period: {} to {}", startYear, endYear);
-
-                    return cb.and(
-                            cb.isNotNull(creationDateExpr),
-                            cb.between(
-                                    cb.function(
-                                            "extract_year_from_date",
-                                            Integer.class,
-                                            creationDateExpr
-                                    ),
-                                    startYear,
-                                    endYear
-                            )
-                    );
-                }
-            }
-            else {
-                String[] parts = periodStr.split("-");
-                if (parts.length == 2) {
-                    String startPeriod = parts[0].trim();
-                    String endPeriod = parts[1].trim();
-
-                    int startYear = DateParsingUtil.extractYear(startPeriod);
-                    int endYear = DateParsingUtil.extractYear(endPeriod);
-
-                    log.debug("Parsed period range: {} to {}", startYear, endYear);
-
-                    return cb.and(
-                            cb.isNotNull(creationDateExpr),
-                            cb.between(
-                                    cb.function(
-                                            "extract_year_from_date",
-                                            Integer.class,
-                                            creationDateExpr
-                                    ),
-                                    startYear,
-                                    endYear
-                            )
-                    );
-                }
-            }
+        if (DateParsingUtil.PERIOD_BUCKETS.contains(periodStr)) {
+            return cb.equal(root.get("periodBucket"), periodStr);
+        }
 
-            log.warn("Could not parse period format: {}", periodStr);
-            return cb.conjunction(); // Return TRUE predicate if parsing fails
+        try {
+            return parsePeriodRange(periodStr)
+                    .map(range -> cb.and(
+                            cb.lessThanOrEqualTo(root.get("yearStart"), range.end()),
+                            cb.greaterThanOrEqualTo(root.get("yearEnd"), range.start())))
+                    .orElseGet(() -> {
+                        log.warn("Could not parse period format: {}", periodStr);
+                        return cb.conjunction(); // Return TRUE predicate if parsing fails
+                    });
         } catch (Exception e) {
             log.error("Error creating date range predicate for period {}: {}",
                     periodStr, e.getMessage());
@@ -245,6 +155,41 @@ public class ArtworkSpecifications {
         }
     }
 
+    /**
+     * Parses a period such as "A.D. 500-800" or "300-100 B.C." into its first and last year.
+     */
+    private static Optional<DateParsingUtil.YearRange> parsePeriodRange(String periodStr) {
+        if (periodStr.startsWith("A.D.")) {
+            // Handle A.D. ranges
+            String yearPart = periodStr.substring(4).trim(); // Remove "A.D. "
+            String[] rangeParts = yearPart.split("-");
+            if (rangeParts.length != 2) {
+                return Optional.empty();
+            }
+
+            try {
+                int startYear = Integer.parseInt(rangeParts[0].trim());
+                int endYear = rangeParts[1].trim().equals("present")
+                        ? java.time.Year.now().getValue()
+                        : Integer.parseInt(rangeParts[1].trim());
+                log.debug("Parsed A.D. period: {} to {}", startYear, endYear);
+                return Optional.of(new DateParsingUtil.YearRange(startYear, endYear));
+            } catch (NumberFormatException e) {
+                log.warn("Failed to parse A.D. period: {}", periodStr, e);
+                return Optional.empty();
+            }
+        }
+
+        String[] parts = periodStr.split("-");
+        if (parts.length != 2) {
+            return Optional.empty();
+        }
+        int startYear = DateParsingUtil.extractYear(parts[0].trim());
+        int endYear = DateParsingUtil.extractYear(parts[1].trim());
+        log.debug("Parsed period range: {} to {}", startYear, endYear);
+        return Optional.of(new DateParsingUtil.YearRange(startYear, endYear));
+    }
+
     public static Specification<Artwork> withSearchCriteria(ArtworkSearchCriteria criteria) {
         return (root, _, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
@@ -258,9 +203,7 @@ public class ArtworkSpecifications {
 
             // Era filter
             if (StringUtils.hasText(criteria.getPeriod())) {
-                Expression<String> creationDate = root.get("creationDate");
-                Predicate periodPredicate = createDateRangePredicate(criteria.getPeriod(), creationDate, cb);
-                predicates.add(periodPredicate);
+                predicates.add(createDateRangePredicate(criteria.getPeriod(), root, cb));
             }
 
             // Category filter
@@ -322,8 +265,7 @@ public class ArtworkSpecifications {
 
             if (!preferences.getPreferredPeriods().isEmpty()) {
                 String periodStr = preferences.getPreferredPeriods().iterator().next();
-                Expression<String> creationDate = root.get("creationDate");
-                predicates.add(createDateRangePredicate(periodStr, creationDate, cb));
+                predicates.add(createDateRangePredicate(periodStr, root, cb));
             }
 
             if (preferences.getPreferredCultures() != null && !preferences.getPreferredCultures().isEmpty()) {
@@ -401,8 +343,7 @@ public class ArtworkSpecifications {
         if (!prefs.getPreferredPeriods().isEmpty()) {
             spec = spec.and((root, query, cb) -> {
                 String periodStr = prefs.getPreferredPeriods().iterator().next();
-                Expression<String> creationDate = root.get("creationDate");
-                return createDateRangePredicate(periodStr, creationDate, cb);
+                return createDateRangePredicate(periodStr, root, cb);
             });
         }
 
@@ -0,0 +1,74 @@
+package com.mvp.vueseum.util;
+
+import com.mvp.vueseum.domain.ArtworkDetails;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * Computes a stable fingerprint of the artwork fields that sync writes to the database.
+ * Two details objects with the same hash produce identical artwork rows, so a stored
+ * hash lets sync skip artworks whose source data has not changed.
+ */
+public class ContentHashUtil {
+
+    /**
+     * Bump when the set of hashed fields or their normalization changes,
+     * so every stored hash is treated as stale on the next sync.
+     */
+    private static final String HASH_VERSION = "v1";
+
+    private static final char FIELD_SEPARATOR = '\u001F';
+
+    private ContentHashUtil() {}
+
+    /**
+     * @return the lowercase hex SHA-256 of the normalized persisted fields
+     */
+    public static String hashArtworkContent(ArtworkDetails details) {
+        StringBuilder content = new StringBuilder(512).append(HASH_VERSION);
+        appendAll(content,
+                details.getTitle(),
+                details.getArtistName(),
+                details.getArtistPrefix(),
+                details.getArtistRole(),
+                details.getArtworkType(),
+                details.getMedium(),
+                details.getCulture(),
+                details.getCountry(),
+                details.getGalleryNumber(),
+                details.getDepartment(),
+                details.getDescription(),
+                details.getPrimaryImageUrl(),
+                details.getThumbnailImageUrl(),
+                details.getCreationYear());
+
+        List<String> tags = details.getTags();
+        content.append(FIELD_SEPARATOR).append(tags.size());
+        tags.forEach(tag -> append(content, tag));
+
+        return HexFormat.of().formatHex(sha256().digest(content.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void appendAll(StringBuilder content, String... fields) {
+        for (String field : fields) {
+            append(content, field);
+        }
+    }
+
+    private static void append(StringBuilder content, String field) {
+        content.append(FIELD_SEPARATOR).append(field != null ? field.strip() : "");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Every JVM is required to support SHA-256
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
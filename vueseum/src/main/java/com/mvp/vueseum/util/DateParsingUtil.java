@@ -1,5 +1,6 @@
 package com.mvp.vueseum.util;
 
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -137,6 +138,74 @@ public class DateParsingUtil {
             Pattern.CASE_INSENSITIVE
     );
 
+    // End years of explicit ranges, used by extractYearRange
+    private static final Pattern CROSS_ERA_RANGE_END = Pattern.compile(
+            BC_SUFFIX + DASH + AD_PREFIX + "(\\d+)",
+            Pattern.CASE_INSENSITIVE
+    );
+
+    private static final Pattern BC_RANGE_END = Pattern.compile(
+            "\\d+" + DASH + "(\\d+)\\s*" + BC_SUFFIX,
+            Pattern.CASE_INSENSITIVE
+    );
+
+    private static final Pattern CE_RANGE_END = Pattern.compile(
+            "\\b(\\d{3,4})" + DASH + "(\\d{1,4})\\b"
+    );
+
+    /**
+     * The standardized period ranges returned by {@link #mapYearToPeriod(int)}, oldest first.
+     */
+    public static final List<String> PERIOD_BUCKETS = List.of(
+            "2000-1000 B.C.",
+            "1000 B.C.-A.D. 1",
+            "A.D. 1-500",
+            "A.D. 500-1000",
+            "A.D. 1000-1400",
+            "A.D. 1400-1600",
+            "A.D. 1600-1800",
+            "A.D. 1800-1900",
+            "A.D. 1900-present"
+    );
+
+    /**
+     * First and last year of a creation date, equal unless the date is an explicit range.
+     * Negative years represent BCE/BC dates.
+     */
+    public record YearRange(int start, int end) {}
+
+    /**
+     * Extracts the year range of a creation date. The start is the year
+     * {@link #extractYear(String)} returns; the end is read from explicit ranges such as
+     * "1910-15", "500-400 B.C." or "30 B.C.-A.D. 364".
+     *
+     * @throws NumberFormatException if no valid year can be extracted
+     */
+    public static YearRange extractYearRange(String dateString) {
+        int start = extractYear(dateString);
+        String normalized = dateString.trim().toLowerCase();
+
+        Integer end = null;
+        Matcher crossEraMatcher = CROSS_ERA_RANGE_END.matcher(normalized);
+        Matcher bcRangeMatcher = BC_RANGE_END.matcher(normalized);
+        Matcher ceRangeMatcher = CE_RANGE_END.matcher(normalized);
+        if (crossEraMatcher.find()) {
+            end = Integer.parseInt(crossEraMatcher.group(1));
+        } else if (bcRangeMatcher.find()) {
+            end = -Integer.parseInt(bcRangeMatcher.group(1));
+        } else if (start > 0 && ceRangeMatcher.find()) {
+            String from = ceRangeMatcher.group(1);
+            String to = ceRangeMatcher.group(2);
+            // Abbreviated ends take the leading digits of the start: "1910-15" ends in 1915
+            if (to.length() < from.length()) {
+                to = from.substring(0, from.length() - to.length()) + to;
+            }
+            end = Integer.parseInt(to);
+        }
+
+        return new YearRange(start, end != null && end > start ? end : start);
+    }
+
     /**
      * Extracts a year from various date string formats.
      * Negative years represent BCE/BC dates.
@@ -467,6 +536,33 @@ public class DateParsingUtil {
         throw new NumberFormatException("Could not parse millennium from: " + normalized);
     }
 
+    /**
+     * Calculates the value stored in {@code chronological_sort_value} for a creation date.
+     * BC dates are shifted by -10000 so they always sort before AD dates.
+     * Unparseable or missing dates map to 0.
+     */
+    public static int calculateChronologicalSortValue(String creationDate) {
+        if (creationDate == null) return 0;
+
+        boolean isBC = creationDate.contains("B.C.") ||
+                creationDate.contains("BC") ||
+                creationDate.contains("BCE") ||
+                creationDate.contains("century BCE") ||
+                creationDate.contains("millennium BCE");
+
+        Integer extractedYear = null;
+        if (!creationDate.trim().isEmpty()) {
+            try {
+                extractedYear = extractYear(creationDate);
+            } catch (NumberFormatException e) {
+                log.warn("Could not extract year from date string: {}", creationDate);
+            }
+        }
+        if (extractedYear == null) extractedYear = 0;
+
+        return isBC ? -10000 + extractedYear : extractedYear;
+    }
+
     /**
      * Maps a specific year to a standardized period range.
      * Handles both CE and BCE dates.
@@ -0,0 +1,109 @@
+-- Catalog schema for the in-memory H2 database of the dev profile, where Flyway is
+-- disabled because the migrations are Postgres-specific. Mirrors the catalog tables as
+-- of V27 so a catalog snapshot can be imported; keep it in step with new migrations
+-- that touch these tables.
+
+CREATE SEQUENCE IF NOT EXISTS id_sequence START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS museums (
+    -- Base entity fields
+    id BIGINT DEFAULT NEXT VALUE FOR id_sequence PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(255),
+    last_modified_by VARCHAR(255),
+    is_deleted BOOLEAN NOT NULL DEFAULT false,
+    deleted_at TIMESTAMP,
+    -- Museum-specific fields
+    name VARCHAR(255) NOT NULL,
+    location VARCHAR(255) NOT NULL,
+    website_url VARCHAR(255),
+    museum_hours JSON DEFAULT JSON '{}',
+    additional_metadata JSON DEFAULT JSON '{}',
+    CONSTRAINT museum_name_location_unique UNIQUE (name, location)
+);
+
+CREATE TABLE IF NOT EXISTS artists (
+    -- Base entity fields
+    id BIGINT DEFAULT NEXT VALUE FOR id_sequence PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(255),
+    last_modified_by VARCHAR(255),
+    is_deleted BOOLEAN NOT NULL DEFAULT false,
+    deleted_at TIMESTAMP,
+    -- Artist-specific fields
+    artist_name VARCHAR(1000) NOT NULL,
+    nationality VARCHAR(500),
+    birth_date VARCHAR(4),
+    death_date VARCHAR(4),
+    additional_metadata JSON DEFAULT JSON '{}',
+    CONSTRAINT artist_name_unique UNIQUE (artist_name),
+    CONSTRAINT birth_date_format CHECK (birth_date IS NULL OR birth_date = '' OR REGEXP_LIKE(birth_date, '^[0-9]{4}$')),
+    CONSTRAINT death_date_format CHECK (death_date IS NULL OR death_date = '' OR REGEXP_LIKE(death_date, '^[0-9]{4}$'))
+);
+
+CREATE TABLE IF NOT EXISTS artworks (
+    -- Base entity fields
+    id BIGINT DEFAULT NEXT VALUE FOR id_sequence PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(255),
+    last_modified_by VARCHAR(255),
+    is_deleted BOOLEAN NOT NULL DEFAULT false,
+    deleted_at TIMESTAMP,
+    -- Artwork-specific fields
+    title VARCHAR(1000) NOT NULL,
+    external_id VARCHAR(100) NOT NULL,
+    artist_id BIGINT REFERENCES artists(id),
+    museum_id BIGINT NOT NULL REFERENCES museums(id),
+    medium VARCHAR(1000),
+    culture VARCHAR(1000),
+    country VARCHAR(1000),
+    region VARCHAR(1000),
+    sub_region VARCHAR(1000),
+    geography_type VARCHAR(500),
+    gallery_number VARCHAR(50),
+    image_url VARCHAR,
+    thumbnail_image_url VARCHAR(500),
+    description VARCHAR,
+    department VARCHAR(500),
+    creation_date VARCHAR(1000),
+    chronological_sort_value INTEGER,
+    processing_status VARCHAR(50) DEFAULT 'PENDING',
+    last_sync_attempt TIMESTAMP,
+    last_sync_error VARCHAR,
+    artist_prefix VARCHAR(500),
+    artist_role VARCHAR(500),
+    classification VARCHAR(1000),
+    copyright_status VARCHAR(1000),
+    additional_metadata JSON DEFAULT JSON '{}',
+    content_hash VARCHAR(64),
+    -- Derived query columns, see DerivedArtworkFields
+    year_start INTEGER,
+    year_end INTEGER,
+    period_bucket VARCHAR(30),
+    cultural_region VARCHAR(50),
+    cultural_sub_region VARCHAR(50),
+    medium_family VARCHAR(20),
+    has_image BOOLEAN NOT NULL DEFAULT false,
+    derived_version SMALLINT,
+    CONSTRAINT external_id_museum_unique UNIQUE (external_id, museum_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_artwork_museum ON artworks(museum_id);
+CREATE INDEX IF NOT EXISTS idx_artwork_artist ON artworks(artist_id);
+CREATE INDEX IF NOT EXISTS idx_artworks_medium_family ON artworks(museum_id, medium_family);
+CREATE INDEX IF NOT EXISTS idx_artworks_cultural_region ON artworks(cultural_region, cultural_sub_region);
+
+CREATE TABLE IF NOT EXISTS catalog_version (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO catalog_version (id, version)
+SELECT 1, 1 WHERE NOT EXISTS (SELECT 1 FROM catalog_version);
@@ -0,0 +1,6 @@
+-- Supports prefix matching for artist autocomplete
+CREATE INDEX idx_artists_name_lower_prefix ON artists (LOWER(artist_name) text_pattern_ops);
+
+-- Supports per-museum work counts for suggested artists
+CREATE INDEX idx_artwork_artist_museum_active ON artworks(artist_id, museum_id)
+    WHERE is_deleted = false;
@@ -0,0 +1,5 @@
+-- Allocate ids in pooled blocks of 50 so inserts can be batched.
+-- Must match allocationSize in BaseEntity and ArtworkBatchRepository.ID_ALLOCATION_SIZE.
+-- Each nextval() reserves the block (value - 50, value], so the first block after
+-- this change starts right after the last id handed out with the old increment.
+ALTER SEQUENCE id_sequence INCREMENT BY 50;
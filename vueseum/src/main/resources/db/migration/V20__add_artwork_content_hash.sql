@@ -0,0 +1,3 @@
+-- SHA-256 of the normalized source fields last written by sync.
+-- Sync skips artworks whose incoming hash matches, avoiding no-op row versions.
+ALTER TABLE artworks ADD COLUMN content_hash VARCHAR(64);
@@ -0,0 +1,7 @@
+-- Persistent cache of image URL validation results, so syncs only re-check
+-- image URLs once their result has expired.
+CREATE TABLE image_url_validations (
+    url TEXT PRIMARY KEY,
+    is_valid BOOLEAN NOT NULL,
+    checked_at TIMESTAMP NOT NULL
+);
@@ -0,0 +1,9 @@
+-- ETag / Last-Modified of the last successfully synced API response per object,
+-- sent back as If-None-Match / If-Modified-Since so unchanged objects return 304.
+CREATE TABLE artwork_fetch_validators (
+    museum_id BIGINT NOT NULL REFERENCES museums(id),
+    external_id VARCHAR(255) NOT NULL,
+    etag TEXT,
+    last_modified TEXT,
+    PRIMARY KEY (museum_id, external_id)
+);
@@ -0,0 +1,66 @@
+-- Persistent sync runs, so a full sync interrupted by a restart or deploy
+-- resumes from its last completed chunk instead of starting over.
+CREATE TABLE sync_runs (
+    -- Base entity fields inherited from BaseEntity
+    id BIGINT PRIMARY KEY DEFAULT nextval('id_sequence'),
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(255),
+    last_modified_by VARCHAR(255),
+    is_deleted BOOLEAN NOT NULL DEFAULT false,
+    deleted_at TIMESTAMP,
+
+    -- Sync run fields
+    museum_id BIGINT NOT NULL REFERENCES museums(id),
+    full_sync BOOLEAN NOT NULL,
+    incremental_since TIMESTAMP,
+    status VARCHAR(20) NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    last_checkpoint_at TIMESTAMP,
+    total_ids INTEGER NOT NULL,
+    chunk_count INTEGER NOT NULL,
+    processed_count INTEGER NOT NULL DEFAULT 0,
+    error_count INTEGER NOT NULL DEFAULT 0,
+    failure_reason TEXT
+);
+
+CREATE INDEX idx_sync_runs_museum_status ON sync_runs(museum_id, status);
+
+CREATE TABLE sync_run_chunks (
+    -- Base entity fields inherited from BaseEntity
+    id BIGINT PRIMARY KEY DEFAULT nextval('id_sequence'),
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_by VARCHAR(255),
+    last_modified_by VARCHAR(255),
+    is_deleted BOOLEAN NOT NULL DEFAULT false,
+    deleted_at TIMESTAMP,
+
+    -- Chunk fields
+    sync_run_id BIGINT NOT NULL REFERENCES sync_runs(id) ON DELETE CASCADE,
+    chunk_index INTEGER NOT NULL,
+    external_ids JSONB NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    processed_count INTEGER NOT NULL DEFAULT 0,
+    error_count INTEGER NOT NULL DEFAULT 0,
+    failed_ids JSONB,
+    completed_at TIMESTAMP,
+
+    CONSTRAINT unique_sync_run_chunk UNIQUE (sync_run_id, chunk_index)
+);
+
+CREATE INDEX idx_sync_run_chunks_pending ON sync_run_chunks(sync_run_id, chunk_index)
+    WHERE status = 'PENDING';
+
+CREATE TRIGGER update_sync_runs_updated_at
+    BEFORE UPDATE ON sync_runs
+    FOR EACH ROW
+EXECUTE FUNCTION update_updated_at_column();
+
+CREATE TRIGGER update_sync_run_chunks_updated_at
+    BEFORE UPDATE ON sync_run_chunks
+    FOR EACH ROW
+EXECUTE FUNCTION update_updated_at_column();
@@ -0,0 +1,8 @@
+-- External ids a museum reported as on view at its last full sync. The next full
+-- sync diffs the new list against this set instead of re-fetching every object.
+CREATE TABLE museum_on_view_ids (
+    museum_id BIGINT NOT NULL REFERENCES museums(id),
+    external_id VARCHAR(255) NOT NULL,
+    first_seen_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (museum_id, external_id)
+);
@@ -0,0 +1,21 @@
+-- Leases that let several application nodes share a sync run. The node that starts
+-- or resumes a run owns it and finishes it; any node may claim pending chunks.
+-- Leases expire unless renewed, so work held by a node that died is picked up again.
+ALTER TABLE sync_runs
+    ADD COLUMN owner_node VARCHAR(100),
+    ADD COLUMN owner_lease_expires_at TIMESTAMP;
+
+ALTER TABLE sync_run_chunks
+    ADD COLUMN leased_by VARCHAR(100),
+    ADD COLUMN lease_expires_at TIMESTAMP;
+
+CREATE INDEX idx_sync_runs_running ON sync_runs(id) WHERE status = 'RUNNING';
+
+-- One row per schedule firing: the node that inserts it runs the scheduled sync
+CREATE TABLE sync_schedule_claims (
+    schedule_name VARCHAR(100) NOT NULL,
+    fire_time TIMESTAMP NOT NULL,
+    node_id VARCHAR(100) NOT NULL,
+    claimed_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (schedule_name, fire_time)
+);
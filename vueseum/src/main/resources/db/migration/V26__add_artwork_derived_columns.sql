@@ -0,0 +1,24 @@
+-- Query columns derived from the source fields when sync writes an artwork, see
+-- DerivedArtworkFields. Searches filter on these instead of parsing creation dates,
+-- mapping cultures and matching media at read time.
+ALTER TABLE artworks
+    ADD COLUMN year_start INTEGER,
+    ADD COLUMN year_end INTEGER,
+    ADD COLUMN period_bucket VARCHAR(30),
+    ADD COLUMN cultural_region VARCHAR(50),
+    ADD COLUMN cultural_sub_region VARCHAR(50),
+    ADD COLUMN medium_family VARCHAR(20),
+    ADD COLUMN has_image BOOLEAN NOT NULL DEFAULT false,
+    -- DerivedArtworkFields.VERSION the columns were computed with; NULL until backfilled
+    ADD COLUMN derived_version SMALLINT;
+
+-- Images need no parsing, so existing rows get them right away; the other columns
+-- are filled by the backfill job on startup
+UPDATE artworks
+SET has_image = COALESCE(image_url, '') <> '' OR COALESCE(thumbnail_image_url, '') <> '';
+
+CREATE INDEX idx_artworks_period_bucket ON artworks(period_bucket) WHERE is_deleted = false;
+CREATE INDEX idx_artworks_year_range ON artworks(year_start, year_end) WHERE is_deleted = false;
+CREATE INDEX idx_artworks_cultural_region ON artworks(cultural_region, cultural_sub_region) WHERE is_deleted = false;
+CREATE INDEX idx_artworks_medium_family ON artworks(museum_id, medium_family) WHERE is_deleted = false;
+CREATE INDEX idx_artworks_has_image ON artworks(museum_id) WHERE has_image AND is_deleted = false;
@@ -0,0 +1,9 @@
+-- Monotonic version of the artwork catalog, bumped whenever a sync run finishes.
+-- Nodes poll it so caches built from the catalog are refreshed on every node.
+CREATE TABLE catalog_version (
+    id SMALLINT PRIMARY KEY CHECK (id = 1),
+    version BIGINT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO catalog_version (id, version) VALUES (1, 1);
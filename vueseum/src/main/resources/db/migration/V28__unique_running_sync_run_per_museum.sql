@@ -0,0 +1,11 @@
+-- At most one RUNNING sync run per museum, so two nodes starting a sync of the same
+-- museum at the same time cannot both create one. Duplicates left by the earlier
+-- check-then-insert guard are aborted first, keeping each museum's newest run.
+UPDATE sync_runs
+SET status = 'ABORTED',
+    failure_reason = 'Superseded by a concurrent sync run',
+    finished_at = CURRENT_TIMESTAMP
+WHERE status = 'RUNNING'
+  AND id NOT IN (SELECT MAX(id) FROM sync_runs WHERE status = 'RUNNING' GROUP BY museum_id);
+
+CREATE UNIQUE INDEX uq_sync_runs_running_museum ON sync_runs(museum_id) WHERE status = 'RUNNING';
@@ -0,0 +1,152 @@
+import com.mvp.vueseum.client.AdaptiveRateLimiter;
+import com.mvp.vueseum.exception.ApiClientException;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+class AdaptiveRateLimiterTest {
+
+    private HttpServer server;
+    private RestClient restClient;
+    private final AtomicInteger requests = new AtomicInteger();
+    private volatile int throttledResponses;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/objects", exchange -> {
+            int request = requests.incrementAndGet();
+            if (request <= throttledResponses) {
+                exchange.getResponseHeaders().add("Retry-After", "0");
+                exchange.sendResponseHeaders(429, -1);
+            } else {
+                byte[] body = "{\"objectID\":1}".getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().add("Content-Type", "application/json");
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+            exchange.close();
+        });
+        server.start();
+        restClient = RestClient.create("http://localhost:" + server.getAddress().getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    private String fetch(AdaptiveRateLimiter limiter) {
+        return limiter.execute(() -> restClient.get().uri("/objects").retrieve().body(String.class));
+    }
+
+    @Test
+    @DisplayName("when the server answers 429, the rate is cut and the request is retried")
+    void whenServerThrottles_rateIsCutAndRequestRetried() {
+        throttledResponses = 1;
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("test", 40, 5, 80);
+
+        String response = fetch(limiter);
+
+        assertThat(response).contains("objectID");
+        assertThat(requests.get()).isEqualTo(2);
+        assertThat(limiter.getThrottledCount()).isEqualTo(1);
+        assertThat(limiter.getRate()).isLessThan(40);
+    }
+
+    @Test
+    @DisplayName("when the server keeps throttling, the request fails after the attempt limit")
+    void whenServerKeepsThrottling_requestFails() {
+        throttledResponses = Integer.MAX_VALUE;
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("test", 40, 5, 80);
+
+        assertThatThrownBy(() -> fetch(limiter))
+                .isInstanceOf(HttpClientErrorException.TooManyRequests.class);
+        assertThat(requests.get()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("when responses succeed, the rate grows additively up to the maximum")
+    void whenResponsesSucceed_rateGrowsUpToMaximum() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("test", 10, 5, 12);
+
+        limiter.onSuccess(Duration.ofMillis(50));
+        assertThat(limiter.getRate()).isCloseTo(10.1, offset(0.001));
+
+        for (int i = 0; i < 1000; i++) {
+            limiter.onSuccess(Duration.ofMillis(50));
+        }
+        assertThat(limiter.getRate()).isEqualTo(12);
+    }
+
+    @Test
+    @DisplayName("when responses are slow, the rate is held")
+    void whenResponsesAreSlow_rateIsHeld() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("test", 10, 5, 80);
+
+        limiter.onSuccess(Duration.ofSeconds(3));
+
+        assertThat(limiter.getRate()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("when errors arrive in a burst, the rate is cut once and never below the minimum")
+    void whenErrorsArriveInBurst_rateIsCutOnce() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("test", 8, 5, 80);
+
+        limiter.onServerError();
+        limiter.onServerError();
+        limiter.onThrottled(null);
+
+        assertThat(limiter.getRate()).isEqualTo(5);
+        assertThat(limiter.getThrottledCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("when interrupted while paused by Retry-After, acquiring fails instead of sending unthrottled")
+    void whenInterruptedWhilePaused_acquireFails() {
+        AdaptiveRateLimiter limiter = new AdaptiveRateLimiter("test", 10, 5, 80);
+        limiter.onThrottled(Duration.ofMinutes(1));
+
+        Thread.currentThread().interrupt();
+        try {
+            assertThatThrownBy(limiter::acquire).isInstanceOf(ApiClientException.class);
+            assertThat(Thread.currentThread().isInterrupted()).isTrue();
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    @DisplayName("when parsing Retry-After, both seconds and HTTP dates are read")
+    void whenParsingRetryAfter_secondsAndDatesAreRead() {
+        String inThirtySeconds = DateTimeFormatter.RFC_1123_DATE_TIME
+                .format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+
+        assertThat(AdaptiveRateLimiter.parseRetryAfter("120")).isEqualTo(Duration.ofSeconds(120));
+        assertThat(AdaptiveRateLimiter.parseRetryAfter(inThirtySeconds))
+                .isBetween(Duration.ofSeconds(25), Duration.ofSeconds(30));
+        assertThat(AdaptiveRateLimiter.parseRetryAfter("soon")).isNull();
+        assertThat(AdaptiveRateLimiter.parseRetryAfter(null)).isNull();
+    }
+}
@@ -0,0 +1,213 @@
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.mvp.vueseum.domain.ArtworkDetails;
+import com.mvp.vueseum.domain.DerivedArtworkFields;
+import com.mvp.vueseum.domain.MediumFamily;
+import com.mvp.vueseum.entity.Artwork;
+import com.mvp.vueseum.repository.ArtworkBatchRepository;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.ArtworkRow;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.ComputedFieldsRow;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.DerivedFieldsSource;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.RecomputedFields;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.StoredArtwork;
+import com.mvp.vueseum.repository.FetchValidatorRepository;
+import com.mvp.vueseum.service.artist.ArtistService;
+import com.mvp.vueseum.service.artwork.ArtworkBatchService;
+import com.mvp.vueseum.service.artwork.SyncEntityResolver;
+import com.mvp.vueseum.util.ContentHashUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArtworkBatchServiceTest {
+    @Mock
+    private ArtworkBatchRepository artworkBatchRepository;
+    @Mock
+    private FetchValidatorRepository fetchValidatorRepository;
+    @Mock
+    private ArtistService artistService;
+
+    private Cache<String, Artwork> artworkCache;
+    private ArtworkBatchService artworkBatchService;
+
+    @BeforeEach
+    void setUp() {
+        artworkCache = Caffeine.newBuilder().maximumSize(100).build();
+        artworkBatchService = new ArtworkBatchService(artworkBatchRepository, fetchValidatorRepository, artistService, artworkCache);
+    }
+
+    private static ArtworkDetails details(String externalId, String artistName) {
+        return ArtworkDetails.builder()
+                .externalId(externalId)
+                .title("Artwork " + externalId)
+                .artistName(artistName)
+                .creationYear("1889")
+                .build();
+    }
+
+    @Test
+    @DisplayName("when saving a batch, allocates ids only for new artworks and upserts all rows at once")
+    void whenSavingBatch_allocatesIdsOnlyForNewArtworks() {
+        List<ArtworkDetails> batch = List.of(
+                details("1", "Vincent van Gogh"),
+                details("2", "Claude Monet"),
+                details("3", "Vincent van Gogh"));
+
+        when(artistService.resolveArtistIds(anyCollection()))
+                .thenReturn(Map.of("Vincent van Gogh", 10L, "Claude Monet", 11L));
+        when(artworkBatchRepository.findStoredByExternalIds(eq(1L), anyCollection()))
+                .thenReturn(Map.of("2", new StoredArtwork(500L, "stale-hash", true)));
+        when(artworkBatchRepository.allocateIds(2)).thenReturn(List.of(601L, 602L));
+        when(artworkBatchRepository.upsertArtworks(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        ArtworkBatchService.SaveResult result =
+                artworkBatchService.saveBatchFromDetails(batch, artworkBatchService.openSyncResolver(1L));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ArtworkRow>> rows = ArgumentCaptor.forClass(List.class);
+        verify(artworkBatchRepository, times(1)).upsertArtworks(rows.capture());
+
+        assertThat(result.written()).isEqualTo(3);
+        assertThat(rows.getValue())
+                .extracting(ArtworkRow::externalId, ArtworkRow::id, ArtworkRow::artistId)
+                .containsExactly(
+                        tuple("1", 601L, 10L),
+                        tuple("2", 500L, 11L),
+                        tuple("3", 602L, 10L));
+        assertThat(rows.getValue()).allSatisfy(row -> {
+            assertThat(row.museumId()).isEqualTo(1L);
+            assertThat(row.chronologicalSortValue()).isEqualTo(1889);
+            assertThat(row.additionalMetadataJson()).isEqualTo("{\"tags\":[]}");
+            assertThat(row.contentHash()).hasSize(64);
+        });
+    }
+
+    @Test
+    @DisplayName("when a batch repeats an external id, the last occurrence wins")
+    void whenBatchRepeatsExternalId_lastOccurrenceWins() {
+        List<ArtworkDetails> batch = List.of(details("1", "First"), details("1", "Second"));
+
+        when(artistService.resolveArtistIds(anyCollection())).thenReturn(Map.of("Second", 20L));
+        when(artworkBatchRepository.findStoredByExternalIds(eq(1L), anyCollection())).thenReturn(Map.of());
+        when(artworkBatchRepository.allocateIds(1)).thenReturn(List.of(700L));
+
+        artworkBatchService.saveBatchFromDetails(batch, artworkBatchService.openSyncResolver(1L));
+
+        verify(artworkBatchRepository).upsertArtworks(argThat(rows ->
+                rows.size() == 1 && rows.getFirst().artistId() == 20L));
+    }
+
+    @Test
+    @DisplayName("when stored content hashes match, unchanged artworks are skipped before any write work")
+    void whenContentHashesMatch_unchangedArtworksAreSkipped() {
+        ArtworkDetails unchanged = details("1", "Claude Monet");
+        ArtworkDetails changed = details("2", "Claude Monet");
+        ArtworkDetails failedLastTime = details("3", "Claude Monet");
+
+        when(artworkBatchRepository.findStoredByExternalIds(eq(1L), anyCollection())).thenReturn(Map.of(
+                "1", new StoredArtwork(100L, ContentHashUtil.hashArtworkContent(unchanged), true),
+                "2", new StoredArtwork(200L, "stale-hash", true),
+                "3", new StoredArtwork(300L, ContentHashUtil.hashArtworkContent(failedLastTime), false)));
+        when(artistService.resolveArtistIds(anyCollection())).thenReturn(Map.of("Claude Monet", 11L));
+        when(artworkBatchRepository.upsertArtworks(anyList())).thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        ArtworkBatchService.SaveResult result = artworkBatchService.saveBatchFromDetails(
+                List.of(unchanged, changed, failedLastTime), artworkBatchService.openSyncResolver(1L));
+
+        assertThat(result).isEqualTo(new ArtworkBatchService.SaveResult(2, 1));
+        verify(artworkBatchRepository).upsertArtworks(argThat(rows ->
+                rows.stream().map(ArtworkRow::id).toList().equals(List.of(200L, 300L))));
+        verify(artworkBatchRepository).touchLastSyncAttempt(eq(1L), eq(List.of("1")), any());
+    }
+
+    @Test
+    @DisplayName("when a whole batch is unchanged, nothing is resolved or written but the sync attempt is recorded")
+    void whenWholeBatchIsUnchanged_nothingIsWritten() {
+        ArtworkDetails unchanged = details("1", "Claude Monet");
+        when(artworkBatchRepository.findStoredByExternalIds(eq(1L), anyCollection())).thenReturn(Map.of(
+                "1", new StoredArtwork(100L, ContentHashUtil.hashArtworkContent(unchanged), true)));
+
+        ArtworkBatchService.SaveResult result = artworkBatchService.saveBatchFromDetails(
+                List.of(unchanged), artworkBatchService.openSyncResolver(1L));
+
+        assertThat(result).isEqualTo(new ArtworkBatchService.SaveResult(0, 1));
+        verify(artistService, never()).resolveArtistIds(anyCollection());
+        verify(artworkBatchRepository, never()).upsertArtworks(anyList());
+        verify(artworkBatchRepository).touchLastSyncAttempt(eq(1L), eq(List.of("1")), any());
+    }
+
+    @Test
+    @DisplayName("when artists are preloaded or seen earlier in the run, they are not resolved again")
+    void whenArtistsAreKnownToRun_theyAreNotResolvedAgain() {
+        when(artistService.findArtistIdsForMuseum(1L)).thenReturn(Map.of("Claude Monet", 11L));
+        when(artistService.resolveArtistIds(anyCollection())).thenReturn(Map.of("Vincent van Gogh", 10L));
+        when(artworkBatchRepository.findStoredByExternalIds(eq(1L), anyCollection())).thenReturn(Map.of());
+        when(artworkBatchRepository.allocateIds(anyInt())).thenReturn(List.of(801L, 802L));
+
+        SyncEntityResolver resolver = artworkBatchService.openSyncResolver(1L);
+        artworkBatchService.saveBatchFromDetails(
+                List.of(details("1", "Claude Monet"), details("2", "Vincent van Gogh")), resolver);
+        artworkBatchService.saveBatchFromDetails(
+                List.of(details("3", "Vincent van Gogh"), details("4", "Claude Monet")), resolver);
+
+        verify(artistService, times(1)).resolveArtistIds(argThat(names -> names.size() == 1));
+        assertThat(resolver.getMissCount()).isEqualTo(1);
+        assertThat(resolver.getHitCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("when backfilling a page, derived fields are computed from the stored source fields")
+    void whenBackfillingPage_derivedFieldsAreComputedFromSourceFields() {
+        when(artworkBatchRepository.lockStaleDerivedFields(0L, 2)).thenReturn(List.of(
+                new DerivedFieldsSource(5L, "1889", "Dutch", "Netherlands", "Paintings", "Oil on canvas", "https://img/5.jpg", null),
+                new DerivedFieldsSource(9L, null, null, null, null, null, null, null)));
+
+        Optional<ArtworkBatchService.BackfillPage> page = artworkBatchService.backfillDerivedFields(0L, 2);
+
+        assertThat(page).contains(new ArtworkBatchService.BackfillPage(9L, 2));
+        verify(artworkBatchRepository).updateDerivedFields(argThat(derived ->
+                derived.get(5L).periodBucket().equals("A.D. 1800-1900")
+                        && derived.get(5L).mediumFamily() == MediumFamily.PAINTING
+                        && derived.get(5L).hasImage()
+                        && !derived.get(9L).hasImage()));
+    }
+
+    @Test
+    @DisplayName("when no stale artwork is left, the backfill page is empty")
+    void whenNoStaleArtworkLeft_backfillPageIsEmpty() {
+        when(artworkBatchRepository.lockStaleDerivedFields(9L, 2)).thenReturn(List.of());
+
+        assertThat(artworkBatchService.backfillDerivedFields(9L, 2)).isEmpty();
+        verify(artworkBatchRepository, never()).updateDerivedFields(anyMap());
+    }
+
+    @Test
+    @DisplayName("when reprocessing a range, only artworks whose computed columns changed are rewritten")
+    void whenReprocessingRange_onlyChangedArtworksAreRewritten() {
+        DerivedFieldsSource current = new DerivedFieldsSource(5L, "1889", "Dutch", "Netherlands", "Paintings", "Oil on canvas", "https://img/5.jpg", null);
+        DerivedFieldsSource outdated = new DerivedFieldsSource(6L, "ca. 1850–60", null, null, null, null, null, null);
+        when(artworkBatchRepository.lockComputedFieldsInRange(5L, 10L)).thenReturn(List.of(
+                new ComputedFieldsRow(current, 1889, current.derive(), DerivedArtworkFields.VERSION),
+                new ComputedFieldsRow(outdated, 0, current.derive(), DerivedArtworkFields.VERSION)));
+
+        ArtworkBatchService.ReprocessedRange range = artworkBatchService.reprocessRange(5L, 10L);
+
+        assertThat(range).isEqualTo(new ArtworkBatchService.ReprocessedRange(2, 1));
+        verify(artworkBatchRepository).updateRecomputedFields(List.of(
+                new RecomputedFields(6L, 1850, outdated.derive())));
+    }
+}
@@ -0,0 +1,109 @@
+import com.mvp.vueseum.exception.InvalidRequestException;
+import com.mvp.vueseum.exception.PersistenceException;
+import com.mvp.vueseum.repository.ArtworkBatchRepository;
+import com.mvp.vueseum.repository.ArtworkBatchRepository.IdRange;
+import com.mvp.vueseum.service.artwork.ArtworkBatchService;
+import com.mvp.vueseum.service.artwork.ArtworkBatchService.ReprocessedRange;
+import com.mvp.vueseum.service.artwork.ArtworkReprocessingService;
+import com.mvp.vueseum.service.artwork.ReprocessJob;
+import com.mvp.vueseum.service.catalog.CatalogVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ArtworkReprocessingServiceTest {
+    @Mock
+    private ArtworkBatchRepository artworkBatchRepository;
+    @Mock
+    private ArtworkBatchService artworkBatchService;
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-15T12:00:00Z"), ZoneOffset.UTC);
+
+    private ArtworkReprocessingService reprocessingService;
+
+    @BeforeEach
+    void setUp() {
+        reprocessingService = new ArtworkReprocessingService(
+                artworkBatchRepository, artworkBatchService, catalogVersionService, clock, 10, 3);
+    }
+
+    private static ReprocessJob awaitFinished(ReprocessJob job) {
+        job.getCompletion().orTimeout(5, TimeUnit.SECONDS).join();
+        return job;
+    }
+
+    @Test
+    @DisplayName("when reprocessing, the id space is covered by consecutive ranges and changes bump the catalog version")
+    void whenReprocessing_everyRangeIsProcessed() {
+        when(artworkBatchRepository.findIdRange()).thenReturn(Optional.of(new IdRange(5, 29)));
+        when(artworkBatchService.reprocessRange(anyLong(), anyLong())).thenReturn(new ReprocessedRange(10, 2));
+
+        ReprocessJob job = awaitFinished(reprocessingService.start());
+
+        verify(artworkBatchService).reprocessRange(5, 15);
+        verify(artworkBatchService).reprocessRange(15, 25);
+        verify(artworkBatchService).reprocessRange(25, 30);
+        assertThat(job.getState()).isEqualTo(ReprocessJob.State.SUCCEEDED);
+        assertThat(job.getTotalRanges()).isEqualTo(3);
+        assertThat(job.getScannedCount()).hasValue(30);
+        assertThat(job.getUpdatedCount()).hasValue(6);
+        verify(catalogVersionService).bump();
+    }
+
+    @Test
+    @DisplayName("when a range fails, the others still run and the job is reported failed")
+    void whenRangeFails_othersStillRun() {
+        when(artworkBatchRepository.findIdRange()).thenReturn(Optional.of(new IdRange(1, 20)));
+        when(artworkBatchService.reprocessRange(1, 11)).thenThrow(new PersistenceException("deadlock detected"));
+        when(artworkBatchService.reprocessRange(11, 21)).thenReturn(new ReprocessedRange(10, 0));
+
+        ReprocessJob job = awaitFinished(reprocessingService.start());
+
+        assertThat(job.getState()).isEqualTo(ReprocessJob.State.FAILED);
+        assertThat(job.getFailedRanges()).hasValue(1);
+        assertThat(job.getLastError()).isEqualTo("deadlock detected");
+        verifyNoInteractions(catalogVersionService);
+    }
+
+    @Test
+    @DisplayName("when a job is running, another cannot start, and a cancelled job skips its remaining ranges")
+    void whenJobRunning_anotherIsRejectedAndCancelStopsIt() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(artworkBatchRepository.findIdRange()).thenReturn(Optional.of(new IdRange(1, 1000)));
+        when(artworkBatchService.reprocessRange(anyLong(), anyLong())).thenAnswer(_ -> {
+            started.countDown();
+            release.await();
+            return new ReprocessedRange(10, 0);
+        });
+
+        ReprocessJob job = reprocessingService.start();
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> reprocessingService.start()).isInstanceOf(InvalidRequestException.class);
+        reprocessingService.cancel();
+        release.countDown();
+        awaitFinished(job);
+
+        assertThat(job.getState()).isEqualTo(ReprocessJob.State.CANCELLED);
+        verify(artworkBatchService, atMost(3)).reprocessRange(anyLong(), anyLong());
+    }
+}
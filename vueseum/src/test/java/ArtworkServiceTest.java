@@ -6,8 +6,10 @@ import com.mvp.vueseum.entity.Artist;
 import com.mvp.vueseum.entity.Artwork;
 import com.mvp.vueseum.entity.Museum;
 import com.mvp.vueseum.exception.ResourceNotFoundException;
+import com.mvp.vueseum.repository.ArtworkBatchRepository;
 import com.mvp.vueseum.repository.ArtworkRepository;
 import com.mvp.vueseum.service.artist.ArtistService;
+import com.mvp.vueseum.service.catalog.CatalogVersionedCache;
 import com.mvp.vueseum.service.artwork.ArtworkService;
 import com.mvp.vueseum.service.museum.MuseumService;
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +35,8 @@ class ArtworkServiceTest {
     @Mock
     private ArtworkRepository artworkRepository;
     @Mock
+    private ArtworkBatchRepository artworkBatchRepository;
+    @Mock
     private ArtistService artistService;
     @Mock
     private MuseumService museumService;
@@ -54,9 +58,11 @@ class ArtworkServiceTest {
         // Initialize service
         artworkService = new ArtworkService(
                 artworkRepository,
+                artworkBatchRepository,
                 artistService,
                 museumService,
-                artworkCache
+                artworkCache,
+                new CatalogVersionedCache<>("searchFilterOptions", Duration.ofMinutes(30), 1, 1)
         );
 
         // Setup test data
@@ -186,35 +192,39 @@ class ArtworkServiceTest {
     }
 
     @Test
-    @DisplayName("when removing non-displayed artworks, then soft deletes all not in displayed set")
-    void whenRemovingNonDisplayedArtworks_thenSoftDeletesAllNotInDisplayedSet() {
-        Set<String> displayedIds = Set.of("DISPLAYED-001");
+    @DisplayName("when removing non-displayed artworks, then soft deletes in chunks until none remain")
+    void whenRemovingNonDisplayedArtworks_thenSoftDeletesInChunks() {
         Long museumId = 1L;
-
-        when(museumService.findMuseumByIdForSync(museumId))
-                .thenReturn(Optional.of(testMuseum));
-
-        when(artworkRepository.softDeleteNonDisplayedArtworks(displayedIds, museumId))
-                .thenReturn(1);
-
-        artworkService.removeNonDisplayedArtworks(displayedIds, museumId);
-
-        verify(artworkRepository).softDeleteNonDisplayedArtworks(displayedIds, museumId);
+        List<String> fullChunk = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            fullChunk.add("GONE-" + i);
+        }
+        artworkCache.put("GONE-1", testArtwork);
+
+        when(museumService.isValidMuseum(museumId)).thenReturn(true);
+        when(artworkBatchRepository.softDeleteNotOnView(museumId, 1000))
+                .thenReturn(fullChunk)
+                .thenReturn(List.of("GONE-1000"));
+
+        int deleted = artworkService.removeNonDisplayedArtworks(museumId);
+
+        assertThat(deleted).isEqualTo(1001);
+        assertThat(artworkCache.getIfPresent("GONE-1")).isNull();
+        verify(artworkBatchRepository, times(2)).softDeleteNotOnView(museumId, 1000);
     }
 
     @Test
     @DisplayName("when removing artworks with invalid museum id, then throws exception")
     void whenRemovingArtworksWithInvalidMuseumId_thenThrowsException() {
-        when(museumService.findMuseumByIdForSync(999L))
-                .thenReturn(Optional.empty());
+        when(museumService.isValidMuseum(999L)).thenReturn(false);
 
         assertThatThrownBy(() ->
-                artworkService.removeNonDisplayedArtworks(Set.of("TEST-001"), 999L)
+                artworkService.removeNonDisplayedArtworks(999L)
         )
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Museum not found");
 
-        verify(artworkRepository, never()).delete(any(Artwork.class));
+        verify(artworkBatchRepository, never()).softDeleteNotOnView(anyLong(), anyInt());
     }
 
     @Test
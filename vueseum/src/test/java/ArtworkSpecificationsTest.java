@@ -1,3 +1,4 @@
+import com.mvp.vueseum.domain.MediumFamily;
 import com.mvp.vueseum.dto.ArtworkSearchCriteria;
 import com.mvp.vueseum.entity.Artist;
 import com.mvp.vueseum.entity.Artwork;
@@ -6,6 +7,7 @@ import com.mvp.vueseum.entity.Tour;
 import com.mvp.vueseum.specification.ArtworkSpecifications;
 import jakarta.persistence.criteria.*;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -35,6 +37,12 @@ class ArtworkSpecificationsTest {
     @Mock
     private Path<String> classificationPath;
     @Mock
+    private Path<String> countryPath;
+    @Mock
+    private Path<String> regionPath;
+    @Mock
+    private Path<Object> derivedPath;
+    @Mock
     private Path<Boolean> displayPath;
     @Mock
     private Join<Artwork, Artist> artistJoin;
@@ -46,6 +54,10 @@ class ArtworkSpecificationsTest {
     private Predicate likePredicate;
     @Mock
     private Predicate andPredicate;
+    @Mock
+    private Predicate derivedPredicate;
+    @Mock
+    private Predicate textPredicate;
 
     @BeforeEach
     void setUp() {
@@ -53,11 +65,56 @@ class ArtworkSpecificationsTest {
         lenient().when(root.<String>get("culture")).thenReturn(culturePath);
         lenient().when(root.<String>get("medium")).thenReturn(mediumPath);
         lenient().when(root.<String>get("classification")).thenReturn(classificationPath);
+        lenient().when(root.<String>get("country")).thenReturn(countryPath);
+        lenient().when(root.<String>get("region")).thenReturn(regionPath);
         lenient().when(root.<Boolean>get("isOnDisplay")).thenReturn(displayPath);
         lenient().when(root.<Artwork, Artist>join("artist")).thenReturn(artistJoin);
         lenient().when(root.<Artwork, Museum>join("museum")).thenReturn(museumJoin);
     }
 
+    @Test
+    @DisplayName("when a category names a medium family, artworks match the family or the classification and medium text")
+    void whenCategoryNamesFamily_familyOrTextMatches() {
+        ArtworkSearchCriteria criteria = new ArtworkSearchCriteria();
+        criteria.setCategory("Textiles");
+        lenient().when(root.get("mediumFamily")).thenReturn(derivedPath);
+        lenient().when(cb.equal(derivedPath, MediumFamily.TEXTILE)).thenReturn(derivedPredicate);
+        Predicate[] likes = stubLikes("%textiles%", classificationPath, mediumPath);
+        lenient().when(cb.or(likes[0], likes[1])).thenReturn(textPredicate);
+
+        ArtworkSpecifications.withSearchCriteria(criteria).toPredicate(root, query, cb);
+
+        verify(cb).or(derivedPredicate, textPredicate);
+    }
+
+    @Test
+    @DisplayName("when an origin names a cultural sub-region, artworks match the sub-region or the culture, country and region text")
+    void whenOriginNamesSubRegion_subRegionOrTextMatches() {
+        ArtworkSearchCriteria criteria = new ArtworkSearchCriteria();
+        criteria.setOrigin("East Asia");
+        lenient().when(root.get("culturalSubRegion")).thenReturn(derivedPath);
+        lenient().when(cb.equal(derivedPath, "East Asia")).thenReturn(derivedPredicate);
+        Predicate[] likes = stubLikes("%east asia%", culturePath, countryPath, regionPath);
+        lenient().when(cb.or(likes[0], likes[1], likes[2])).thenReturn(textPredicate);
+
+        ArtworkSpecifications.withSearchCriteria(criteria).toPredicate(root, query, cb);
+
+        verify(cb).or(derivedPredicate, textPredicate);
+    }
+
+    @SafeVarargs
+    private Predicate[] stubLikes(String pattern, Path<String>... paths) {
+        Predicate[] likes = new Predicate[paths.length];
+        for (int i = 0; i < paths.length; i++) {
+            @SuppressWarnings("unchecked")
+            Expression<String> lower = mock(Expression.class);
+            likes[i] = mock(Predicate.class);
+            lenient().when(cb.lower(paths[i])).thenReturn(lower);
+            lenient().when(cb.like(lower, pattern)).thenReturn(likes[i]);
+        }
+        return likes;
+    }
+
     /*@Test
     void whenSearchingByTitle_thenGeneratesCorrectPredicate() {
         // Setup test criteria
@@ -0,0 +1,144 @@
+import com.mvp.vueseum.repository.CatalogSnapshotRepository;
+import com.mvp.vueseum.repository.CatalogSnapshotRepository.Column;
+import com.mvp.vueseum.repository.CatalogSnapshotRepository.ColumnKind;
+import com.mvp.vueseum.repository.CatalogVersionRepository;
+import com.mvp.vueseum.repository.DatabasePlatform;
+import com.mvp.vueseum.service.catalog.CatalogSnapshotBootstrap;
+import com.mvp.vueseum.service.catalog.CatalogSnapshotService;
+import com.mvp.vueseum.service.catalog.CatalogVersionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the snapshot statements against the H2 database of the dev profile, with the
+ * schema its SQL init settings create.
+ */
+class CatalogSnapshotRepositoryTest {
+    private static final List<Column> MUSEUM_COLUMNS = List.of(
+            new Column("id", ColumnKind.LONG),
+            new Column("name", ColumnKind.TEXT),
+            new Column("location", ColumnKind.TEXT),
+            new Column("museum_hours", ColumnKind.JSON));
+
+    @TempDir
+    private Path directory;
+
+    private JdbcTemplate jdbcTemplate;
+    private CatalogSnapshotRepository catalogSnapshotRepository;
+    private CatalogVersionService catalogVersionService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        openDevProfileDatabase();
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogVersionService.shutdown();
+        jdbcTemplate.execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("when the dev schema is read, the catalog columns are discovered with their kinds")
+    void whenDevSchemaIsRead_catalogColumnsAreDiscovered() {
+        assertThat(catalogSnapshotRepository.findColumns("museums"))
+                .contains(new Column("museum_hours", ColumnKind.JSON), new Column("is_deleted", ColumnKind.BOOL));
+        assertThat(catalogSnapshotRepository.findColumns("artworks"))
+                .contains(new Column("description", ColumnKind.TEXT), new Column("derived_version", ColumnKind.INT),
+                        new Column("last_sync_attempt", ColumnKind.TIMESTAMP));
+        assertThat(catalogSnapshotRepository.hasCatalogRows()).isFalse();
+    }
+
+    @Test
+    @DisplayName("when rows with JSON columns are imported into H2, they stream back as the same JSON text")
+    void whenJsonRowsAreInsertedIntoH2_theyRoundTrip() {
+        catalogSnapshotRepository.insertRows("museums", MUSEUM_COLUMNS, List.<Object[]>of(
+                new Object[]{1L, "The Met", "New York", "{\"monday\":\"closed\"}"},
+                new Object[]{2L, "Cloisters", "New York", null}));
+
+        List<Object[]> rows = new ArrayList<>();
+        catalogSnapshotRepository.streamRows("museums", MUSEUM_COLUMNS, rows::add);
+        assertThat(rows).containsExactly(
+                new Object[]{1L, "The Met", "New York", "{\"monday\":\"closed\"}"},
+                new Object[]{2L, "Cloisters", "New York", null});
+        assertThat(catalogSnapshotRepository.hasCatalogRows()).isTrue();
+    }
+
+    @Test
+    @DisplayName("when the id sequence is advanced on H2, the next block starts after the imported ids and never moves back")
+    void whenIdSequenceIsAdvancedOnH2_itNeverMovesBack() {
+        catalogSnapshotRepository.advanceIdSequencePast(120);
+        assertThat(nextId()).isEqualTo(170);
+
+        catalogSnapshotRepository.advanceIdSequencePast(10);
+        assertThat(nextId()).isEqualTo(220);
+    }
+
+    @Test
+    @DisplayName("when a dev profile node starts with a bootstrap snapshot, the empty catalog is loaded from it")
+    void whenDevProfileStartsWithBootstrapSnapshot_catalogIsLoaded() throws IOException {
+        jdbcTemplate.update("INSERT INTO museums (id, name, location) VALUES (1, 'The Met', 'New York')");
+        jdbcTemplate.update("INSERT INTO artists (id, artist_name) VALUES (2, 'Hokusai')");
+        jdbcTemplate.update("""
+                INSERT INTO artworks (id, title, external_id, artist_id, museum_id, medium_family, has_image)
+                VALUES (340, 'The Great Wave', '45434', 2, 1, 'PRINT', true)
+                """);
+        String file = snapshotService().export().file();
+
+        tearDown();
+        openDevProfileDatabase();
+        new CatalogSnapshotBootstrap(snapshotService(), catalogSnapshotRepository, file).bootstrap();
+
+        assertThat(jdbcTemplate.queryForList("SELECT title FROM artworks WHERE medium_family = 'PRINT' AND has_image",
+                String.class)).containsExactly("The Great Wave");
+        assertThat(jdbcTemplate.queryForObject("SELECT artist_name FROM artists WHERE id = 2", String.class))
+                .isEqualTo("Hokusai");
+        assertThat(nextId()).isEqualTo(390);
+        assertThat(new CatalogVersionRepository(jdbcTemplate, new DatabasePlatform(jdbcTemplate)).findCurrentVersion())
+                .isEqualTo(2);
+    }
+
+    private void openDevProfileDatabase() throws IOException {
+        Properties dev = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application-dev.properties"));
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(dev.getProperty("spring.datasource.url"),
+                dev.getProperty("spring.datasource.username"), dev.getProperty("spring.datasource.password"));
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+        for (String location : dev.getProperty("spring.sql.init.schema-locations").split(",")) {
+            populator.addScript(new DefaultResourceLoader().getResource(location.trim()));
+        }
+        populator.execute(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DatabasePlatform databasePlatform = new DatabasePlatform(jdbcTemplate);
+        catalogSnapshotRepository = new CatalogSnapshotRepository(jdbcTemplate, databasePlatform);
+        catalogVersionService = new CatalogVersionService(
+                new CatalogVersionRepository(jdbcTemplate, databasePlatform), _ -> {});
+    }
+
+    private CatalogSnapshotService snapshotService() {
+        return new CatalogSnapshotService(catalogSnapshotRepository, catalogVersionService,
+                Clock.systemUTC(), directory);
+    }
+
+    private long nextId() {
+        return jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR id_sequence", Long.class);
+    }
+}
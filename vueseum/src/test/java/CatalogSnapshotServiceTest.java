@@ -0,0 +1,170 @@
+import com.mvp.vueseum.exception.InvalidRequestException;
+import com.mvp.vueseum.repository.CatalogSnapshotRepository;
+import com.mvp.vueseum.repository.CatalogSnapshotRepository.Column;
+import com.mvp.vueseum.repository.CatalogSnapshotRepository.ColumnKind;
+import com.mvp.vueseum.service.catalog.CatalogSnapshotService;
+import com.mvp.vueseum.service.catalog.CatalogVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogSnapshotServiceTest {
+    private static final List<Column> MUSEUM_COLUMNS = List.of(
+            new Column("id", ColumnKind.LONG),
+            new Column("name", ColumnKind.TEXT),
+            new Column("museum_hours", ColumnKind.JSON));
+    private static final List<Column> ARTIST_COLUMNS = List.of(
+            new Column("id", ColumnKind.LONG),
+            new Column("artist_name", ColumnKind.TEXT));
+    private static final List<Column> ARTWORK_COLUMNS = List.of(
+            new Column("id", ColumnKind.LONG),
+            new Column("museum_id", ColumnKind.LONG),
+            new Column("title", ColumnKind.TEXT),
+            new Column("year_start", ColumnKind.INT),
+            new Column("has_image", ColumnKind.BOOL),
+            new Column("updated_at", ColumnKind.TIMESTAMP));
+
+    @Mock
+    private CatalogSnapshotRepository catalogSnapshotRepository;
+    @Mock
+    private CatalogVersionService catalogVersionService;
+    @TempDir
+    private Path directory;
+
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(Instant.parse("2024-03-01T12:00:00Z"), ZoneOffset.UTC);
+        catalogSnapshotService = new CatalogSnapshotService(catalogSnapshotRepository, catalogVersionService,
+                clock, directory);
+    }
+
+    @Test
+    @DisplayName("when a snapshot is exported and imported, every row comes back unchanged and ids stay ahead")
+    void whenSnapshotRoundTrips_rowsAreUnchanged() {
+        Map<String, List<Object[]>> tables = Map.of(
+                "museums", List.<Object[]>of(new Object[]{1L, "The Met", "{\"open\": \"10:00\"}"}),
+                "artists", List.of(new Object[]{2L, "Hokusai"}, new Object[]{3L, null}),
+                "artworks", artworks(5000));
+        stubTables(Map.of("museums", MUSEUM_COLUMNS, "artists", ARTIST_COLUMNS, "artworks", ARTWORK_COLUMNS));
+        doAnswer(invocation -> {
+            Consumer<Object[]> consumer = invocation.getArgument(2);
+            tables.get(invocation.<String>getArgument(0)).forEach(consumer);
+            return null;
+        }).when(catalogSnapshotRepository).streamRows(anyString(), anyList(), any());
+
+        CatalogSnapshotService.SnapshotSummary exported = catalogSnapshotService.export();
+
+        Map<String, List<Object[]>> imported = captureInserts();
+        when(catalogSnapshotRepository.hasCatalogRows()).thenReturn(false);
+
+        CatalogSnapshotService.SnapshotSummary summary = catalogSnapshotService.importSnapshot(exported.file());
+
+        assertThat(exported.file()).isEqualTo("catalog-20240301-120000.vsnap");
+        assertThat(exported.rows()).containsEntry("artworks", 5000L);
+        assertThat(summary.rows()).isEqualTo(exported.rows());
+        tables.forEach((table, rows) ->
+                assertThat(imported.get(table)).map(Arrays::asList).isEqualTo(rows.stream().map(Arrays::asList).toList()));
+        verify(catalogSnapshotRepository).advanceIdSequencePast(5003L);
+        verify(catalogVersionService).bump();
+    }
+
+    @Test
+    @DisplayName("when a snapshot column no longer exists, it is left out of the import")
+    void whenSnapshotColumnIsMissing_itIsSkipped() {
+        List<Column> artworkColumns = List.of(new Column("id", ColumnKind.LONG), new Column("title", ColumnKind.TEXT));
+        List<Column> currentArtworkColumns = List.of(new Column("id", ColumnKind.LONG));
+        when(catalogSnapshotRepository.findColumns("museums")).thenReturn(MUSEUM_COLUMNS);
+        when(catalogSnapshotRepository.findColumns("artists")).thenReturn(ARTIST_COLUMNS);
+        when(catalogSnapshotRepository.findColumns("artworks")).thenReturn(artworkColumns, currentArtworkColumns);
+        doAnswer(invocation -> {
+            if (invocation.getArgument(0).equals("artworks")) {
+                invocation.<Consumer<Object[]>>getArgument(2).accept(new Object[]{10L, "Wave"});
+            }
+            return null;
+        }).when(catalogSnapshotRepository).streamRows(anyString(), anyList(), any());
+        String file = catalogSnapshotService.export().file();
+        Map<String, List<Object[]>> imported = captureInserts();
+        when(catalogSnapshotRepository.hasCatalogRows()).thenReturn(false);
+
+        catalogSnapshotService.importSnapshot(file);
+
+        verify(catalogSnapshotRepository).insertRows(eq("artworks"), eq(currentArtworkColumns), anyList());
+        assertThat(imported.get("artworks")).singleElement().isEqualTo(new Object[]{10L});
+    }
+
+    @Test
+    @DisplayName("when the catalog already has rows, the import is refused")
+    void whenCatalogIsNotEmpty_importIsRefused() throws Exception {
+        Files.writeString(directory.resolve("catalog.vsnap"), "");
+        when(catalogSnapshotRepository.hasCatalogRows()).thenReturn(true);
+
+        assertThatThrownBy(() -> catalogSnapshotService.importSnapshot("catalog.vsnap"))
+                .isInstanceOf(InvalidRequestException.class);
+        verify(catalogSnapshotRepository, never()).insertRows(anyString(), anyList(), anyList());
+        verifyNoInteractions(catalogVersionService);
+    }
+
+    @Test
+    @DisplayName("when the file name leaves the snapshot directory, the import is refused")
+    void whenFileNameIsAPath_importIsRefused() {
+        assertThatThrownBy(() -> catalogSnapshotService.importSnapshot("../catalog.vsnap"))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(catalogSnapshotRepository);
+    }
+
+    private void stubTables(Map<String, List<Column>> columns) {
+        columns.forEach((table, tableColumns) ->
+                when(catalogSnapshotRepository.findColumns(table)).thenReturn(tableColumns));
+    }
+
+    private Map<String, List<Object[]>> captureInserts() {
+        Map<String, List<Object[]>> inserted = new HashMap<>();
+        doAnswer(invocation -> {
+            inserted.computeIfAbsent(invocation.getArgument(0), _ -> new ArrayList<>())
+                    .addAll(invocation.getArgument(2));
+            return null;
+        }).when(catalogSnapshotRepository).insertRows(anyString(), anyList(), anyList());
+        return inserted;
+    }
+
+    private static List<Object[]> artworks(int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 2, 1, 9, 30, 15, 123_456_000);
+        for (int i = 0; i < count; i++) {
+            rows.add(new Object[]{
+                    4L + i,
+                    1L,
+                    "Artwork " + i + (i % 7 == 0 ? " – 富嶽三十六景" : ""),
+                    i % 5 == 0 ? null : -500 + i,
+                    i % 2 == 0,
+                    i % 11 == 0 ? null : updatedAt.minusMinutes(i)
+            });
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,71 @@
+import com.mvp.vueseum.event.CatalogVersionChangedEvent;
+import com.mvp.vueseum.repository.CatalogVersionRepository;
+import com.mvp.vueseum.service.catalog.CatalogVersionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CatalogVersionServiceTest {
+    @Mock
+    private CatalogVersionRepository catalogVersionRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private CatalogVersionService catalogVersionService;
+
+    @BeforeEach
+    void setUp() {
+        catalogVersionService = new CatalogVersionService(catalogVersionRepository, eventPublisher);
+    }
+
+    @AfterEach
+    void tearDown() {
+        catalogVersionService.shutdown();
+    }
+
+    @Test
+    @DisplayName("when polling finds a new version, one change event is published")
+    void whenPollFindsNewVersion_eventIsPublishedOnce() {
+        when(catalogVersionRepository.findCurrentVersion()).thenReturn(4L, 4L, 5L);
+
+        catalogVersionService.poll();
+        catalogVersionService.poll();
+        catalogVersionService.poll();
+
+        verify(eventPublisher, timeout(1000)).publishEvent(new CatalogVersionChangedEvent(0, 4));
+        verify(eventPublisher, timeout(1000)).publishEvent(new CatalogVersionChangedEvent(4, 5));
+        verifyNoMoreInteractions(eventPublisher);
+        assertThat(catalogVersionService.getCurrentVersion()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("when bumped outside a transaction, the new version is announced at once")
+    void whenBumpedOutsideTransaction_versionIsAnnounced() {
+        when(catalogVersionRepository.increment()).thenReturn(7L);
+
+        catalogVersionService.bump();
+
+        verify(eventPublisher, timeout(1000)).publishEvent(new CatalogVersionChangedEvent(0, 7));
+        assertThat(catalogVersionService.getCurrentVersion()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("when the version cannot be read, polling keeps the last known version")
+    void whenVersionUnreadable_lastVersionIsKept() {
+        when(catalogVersionRepository.findCurrentVersion()).thenReturn(2L).thenThrow(new IllegalStateException("down"));
+
+        catalogVersionService.poll();
+        catalogVersionService.poll();
+
+        assertThat(catalogVersionService.getCurrentVersion()).isEqualTo(2);
+    }
+}
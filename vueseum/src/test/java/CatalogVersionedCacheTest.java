@@ -0,0 +1,75 @@
+import com.mvp.vueseum.service.catalog.CatalogVersionedCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CatalogVersionedCacheTest {
+
+    private CatalogVersionedCache<String> cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new CatalogVersionedCache<>("test", Duration.ofMinutes(5), 100, 10);
+    }
+
+    private String load(String key) {
+        return key + "@" + loads.incrementAndGet();
+    }
+
+    @Test
+    @DisplayName("when the same key is read twice, the value is computed once")
+    void whenReadTwice_valueIsComputedOnce() {
+        assertThat(cache.get("a", () -> load("a"))).isEqualTo("a@1");
+        assertThat(cache.get("a", () -> load("a"))).isEqualTo("a@1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("when the catalog version advances, cached entries are recomputed before reads switch over")
+    void whenVersionAdvances_entriesAreRecomputedBeforeSwitch() {
+        cache.get("a", () -> load("a"));
+
+        cache.advanceTo(2);
+
+        assertThat(cache.getServingVersion()).isEqualTo(2);
+        assertThat(loads).hasValue(2);
+        // Served from the rebuilt entry, not computed on read
+        assertThat(cache.get("a", () -> "cold")).isEqualTo("a@2");
+    }
+
+    @Test
+    @DisplayName("when an entry cannot be recomputed, it is computed again on its next read")
+    void whenRebuildFails_entryIsComputedOnRead() {
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("a", () -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new IllegalStateException("database unavailable");
+            }
+            return "first";
+        });
+
+        cache.advanceTo(2);
+
+        assertThat(cache.getServingVersion()).isEqualTo(2);
+        assertThat(cache.get("a", () -> "fresh")).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("when an older or repeated version is announced, the cache is left alone")
+    void whenOlderVersionAnnounced_cacheIsUnchanged() {
+        cache.advanceTo(3);
+        cache.get("a", () -> load("a"));
+
+        cache.advanceTo(3);
+        cache.advanceTo(2);
+
+        assertThat(cache.getServingVersion()).isEqualTo(3);
+        assertThat(loads).hasValue(1);
+    }
+}
@@ -121,4 +121,26 @@ class CulturalMappingTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("Invalid region");
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Artwork context should resolve from the culture, then the country")
+    void resolveContextWorks() {
+        assertThat(CulturalMapping.resolveContext("Japanese", null))
+                .contains(new CulturalMapping.CultureContext("Asia", "East Asia"));
+        assertThat(CulturalMapping.resolveContext("Unknown People", "Peru"))
+                .contains(new CulturalMapping.CultureContext("America", "South America"));
+        assertThat(CulturalMapping.resolveContext("Greece", null))
+                .contains(new CulturalMapping.CultureContext("Europe", "Southern Europe"));
+        assertThat(CulturalMapping.resolveContext(null, "Atlantis")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Region and sub-region names should match search terms ignoring case")
+    void findRegionByNameWorks() {
+        assertThat(CulturalMapping.findRegionByName("asia"))
+                .contains(new CulturalMapping.CultureContext("Asia", null));
+        assertThat(CulturalMapping.findRegionByName("north africa"))
+                .contains(new CulturalMapping.CultureContext("Africa", "North Africa"));
+        assertThat(CulturalMapping.findRegionByName("Japanese")).isEmpty();
+    }
+}
@@ -0,0 +1,181 @@
+import com.mvp.vueseum.repository.StandardizedTermBatchRepository;
+import com.mvp.vueseum.repository.StandardizedTermBatchRepository.TermRow;
+import com.mvp.vueseum.repository.StandardizedTermRepository;
+import com.mvp.vueseum.service.cultural.CulturalTermStandardizationService;
+import com.mvp.vueseum.service.cultural.CulturalTermStandardizationService.BatchResult;
+import com.mvp.vueseum.service.cultural.LocalVocabulary;
+import com.mvp.vueseum.service.cultural.StandardizedTermDictionary;
+import com.mvp.vueseum.service.cultural.TermAccessStats;
+import com.mvp.vueseum.service.tour.WikidataVocabularyClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static com.mvp.vueseum.service.cultural.CulturalTermStandardizationService.CATEGORY_CULTURE;
+import static com.mvp.vueseum.service.cultural.CulturalTermStandardizationService.CATEGORY_MEDIUM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CulturalTermStandardizationServiceTest {
+    @Mock
+    private StandardizedTermRepository standardizedTermRepository;
+    @Mock
+    private StandardizedTermBatchRepository standardizedTermBatchRepository;
+    @Mock
+    private WikidataVocabularyClient wikidataClient;
+    @Mock
+    private TermAccessStats termAccessStats;
+    @Mock
+    private LocalVocabulary localVocabulary;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private StandardizedTermDictionary dictionary;
+    private CulturalTermStandardizationService service;
+
+    @BeforeEach
+    void setUp() {
+        dictionary = new StandardizedTermDictionary(standardizedTermBatchRepository, Duration.ofHours(1), 100);
+        service = newService(true);
+    }
+
+    private CulturalTermStandardizationService newService(boolean sparqlFallback) {
+        return new CulturalTermStandardizationService(standardizedTermRepository, wikidataClient,
+                dictionary, termAccessStats, localVocabulary, standardizedTermBatchRepository, transactionManager,
+                sparqlFallback);
+    }
+
+    @Test
+    @DisplayName("when a term is in the preloaded dictionary, it is answered without a query and its access is recorded")
+    void whenTermIsPreloaded_noQueryIsMade() {
+        loadDictionary(new TermRow(CATEGORY_CULTURE, "probably Japanese", "Japanese"));
+
+        assertThat(service.getStandardizedCultureTerm("probably Japanese")).isEqualTo("Japanese");
+        assertThat(service.getStandardizedCultureTerm("probably Japanese")).isEqualTo("Japanese");
+
+        verify(termAccessStats, times(2)).recordAccess("probably Japanese", CATEGORY_CULTURE);
+        verifyNoInteractions(standardizedTermRepository, wikidataClient);
+    }
+
+    @Test
+    @DisplayName("when Wikidata cannot resolve a term, it is not looked up again within the retry period")
+    void whenTermIsUnresolvable_itIsNotLookedUpAgain() {
+        loadDictionary();
+        when(wikidataClient.findExactArtMediumMatch("Mixed media")).thenReturn(Optional.empty());
+
+        assertThat(service.getStandardizedMediumTerm("Mixed media")).isEqualTo("Mixed media");
+        assertThat(service.getStandardizedMediumTerm("Mixed media")).isEqualTo("Mixed media");
+
+        verify(wikidataClient, times(1)).findExactArtMediumMatch("Mixed media");
+    }
+
+    @Test
+    @DisplayName("when the dictionary has not been loaded yet, terms are returned unchanged without a lookup")
+    void whenDictionaryIsNotLoaded_termIsReturnedUnchanged() {
+        assertThat(service.getStandardizedCultureTerm("French")).isEqualTo("French");
+
+        verifyNoInteractions(wikidataClient);
+    }
+
+    @Test
+    @DisplayName("when a batch is standardized, matches are saved and added to the dictionary and misses are cached")
+    void whenBatchIsStandardized_matchesAreSavedAndMissesCached() {
+        loadDictionary(new TermRow(CATEGORY_CULTURE, "Edo", "Edo"));
+        when(wikidataClient.standardizeCulturalTerms(List.of("French", "Unknown")))
+                .thenReturn(Optional.of(Map.of("French", "French")));
+        when(standardizedTermRepository.findRawTermsByCategoryAndRawTermIn(eq(CATEGORY_CULTURE), anyCollection()))
+                .thenReturn(List.of());
+
+        BatchResult result = service.standardizeTerms(List.of("Edo", "French", "Unknown"), CATEGORY_CULTURE);
+
+        assertThat(result.standardized()).containsExactlyEntriesOf(Map.of("French", "French"));
+        assertThat(result.deferred()).isEmpty();
+        verify(standardizedTermRepository).saveAll(argThat(terms -> terms.iterator().next().getRawTerm().equals("French")));
+        assertThat(dictionary.lookup("French", CATEGORY_CULTURE)).contains("French");
+        assertThat(dictionary.isUnresolvable("Unknown", CATEGORY_CULTURE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("when a batch needs Wikidata, the transaction is opened only after the query, around the save")
+    void whenBatchNeedsWikidata_transactionOpensAfterQuery() {
+        loadDictionary();
+        when(wikidataClient.findExactArtMediumMatches(List.of("Bronze"))).thenReturn(Optional.of(Map.of("Bronze", "bronze")));
+        when(standardizedTermRepository.findRawTermsByCategoryAndRawTermIn(eq(CATEGORY_MEDIUM), anyCollection()))
+                .thenReturn(List.of());
+
+        service.standardizeTerms(List.of("Bronze"), CATEGORY_MEDIUM);
+
+        InOrder inOrder = inOrder(wikidataClient, transactionManager, standardizedTermRepository);
+        inOrder.verify(wikidataClient).findExactArtMediumMatches(List.of("Bronze"));
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(standardizedTermRepository).saveAll(any());
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("when the batched query fails, the terms are deferred rather than cached as unresolvable")
+    void whenBatchQueryFails_termsAreDeferred() {
+        loadDictionary();
+        when(wikidataClient.findExactArtMediumMatches(List.of("Bronze"))).thenReturn(Optional.empty());
+
+        BatchResult result = service.standardizeTerms(List.of("Bronze"), CATEGORY_MEDIUM);
+
+        assertThat(result.deferred()).containsExactly("Bronze");
+        assertThat(dictionary.isKnown("Bronze", CATEGORY_MEDIUM)).isFalse();
+        verify(standardizedTermRepository, never()).saveAll(any());
+    }
+
+    @Test
+    @DisplayName("when the local vocabulary resolves some terms of a batch, only the rest are sent to Wikidata")
+    void whenLocalVocabularyResolvesTerms_onlyTheRestAreQueried() {
+        loadDictionary();
+        when(localVocabulary.resolveAll(List.of("probably Japanese", "Edo"), CATEGORY_CULTURE))
+                .thenReturn(Map.of("probably Japanese", "Japanese"));
+        when(wikidataClient.standardizeCulturalTerms(List.of("Edo"))).thenReturn(Optional.of(Map.of()));
+        when(standardizedTermRepository.findRawTermsByCategoryAndRawTermIn(eq(CATEGORY_CULTURE), anyCollection()))
+                .thenReturn(List.of());
+
+        BatchResult result = service.standardizeTerms(List.of("probably Japanese", "Edo"), CATEGORY_CULTURE);
+
+        assertThat(result.standardized()).containsExactlyEntriesOf(Map.of("probably Japanese", "Japanese"));
+        assertThat(dictionary.lookup("probably Japanese", CATEGORY_CULTURE)).contains("Japanese");
+        assertThat(dictionary.isUnresolvable("Edo", CATEGORY_CULTURE)).isTrue();
+    }
+
+    @Test
+    @DisplayName("when the SPARQL fallback is disabled, local misses are cached as unresolvable without a query")
+    void whenSparqlFallbackIsDisabled_wikidataIsNeverQueried() {
+        service = newService(false);
+        loadDictionary();
+
+        assertThat(service.getStandardizedMediumTerm("Mixed media")).isEqualTo("Mixed media");
+        BatchResult result = service.standardizeTerms(List.of("Bronze"), CATEGORY_MEDIUM);
+
+        assertThat(result.deferred()).isEmpty();
+        assertThat(dictionary.isUnresolvable("Mixed media", CATEGORY_MEDIUM)).isTrue();
+        assertThat(dictionary.isUnresolvable("Bronze", CATEGORY_MEDIUM)).isTrue();
+        verifyNoInteractions(wikidataClient);
+    }
+
+    private void loadDictionary(TermRow... rows) {
+        doAnswer(invocation -> {
+            Consumer<TermRow> consumer = invocation.getArgument(0);
+            List.of(rows).forEach(consumer);
+            return null;
+        }).when(standardizedTermBatchRepository).streamAll(any());
+        dictionary.load();
+    }
+}
@@ -272,4 +272,27 @@ class DateParsingUtilTest {
         descendingYears.sort((y1, y2) -> DateParsingUtil.compareYearsChronologically(y1, y2, false));
         assertThat(descendingYears).containsExactly(1920, 1800, 1450, -30, -500, -2575);
     }
-}
\ No newline at end of file
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "1889 | 1889 | 1889",
+            "ca. 1850–60 | 1850 | 1860",
+            "1910-15 | 1910 | 1915",
+            "1794–1810 | 1794 | 1810",
+            "500-400 B.C. | -500 | -400",
+            "30 B.C.–A.D. 364 | -30 | 364"
+    })
+    @DisplayName("Should extract the first and last year of date ranges")
+    void extractsYearRanges(String input, int expectedStart, int expectedEnd) {
+        assertThat(DateParsingUtil.extractYearRange(input))
+                .isEqualTo(new DateParsingUtil.YearRange(expectedStart, expectedEnd));
+    }
+
+    @Test
+    @DisplayName("Should map every year to one of the standardized periods")
+    void mapsYearsToPeriodBuckets() {
+        assertThat(List.of(-1500, -500, 300, 800, 1200, 1500, 1700, 1850, 1990))
+                .extracting(DateParsingUtil::mapYearToPeriod)
+                .containsExactlyElementsOf(DateParsingUtil.PERIOD_BUCKETS);
+    }
+}
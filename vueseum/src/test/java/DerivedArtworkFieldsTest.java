@@ -0,0 +1,70 @@
+import com.mvp.vueseum.domain.DerivedArtworkFields;
+import com.mvp.vueseum.domain.MediumFamily;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DerivedArtworkFieldsTest {
+
+    @Test
+    @DisplayName("when source fields are complete, every derived column is filled")
+    void whenSourceFieldsComplete_everyColumnIsFilled() {
+        DerivedArtworkFields derived = DerivedArtworkFields.derive(
+                "ca. 1850–60", "Japanese", "Japan", "Prints", "Woodblock print; ink and color on paper",
+                "", "https://images.example/thumb.jpg");
+
+        assertThat(derived).isEqualTo(new DerivedArtworkFields(
+                1850, 1860, "A.D. 1800-1900", "Asia", "East Asia", MediumFamily.PRINT, true));
+    }
+
+    @Test
+    @DisplayName("when source fields are missing or unparseable, derived columns stay empty")
+    void whenSourceFieldsMissing_derivedColumnsStayEmpty() {
+        DerivedArtworkFields derived = DerivedArtworkFields.derive(
+                "date unknown", null, null, null, null, null, " ");
+
+        assertThat(derived).isEqualTo(new DerivedArtworkFields(
+                null, null, null, null, null, null, false));
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            "Paintings | Oil on canvas | PAINTING",
+            "null | Gelatin silver print | PHOTOGRAPH",
+            "Sculpture | Bronze | SCULPTURE",
+            "null | Porcelain painted in underglaze blue | CERAMICS",
+            "Miscellaneous | Bone | OTHER"
+    })
+    @DisplayName("when classifying media, the classification wins over the medium")
+    void whenClassifyingMedia_classificationWins(String classification, String medium, MediumFamily expected) {
+        assertThat(MediumFamily.classify(classification, medium)).isEqualTo(expected);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', nullValues = "null", value = {
+            "Textiles-Printed | Cotton, printed | TEXTILE",
+            "Textiles-Embroidered | Linen embroidered with silk | TEXTILE",
+            "Metalwork-Silver | Silver, gilt | METALWORK",
+            "Ceramics-Porcelain | Hard-paste porcelain | CERAMICS",
+            "Prints | Etchings | PRINT",
+            "Costume | Cloak | OTHER",
+            "Lacquer | Golden lacquer on wood | OTHER"
+    })
+    @DisplayName("when classifying Met classifications, keywords match whole words only")
+    void whenClassifyingMetClassifications_keywordsMatchWholeWords(String classification, String medium,
+                                                                   MediumFamily expected) {
+        assertThat(MediumFamily.classify(classification, medium)).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("when a category names a medium family, it resolves in singular or plural")
+    void whenCategoryNamesFamily_itResolves() {
+        assertThat(MediumFamily.fromCategory("Paintings")).contains(MediumFamily.PAINTING);
+        assertThat(MediumFamily.fromCategory("ceramics")).contains(MediumFamily.CERAMICS);
+        assertThat(MediumFamily.fromCategory("oil")).isEmpty();
+        assertThat(MediumFamily.fromCategory("other")).isEmpty();
+    }
+}
@@ -0,0 +1,144 @@
+import com.mvp.vueseum.repository.ImageValidationRepository;
+import com.mvp.vueseum.repository.ImageValidationRepository.ImageValidation;
+import com.mvp.vueseum.service.ImageValidationService;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageValidationServiceTest {
+    @Mock
+    private ImageValidationRepository imageValidationRepository;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-15T12:00:00Z"), ZoneOffset.UTC);
+    private final List<String> requests = new CopyOnWriteArrayList<>();
+
+    private HttpServer server;
+    private ImageValidationService imageValidationService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/image.jpg", exchange -> {
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+            exchange.getResponseHeaders().add("Content-Type", "image/jpeg");
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.createContext("/no-head.jpg", exchange -> {
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath()
+                    + " " + exchange.getRequestHeaders().getFirst("Range"));
+            if (exchange.getRequestMethod().equals("HEAD")) {
+                exchange.sendResponseHeaders(405, -1);
+            } else {
+                exchange.getResponseHeaders().add("Content-Type", "image/jpeg");
+                exchange.sendResponseHeaders(206, 1);
+                exchange.getResponseBody().write(0);
+            }
+            exchange.close();
+        });
+        server.createContext("/error-page", exchange -> {
+            requests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getPath());
+            exchange.getResponseHeaders().add("Content-Type", "text/html");
+            exchange.sendResponseHeaders(200, -1);
+            exchange.close();
+        });
+        server.start();
+
+        imageValidationService = new ImageValidationService(imageValidationRepository, clock, 4, 5, 30, 24);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        imageValidationService.shutdown();
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+
+    @Test
+    @DisplayName("when the server answers HEAD with an image, the url is valid and the result is stored")
+    void whenHeadReturnsImage_urlIsValidAndStored() {
+        assertThat(imageValidationService.isValid(url("/image.jpg"))).isTrue();
+
+        assertThat(requests).containsExactly("HEAD /image.jpg");
+        verify(imageValidationRepository).save(url("/image.jpg"), true, LocalDateTime.now(clock));
+    }
+
+    @Test
+    @DisplayName("when the server rejects HEAD, a one-byte ranged GET is used instead")
+    void whenHeadIsRejected_fallsBackToRangedGet() {
+        assertThat(imageValidationService.isValid(url("/no-head.jpg"))).isTrue();
+
+        assertThat(requests).containsExactly("HEAD /no-head.jpg null", "GET /no-head.jpg bytes=0-0");
+    }
+
+    @Test
+    @DisplayName("when the url serves html, it is invalid")
+    void whenUrlServesHtml_urlIsInvalid() {
+        assertThat(imageValidationService.isValid(url("/error-page"))).isFalse();
+        verify(imageValidationRepository).save(url("/error-page"), false, LocalDateTime.now(clock));
+    }
+
+    @Test
+    @DisplayName("when a fresh stored result exists, no request is made")
+    void whenStoredResultIsFresh_noRequestIsMade() {
+        when(imageValidationRepository.findByUrl(url("/image.jpg"))).thenReturn(Optional.of(
+                new ImageValidation(false, LocalDateTime.now(clock).minusHours(1))));
+
+        assertThat(imageValidationService.isValid(url("/image.jpg"))).isFalse();
+        assertThat(requests).isEmpty();
+    }
+
+    @Test
+    @DisplayName("when a stored result has expired, the url is checked again")
+    void whenStoredResultExpired_urlIsCheckedAgain() {
+        when(imageValidationRepository.findByUrl(url("/image.jpg"))).thenReturn(Optional.of(
+                new ImageValidation(false, LocalDateTime.now(clock).minusDays(2))));
+
+        assertThat(imageValidationService.isValid(url("/image.jpg"))).isTrue();
+        assertThat(requests).containsExactly("HEAD /image.jpg");
+    }
+
+    @Test
+    @DisplayName("when the same url is validated repeatedly, it is only checked once")
+    void whenUrlValidatedRepeatedly_itIsCheckedOnce() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(imageValidationService.isValid(url("/image.jpg"))).isTrue();
+        }
+
+        assertThat(requests).hasSize(1);
+        verify(imageValidationRepository, times(1)).findByUrl(anyString());
+    }
+
+    @Test
+    @DisplayName("when the server cannot be reached, the url is invalid but the result is not stored")
+    void whenServerUnreachable_resultIsNotStored() {
+        String unreachable = url("/image.jpg");
+        server.stop(0);
+
+        assertThat(imageValidationService.isValid(unreachable)).isFalse();
+        verify(imageValidationRepository, never()).save(anyString(), anyBoolean(), any());
+    }
+}
@@ -0,0 +1,107 @@
+import benchmark.MetApiStub;
+import benchmark.MetSyncBenchmark;
+import com.mvp.vueseum.client.ResponseArchive;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetApiStubSyncTest {
+
+    private static final int OBJECTS = 300;
+
+    @Test
+    @DisplayName("when syncing against the stub, displayed objects are written once and skipped on the next run")
+    void whenSyncingAgainstStub_displayedObjectsAreWrittenOnce() {
+        MetApiStub.Corpus corpus = MetApiStub.Corpus.synthetic(OBJECTS, 0.02);
+
+        try (MetApiStub stub = MetApiStub.start(corpus, MetApiStub.Profile.INSTANT, 1)) {
+            MetSyncBenchmark benchmark = new MetSyncBenchmark(
+                    stub, MetSyncBenchmark.environment(10_000, 16), Duration.ZERO);
+
+            MetSyncBenchmark.Report first = benchmark.runFullSync();
+            MetSyncBenchmark.Report second = benchmark.runFullSync();
+
+            assertThat(first.processed()).isEqualTo(OBJECTS);
+            // Objects that are not displayed are skipped by the parser and counted as errors
+            assertThat(first.rowsWritten()).isBetween(285L, 299L);
+            assertThat(first.errors()).isEqualTo(OBJECTS - (int) first.rowsWritten());
+            // Skipped objects are fetched again by the end-of-run retry
+            assertThat(first.requests().ok()).isEqualTo(OBJECTS + first.errors());
+
+            assertThat(second.rowsWritten()).isZero();
+            assertThat(second.requests().notModified()).isEqualTo(first.rowsWritten());
+        }
+    }
+
+    @Test
+    @DisplayName("when the stub throttles requests, the sync backs off and still fetches every object")
+    void whenStubThrottles_syncStillFetchesEveryObject() {
+        MetApiStub.Corpus corpus = MetApiStub.Corpus.synthetic(OBJECTS, 0);
+        MetApiStub.Profile profile = MetApiStub.Profile.INSTANT
+                .withLatency(Duration.ofMillis(1), Duration.ofMillis(2))
+                .withThrottling(0.05, 0);
+
+        try (MetApiStub stub = MetApiStub.start(corpus, profile, 7)) {
+            MetSyncBenchmark benchmark = new MetSyncBenchmark(
+                    stub, MetSyncBenchmark.environment(10_000, 16), Duration.ZERO);
+
+            MetSyncBenchmark.Report report = benchmark.runFullSync();
+
+            assertThat(report.requests().throttled()).isPositive();
+            assertThat(report.errors()).isZero();
+            assertThat(report.rowsWritten()).isEqualTo(OBJECTS);
+        }
+    }
+
+    @Test
+    @DisplayName("when full syncs run back to back, each refreshes a different set of the least recently synced objects")
+    void whenFullSyncsRunBackToBack_refreshRotates() {
+        MetApiStub.Corpus corpus = MetApiStub.Corpus.synthetic(OBJECTS, 0);
+
+        try (MetApiStub stub = MetApiStub.start(corpus, MetApiStub.Profile.INSTANT, 1)) {
+            MetSyncBenchmark benchmark = MetSyncBenchmark.withRefreshRotation(
+                    stub, MetSyncBenchmark.environment(10_000, 16), 50);
+
+            benchmark.runFullSync();
+            MetSyncBenchmark.Report second = benchmark.runFullSync();
+            List<String> secondRefreshed = benchmark.lastRefreshedIds();
+            benchmark.runFullSync();
+            List<String> thirdRefreshed = benchmark.lastRefreshedIds();
+
+            // Refreshed objects come back not modified and must still count as synced
+            assertThat(second.requests().notModified()).isEqualTo(50);
+            assertThat(secondRefreshed).hasSize(50);
+            assertThat(thirdRefreshed).hasSize(50).doesNotContainAnyElementsOf(secondRefreshed);
+        }
+    }
+
+    @Test
+    @DisplayName("when re-ingesting from the archive, artworks are rebuilt without calling the API")
+    void whenReingestingFromArchive_noRequestsAreMade(@TempDir Path archiveDirectory) {
+        MetApiStub.Corpus corpus = MetApiStub.Corpus.synthetic(OBJECTS, 0.02);
+        ResponseArchive archive = new ResponseArchive(true, archiveDirectory, 1, Clock.systemUTC());
+
+        try (MetApiStub stub = MetApiStub.start(corpus, MetApiStub.Profile.INSTANT, 1)) {
+            MetSyncBenchmark benchmark = new MetSyncBenchmark(
+                    stub, MetSyncBenchmark.environment(10_000, 16), Duration.ZERO, archive);
+
+            MetSyncBenchmark.Report sync = benchmark.runFullSync();
+            MetSyncBenchmark.Report reingest = benchmark.runReingest();
+
+            assertThat(reingest.requests().total()).isZero();
+            assertThat(reingest.processed()).isEqualTo(OBJECTS);
+            // Same mapping, so every displayed artwork hashes as unchanged
+            assertThat(reingest.rowsUnchanged()).isEqualTo(sync.rowsWritten());
+            assertThat(reingest.errors()).isEqualTo(sync.errors());
+        } finally {
+            archive.close();
+        }
+    }
+}
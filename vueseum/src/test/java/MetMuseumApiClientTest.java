@@ -1,25 +1,40 @@
+import com.mvp.vueseum.client.ResponseArchive;
+import com.mvp.vueseum.client.SyncMetrics;
 import com.mvp.vueseum.client.museum_client.MetMuseumApiClient;
 import com.mvp.vueseum.domain.ArtworkDetails;
 import com.mvp.vueseum.entity.Museum;
+import com.mvp.vueseum.event.SyncOperation;
 import com.mvp.vueseum.exception.ApiClientException;
+import com.mvp.vueseum.exception.InvalidRequestException;
+import com.mvp.vueseum.service.ImageValidationService;
+import com.mvp.vueseum.service.SyncRunService;
+import com.mvp.vueseum.service.artwork.ArtworkBatchService;
 import com.mvp.vueseum.service.artwork.ArtworkService;
+import com.mvp.vueseum.service.artwork.OnViewSetService;
+import com.mvp.vueseum.service.artwork.SyncWriteLimiter;
+import com.mvp.vueseum.service.cultural.TermStandardizationStage;
 import com.mvp.vueseum.service.museum.MuseumService;
 import com.mvp.vueseum.util.RetryUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.env.Environment;
 
+import java.nio.file.Path;
+import java.time.Clock;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.Mockito.lenient;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class MetMuseumApiClientTest {
@@ -32,9 +47,27 @@ class MetMuseumApiClientTest {
     @Mock
     private ArtworkService artworkService;
 
+    @Mock
+    private ArtworkBatchService artworkBatchService;
+
     @Mock
     private RetryUtil retryUtil;
 
+    @Mock
+    private SyncRunService syncRunService;
+
+    @Mock
+    private OnViewSetService onViewSetService;
+
+    @Mock
+    private ImageValidationService imageValidationService;
+
+    @Mock
+    private TermStandardizationStage termStandardizationStage;
+
+    @TempDir
+    private Path archiveDirectory;
+
     private MetMuseumApiClient metMuseumApiClient;
 
     @BeforeEach
@@ -42,22 +75,58 @@ class MetMuseumApiClientTest {
         // Setup environment mock for rate limit
         when(environment.getProperty(eq("museum.metropolitan.api.rateLimit"), anyString()))
                 .thenReturn("80");
+        when(environment.getProperty(eq("museum.metropolitan.api.rateLimitMin"), anyString()))
+                .thenReturn("5");
+        when(environment.getProperty(eq("museum.metropolitan.api.rateLimitMax"), anyString()))
+                .thenReturn("80");
 
         // Setup necessary museumService mocks
         Museum mockMuseum = new Museum();
         mockMuseum.setId(1L);
         mockMuseum.setName("Metropolitan Museum of Art");
         lenient().when(museumService.findOrCreateMuseum(anyString())).thenReturn(mockMuseum);
+        lenient().when(imageValidationService.validateAsync(anyString()))
+                .thenReturn(CompletableFuture.completedFuture(true));
 
-        metMuseumApiClient = new MetMuseumApiClient(
+        metMuseumApiClient = newClient(new ResponseArchive(false, Path.of("response-archive"), 1, Clock.systemUTC()));
+    }
+
+    private MetMuseumApiClient newClient(ResponseArchive responseArchive) {
+        return new MetMuseumApiClient(
                 retryUtil,
                 environment,
                 museumService,
                 "https://collectionapi.metmuseum.org/public/collection/v1",
-                artworkService
+                artworkService,
+                artworkBatchService,
+                new SyncMetrics(new SimpleMeterRegistry()),
+                syncRunService,
+                onViewSetService,
+                new SyncWriteLimiter(4, new SimpleMeterRegistry()),
+                imageValidationService,
+                responseArchive,
+                termStandardizationStage
         );
     }
 
+    @Test
+    void testReingestIsRejectedWhileAnotherNodeSyncsTheMuseum() {
+        ResponseArchive archive = new ResponseArchive(true, archiveDirectory, 1, Clock.systemUTC());
+        archive.record(1L, "45434", "{\"objectID\": 45434}");
+        when(syncRunService.startRun(eq(1L), any(SyncOperation.class)))
+                .thenThrow(new InvalidRequestException("Museum 1 is already being synced by run 7"));
+
+        try {
+            MetMuseumApiClient client = newClient(archive);
+            assertThrows(ApiClientException.class, client::reingestFromArchive);
+        } finally {
+            archive.close();
+        }
+
+        verifyNoInteractions(artworkBatchService);
+        verify(syncRunService, never()).release(any());
+    }
+
     @Test
     void testArtistDateProcessing() {
         // Sample responses based on real Met API data patterns
@@ -0,0 +1,81 @@
+import com.mvp.vueseum.client.SearchResponseDecoder;
+import com.mvp.vueseum.client.museum_client.MetObjectDecoder;
+import com.mvp.vueseum.client.museum_client.MetObjectDecoder.Field;
+import com.mvp.vueseum.client.museum_client.MetObjectDecoder.MetObject;
+import com.mvp.vueseum.exception.ApiClientException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetResponseDecoderTest {
+
+    @Test
+    @DisplayName("when decoding a search response, ids are read into an int array with the reported total")
+    void whenDecodingSearchResponse_idsAreReadIntoIntArray() {
+        SearchResponseDecoder.ObjectIds objectIds = SearchResponseDecoder.decode(
+                "{\"total\":3,\"objectIDs\":[10,20,30],\"extra\":{\"nested\":[1]}}", "objectIDs");
+
+        assertThat(objectIds.total()).isEqualTo(3);
+        assertThat(objectIds.ids()).containsExactly(10, 20, 30);
+        assertThat(objectIds.asExternalIds()).containsExactly("10", "20", "30");
+    }
+
+    @Test
+    @DisplayName("when a search response reports a bogus total, ids are still read without presizing to it")
+    void whenSearchResponseReportsBogusTotal_idsAreStillRead() {
+        SearchResponseDecoder.ObjectIds objectIds = SearchResponseDecoder.decode(
+                "{\"total\":2147483647,\"objectIDs\":[10,20]}", "objectIDs");
+
+        assertThat(objectIds.total()).isEqualTo(Integer.MAX_VALUE);
+        assertThat(objectIds.ids()).containsExactly(10, 20);
+    }
+
+    @Test
+    @DisplayName("when a search response has null ids, no ids are returned")
+    void whenSearchResponseHasNullIds_noIdsAreReturned() {
+        SearchResponseDecoder.ObjectIds objectIds = SearchResponseDecoder.decode(
+                "{\"total\":0,\"objectIDs\":null}", "objectIDs");
+
+        assertThat(objectIds.ids()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("when a search response contains a non-numeric id, decoding fails")
+    void whenSearchResponseContainsNonNumericId_decodingFails() {
+        assertThatThrownBy(() -> SearchResponseDecoder.decode("{\"objectIDs\":[1,\"x\"]}", "objectIDs"))
+                .isInstanceOf(ApiClientException.class);
+    }
+
+    @Test
+    @DisplayName("when decoding an object, nested structures are skipped and null fields read as empty")
+    void whenDecodingObject_nestedStructuresAreSkipped() throws IOException {
+        MetObject object = MetObjectDecoder.decode("""
+                {
+                    "objectID": 436535,
+                    "constituents": [{"name": "Nested Name", "title": "Nested Title"}],
+                    "title": "Wheat Field with Cypresses",
+                    "culture": null,
+                    "GalleryNumber": "822"
+                }
+                """);
+
+        assertThat(object.get(Field.OBJECT_ID)).isEqualTo("436535");
+        assertThat(object.get(Field.TITLE)).isEqualTo("Wheat Field with Cypresses");
+        assertThat(object.get(Field.CULTURE)).isEmpty();
+        assertThat(object.get(Field.MEDIUM)).isEmpty();
+        assertThat(object.isDisplayed()).isTrue();
+    }
+
+    @Test
+    @DisplayName("when checking display, objects without a gallery number or in the Cloisters are not displayed")
+    void whenCheckingDisplay_objectsWithoutGalleryOrInCloistersAreNotDisplayed() throws IOException {
+        assertThat(MetObjectDecoder.isDisplayed("{\"department\":\"Drawings\",\"GalleryNumber\":\"690\"}")).isTrue();
+        assertThat(MetObjectDecoder.isDisplayed("{\"department\":\"Drawings\",\"GalleryNumber\":\"\"}")).isFalse();
+        assertThat(MetObjectDecoder.isDisplayed("{\"department\":7,\"GalleryNumber\":\"12\"}")).isFalse();
+        assertThat(MetObjectDecoder.isDisplayed("{\"title\":\"No gallery\"}")).isFalse();
+    }
+}
@@ -0,0 +1,86 @@
+import com.mvp.vueseum.repository.ArtworkBatchRepository;
+import com.mvp.vueseum.repository.OnViewIdRepository;
+import com.mvp.vueseum.service.artwork.OnViewSetService;
+import com.mvp.vueseum.service.artwork.OnViewSetService.FullSyncPlan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OnViewSetServiceTest {
+    @Mock
+    private OnViewIdRepository onViewIdRepository;
+    @Mock
+    private ArtworkBatchRepository artworkBatchRepository;
+
+    private OnViewSetService onViewSetService;
+
+    @BeforeEach
+    void setUp() {
+        onViewSetService = new OnViewSetService(onViewIdRepository, artworkBatchRepository, 2);
+    }
+
+    @Test
+    @DisplayName("when the on-view list changed, only added and unsynced objects are fetched")
+    void whenOnViewListChanged_onlyAddedAndUnsyncedObjectsAreFetched() {
+        when(onViewIdRepository.findByMuseum(1L)).thenReturn(Set.of("1", "2", "3", "4"));
+        // "3" failed during the previous run
+        when(artworkBatchRepository.findSyncedExternalIds(1L)).thenReturn(Set.of("1", "2", "4"));
+        when(artworkBatchRepository.findLeastRecentlySyncedExternalIds(1L, 2)).thenReturn(List.of());
+
+        FullSyncPlan plan = onViewSetService.planFullSync(1L, List.of("1", "2", "3", "5"));
+
+        assertThat(plan.initial()).isFalse();
+        assertThat(plan.addedIds()).containsExactly("5");
+        assertThat(plan.removedIds()).containsExactly("4");
+        assertThat(plan.idsToFetch()).containsExactly("3", "5");
+    }
+
+    @Test
+    @DisplayName("when refreshing, the least recently synced displayed objects are fetched after missing ones")
+    void whenRefreshing_leastRecentlySyncedObjectsAreFetchedLast() {
+        when(onViewIdRepository.findByMuseum(1L)).thenReturn(Set.of("1", "2", "3"));
+        when(artworkBatchRepository.findSyncedExternalIds(1L)).thenReturn(Set.of("1", "2", "3"));
+        // "9" is no longer on view and must not be refreshed
+        when(artworkBatchRepository.findLeastRecentlySyncedExternalIds(1L, 2)).thenReturn(List.of("9", "2"));
+
+        FullSyncPlan plan = onViewSetService.planFullSync(1L, List.of("1", "2", "3", "4"));
+
+        assertThat(plan.idsToFetch()).containsExactly("4", "2");
+    }
+
+    @Test
+    @DisplayName("when no on-view set is stored, the plan is initial and skips already synced objects")
+    void whenNoOnViewSetStored_planIsInitial() {
+        when(onViewIdRepository.findByMuseum(1L)).thenReturn(Set.of());
+        when(artworkBatchRepository.findSyncedExternalIds(1L)).thenReturn(Set.of("1"));
+        when(artworkBatchRepository.findLeastRecentlySyncedExternalIds(1L, 2)).thenReturn(List.of());
+
+        FullSyncPlan plan = onViewSetService.planFullSync(1L, List.of("1", "2"));
+
+        assertThat(plan.initial()).isTrue();
+        assertThat(plan.addedIds()).containsExactly("1", "2");
+        assertThat(plan.removedIds()).isEmpty();
+        assertThat(plan.idsToFetch()).containsExactly("2");
+    }
+
+    @Test
+    @DisplayName("when recording a plan, removed ids are dropped and added ids stored")
+    void whenRecordingPlan_storedSetIsUpdated() {
+        FullSyncPlan plan = new FullSyncPlan(List.of("5"), List.of("4"), List.of("5"), false);
+
+        onViewSetService.recordOnViewIds(1L, plan);
+
+        verify(onViewIdRepository).removeAll(1L, List.of("4"));
+        verify(onViewIdRepository).addAll(1L, List.of("5"));
+    }
+}
@@ -0,0 +1,90 @@
+import com.mvp.vueseum.client.ResponseArchiveStore;
+import com.mvp.vueseum.client.ResponseArchiveStore.ArchivedResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseArchiveStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    private static final Instant FETCHED_AT = Instant.parse("2025-01-15T12:00:00Z");
+
+    private static String body(String id) {
+        return "{\"objectID\":" + id + ",\"title\":\"" + "Study ".repeat(50) + id + "\"}";
+    }
+
+    @Test
+    @DisplayName("when an object is archived twice, its latest response is read back")
+    void whenArchivedTwice_latestResponseIsRead() throws IOException {
+        try (ResponseArchiveStore store = new ResponseArchiveStore(directory, 1024 * 1024)) {
+            store.append("1", FETCHED_AT, body("1"));
+            store.append("2", FETCHED_AT, body("2"));
+            store.append("1", FETCHED_AT.plusSeconds(60), "{\"objectID\":1,\"title\":\"Revised\"}");
+
+            assertThat(store.readLatest("1")).contains(new ArchivedResponse(
+                    "1", FETCHED_AT.plusSeconds(60), "{\"objectID\":1,\"title\":\"Revised\"}"));
+            assertThat(store.readLatest("2").map(ArchivedResponse::body)).contains(body("2"));
+            assertThat(store.readLatest("3")).isEmpty();
+            assertThat(store.externalIds()).containsExactlyInAnyOrder("1", "2");
+        }
+    }
+
+    @Test
+    @DisplayName("when the archive is reopened, every object is found again across rolled segments")
+    void whenReopened_objectsAreFoundAcrossSegments() throws IOException {
+        try (ResponseArchiveStore store = new ResponseArchiveStore(directory, 200)) {
+            for (int i = 0; i < 20; i++) {
+                store.append(String.valueOf(i), FETCHED_AT, body(String.valueOf(i)));
+            }
+        }
+
+        try (Stream<Path> segments = Files.list(directory)) {
+            assertThat(segments.count()).isGreaterThan(1);
+        }
+        try (ResponseArchiveStore reopened = new ResponseArchiveStore(directory, 200)) {
+            assertThat(reopened.size()).isEqualTo(20);
+            assertThat(reopened.readLatest("13").map(ArchivedResponse::body)).contains(body("13"));
+
+            reopened.append("20", FETCHED_AT, body("20"));
+            assertThat(reopened.readLatest("20").map(ArchivedResponse::body)).contains(body("20"));
+        }
+    }
+
+    @Test
+    @DisplayName("when the last record was cut short, it is dropped and appending continues after the last complete one")
+    void whenLastRecordTorn_itIsTruncated() throws IOException {
+        try (ResponseArchiveStore store = new ResponseArchiveStore(directory, 1024 * 1024)) {
+            store.append("1", FETCHED_AT, body("1"));
+            store.append("2", FETCHED_AT, body("2"));
+        }
+        Path segment;
+        try (Stream<Path> segments = Files.list(directory)) {
+            segment = segments.findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 5);
+        }
+
+        try (ResponseArchiveStore reopened = new ResponseArchiveStore(directory, 1024 * 1024)) {
+            assertThat(reopened.externalIds()).containsExactly("1");
+
+            reopened.append("3", FETCHED_AT, body("3"));
+            assertThat(reopened.readLatest("3").map(ArchivedResponse::body)).contains(body("3"));
+        }
+        try (ResponseArchiveStore reopenedAgain = new ResponseArchiveStore(directory, 1024 * 1024)) {
+            assertThat(reopenedAgain.externalIds()).containsExactlyInAnyOrder("1", "3");
+        }
+    }
+}
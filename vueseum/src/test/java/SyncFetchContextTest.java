@@ -0,0 +1,57 @@
+import com.mvp.vueseum.client.SyncFetchContext;
+import com.mvp.vueseum.repository.FetchValidatorRepository.FetchValidators;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncFetchContextTest {
+
+    @Test
+    @DisplayName("when a cached response is taken, it is handed out only once")
+    void whenCachedResponseTaken_itIsHandedOutOnce() {
+        SyncFetchContext context = new SyncFetchContext(Map.of(), 1000);
+        context.cacheResponse("1", "{\"objectID\":1}");
+
+        assertThat(context.takeResponse("1")).isEqualTo("{\"objectID\":1}");
+        assertThat(context.takeResponse("1")).isNull();
+    }
+
+    @Test
+    @DisplayName("when outside a sync run, nothing is cached or captured")
+    void whenInactive_nothingIsCachedOrCaptured() {
+        SyncFetchContext context = SyncFetchContext.inactive();
+        context.cacheResponse("1", "{}");
+        context.captureValidators("1", new FetchValidators("\"abc\"", null));
+
+        assertThat(context.takeResponse("1")).isNull();
+        assertThat(context.drainValidators(List.of("1"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("when validators are drained, only those of the given ids are returned and removed")
+    void whenValidatorsDrained_onlyGivenIdsAreReturned() {
+        SyncFetchContext context = new SyncFetchContext(Map.of(), 1000);
+        context.captureValidators("1", new FetchValidators("\"a\"", null));
+        context.captureValidators("2", new FetchValidators(null, "Wed, 01 Jan 2025 00:00:00 GMT"));
+        context.captureValidators("3", new FetchValidators(null, null));
+
+        assertThat(context.drainValidators(List.of("1", "3"))).containsOnlyKeys("1");
+        assertThat(context.drainValidators(List.of("1", "2"))).containsOnlyKeys("2");
+    }
+
+    @Test
+    @DisplayName("when validators are discarded, they are no longer drained")
+    void whenValidatorsDiscarded_theyAreNotDrained() {
+        SyncFetchContext context = new SyncFetchContext(Map.of(), 1000);
+        context.captureValidators("1", new FetchValidators("\"a\"", null));
+        context.captureValidators("2", new FetchValidators("\"b\"", null));
+
+        context.discardValidators("1");
+
+        assertThat(context.drainValidators(List.of("1", "2"))).containsOnlyKeys("2");
+    }
+}
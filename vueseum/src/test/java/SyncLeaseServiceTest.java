@@ -0,0 +1,94 @@
+import com.mvp.vueseum.repository.SyncLeaseRepository;
+import com.mvp.vueseum.repository.SyncLeaseRepository.LiveRun;
+import com.mvp.vueseum.service.SyncLeaseService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class SyncLeaseServiceTest {
+    @Mock
+    private SyncLeaseRepository leaseRepository;
+
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    private SyncLeaseService leaseService;
+
+    @BeforeEach
+    void setUp() {
+        leaseService = new SyncLeaseService(leaseRepository, "node-a", LEASE, Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("when a run is already held by this node, it is not acquired again")
+    void whenRunAlreadyHeld_itIsNotAcquiredAgain() {
+        when(leaseRepository.acquireRun(3L, "node-a", LEASE)).thenReturn(true);
+
+        assertThat(leaseService.acquireRun(3L)).isTrue();
+        assertThat(leaseService.acquireRun(3L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("when another live node owns a run, it is not acquired and not held")
+    void whenAnotherNodeOwnsRun_itIsNotAcquired() {
+        when(leaseRepository.acquireRun(3L, "node-a", LEASE)).thenReturn(false);
+
+        assertThat(leaseService.acquireRun(3L)).isFalse();
+
+        leaseService.releaseRun(3L);
+        verify(leaseRepository, never()).releaseRun(anyLong(), anyString());
+    }
+
+    @Test
+    @DisplayName("when leases are renewed, only runs and chunks still held are renewed")
+    void whenLeasesRenewed_onlyHeldLeasesAreRenewed() {
+        when(leaseRepository.acquireRun(3L, "node-a", LEASE)).thenReturn(true);
+        when(leaseRepository.claimChunk(3L, "node-a", LEASE)).thenReturn(Optional.of(20L), Optional.of(21L));
+        leaseService.acquireRun(3L);
+        leaseService.claimChunk(3L);
+        leaseService.claimChunk(3L);
+        leaseService.chunkCompleted(20L);
+
+        leaseService.renewLeases();
+
+        verify(leaseRepository).renew(Set.of(3L), Set.of(21L), "node-a", LEASE);
+    }
+
+    @Test
+    @DisplayName("when nothing is held, no leases are renewed")
+    void whenNothingHeld_noLeasesAreRenewed() {
+        leaseService.renewLeases();
+
+        verify(leaseRepository, never()).renew(anyCollection(), anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("when this node id owns a run it no longer executes, the run is orphaned rather than live")
+    void whenOwnedByEarlierProcess_runIsOrphaned() {
+        when(leaseRepository.findLiveRuns(1L)).thenReturn(List.of(new LiveRun(3L, "node-a"), new LiveRun(4L, "node-b")));
+        when(leaseRepository.findRunsWithoutLiveOwner("node-a")).thenReturn(List.of(3L, 5L));
+        when(leaseRepository.acquireRun(eq(5L), eq("node-a"), any())).thenReturn(true);
+        leaseService.acquireRun(5L);
+
+        assertThat(leaseService.findLiveRunIds(1L)).containsExactly(4L);
+        assertThat(leaseService.findOrphanedRunIds()).containsExactly(3L);
+    }
+}
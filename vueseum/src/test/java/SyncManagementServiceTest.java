@@ -1,20 +1,35 @@
 import com.mvp.vueseum.client.MuseumApiClient;
+import com.mvp.vueseum.client.SyncProgress;
+import com.mvp.vueseum.dto.SyncJobDTO;
+import com.mvp.vueseum.entity.SyncRun;
 import com.mvp.vueseum.event.SyncOperation;
 import com.mvp.vueseum.exception.ApiClientException;
+import com.mvp.vueseum.exception.InvalidRequestException;
 import com.mvp.vueseum.exception.ResourceNotFoundException;
 import com.mvp.vueseum.repository.ArtworkRepository;
+import com.mvp.vueseum.service.SyncJob;
 import com.mvp.vueseum.service.SyncManagementService;
+import com.mvp.vueseum.service.SyncOrchestrator;
+import com.mvp.vueseum.service.SyncRunService;
+import com.mvp.vueseum.service.catalog.CatalogVersionService;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 
+import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -25,10 +40,15 @@ class SyncManagementServiceTest {
     @Mock
     private ArtworkRepository artworkRepository;
     @Mock
+    private SyncRunService syncRunService;
+    @Mock
     private MuseumApiClient metMuseumClient;
     @Mock
     private MuseumApiClient otherMuseumClient;
+    @Mock
+    private CatalogVersionService catalogVersionService;
 
+    private final SyncOrchestrator orchestrator = new SyncOrchestrator(Clock.systemUTC());
     private SyncManagementService syncManagementService;
     private final LocalDateTime testStartTime = LocalDateTime.now();
 
@@ -42,18 +62,46 @@ class SyncManagementServiceTest {
         List<MuseumApiClient> clients = Arrays.asList(metMuseumClient, otherMuseumClient);
 
         // Initialize service with test clients
-        syncManagementService = new SyncManagementService(clients, artworkRepository);
+        syncManagementService = new SyncManagementService(clients, artworkRepository, syncRunService, orchestrator, catalogVersionService);
 
         // Setup common mock responses
         lenient().when(metMuseumClient.getSyncStartTime()).thenReturn(testStartTime);
         lenient().when(otherMuseumClient.getSyncStartTime()).thenReturn(testStartTime);
+        lenient().when(metMuseumClient.getSyncProgress()).thenReturn(SyncProgress.NONE);
+        lenient().when(otherMuseumClient.getSyncProgress()).thenReturn(SyncProgress.NONE);
+    }
+
+    /**
+     * Starts a sync and waits for its jobs to finish, whatever the outcome.
+     */
+    private List<SyncJobDTO> syncAndWait(Long museumId, SyncOperation operation) {
+        List<SyncJobDTO> jobs = syncManagementService.startSync(museumId, operation);
+        SyncOrchestrator.allFinished(jobs.stream()
+                        .map(job -> orchestrator.findJob(job.getId()).orElseThrow())
+                        .toList())
+                .orTimeout(5, TimeUnit.SECONDS)
+                .join();
+        return jobs.stream().map(job -> syncManagementService.getJob(job.getId())).toList();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        orchestrator.shutdown();
     }
 
     @Test
     @DisplayName("when museum not found, throws exception")
     void whenMuseumNotFound_throwsException() {
         assertThatThrownBy(() ->
-                syncManagementService.executeSync(999L, SyncOperation.daily())
+                syncManagementService.startSync(999L, SyncOperation.daily())
         )
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("No API client found for museum ID: 999");
@@ -64,7 +112,7 @@ class SyncManagementServiceTest {
     void whenPerformingFullSyncForSpecificMuseum_syncsOnlyThatMuseum() {
         SyncOperation operation = SyncOperation.monthly();
 
-        syncManagementService.executeSync(1L, operation);
+        syncAndWait(1L, operation);
 
         verify(metMuseumClient).performSync(operation);
         verify(otherMuseumClient, never()).performSync(any());
@@ -75,7 +123,7 @@ class SyncManagementServiceTest {
     void whenPerformingFullSyncForAllMuseums_syncsAllMuseums() {
         SyncOperation operation = SyncOperation.monthly();
 
-        syncManagementService.executeSync(null, operation);
+        syncAndWait(null, operation);
 
         verify(metMuseumClient).performSync(operation);
         verify(otherMuseumClient).performSync(operation);
@@ -86,7 +134,7 @@ class SyncManagementServiceTest {
     void whenPerformingIncrementalSync_shouldUseDailyOperation() {
         SyncOperation operation = SyncOperation.daily();
 
-        syncManagementService.executeSync(null, operation);
+        syncAndWait(null, operation);
 
         verify(metMuseumClient).performSync(argThat(op ->
                 !op.isFullSync() && op.getIncrementalSince() != null
@@ -97,17 +145,18 @@ class SyncManagementServiceTest {
     }
 
     @Test
-    @DisplayName("when sync fails for specific museum, should throw exception")
-    void whenSyncFailsForSpecificMuseum_shouldThrowException() {
+    @DisplayName("when sync fails for specific museum, its job reports the failure")
+    void whenSyncFailsForSpecificMuseum_jobReportsFailure() {
         doThrow(new ApiClientException("Sync failed"))
                 .when(metMuseumClient)
                 .performSync(any(SyncOperation.class));
 
-        assertThatThrownBy(() ->
-                syncManagementService.executeSync(1L, SyncOperation.daily())
-        )
-                .isInstanceOf(ApiClientException.class)
-                .hasMessage("Sync failed");
+        List<SyncJobDTO> jobs = syncAndWait(1L, SyncOperation.daily());
+
+        assertThat(jobs).singleElement().satisfies(job -> {
+            assertThat(job.getState()).isEqualTo("FAILED");
+            assertThat(job.getLastError()).isEqualTo("Sync failed");
+        });
     }
 
     @Test
@@ -117,7 +166,7 @@ class SyncManagementServiceTest {
                 .when(metMuseumClient)
                 .performSync(any(SyncOperation.class));
 
-        syncManagementService.executeSync(null, SyncOperation.daily());
+        syncAndWait(null, SyncOperation.daily());
 
         verify(metMuseumClient).performSync(any(SyncOperation.class));
         verify(otherMuseumClient).performSync(any(SyncOperation.class));
@@ -169,4 +218,215 @@ class SyncManagementServiceTest {
                         )
                 );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("when resuming a sync run, resumes it on the client for its museum")
+    void whenResumingSyncRun_resumesOnClientForItsMuseum() {
+        SyncRun run = new SyncRun();
+        run.setId(7L);
+        run.setMuseumId(2L);
+        when(syncRunService.findRun(7L)).thenReturn(run);
+
+        SyncJobDTO job = syncManagementService.resumeRun(7L);
+        orchestrator.findJob(job.getId()).orElseThrow().getCompletion().join();
+
+        verify(otherMuseumClient).resumeSync(7L);
+        verify(metMuseumClient, never()).resumeSync(any());
+    }
+
+    @Test
+    @DisplayName("when syncing all museums, museums run concurrently")
+    void whenSyncingAllMuseums_museumsRunConcurrently() {
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        doAnswer(_ -> {
+            bothStarted.countDown();
+            // Only completes if the other museum is syncing at the same time
+            assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(metMuseumClient).performSync(any());
+        doAnswer(_ -> {
+            bothStarted.countDown();
+            assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+            return null;
+        }).when(otherMuseumClient).performSync(any());
+
+        syncAndWait(null, SyncOperation.daily());
+
+        assertThat(orchestrator.latestJob(1L).getState()).isEqualTo(SyncJob.State.SUCCEEDED);
+        assertThat(orchestrator.latestJob(2L).getState()).isEqualTo(SyncJob.State.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("when a museum sync failed, its status reports the failure")
+    void whenMuseumSyncFailed_statusReportsFailure() {
+        doThrow(new ApiClientException("Sync failed"))
+                .when(metMuseumClient)
+                .performSync(any(SyncOperation.class));
+
+        syncAndWait(null, SyncOperation.daily());
+
+        assertThat(syncManagementService.getSingleMuseumStatus(1L))
+                .containsEntry("syncState", SyncJob.State.FAILED)
+                .containsEntry("lastSyncError", "Sync failed");
+        assertThat(syncManagementService.getSingleMuseumStatus(2L))
+                .containsEntry("syncState", SyncJob.State.SUCCEEDED);
+    }
+
+    @Test
+    @DisplayName("when another node already claimed the scheduled sync, this node does not sync")
+    void whenScheduledSyncClaimedElsewhere_thisNodeDoesNotSync() {
+        when(syncRunService.claimScheduledSync(eq("scheduled-sync"), any())).thenReturn(false);
+
+        syncManagementService.scheduledSync();
+
+        verify(metMuseumClient, never()).performSync(any());
+        verify(otherMuseumClient, never()).performSync(any());
+    }
+
+    @Test
+    @DisplayName("when another node's run has claimable chunks, this node assists it")
+    void whenAnotherNodesRunHasClaimableChunks_thisNodeAssists() throws Exception {
+        SyncRun run = new SyncRun();
+        run.setId(9L);
+        run.setMuseumId(1L);
+        CountDownLatch assisted = new CountDownLatch(1);
+        doAnswer(_ -> {
+            assisted.countDown();
+            return null;
+        }).when(metMuseumClient).assistSync(9L);
+        when(syncRunService.findInterruptedRuns()).thenReturn(List.of());
+        when(syncRunService.findRunsAcceptingHelp()).thenReturn(List.of(run));
+
+        syncManagementService.pollSharedSyncWork();
+
+        assertThat(assisted.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(otherMuseumClient, never()).assistSync(any());
+    }
+
+    @Test
+    @DisplayName("when interrupted runs cannot be read at startup, the failure is logged and startup continues")
+    void whenInterruptedRunsCannotBeRead_startupContinues() {
+        when(syncRunService.findInterruptedRuns())
+                .thenThrow(new DataAccessResourceFailureException("relation \"sync_runs\" does not exist"));
+
+        syncManagementService.resumeInterruptedRuns();
+
+        verifyNoInteractions(metMuseumClient, otherMuseumClient);
+    }
+
+    @Test
+    @DisplayName("when a sync is started, it returns before the sync finishes")
+    void whenSyncStarted_returnsBeforeSyncFinishes() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(_ -> {
+            started.countDown();
+            awaitQuietly(release);
+            return null;
+        }).when(metMuseumClient).performSync(any());
+
+        List<SyncJobDTO> jobs = syncManagementService.startSync(1L, SyncOperation.daily());
+
+        assertThat(jobs).singleElement()
+                .satisfies(job -> assertThat(job.getState()).isIn("QUEUED", "RUNNING"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("when a museum is already syncing, another sync of it is rejected")
+    void whenMuseumAlreadySyncing_anotherSyncIsRejected() {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(_ -> {
+            started.countDown();
+            awaitQuietly(release);
+            return null;
+        }).when(metMuseumClient).performSync(any());
+        syncManagementService.startSync(1L, SyncOperation.daily());
+        awaitQuietly(started);
+
+        assertThatThrownBy(() -> syncManagementService.startSync(1L, SyncOperation.monthly()))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("already running");
+        // A sync of every museum skips the busy one
+        assertThat(syncManagementService.startSync(null, SyncOperation.daily()))
+                .extracting(SyncJobDTO::getMuseumId)
+                .containsExactly(2L);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("when a running job is cancelled, the client is asked to stop and the job ends cancelled")
+    void whenRunningJobCancelled_clientStopsAndJobEndsCancelled() {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch cancelled = new CountDownLatch(1);
+        doAnswer(_ -> {
+            started.countDown();
+            awaitQuietly(cancelled);
+            return null;
+        }).when(metMuseumClient).performSync(any());
+        doAnswer(_ -> {
+            cancelled.countDown();
+            return null;
+        }).when(metMuseumClient).requestCancellation();
+
+        SyncJobDTO job = syncManagementService.startSync(1L, SyncOperation.daily()).getFirst();
+        awaitQuietly(started);
+        syncManagementService.cancelJob(job.getId());
+        orchestrator.findJob(job.getId()).orElseThrow().getCompletion().join();
+
+        assertThat(syncManagementService.getJob(job.getId()).getState()).isEqualTo("CANCELLED");
+        verify(metMuseumClient).requestCancellation();
+        // The museum is free for a new sync once its job is cancelled
+        assertThat(syncAndWait(1L, SyncOperation.daily())).singleElement()
+                .satisfies(next -> assertThat(next.getState()).isEqualTo("SUCCEEDED"));
+    }
+
+    @Test
+    @DisplayName("when a job is running, it reports throughput and estimated time remaining")
+    void whenJobRunning_reportsThroughputAndEta() {
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(_ -> {
+            awaitQuietly(release);
+            return null;
+        }).when(metMuseumClient).performSync(any());
+        // 500 of 1,000 done, 400 of them in the 20 seconds since this execution started
+        when(metMuseumClient.getSyncProgress())
+                .thenReturn(new SyncProgress(1000, 500, 3, 400, Duration.ofSeconds(20)));
+
+        SyncJobDTO started = syncManagementService.startSync(1L, SyncOperation.daily()).getFirst();
+        SyncJob job = orchestrator.findJob(started.getId()).orElseThrow();
+        while (job.getState() == SyncJob.State.QUEUED) {
+            Thread.onSpinWait();
+        }
+        SyncJobDTO running = syncManagementService.getJob(started.getId());
+        release.countDown();
+
+        assertThat(running.getProcessedCount()).isEqualTo(500);
+        assertThat(running.getErrorCount()).isEqualTo(3);
+        assertThat(running.getArtworksPerSecond()).isEqualTo(20.0);
+        assertThat(running.getEstimatedRemainingSeconds()).isEqualTo(25L);
+    }
+
+    @Test
+    @DisplayName("when a job id is unknown, throws not found")
+    void whenJobIdUnknown_throwsNotFound() {
+        assertThatThrownBy(() -> syncManagementService.cancelJob("missing"))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("when re-ingesting from the archive, the catalog version is bumped once it finishes")
+    void whenReingesting_catalogVersionIsBumpedAfterwards() {
+        SyncJobDTO started = syncManagementService.startReingest(1L);
+        orchestrator.findJob(started.getId()).orElseThrow().getCompletion()
+                .orTimeout(5, TimeUnit.SECONDS)
+                .join();
+
+        InOrder order = inOrder(metMuseumClient, catalogVersionService);
+        order.verify(metMuseumClient).reingestFromArchive();
+        order.verify(catalogVersionService).bump();
+        assertThat(syncManagementService.getJob(started.getId()).getState()).isEqualTo("SUCCEEDED");
+    }
+}
@@ -0,0 +1,204 @@
+import com.mvp.vueseum.client.ObjectResponse;
+import com.mvp.vueseum.client.SyncPipeline;
+import com.mvp.vueseum.domain.ArtworkDetails;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SyncPipelineTest {
+
+    private final List<String> persisted = new CopyOnWriteArrayList<>();
+    private final List<String> unchanged = new CopyOnWriteArrayList<>();
+    private final Map<String, Exception> failures = new ConcurrentHashMap<>();
+
+    private final SyncPipeline.Listener listener = new SyncPipeline.Listener() {
+        @Override
+        public void onPersisted(String id) {
+            persisted.add(id);
+        }
+
+        @Override
+        public void onUnchanged(String id) {
+            unchanged.add(id);
+        }
+
+        @Override
+        public void onFailed(String id, Exception error) {
+            failures.put(id, error != null ? error : new IllegalStateException("no details"));
+        }
+    };
+
+    private static ArtworkDetails details(String id) {
+        return ArtworkDetails.builder().externalId(id).title("Artwork " + id).build();
+    }
+
+    @Test
+    @DisplayName("when all ids succeed, every id is persisted exactly once")
+    void whenAllIdsSucceed_everyIdIsPersistedOnce() {
+        List<String> ids = IntStream.range(0, 500).mapToObj(String::valueOf).toList();
+
+        SyncPipeline.Result result = SyncPipeline.builder()
+                .fetcher(ObjectResponse::of)
+                .parser(SyncPipelineTest::details)
+                .persister(_ -> {})
+                .listener(listener)
+                .maxInFlight(8)
+                .queueCapacity(4)
+                .build()
+                .run(ids);
+
+        assertThat(result.succeeded()).isEqualTo(500);
+        assertThat(result.failedIds()).isEmpty();
+        assertThat(persisted).hasSize(500).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("when stages fail, failures are accounted per id and the rest still persist")
+    void whenStagesFail_failuresAreAccountedPerId() {
+        List<String> ids = List.of("ok-1", "missing", "bad-json", "db-error", "skipped", "ok-2");
+
+        SyncPipeline.Result result = SyncPipeline.builder()
+                .fetcher(id -> id.equals("missing") ? null : ObjectResponse.of(id))
+                .parser(response -> switch (response) {
+                    case "bad-json" -> throw new IllegalArgumentException("bad json");
+                    case "skipped" -> null;
+                    default -> details(response);
+                })
+                .persister(batch -> {
+                    if (batch.getFirst().getExternalId().equals("db-error")) {
+                        throw new IllegalStateException("constraint violation");
+                    }
+                })
+                .listener(listener)
+                .build()
+                .run(ids);
+
+        assertThat(result.succeeded()).isEqualTo(2);
+        assertThat(persisted).containsExactlyInAnyOrder("ok-1", "ok-2");
+        assertThat(result.failedIds())
+                .containsExactlyInAnyOrder("missing", "bad-json", "db-error", "skipped");
+        assertThat(failures.get("bad-json")).hasMessage("bad json");
+        assertThat(failures.get("db-error")).hasMessage("constraint violation");
+    }
+
+    @Test
+    @DisplayName("when batching persistence, batches never exceed the configured size")
+    void whenBatchingPersistence_batchesAreBounded() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        List<String> ids = IntStream.range(0, 300).mapToObj(String::valueOf).toList();
+
+        SyncPipeline.Result result = SyncPipeline.builder()
+                .fetcher(ObjectResponse::of)
+                .parser(SyncPipelineTest::details)
+                .persister(batch -> batchSizes.add(batch.size()))
+                .listener(listener)
+                .persistBatchSize(25)
+                .build()
+                .run(ids);
+
+        assertThat(result.succeeded()).isEqualTo(300);
+        assertThat(batchSizes).allSatisfy(size -> assertThat(size).isBetween(1, 25));
+        assertThat(batchSizes.stream().mapToInt(Integer::intValue).sum()).isEqualTo(300);
+    }
+
+    @Test
+    @DisplayName("when fetching, in-flight requests never exceed the configured limit")
+    void whenFetching_inFlightRequestsAreBounded() {
+        AtomicInteger inFlight = new AtomicInteger();
+        Set<Integer> observed = ConcurrentHashMap.newKeySet();
+        List<String> ids = IntStream.range(0, 200).mapToObj(String::valueOf).toList();
+
+        SyncPipeline.builder()
+                .fetcher(id -> {
+                    observed.add(inFlight.incrementAndGet());
+                    try {
+                        Thread.sleep(2);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    inFlight.decrementAndGet();
+                    return ObjectResponse.of(id);
+                })
+                .parser(SyncPipelineTest::details)
+                .persister(_ -> {})
+                .listener(listener)
+                .maxInFlight(5)
+                .build()
+                .run(ids);
+
+        assertThat(observed).allSatisfy(count -> assertThat(count).isLessThanOrEqualTo(5));
+        assertThat(persisted).hasSize(200);
+    }
+
+    @Test
+    @DisplayName("when parsing stalls, fetching stops once the response buffer budget is used")
+    void whenParsingStalls_fetchingStopsAtBufferBudget() throws Exception {
+        AtomicInteger fetchCalls = new AtomicInteger();
+        CountDownLatch parsingAllowed = new CountDownLatch(1);
+        List<String> ids = IntStream.range(0, 200).mapToObj(String::valueOf).toList();
+
+        SyncPipeline pipeline = SyncPipeline.builder()
+                .fetcher(id -> {
+                    fetchCalls.incrementAndGet();
+                    return ObjectResponse.of("x".repeat(100));
+                })
+                .parser(response -> {
+                    try {
+                        parsingAllowed.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return details(String.valueOf(response.length()));
+                })
+                .persister(_ -> {})
+                .listener(listener)
+                .maxInFlight(10)
+                .parseWorkers(1)
+                .maxBufferedChars(500)
+                .build();
+
+        CompletableFuture<SyncPipeline.Result> run = CompletableFuture.supplyAsync(() -> pipeline.run(ids));
+        Thread.sleep(200);
+
+        // Five responses fit the budget; each in-flight fetch may hold one more waiting for budget
+        assertThat(fetchCalls.get()).isLessThanOrEqualTo(5 + 10);
+
+        parsingAllowed.countDown();
+        assertThat(run.get(10, TimeUnit.SECONDS).succeeded()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("when the fetcher reports an object not modified, it skips parsing and persistence")
+    void whenObjectNotModified_itSkipsParsingAndPersistence() {
+        List<String> parsed = new CopyOnWriteArrayList<>();
+
+        SyncPipeline.Result result = SyncPipeline.builder()
+                .fetcher(id -> id.startsWith("same") ? ObjectResponse.NOT_MODIFIED : ObjectResponse.of(id))
+                .parser(response -> {
+                    parsed.add(response);
+                    return details(response);
+                })
+                .persister(_ -> {})
+                .listener(listener)
+                .build()
+                .run(List.of("same-1", "new-1", "same-2"));
+
+        assertThat(result.succeeded()).isEqualTo(1);
+        assertThat(result.unchanged()).isEqualTo(2);
+        assertThat(result.failedIds()).isEmpty();
+        assertThat(parsed).containsExactly("new-1");
+        assertThat(unchanged).containsExactlyInAnyOrder("same-1", "same-2");
+    }
+}
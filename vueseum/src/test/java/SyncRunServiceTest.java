@@ -0,0 +1,236 @@
+import com.mvp.vueseum.entity.SyncRun;
+import com.mvp.vueseum.entity.SyncRunChunk;
+import com.mvp.vueseum.event.SyncOperation;
+import com.mvp.vueseum.exception.InvalidRequestException;
+import com.mvp.vueseum.repository.SyncRunChunkRepository;
+import com.mvp.vueseum.repository.SyncRunRepository;
+import com.mvp.vueseum.service.SyncLeaseService;
+import com.mvp.vueseum.service.SyncRunService;
+import com.mvp.vueseum.service.catalog.CatalogVersionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SyncRunServiceTest {
+    @Mock
+    private SyncRunRepository syncRunRepository;
+    @Mock
+    private SyncRunChunkRepository syncRunChunkRepository;
+    @Mock
+    private SyncLeaseService leaseService;
+    @Mock
+    private CatalogVersionService catalogVersionService;
+
+    private final Clock clock = Clock.fixed(Instant.parse("2025-01-15T12:00:00Z"), ZoneOffset.UTC);
+
+    private SyncRunService syncRunService;
+
+    @BeforeEach
+    void setUp() {
+        syncRunService = new SyncRunService(syncRunRepository, syncRunChunkRepository, leaseService, catalogVersionService, clock, 2);
+        lenient().when(syncRunRepository.saveAndFlush(any(SyncRun.class))).thenAnswer(invocation -> {
+            SyncRun run = invocation.getArgument(0);
+            run.setId(10L);
+            return run;
+        });
+    }
+
+    private SyncRun storedRun(Long id, SyncRun.Status status) {
+        SyncRun run = new SyncRun();
+        run.setId(id);
+        run.setMuseumId(1L);
+        run.setStatus(status);
+        return run;
+    }
+
+    @Test
+    @DisplayName("when a started run is planned, its ids are split into ordered chunks")
+    @SuppressWarnings("unchecked")
+    void whenStartedRunIsPlanned_idsAreSplitIntoChunks() {
+        SyncRun started = syncRunService.startRun(1L, SyncOperation.monthly());
+        verify(leaseService).acquireRun(10L);
+        when(syncRunRepository.findById(10L)).thenReturn(Optional.of(started));
+
+        SyncRun run = syncRunService.planRun(10L, List.of("1", "2", "3", "4", "5"));
+
+        ArgumentCaptor<List<SyncRunChunk>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(syncRunChunkRepository).saveAll(chunks.capture());
+
+        assertThat(run.getTotalIds()).isEqualTo(5);
+        assertThat(run.getChunkCount()).isEqualTo(3);
+        assertThat(run.getStatus()).isEqualTo(SyncRun.Status.RUNNING);
+        assertThat(chunks.getValue())
+                .extracting(SyncRunChunk::getChunkIndex, SyncRunChunk::getExternalIds)
+                .containsExactly(
+                        tuple(0, List.of("1", "2")),
+                        tuple(1, List.of("3", "4")),
+                        tuple(2, List.of("5")));
+    }
+
+    @Test
+    @DisplayName("when another node is syncing the museum, a new run is rejected")
+    void whenAnotherNodeIsSyncingMuseum_newRunIsRejected() {
+        when(leaseService.findLiveRunIds(1L)).thenReturn(List.of(4L));
+
+        assertThatThrownBy(() -> syncRunService.startRun(1L, SyncOperation.monthly()))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("run 4");
+        verify(syncRunRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    @DisplayName("when starting a run, unfinished runs of the museum are superseded")
+    void whenStartingRun_unfinishedRunsAreSuperseded() {
+        SyncRun failed = storedRun(3L, SyncRun.Status.FAILED);
+        when(syncRunRepository.findByMuseumIdAndStatusIn(eq(1L), anyCollection())).thenReturn(List.of(failed));
+
+        syncRunService.startRun(1L, SyncOperation.daily());
+
+        assertThat(failed.getStatus()).isEqualTo(SyncRun.Status.ABORTED);
+        assertThat(failed.getFinishedAt()).isNotNull();
+        InOrder inOrder = inOrder(syncRunRepository);
+        inOrder.verify(syncRunRepository).flush();
+        inOrder.verify(syncRunRepository).saveAndFlush(any(SyncRun.class));
+    }
+
+    @Test
+    @DisplayName("when another node starts a run of the museum at the same time, the unique index rejects this one")
+    void whenAnotherNodeStartsRunConcurrently_newRunIsRejected() {
+        when(syncRunRepository.saveAndFlush(any(SyncRun.class)))
+                .thenThrow(new DataIntegrityViolationException("uq_sync_runs_running_museum"));
+
+        assertThatThrownBy(() -> syncRunService.startRun(1L, SyncOperation.monthly()))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("already being synced");
+        verify(leaseService, never()).acquireRun(any());
+    }
+
+    @Test
+    @DisplayName("when resuming a run while another run of the museum is running, the resume is rejected")
+    void whenResumingWhileAnotherRunIsRunning_resumeIsRejected() {
+        when(syncRunRepository.findById(3L)).thenReturn(Optional.of(storedRun(3L, SyncRun.Status.FAILED)));
+        when(leaseService.acquireRun(3L)).thenReturn(true);
+        doThrow(new DataIntegrityViolationException("uq_sync_runs_running_museum")).when(syncRunRepository).flush();
+
+        assertThatThrownBy(() -> syncRunService.claimForResume(3L))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("already being synced");
+    }
+
+    @Test
+    @DisplayName("when resuming a failed run, it is claimed and marked running")
+    void whenResumingFailedRun_itIsClaimed() {
+        SyncRun failed = storedRun(3L, SyncRun.Status.FAILED);
+        failed.setFailureReason("Connection reset");
+        when(syncRunRepository.findById(3L)).thenReturn(Optional.of(failed));
+        when(leaseService.acquireRun(3L)).thenReturn(true);
+
+        SyncRun claimed = syncRunService.claimForResume(3L);
+
+        assertThat(claimed.getStatus()).isEqualTo(SyncRun.Status.RUNNING);
+        assertThat(claimed.getFailureReason()).isNull();
+    }
+
+    @Test
+    @DisplayName("when a run is already executing, it cannot be claimed again")
+    void whenRunAlreadyExecuting_itCannotBeClaimedAgain() {
+        when(syncRunRepository.findById(3L)).thenReturn(Optional.of(storedRun(3L, SyncRun.Status.FAILED)));
+        when(leaseService.acquireRun(3L)).thenReturn(true, false);
+        syncRunService.claimForResume(3L);
+
+        assertThatThrownBy(() -> syncRunService.claimForResume(3L))
+                .isInstanceOf(InvalidRequestException.class)
+                .hasMessageContaining("already running");
+    }
+
+    @Test
+    @DisplayName("when a run has completed, it cannot be resumed or aborted")
+    void whenRunCompleted_itCannotBeResumedOrAborted() {
+        when(syncRunRepository.findById(3L)).thenReturn(Optional.of(storedRun(3L, SyncRun.Status.COMPLETED)));
+
+        assertThatThrownBy(() -> syncRunService.claimForResume(3L))
+                .isInstanceOf(InvalidRequestException.class);
+        assertThatThrownBy(() -> syncRunService.abortRun(3L))
+                .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @Test
+    @DisplayName("when an aborted run finishes its last chunk, it stays aborted")
+    void whenAbortedRunFinishes_itStaysAborted() {
+        SyncRun run = storedRun(3L, SyncRun.Status.RUNNING);
+        when(syncRunRepository.findById(3L)).thenReturn(Optional.of(run));
+
+        syncRunService.abortRun(3L);
+        syncRunService.completeRun(3L, 0);
+
+        assertThat(run.getStatus()).isEqualTo(SyncRun.Status.ABORTED);
+        verify(catalogVersionService, times(1)).bump();
+    }
+
+    @Test
+    @DisplayName("when a run completes, the catalog version is bumped")
+    void whenRunCompletes_catalogVersionIsBumped() {
+        SyncRun run = storedRun(3L, SyncRun.Status.RUNNING);
+        when(syncRunRepository.findById(3L)).thenReturn(Optional.of(run));
+
+        syncRunService.completeRun(3L, 0);
+
+        assertThat(run.getStatus()).isEqualTo(SyncRun.Status.COMPLETED);
+        verify(catalogVersionService).bump();
+    }
+
+    @Test
+    @DisplayName("when runs are left running without a live owner, they are reported as interrupted")
+    void whenRunsLeftRunning_theyAreInterrupted() {
+        SyncRun interrupted = storedRun(3L, SyncRun.Status.RUNNING);
+        when(leaseService.findOrphanedRunIds()).thenReturn(List.of(3L));
+        when(syncRunRepository.findAllById(List.of(3L))).thenReturn(List.of(interrupted));
+
+        assertThat(syncRunService.findInterruptedRuns()).containsExactly(interrupted);
+    }
+
+    @Test
+    @DisplayName("when a chunk was already completed by another node, its progress is not counted twice")
+    void whenChunkAlreadyCompletedElsewhere_progressIsNotCountedTwice() {
+        SyncRunChunk chunk = new SyncRunChunk(storedRun(3L, SyncRun.Status.RUNNING), 0, List.of("1", "2"));
+        chunk.setId(20L);
+        chunk.setStatus(SyncRunChunk.Status.COMPLETED);
+        when(syncRunChunkRepository.findByIdForUpdate(20L)).thenReturn(Optional.of(chunk));
+
+        syncRunService.completeChunk(20L, 2, List.of());
+
+        verify(leaseService).chunkCompleted(20L);
+        verify(syncRunRepository, never()).addChunkProgress(any(), anyInt(), anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("when a chunk is claimed, the leased chunk is loaded")
+    void whenChunkIsClaimed_leasedChunkIsLoaded() {
+        SyncRunChunk chunk = new SyncRunChunk(storedRun(3L, SyncRun.Status.RUNNING), 1, List.of("3"));
+        when(leaseService.claimChunk(3L)).thenReturn(Optional.of(21L));
+        when(syncRunChunkRepository.findById(21L)).thenReturn(Optional.of(chunk));
+
+        assertThat(syncRunService.claimNextChunk(3L)).contains(chunk);
+    }
+}
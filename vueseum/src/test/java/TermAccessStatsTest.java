@@ -0,0 +1,71 @@
+import com.mvp.vueseum.repository.StandardizedTermBatchRepository;
+import com.mvp.vueseum.repository.StandardizedTermBatchRepository.AccessStats;
+import com.mvp.vueseum.service.cultural.TermAccessStats;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TermAccessStatsTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Mock
+    private StandardizedTermBatchRepository standardizedTermBatchRepository;
+
+    private TermAccessStats termAccessStats;
+
+    @BeforeEach
+    void setUp() {
+        Clock clock = Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+        termAccessStats = new TermAccessStats(standardizedTermBatchRepository, clock);
+    }
+
+    @Test
+    @DisplayName("when terms are accessed repeatedly, one aggregated update per term is flushed")
+    @SuppressWarnings("unchecked")
+    void whenTermsAreAccessed_countsAreAggregated() {
+        termAccessStats.recordAccess("Japanese", "CULTURE");
+        termAccessStats.recordAccess("Japanese", "CULTURE");
+        termAccessStats.recordAccess("Bronze", "MEDIUM");
+
+        assertThat(termAccessStats.flush()).isEqualTo(2);
+
+        ArgumentCaptor<List<AccessStats>> stats = ArgumentCaptor.forClass(List.class);
+        verify(standardizedTermBatchRepository).addAccessStats(stats.capture());
+        assertThat(stats.getValue()).containsExactlyInAnyOrder(
+                new AccessStats("CULTURE", "Japanese", 2, NOW),
+                new AccessStats("MEDIUM", "Bronze", 1, NOW));
+        assertThat(termAccessStats.flush()).isZero();
+    }
+
+    @Test
+    @DisplayName("when a flush fails, its counts are kept for the next flush")
+    @SuppressWarnings("unchecked")
+    void whenFlushFails_countsAreKept() {
+        doThrow(new RuntimeException("database down")).doNothing()
+                .when(standardizedTermBatchRepository).addAccessStats(anyList());
+        termAccessStats.recordAccess("Japanese", "CULTURE");
+        termAccessStats.flush();
+        termAccessStats.recordAccess("Japanese", "CULTURE");
+
+        termAccessStats.flush();
+
+        ArgumentCaptor<List<AccessStats>> stats = ArgumentCaptor.forClass(List.class);
+        verify(standardizedTermBatchRepository, times(2)).addAccessStats(stats.capture());
+        assertThat(stats.getValue()).containsExactly(new AccessStats("CULTURE", "Japanese", 2, NOW));
+    }
+}
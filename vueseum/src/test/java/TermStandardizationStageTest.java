@@ -0,0 +1,93 @@
+import com.mvp.vueseum.domain.ArtworkDetails;
+import com.mvp.vueseum.service.cultural.CulturalTermStandardizationService;
+import com.mvp.vueseum.service.cultural.CulturalTermStandardizationService.BatchResult;
+import com.mvp.vueseum.service.cultural.TermStandardizationStage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.mvp.vueseum.service.cultural.CulturalTermStandardizationService.CATEGORY_CULTURE;
+import static com.mvp.vueseum.service.cultural.CulturalTermStandardizationService.CATEGORY_MEDIUM;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TermStandardizationStageTest {
+    private static final BatchResult NOTHING_DEFERRED = new BatchResult(Map.of(), List.of());
+
+    @Mock
+    private CulturalTermStandardizationService standardizationService;
+
+    private TermStandardizationStage stage;
+
+    @BeforeEach
+    void setUp() {
+        stage = new TermStandardizationStage(standardizationService, 2, 1000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stage.shutdown();
+    }
+
+    @Test
+    @DisplayName("when a batch is submitted, its distinct terms are looked up in chunks, once per category")
+    void whenBatchIsSubmitted_distinctTermsAreLookedUpInChunks() {
+        when(standardizationService.standardizeTerms(anyList(), anyString())).thenReturn(NOTHING_DEFERRED);
+
+        stage.submit(List.of(
+                artwork("Japanese", "Woodblock print"),
+                artwork("Japanese", " "),
+                artwork("French", "Oil on canvas"),
+                artwork("Edo", null)));
+
+        verify(standardizationService, timeout(1000)).standardizeTerms(List.of("Japanese", "French"), CATEGORY_CULTURE);
+        verify(standardizationService, timeout(1000)).standardizeTerms(List.of("Edo"), CATEGORY_CULTURE);
+        verify(standardizationService, timeout(1000))
+                .standardizeTerms(List.of("Woodblock print", "Oil on canvas"), CATEGORY_MEDIUM);
+        verifyNoMoreInteractions(standardizationService);
+    }
+
+    @Test
+    @DisplayName("when terms were already looked up, a later batch does not query them again")
+    void whenTermsWereLookedUp_laterBatchSkipsThem() {
+        when(standardizationService.standardizeTerms(anyList(), anyString())).thenReturn(NOTHING_DEFERRED);
+
+        stage.submit(List.of(artwork("Japanese", "Woodblock print")));
+        verify(standardizationService, timeout(1000)).standardizeTerms(List.of("Woodblock print"), CATEGORY_MEDIUM);
+        stage.submit(List.of(artwork("Japanese", "Woodblock print"), artwork("Chinese", null)));
+
+        verify(standardizationService, timeout(1000)).standardizeTerms(List.of("Chinese"), CATEGORY_CULTURE);
+        verify(standardizationService, times(1)).standardizeTerms(List.of("Japanese"), CATEGORY_CULTURE);
+    }
+
+    @Test
+    @DisplayName("when the rate limit defers terms, a later batch queues them again")
+    void whenTermsAreDeferred_laterBatchRetriesThem() {
+        when(standardizationService.standardizeTerms(List.of("Japanese"), CATEGORY_CULTURE))
+                .thenReturn(new BatchResult(Map.of(), List.of("Japanese")), NOTHING_DEFERRED);
+        when(standardizationService.standardizeTerms(List.of("Ink"), CATEGORY_MEDIUM)).thenReturn(NOTHING_DEFERRED);
+
+        stage.submit(List.of(artwork("Japanese", "Ink")));
+        // Mediums are looked up after cultures, so the deferral has been handled by then
+        verify(standardizationService, timeout(1000)).standardizeTerms(List.of("Ink"), CATEGORY_MEDIUM);
+        stage.submit(List.of(artwork("Japanese", "Ink")));
+
+        verify(standardizationService, timeout(1000).times(2)).standardizeTerms(List.of("Japanese"), CATEGORY_CULTURE);
+        verify(standardizationService, times(1)).standardizeTerms(List.of("Ink"), CATEGORY_MEDIUM);
+    }
+
+    private static ArtworkDetails artwork(String culture, String medium) {
+        ArtworkDetails details = new ArtworkDetails();
+        details.setCulture(culture);
+        details.setMedium(medium);
+        return details;
+    }
+}
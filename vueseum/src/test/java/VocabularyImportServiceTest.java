@@ -0,0 +1,110 @@
+import com.mvp.vueseum.exception.InvalidRequestException;
+import com.mvp.vueseum.service.cultural.CulturalTermStandardizationService;
+import com.mvp.vueseum.service.cultural.LocalVocabulary;
+import com.mvp.vueseum.service.cultural.VocabularyImportService;
+import com.mvp.vueseum.service.cultural.VocabularyImportService.ImportSummary;
+import com.mvp.vueseum.service.cultural.VocabularyIndex.Vocabulary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import static com.mvp.vueseum.service.cultural.CulturalTermStandardizationService.CATEGORY_CULTURE;
+import static com.mvp.vueseum.service.cultural.CulturalTermStandardizationService.CATEGORY_MEDIUM;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VocabularyImportServiceTest {
+    private static final String JSON_EXTRACT = """
+            [
+            {"id":"Q142","labels":{"en":{"language":"en","value":"France"}},"claims":{"P31":[{"mainsnak":{"datavalue":{"value":{"id":"Q6256"}}}}],"P1549":[{"mainsnak":{"datavalue":{"value":{"text":"French","language":"en"}}}},{"mainsnak":{"datavalue":{"value":{"text":"Français","language":"fr"}}}}]}},
+            {"id":"Q900","labels":{"en":{"language":"en","value":"indigenous people"}},"claims":{"P279":[{"mainsnak":{"datavalue":{"value":{"id":"Q41710"}}}}]}},
+            {"id":"Q5000","labels":{"en":{"language":"en","value":"Ainu"}},"aliases":{"en":[{"language":"en","value":"Aynu"}]},"claims":{"P31":[{"mainsnak":{"datavalue":{"value":{"id":"Q900"}}}}]}},
+            {"id":"Q34095","labels":{"en":{"language":"en","value":"bronze"}},"claims":{"P279":[{"mainsnak":{"datavalue":{"value":{"id":"Q214609"}}}}]}},
+            {"id":"Q90","labels":{"en":{"language":"en","value":"Paris"}},"claims":{"P31":[{"mainsnak":{"datavalue":{"value":{"id":"Q515"}}}}]}}
+            ]
+            """;
+
+    private static final String N_TRIPLES_EXTRACT = """
+            <http://www.wikidata.org/entity/Q17> <http://www.wikidata.org/prop/direct/P31> <http://www.wikidata.org/entity/Q6256> .
+            <http://www.wikidata.org/entity/Q17> <http://www.wikidata.org/prop/direct/P1549> "Japanese"@en .
+            <http://www.wikidata.org/entity/Q17> <http://www.w3.org/2000/01/rdf-schema#label> "Japan"@en .
+            <http://www.wikidata.org/entity/Q7> <http://www.w3.org/2000/01/rdf-schema#label> "Papier-m\\u00E2ch\\u00E9"@en .
+            <http://www.wikidata.org/entity/Q7> <http://www.wikidata.org/prop/direct/P279> <http://www.wikidata.org/entity/Q214609> .
+            <http://www.wikidata.org/entity/Q8> <http://www.w3.org/2000/01/rdf-schema#label> "papier-mâché"@en .
+            <http://www.wikidata.org/entity/Q8> <http://www.wikidata.org/prop/direct/P31> <http://www.wikidata.org/entity/Q214609> .
+            <http://www.wikidata.org/entity/Q8> <http://www.w3.org/2000/01/rdf-schema#label> "papier-mâché"@fr .
+            """;
+
+    @Mock
+    private CulturalTermStandardizationService standardizationService;
+    @TempDir
+    private Path directory;
+
+    private LocalVocabulary localVocabulary;
+    private VocabularyImportService vocabularyImportService;
+
+    @BeforeEach
+    void setUp() {
+        localVocabulary = new LocalVocabulary(directory);
+        vocabularyImportService = new VocabularyImportService(localVocabulary, standardizationService,
+                directory, Set.of("Q214609"));
+    }
+
+    @Test
+    @DisplayName("when a gzipped JSON extract is imported, terms resolve locally and the catalog is standardized")
+    void whenJsonExtractIsImported_termsResolveLocally() throws IOException {
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(directory.resolve("extract.json.gz")))) {
+            out.write(JSON_EXTRACT.getBytes(StandardCharsets.UTF_8));
+        }
+        when(standardizationService.standardizeCatalogTerms()).thenReturn(12);
+
+        ImportSummary summary = vocabularyImportService.importExtract("extract.json.gz");
+
+        assertThat(summary.entries()).containsEntry(Vocabulary.DEMONYM, 1)
+                .containsEntry(Vocabulary.CULTURAL_GROUP, 2)
+                .containsEntry(Vocabulary.MEDIUM, 1);
+        assertThat(summary.catalogTermsStandardized()).isEqualTo(12);
+        assertThat(localVocabulary.resolve("probably French", CATEGORY_CULTURE)).contains("French");
+        assertThat(localVocabulary.resolve("Aynu", CATEGORY_CULTURE)).contains("Ainu");
+        assertThat(localVocabulary.resolve(" Bronze ", CATEGORY_MEDIUM)).contains("bronze");
+        assertThat(localVocabulary.resolve("Paris", CATEGORY_MEDIUM)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("when an N-Triples extract is imported, the lowest item id wins conflicts and the index survives a restart")
+    void whenNTriplesExtractIsImported_indexIsDeterministicAndPersisted() throws IOException {
+        Files.writeString(directory.resolve("extract.nt"), N_TRIPLES_EXTRACT);
+
+        vocabularyImportService.importExtract("extract.nt");
+
+        LocalVocabulary restarted = new LocalVocabulary(directory);
+        restarted.load();
+        assertThat(restarted.isAvailable()).isTrue();
+        assertThat(restarted.resolve("Japanese", CATEGORY_CULTURE)).contains("Japanese");
+        assertThat(restarted.resolve("Papier-mâché", CATEGORY_MEDIUM)).contains("Papier-mâché");
+    }
+
+    @Test
+    @DisplayName("when the extract name points outside the vocabulary directory, the import is rejected")
+    void whenFileNameIsAPath_importIsRejected() {
+        assertThatThrownBy(() -> vocabularyImportService.importExtract("../extract.json"))
+                .isInstanceOf(InvalidRequestException.class);
+
+        assertThat(localVocabulary.isAvailable()).isFalse();
+        verifyNoInteractions(standardizationService);
+    }
+}
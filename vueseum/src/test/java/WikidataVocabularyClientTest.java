@@ -0,0 +1,76 @@
+import com.mvp.vueseum.service.tour.WikidataVocabularyClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URLDecoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WikidataVocabularyClientTest {
+    @Mock
+    private HttpClient httpClient;
+    @Mock
+    private HttpResponse<String> response;
+
+    @Test
+    @DisplayName("when cultural terms are looked up in a batch, one query is sent and demonym matches win")
+    void whenCulturalTermsAreBatched_oneQueryIsSentAndDemonymsWin() throws Exception {
+        stubResponse("""
+                {"results": {"bindings": [
+                  {"term": {"value": "Yoruba peoples"}, "groupLabel": {"value": "Yoruba people"}},
+                  {"term": {"value": "probably French"}, "groupLabel": {"value": "French people"}},
+                  {"term": {"value": "probably French"}, "demonym": {"value": "French (masculine)"}}
+                ]}}
+                """);
+        WikidataVocabularyClient client = new WikidataVocabularyClient(httpClient);
+
+        var standardized = client.standardizeCulturalTerms(List.of("probably French", "Yoruba peoples", "Say \"hi\""));
+
+        assertThat(standardized.orElseThrow())
+                .containsEntry("probably French", "French")
+                .containsEntry("Yoruba peoples", "Yoruba people")
+                .hasSize(2);
+        ArgumentCaptor<HttpRequest> request = ArgumentCaptor.forClass(HttpRequest.class);
+        verify(httpClient, times(1)).send(request.capture(), any());
+        String query = URLDecoder.decode(request.getValue().uri().getRawQuery(), StandardCharsets.UTF_8);
+        assertThat(query)
+                .contains("(\"probably French\" \"french\" \"French\"@en)")
+                .contains("(\"Say \\\"hi\\\"\" \"say\" \"Say \\\"hi\\\"\"@en)");
+    }
+
+    @Test
+    @DisplayName("when medium terms are looked up in a batch, matches are keyed by the raw term")
+    void whenMediumTermsAreBatched_matchesAreKeyedByRawTerm() throws Exception {
+        stubResponse("""
+                {"results": {"bindings": [
+                  {"term": {"value": "Oil on Canvas"}, "itemLabel": {"value": "oil on canvas"}}
+                ]}}
+                """);
+        WikidataVocabularyClient client = new WikidataVocabularyClient(httpClient);
+
+        var matches = client.findExactArtMediumMatches(List.of("Oil on Canvas", "Gold leaf"));
+
+        assertThat(matches).contains(Map.of("Oil on Canvas", "Oil on canvas"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubResponse(String body) throws Exception {
+        when(response.statusCode()).thenReturn(200);
+        when(response.body()).thenReturn(body);
+        when(httpClient.send(any(HttpRequest.class), any(HttpResponse.BodyHandler.class)))
+                .thenReturn((HttpResponse<Object>) (HttpResponse<?>) response);
+    }
+}
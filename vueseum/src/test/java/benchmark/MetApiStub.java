@@ -0,0 +1,369 @@
+package benchmark;
+
+import com.google.common.util.concurrent.RateLimiter;
+import com.mvp.vueseum.client.SearchResponseDecoder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Embeddable stand-in for the Met collection API, serving {@code /search},
+ * {@code /objects?metadataDate=} and {@code /objects/{id}} from a {@link Corpus}.
+ * <p>
+ * A {@link Profile} adds response latency and injects server errors and 429s with a
+ * {@code Retry-After} header, so sync throughput and back-off can be measured offline.
+ * Object responses carry an ETag and honor {@code If-None-Match}, like a CDN in front
+ * of the real API.
+ */
+@Slf4j
+public class MetApiStub implements AutoCloseable {
+
+    /**
+     * Latency and failure injection for every response.
+     *
+     * @param latency           base delay before each response
+     * @param jitter            uniformly distributed extra delay
+     * @param errorRate         fraction of object requests answered with 500
+     * @param throttleRate      fraction of requests answered with 429
+     * @param retryAfterSeconds {@code Retry-After} sent with 429 responses
+     * @param conditional       whether ETags are sent and {@code If-None-Match} answered with 304
+     */
+    public record Profile(
+            Duration latency,
+            Duration jitter,
+            double errorRate,
+            double throttleRate,
+            int retryAfterSeconds,
+            boolean conditional
+    ) {
+        public static final Profile INSTANT = new Profile(Duration.ZERO, Duration.ZERO, 0, 0, 0, true);
+
+        /** Roughly what a sync sees from the public API on a good day */
+        public static final Profile REALISTIC = new Profile(
+                Duration.ofMillis(40), Duration.ofMillis(60), 0.002, 0.001, 1, true);
+
+        public Profile withLatency(Duration latency, Duration jitter) {
+            return new Profile(latency, jitter, errorRate, throttleRate, retryAfterSeconds, conditional);
+        }
+
+        public Profile withErrorRate(double errorRate) {
+            return new Profile(latency, jitter, errorRate, throttleRate, retryAfterSeconds, conditional);
+        }
+
+        public Profile withThrottling(double throttleRate, int retryAfterSeconds) {
+            return new Profile(latency, jitter, errorRate, throttleRate, retryAfterSeconds, conditional);
+        }
+
+        public Profile withConditional(boolean conditional) {
+            return new Profile(latency, jitter, errorRate, throttleRate, retryAfterSeconds, conditional);
+        }
+    }
+
+    /**
+     * Requests served, by outcome.
+     */
+    public record Stats(long ok, long notModified, long notFound, long serverErrors, long throttled) {
+        public long total() {
+            return ok + notModified + notFound + serverErrors + throttled;
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Corpus corpus;
+    private final byte[] searchResponse;
+    private final SplittableRandom random;
+    private volatile Profile profile;
+
+    private final LongAdder ok = new LongAdder();
+    private final LongAdder notModified = new LongAdder();
+    private final LongAdder notFound = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+
+    private MetApiStub(Corpus corpus, Profile profile, long seed) throws IOException {
+        this.corpus = corpus;
+        this.profile = profile;
+        this.random = new SplittableRandom(seed);
+        this.searchResponse = searchResponse(corpus.ids());
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/search", exchange -> respond(exchange, () -> sendJson(exchange, 200, searchResponse)));
+        server.createContext("/objects", this::handleObjects);
+    }
+
+    /**
+     * Starts a stub on a free local port.
+     *
+     * @param seed seeds the latency and failure injection so runs are repeatable
+     */
+    public static MetApiStub start(Corpus corpus, Profile profile, long seed) {
+        try {
+            MetApiStub stub = new MetApiStub(corpus, profile, seed);
+            stub.server.start();
+            log.info("Met API stub serving {} objects at {}", corpus.ids().length, stub.getBaseUrl());
+            return stub;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start Met API stub", e);
+        }
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public void setProfile(Profile profile) {
+        this.profile = profile;
+    }
+
+    public Stats getStats() {
+        return new Stats(ok.sum(), notModified.sum(), notFound.sum(), serverErrors.sum(), throttled.sum());
+    }
+
+    public void resetStats() {
+        Stream.of(ok, notModified, notFound, serverErrors, throttled).forEach(LongAdder::reset);
+    }
+
+    private void handleObjects(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if (path.equals("/objects") || path.equals("/objects/")) {
+            // Incremental sync: every object counts as updated
+            respond(exchange, () -> sendJson(exchange, 200, searchResponse));
+            return;
+        }
+
+        int id;
+        try {
+            id = Integer.parseInt(path.substring("/objects/".length()));
+        } catch (NumberFormatException _) {
+            id = -1;
+        }
+        int objectId = id;
+        respond(exchange, () -> {
+            if (roll() < profile.errorRate()) {
+                serverErrors.increment();
+                sendJson(exchange, 500, "{\"message\":\"Internal Server Error\"}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            byte[] body = objectId >= 0 ? corpus.object(objectId) : null;
+            if (body == null) {
+                notFound.increment();
+                sendJson(exchange, 404, "{\"message\":\"Not a valid object\"}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            if (profile.conditional()) {
+                String etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+                if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                    notModified.increment();
+                    exchange.getResponseHeaders().add("ETag", etag);
+                    exchange.sendResponseHeaders(304, -1);
+                    return;
+                }
+                exchange.getResponseHeaders().add("ETag", etag);
+            }
+            ok.increment();
+            sendJson(exchange, 200, body);
+        });
+    }
+
+    private interface Response {
+        void send() throws IOException;
+    }
+
+    /**
+     * Applies the profile's latency and throttling before sending the response.
+     */
+    private void respond(HttpExchange exchange, Response response) throws IOException {
+        try (exchange) {
+            Profile current = profile;
+            long delayNanos = current.latency().toNanos();
+            if (!current.jitter().isZero()) {
+                delayNanos += (long) (roll() * current.jitter().toNanos());
+            }
+            if (delayNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(delayNanos);
+            }
+
+            if (roll() < current.throttleRate()) {
+                throttled.increment();
+                exchange.getResponseHeaders().add("Retry-After", String.valueOf(current.retryAfterSeconds()));
+                sendJson(exchange, 429, "{\"message\":\"Too Many Requests\"}".getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+            response.send();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized double roll() {
+        return random.nextDouble();
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, byte[] body) throws IOException {
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] searchResponse(int[] ids) {
+        StringBuilder response = new StringBuilder(ids.length * 8 + 32)
+                .append("{\"total\":").append(ids.length).append(",\"objectIDs\":[");
+        for (int i = 0; i < ids.length; i++) {
+            response.append(i > 0 ? "," : "").append(ids[i]);
+        }
+        return response.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * The objects a stub serves, either synthetic or replayed from recorded responses.
+     */
+    public interface Corpus {
+
+        /** Ids listed by the search endpoints, in order */
+        int[] ids();
+
+        /** The object's JSON, or null if the object does not exist */
+        byte[] object(int id);
+
+        /**
+         * Generates objects on demand, so large corpora cost no memory. Artists repeat
+         * across objects as in the real collection, and {@code notDisplayedRatio} of the
+         * listed objects have no gallery number, like the Met's on-view search results.
+         */
+        static Corpus synthetic(int count, double notDisplayedRatio) {
+            int[] ids = new int[count];
+            Arrays.setAll(ids, i -> 100_000 + i);
+            int artists = Math.max(1, count / 20);
+            return new Corpus() {
+                @Override
+                public int[] ids() {
+                    return ids;
+                }
+
+                @Override
+                public byte[] object(int id) {
+                    int index = id - 100_000;
+                    if (index < 0 || index >= count) {
+                        return null;
+                    }
+                    boolean displayed = (index * 0.618034) % 1.0 >= notDisplayedRatio;
+                    return syntheticObject(id, index % artists, displayed).getBytes(StandardCharsets.UTF_8);
+                }
+            };
+        }
+
+        /**
+         * Loads recorded responses saved as {@code <objectID>.json} in a directory.
+         */
+        static Corpus load(Path directory) throws IOException {
+            Map<Integer, byte[]> objects = new TreeMap<>();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.filter(f -> f.getFileName().toString().endsWith(".json")).toList()) {
+                    String name = file.getFileName().toString();
+                    objects.put(Integer.parseInt(name.substring(0, name.length() - ".json".length())),
+                            Files.readAllBytes(file));
+                }
+            }
+            int[] ids = objects.keySet().stream().mapToInt(Integer::intValue).toArray();
+            return new Corpus() {
+                @Override
+                public int[] ids() {
+                    return ids;
+                }
+
+                @Override
+                public byte[] object(int id) {
+                    return objects.get(id);
+                }
+            };
+        }
+
+        /**
+         * Records the first {@code limit} on-view objects of a live API into a directory
+         * that {@link #load(Path)} can replay. Requests are paced well below the Met's limit.
+         */
+        @SuppressWarnings("UnstableApiUsage")
+        static void record(String baseUrl, int limit, Path directory) throws IOException {
+            RestClient restClient = RestClient.create(baseUrl);
+            RateLimiter rateLimiter = RateLimiter.create(20);
+            Files.createDirectories(directory);
+
+            int[] ids = SearchResponseDecoder.decode(
+                    restClient.get().uri("/search?isOnView=true&q=*").retrieve().body(String.class),
+                    "objectIDs").ids();
+            int recorded = 0;
+            for (int i = 0; i < ids.length && recorded < limit; i++) {
+                rateLimiter.acquire();
+                try {
+                    byte[] body = restClient.get().uri("/objects/{id}", ids[i]).retrieve().body(byte[].class);
+                    if (body != null) {
+                        Files.write(directory.resolve(ids[i] + ".json"), body);
+                        recorded++;
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("Skipping object {} while recording: {}", ids[i], e.getMessage());
+                }
+            }
+            log.info("Recorded {} objects into {}", recorded, directory);
+        }
+
+        private static String syntheticObject(int id, int artist, boolean displayed) {
+            return """
+                    {"objectID":%d,"isHighlight":false,"accessionNumber":"%d.%d",
+                     "primaryImage":"https://images.example.org/original/%d.jpg",
+                     "primaryImageSmall":"https://images.example.org/web-large/%d.jpg",
+                     "additionalImages":[],
+                     "constituents":[{"constituentID":%d,"role":"Artist","name":"Artist %d"}],
+                     "department":"Department %d","objectName":"Painting","title":"Object %d",
+                     "culture":"","period":"","artistRole":"Artist","artistPrefix":"",
+                     "artistDisplayName":"Artist %d","artistDisplayBio":"",
+                     "artistNationality":"Nationality %d","artistBeginDate":"%d","artistEndDate":"%d",
+                     "objectDate":"%d","medium":"Oil on canvas","dimensions":"%d x %d cm",
+                     "measurements":[{"elementName":"Overall","elementMeasurements":{"Height":%d,"Width":%d}}],
+                     "country":"","region":"","subregion":"","geographyType":"",
+                     "GalleryNumber":"%s","tags":[{"term":"Landscapes"}],
+                     "metadataDate":"2024-01-01T00:00:00Z","isPublicDomain":true}
+                    """.formatted(
+                    id, 1900 + id % 120, id,
+                    id, id,
+                    artist, artist,
+                    artist % 19, id,
+                    artist,
+                    artist % 40, 1600 + artist % 300, 1660 + artist % 300,
+                    1620 + id % 350, 20 + id % 80, 30 + id % 90,
+                    20 + id % 80, 30 + id % 90,
+                    displayed ? String.valueOf(100 + id % 900) : "");
+        }
+    }
+}
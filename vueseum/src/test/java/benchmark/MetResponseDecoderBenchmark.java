@@ -0,0 +1,101 @@
+package benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mvp.vueseum.client.SearchResponseDecoder;
+import com.mvp.vueseum.client.museum_client.MetObjectDecoder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the streaming Met decoders with the previous tree-based parsing.
+ * Run {@link #main} from the test classpath; the GC profiler's
+ * {@code gc.alloc.rate.norm} column reports bytes allocated per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MetResponseDecoderBenchmark {
+
+    private static final String OBJECT_RESPONSE = """
+            {"objectID":436535,"isHighlight":true,"accessionNumber":"1993.132",
+             "primaryImage":"https://images.metmuseum.org/CRDImages/ep/original/DT1502_cropped2.jpg",
+             "primaryImageSmall":"https://images.metmuseum.org/CRDImages/ep/web-large/DT1502_cropped2.jpg",
+             "additionalImages":["https://images.metmuseum.org/CRDImages/ep/original/DP-1.jpg",
+                                 "https://images.metmuseum.org/CRDImages/ep/original/DP-2.jpg"],
+             "constituents":[{"constituentID":161987,"role":"Artist","name":"Vincent van Gogh",
+                              "constituentULAN_URL":"http://vocab.getty.edu/page/ulan/500115588",
+                              "constituentWikidata_URL":"https://www.wikidata.org/wiki/Q5582","gender":""}],
+             "department":"European Paintings","objectName":"Painting","title":"Wheat Field with Cypresses",
+             "culture":"","period":"","artistRole":"Artist","artistPrefix":"",
+             "artistDisplayName":"Vincent van Gogh","artistDisplayBio":"Dutch, Zundert 1853–1890 Auvers-sur-Oise",
+             "artistNationality":"Dutch","artistBeginDate":"1853","artistEndDate":"1890",
+             "objectDate":"1889","medium":"Oil on canvas","dimensions":"28 3/4 × 36 3/4 in. (73 × 93.4 cm)",
+             "measurements":[{"elementName":"Overall","elementMeasurements":{"Height":73,"Width":93.4}}],
+             "country":"","region":"","subregion":"","geographyType":"","GalleryNumber":"822",
+             "tags":[{"term":"Landscapes","AAT_URL":"http://vocab.getty.edu/page/aat/300132294"},
+                     {"term":"Cypresses","AAT_URL":"http://vocab.getty.edu/page/aat/300343602"}],
+             "metadataDate":"2023-02-07T04:46:05.38Z","isPublicDomain":true}
+            """;
+
+    private String searchResponse;
+
+    @Setup
+    public void createSearchResponse() {
+        StringBuilder response = new StringBuilder("{\"total\":100000,\"objectIDs\":[");
+        for (int id = 1; id <= 100_000; id++) {
+            response.append(id).append(id < 100_000 ? "," : "");
+        }
+        searchResponse = response.append("]}").toString();
+    }
+
+    @Benchmark
+    public void treeParseObject(Blackhole blackhole) throws Exception {
+        // Previous approach: a new mapper and a full tree for the display check and again for conversion
+        JsonNode displayCheck = new ObjectMapper().readTree(OBJECT_RESPONSE);
+        blackhole.consume(displayCheck.path("GalleryNumber").asText());
+        JsonNode root = new ObjectMapper().readTree(OBJECT_RESPONSE);
+        blackhole.consume(root.path("title").asText());
+        blackhole.consume(root.path("artistDisplayName").asText());
+    }
+
+    @Benchmark
+    public void streamDecodeObject(Blackhole blackhole) throws Exception {
+        MetObjectDecoder.MetObject object = MetObjectDecoder.decode(OBJECT_RESPONSE);
+        blackhole.consume(object.isDisplayed());
+        blackhole.consume(object.get(MetObjectDecoder.Field.TITLE));
+        blackhole.consume(object.get(MetObjectDecoder.Field.ARTIST_DISPLAY_NAME));
+    }
+
+    @Benchmark
+    public List<String> treeParseSearch() throws Exception {
+        JsonNode objectIds = new ObjectMapper().readTree(searchResponse).get("objectIDs");
+        List<String> ids = new ArrayList<>();
+        objectIds.forEach(id -> ids.add(id.asText()));
+        return ids;
+    }
+
+    @Benchmark
+    public int[] streamDecodeSearch() {
+        return SearchResponseDecoder.decode(searchResponse, "objectIDs").ids();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MetResponseDecoderBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+                .run();
+    }
+}
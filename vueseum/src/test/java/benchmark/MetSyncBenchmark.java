@@ -0,0 +1,526 @@
+package benchmark;
+
+import com.mvp.vueseum.client.ResponseArchive;
+import com.mvp.vueseum.client.SyncMetrics;
+import com.mvp.vueseum.client.museum_client.MetMuseumApiClient;
+import com.mvp.vueseum.domain.ArtworkDetails;
+import com.mvp.vueseum.entity.Museum;
+import com.mvp.vueseum.entity.SyncRun;
+import com.mvp.vueseum.entity.SyncRunChunk;
+import com.mvp.vueseum.event.SyncOperation;
+import com.mvp.vueseum.repository.ArtworkBatchRepository;
+import com.mvp.vueseum.repository.FetchValidatorRepository.FetchValidators;
+import com.mvp.vueseum.repository.OnViewIdRepository;
+import com.mvp.vueseum.service.ImageValidationService;
+import com.mvp.vueseum.service.SyncRunService;
+import com.mvp.vueseum.service.artwork.ArtworkBatchService;
+import com.mvp.vueseum.service.artwork.ArtworkService;
+import com.mvp.vueseum.service.artwork.OnViewSetService;
+import com.mvp.vueseum.service.artwork.SyncEntityResolver;
+import com.mvp.vueseum.service.artwork.SyncWriteLimiter;
+import com.mvp.vueseum.service.cultural.TermStandardizationStage;
+import com.mvp.vueseum.service.museum.MuseumService;
+import com.mvp.vueseum.util.ContentHashUtil;
+import com.mvp.vueseum.util.RetryUtil;
+import com.google.common.collect.Lists;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Runs a real {@link MetMuseumApiClient} sync against a {@link MetApiStub}, with the
+ * run bookkeeping and artwork store kept in memory, and reports throughput, write-path
+ * activity and heap usage.
+ * <p>
+ * The store applies the same content-hash skip as the batch upsert and can add a fixed
+ * latency per write transaction, so the numbers reflect the fetch/parse/persist pipeline
+ * rather than a particular database. A second run against the same store exercises
+ * conditional requests and unchanged-content skips.
+ * <p>
+ * Configure with system properties: {@code objects} (synthetic corpus size),
+ * {@code corpus} (directory of recorded responses, see {@link MetApiStub.Corpus#record}),
+ * {@code profile} ({@code instant} or {@code realistic}), {@code rateLimit},
+ * {@code maxInFlight}, {@code writeLatencyMs} and {@code runs}.
+ */
+public class MetSyncBenchmark {
+
+    /**
+     * Outcome of one sync run.
+     */
+    public record Report(
+            int processed,
+            int errors,
+            Duration elapsed,
+            long writeTransactions,
+            long rowsWritten,
+            long rowsUnchanged,
+            long peakHeapBytes,
+            long allocatedBytes,
+            MetApiStub.Stats requests
+    ) {
+        public double artworksPerSecond() {
+            return processed / Math.max(0.001, elapsed.toNanos() / 1e9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("""
+                            %d artworks in %.1fs (%.1f artworks/s), %d errors
+                              writes:   %d transactions, %d rows written, %d rows unchanged
+                              heap:     %d MB peak, %d MB allocated
+                              requests: %d total, %d ok, %d not modified, %d not found, %d server errors, %d throttled""",
+                    processed, elapsed.toMillis() / 1000.0, artworksPerSecond(), errors,
+                    writeTransactions, rowsWritten, rowsUnchanged,
+                    peakHeapBytes / (1024 * 1024), allocatedBytes / (1024 * 1024),
+                    requests.total(), requests.ok(), requests.notModified(), requests.notFound(),
+                    requests.serverErrors(), requests.throttled());
+        }
+    }
+
+    private final MetApiStub stub;
+    private final InMemoryArtworkStore store;
+    private final OnViewSetService onViewSetService;
+    private final MetMuseumApiClient client;
+
+    public MetSyncBenchmark(MetApiStub stub, MockEnvironment environment, Duration writeLatency) {
+        this(stub, environment, writeLatency, new ResponseArchive(false, Path.of("response-archive"), 1, Clock.systemUTC()));
+    }
+
+    /**
+     * @param archive archive that syncs record to and {@link #runReingest()} reads from
+     */
+    public MetSyncBenchmark(MetApiStub stub, MockEnvironment environment, Duration writeLatency,
+                            ResponseArchive archive) {
+        this(stub, environment, writeLatency, archive, OptionalInt.empty());
+    }
+
+    /**
+     * Benchmark whose full syncs are planned like in production: only missing objects are
+     * fetched, plus the {@code refreshLimit} least recently synced ones.
+     */
+    public static MetSyncBenchmark withRefreshRotation(MetApiStub stub, MockEnvironment environment,
+                                                       int refreshLimit) {
+        return new MetSyncBenchmark(stub, environment, Duration.ZERO,
+                new ResponseArchive(false, Path.of("response-archive"), 1, Clock.systemUTC()),
+                OptionalInt.of(refreshLimit));
+    }
+
+    private MetSyncBenchmark(MetApiStub stub, MockEnvironment environment, Duration writeLatency,
+                             ResponseArchive archive, OptionalInt refreshLimit) {
+        this.stub = stub;
+        this.store = new InMemoryArtworkStore(writeLatency);
+        this.onViewSetService = refreshLimit.isPresent()
+                ? new RotatingOnViewSetService(store, refreshLimit.getAsInt())
+                : new DiffFreeOnViewSetService();
+
+        Museum museum = new Museum();
+        museum.setId(1L);
+        MuseumService museumService = mock(MuseumService.class, withSettings().stubOnly());
+        when(museumService.findOrCreateMuseum(anyString())).thenReturn(museum);
+        ImageValidationService imageValidationService = mock(ImageValidationService.class, withSettings().stubOnly());
+        when(imageValidationService.validateAsync(any())).thenReturn(CompletableFuture.completedFuture(true));
+
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        this.client = new MetMuseumApiClient(
+                new RetryUtil(),
+                environment,
+                museumService,
+                stub.getBaseUrl(),
+                mock(ArtworkService.class, withSettings().stubOnly()),
+                store,
+                new SyncMetrics(meterRegistry),
+                new InMemorySyncRunService(),
+                onViewSetService,
+                new SyncWriteLimiter(Integer.parseInt(environment.getProperty("sync.maxConcurrentWrites", "4")),
+                        meterRegistry),
+                imageValidationService,
+                archive,
+                mock(TermStandardizationStage.class, withSettings().stubOnly()));
+    }
+
+    /**
+     * Environment with the client's limits set for a benchmark run.
+     */
+    public static MockEnvironment environment(double rateLimit, int maxInFlight) {
+        return new MockEnvironment()
+                .withProperty("museum.metropolitan.api.rateLimit", String.valueOf(rateLimit))
+                .withProperty("museum.metropolitan.api.rateLimitMin", String.valueOf(Math.min(5, rateLimit)))
+                .withProperty("museum.metropolitan.api.rateLimitMax", String.valueOf(rateLimit))
+                .withProperty("museum.metropolitan.api.maxInFlight", String.valueOf(maxInFlight));
+    }
+
+    public Report runFullSync() {
+        return measure(() -> client.performSync(SyncOperation.monthly()));
+    }
+
+    /**
+     * @return the already synced objects the last full sync fetched to refresh them,
+     * only tracked by {@link #withRefreshRotation} benchmarks
+     */
+    public List<String> lastRefreshedIds() {
+        return onViewSetService instanceof RotatingOnViewSetService rotating ? rotating.lastRefreshedIds : List.of();
+    }
+
+    /**
+     * Rebuilds the artworks from the archive; the stub should see no requests.
+     */
+    public Report runReingest() {
+        return measure(client::reingestFromArchive);
+    }
+
+    private Report measure(Runnable sync) {
+        stub.resetStats();
+        store.resetCounters();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+        long allocatedAtStart = totalAllocatedBytes();
+        long start = System.nanoTime();
+
+        sync.run();
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+        long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return new Report(
+                client.getProcessedCount(),
+                client.getErrorCount(),
+                elapsed,
+                store.writeTransactions.sum(),
+                store.rowsWritten.sum(),
+                store.rowsUnchanged.sum(),
+                peakHeap,
+                totalAllocatedBytes() - allocatedAtStart,
+                stub.getStats());
+    }
+
+    private static long totalAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean
+                && threadBean.isThreadAllocatedMemorySupported()) {
+            return threadBean.getTotalThreadAllocatedBytes();
+        }
+        return 0;
+    }
+
+    public static void main(String[] args) throws Exception {
+        String corpusDirectory = System.getProperty("corpus");
+        MetApiStub.Corpus corpus = corpusDirectory != null
+                ? MetApiStub.Corpus.load(Path.of(corpusDirectory))
+                : MetApiStub.Corpus.synthetic(Integer.getInteger("objects", 20_000), 0.05);
+        MetApiStub.Profile profile = "realistic".equals(System.getProperty("profile"))
+                ? MetApiStub.Profile.REALISTIC
+                : MetApiStub.Profile.INSTANT;
+        MockEnvironment environment = environment(
+                Double.parseDouble(System.getProperty("rateLimit", "10000")),
+                Integer.getInteger("maxInFlight", 32));
+        Duration writeLatency = Duration.ofMillis(Long.getLong("writeLatencyMs", 0));
+
+        try (MetApiStub stub = MetApiStub.start(corpus, profile, 42)) {
+            MetSyncBenchmark benchmark = new MetSyncBenchmark(stub, environment, writeLatency);
+            int runs = Integer.getInteger("runs", 2);
+            for (int run = 1; run <= runs; run++) {
+                System.out.printf("Run %d (%s store): %s%n", run, run == 1 ? "empty" : "warm", benchmark.runFullSync());
+            }
+        }
+    }
+
+    /**
+     * Artwork store with the batch service's write semantics: content that hashes the
+     * same as the stored copy is skipped, and each batch is one write transaction.
+     */
+    private static class InMemoryArtworkStore extends ArtworkBatchService {
+        private final Duration writeLatency;
+        private final Map<String, String> contentHashes = new ConcurrentHashMap<>();
+        private final Map<String, FetchValidators> validators = new ConcurrentHashMap<>();
+        /** Stands in for artworks.last_sync_attempt, as a logical clock */
+        private final Map<String, Long> lastSyncAttempts = new ConcurrentHashMap<>();
+        private final AtomicLong syncClock = new AtomicLong();
+        private final SyncEntityResolver resolver = mock(SyncEntityResolver.class, withSettings().stubOnly());
+
+        private final LongAdder writeTransactions = new LongAdder();
+        private final LongAdder rowsWritten = new LongAdder();
+        private final LongAdder rowsUnchanged = new LongAdder();
+
+        InMemoryArtworkStore(Duration writeLatency) {
+            super(null, null, null, null);
+            this.writeLatency = writeLatency;
+            when(resolver.getMuseumId()).thenReturn(1L);
+        }
+
+        void resetCounters() {
+            writeTransactions.reset();
+            rowsWritten.reset();
+            rowsUnchanged.reset();
+        }
+
+        @Override
+        public SyncEntityResolver openSyncResolver(Long museumId) {
+            return resolver;
+        }
+
+        @Override
+        public SaveResult saveBatchFromDetails(List<ArtworkDetails> batch, SyncEntityResolver resolver) {
+            int written = 0;
+            for (ArtworkDetails details : batch) {
+                String hash = ContentHashUtil.hashArtworkContent(details);
+                if (!hash.equals(contentHashes.put(details.getExternalId(), hash))) {
+                    written++;
+                }
+            }
+            if (written > 0) {
+                simulateWrite();
+            }
+            rowsWritten.add(written);
+            rowsUnchanged.add(batch.size() - written);
+            recordSyncAttempts(1L, batch.stream().map(ArtworkDetails::getExternalId).toList());
+            return new SaveResult(written, batch.size() - written);
+        }
+
+        @Override
+        public void recordSyncAttempts(Long museumId, Collection<String> externalIds) {
+            long now = syncClock.incrementAndGet();
+            externalIds.forEach(externalId -> lastSyncAttempts.put(externalId, now));
+        }
+
+        @Override
+        public Map<String, FetchValidators> loadFetchValidators(Long museumId) {
+            return Map.copyOf(validators);
+        }
+
+        @Override
+        public void saveFetchValidators(Long museumId, Map<String, FetchValidators> batch) {
+            if (!batch.isEmpty()) {
+                simulateWrite();
+                validators.putAll(batch);
+            }
+        }
+
+        private void simulateWrite() {
+            writeTransactions.increment();
+            if (!writeLatency.isZero()) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(writeLatency.toNanos());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+    }
+
+    /**
+     * Keeps runs and their chunks in memory; failed ids are collected per run.
+     */
+    private static class InMemorySyncRunService extends SyncRunService {
+        private static final int CHUNK_SIZE = 1000;
+
+        private final AtomicLong ids = new AtomicLong();
+        private final Map<Long, SyncRunChunk> chunks = new ConcurrentHashMap<>();
+        private final Set<Long> claimedChunkIds = new HashSet<>();
+        private final List<String> failedIds = new ArrayList<>();
+        private volatile SyncRun currentRun;
+
+        InMemorySyncRunService() {
+            super(null, null, null, null, Clock.systemDefaultZone(), CHUNK_SIZE);
+        }
+
+        @Override
+        public SyncRun startRun(Long museumId, SyncOperation operation) {
+            SyncRun run = new SyncRun();
+            run.setId(ids.incrementAndGet());
+            run.setMuseumId(museumId);
+            run.setFullSync(operation.isFullSync());
+            run.setStartedAt(operation.getStartTime());
+            currentRun = run;
+            return run;
+        }
+
+        @Override
+        public SyncRun planRun(Long runId, List<String> externalIds) {
+            SyncRun run = currentRun;
+            run.setTotalIds(externalIds.size());
+
+            chunks.clear();
+            synchronized (this) {
+                claimedChunkIds.clear();
+            }
+            synchronized (failedIds) {
+                failedIds.clear();
+            }
+            List<List<String>> partitions = Lists.partition(externalIds, CHUNK_SIZE);
+            for (int i = 0; i < partitions.size(); i++) {
+                SyncRunChunk chunk = new SyncRunChunk(run, i, partitions.get(i));
+                chunk.setId(ids.incrementAndGet());
+                chunks.put(chunk.getId(), chunk);
+            }
+            run.setChunkCount(partitions.size());
+            return run;
+        }
+
+        @Override
+        public synchronized Optional<SyncRunChunk> claimNextChunk(Long runId) {
+            Optional<SyncRunChunk> next = chunks.values().stream()
+                    .filter(chunk -> chunk.getStatus() == SyncRunChunk.Status.PENDING)
+                    .filter(chunk -> !claimedChunkIds.contains(chunk.getId()))
+                    .min(Comparator.comparingInt(SyncRunChunk::getChunkIndex));
+            next.ifPresent(chunk -> claimedChunkIds.add(chunk.getId()));
+            return next;
+        }
+
+        @Override
+        public synchronized void releaseChunk(Long chunkId) {
+            claimedChunkIds.remove(chunkId);
+        }
+
+        @Override
+        public boolean hasPendingChunks(Long runId) {
+            return chunks.values().stream().anyMatch(chunk -> chunk.getStatus() == SyncRunChunk.Status.PENDING);
+        }
+
+        @Override
+        public void completeChunk(Long chunkId, int processed, List<String> failed) {
+            chunks.get(chunkId).setStatus(SyncRunChunk.Status.COMPLETED);
+            synchronized (failedIds) {
+                failedIds.addAll(failed);
+            }
+        }
+
+        @Override
+        public boolean isAborted(Long runId) {
+            return false;
+        }
+
+        @Override
+        public List<String> findFailedIds(Long runId) {
+            synchronized (failedIds) {
+                return List.copyOf(failedIds);
+            }
+        }
+
+        @Override
+        public void completeRun(Long runId, int recoveredByRetry) {
+        }
+
+        @Override
+        public void failRun(Long runId, String reason) {
+        }
+
+        @Override
+        public void release(Long runId) {
+        }
+    }
+
+    /**
+     * The production planner over repositories backed by the in-memory store, recording
+     * which synced objects each plan picked for refresh.
+     */
+    private static class RotatingOnViewSetService extends OnViewSetService {
+        private final InMemoryArtworkStore store;
+        private volatile List<String> lastRefreshedIds = List.of();
+
+        RotatingOnViewSetService(InMemoryArtworkStore store, int refreshLimit) {
+            super(new InMemoryOnViewIdRepository(), new StoreBackedArtworkBatchRepository(store), refreshLimit);
+            this.store = store;
+        }
+
+        @Override
+        public FullSyncPlan planFullSync(Long museumId, List<String> displayedIds) {
+            FullSyncPlan plan = super.planFullSync(museumId, displayedIds);
+            lastRefreshedIds = plan.idsToFetch().stream()
+                    .filter(store.lastSyncAttempts::containsKey)
+                    .toList();
+            return plan;
+        }
+    }
+
+    private static class InMemoryOnViewIdRepository extends OnViewIdRepository {
+        private final Set<String> externalIds = ConcurrentHashMap.newKeySet();
+
+        InMemoryOnViewIdRepository() {
+            super(null);
+        }
+
+        @Override
+        public Set<String> findByMuseum(Long museumId) {
+            return new HashSet<>(externalIds);
+        }
+
+        @Override
+        public void addAll(Long museumId, Collection<String> added) {
+            externalIds.addAll(added);
+        }
+
+        @Override
+        public void removeAll(Long museumId, Collection<String> removed) {
+            removed.forEach(externalIds::remove);
+        }
+    }
+
+    private static class StoreBackedArtworkBatchRepository extends ArtworkBatchRepository {
+        private final InMemoryArtworkStore store;
+
+        StoreBackedArtworkBatchRepository(InMemoryArtworkStore store) {
+            super(null);
+            this.store = store;
+        }
+
+        @Override
+        public Set<String> findSyncedExternalIds(Long museumId) {
+            return new HashSet<>(store.lastSyncAttempts.keySet());
+        }
+
+        @Override
+        public List<String> findLeastRecentlySyncedExternalIds(Long museumId, int limit) {
+            return store.lastSyncAttempts.entrySet().stream()
+                    .sorted(Map.Entry.<String, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey()))
+                    .limit(limit)
+                    .map(Map.Entry::getKey)
+                    .toList();
+        }
+    }
+
+    /**
+     * Fetches every listed object on each run, like a first full sync, so runs compare
+     * the same amount of work.
+     */
+    private static class DiffFreeOnViewSetService extends OnViewSetService {
+
+        DiffFreeOnViewSetService() {
+            super(null, null, 0);
+        }
+
+        @Override
+        public FullSyncPlan planFullSync(Long museumId, List<String> displayedIds) {
+            return new FullSyncPlan(displayedIds, List.of(), displayedIds, false);
+        }
+
+        @Override
+        public void recordOnViewIds(Long museumId, FullSyncPlan plan) {
+        }
+    }
+}